@@ -14,6 +14,111 @@ import (
 	metadata "google.golang.org/grpc/metadata"
 )
 
+// MockisJobStreamRequest_Request is a mock of isJobStreamRequest_Request interface.
+type MockisJobStreamRequest_Request struct {
+	ctrl     *gomock.Controller
+	recorder *MockisJobStreamRequest_RequestMockRecorder
+}
+
+// MockisJobStreamRequest_RequestMockRecorder is the mock recorder for MockisJobStreamRequest_Request.
+type MockisJobStreamRequest_RequestMockRecorder struct {
+	mock *MockisJobStreamRequest_Request
+}
+
+// NewMockisJobStreamRequest_Request creates a new mock instance.
+func NewMockisJobStreamRequest_Request(ctrl *gomock.Controller) *MockisJobStreamRequest_Request {
+	mock := &MockisJobStreamRequest_Request{ctrl: ctrl}
+	mock.recorder = &MockisJobStreamRequest_RequestMockRecorder{mock}
+	return mock
+}
+
+// EXPECT returns an object that allows the caller to indicate expected use.
+func (m *MockisJobStreamRequest_Request) EXPECT() *MockisJobStreamRequest_RequestMockRecorder {
+	return m.recorder
+}
+
+// isJobStreamRequest_Request mocks base method.
+func (m *MockisJobStreamRequest_Request) isJobStreamRequest_Request() {
+	m.ctrl.T.Helper()
+	m.ctrl.Call(m, "isJobStreamRequest_Request")
+}
+
+// isJobStreamRequest_Request indicates an expected call of isJobStreamRequest_Request.
+func (mr *MockisJobStreamRequest_RequestMockRecorder) isJobStreamRequest_Request() *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "isJobStreamRequest_Request", reflect.TypeOf((*MockisJobStreamRequest_Request)(nil).isJobStreamRequest_Request))
+}
+
+// MockisJobStreamResponse_Response is a mock of isJobStreamResponse_Response interface.
+type MockisJobStreamResponse_Response struct {
+	ctrl     *gomock.Controller
+	recorder *MockisJobStreamResponse_ResponseMockRecorder
+}
+
+// MockisJobStreamResponse_ResponseMockRecorder is the mock recorder for MockisJobStreamResponse_Response.
+type MockisJobStreamResponse_ResponseMockRecorder struct {
+	mock *MockisJobStreamResponse_Response
+}
+
+// NewMockisJobStreamResponse_Response creates a new mock instance.
+func NewMockisJobStreamResponse_Response(ctrl *gomock.Controller) *MockisJobStreamResponse_Response {
+	mock := &MockisJobStreamResponse_Response{ctrl: ctrl}
+	mock.recorder = &MockisJobStreamResponse_ResponseMockRecorder{mock}
+	return mock
+}
+
+// EXPECT returns an object that allows the caller to indicate expected use.
+func (m *MockisJobStreamResponse_Response) EXPECT() *MockisJobStreamResponse_ResponseMockRecorder {
+	return m.recorder
+}
+
+// isJobStreamResponse_Response mocks base method.
+func (m *MockisJobStreamResponse_Response) isJobStreamResponse_Response() {
+	m.ctrl.T.Helper()
+	m.ctrl.Call(m, "isJobStreamResponse_Response")
+}
+
+// isJobStreamResponse_Response indicates an expected call of isJobStreamResponse_Response.
+func (mr *MockisJobStreamResponse_ResponseMockRecorder) isJobStreamResponse_Response() *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "isJobStreamResponse_Response", reflect.TypeOf((*MockisJobStreamResponse_Response)(nil).isJobStreamResponse_Response))
+}
+
+// MockisCreateProcessInstanceResult_Result is a mock of isCreateProcessInstanceResult_Result interface.
+type MockisCreateProcessInstanceResult_Result struct {
+	ctrl     *gomock.Controller
+	recorder *MockisCreateProcessInstanceResult_ResultMockRecorder
+}
+
+// MockisCreateProcessInstanceResult_ResultMockRecorder is the mock recorder for MockisCreateProcessInstanceResult_Result.
+type MockisCreateProcessInstanceResult_ResultMockRecorder struct {
+	mock *MockisCreateProcessInstanceResult_Result
+}
+
+// NewMockisCreateProcessInstanceResult_Result creates a new mock instance.
+func NewMockisCreateProcessInstanceResult_Result(ctrl *gomock.Controller) *MockisCreateProcessInstanceResult_Result {
+	mock := &MockisCreateProcessInstanceResult_Result{ctrl: ctrl}
+	mock.recorder = &MockisCreateProcessInstanceResult_ResultMockRecorder{mock}
+	return mock
+}
+
+// EXPECT returns an object that allows the caller to indicate expected use.
+func (m *MockisCreateProcessInstanceResult_Result) EXPECT() *MockisCreateProcessInstanceResult_ResultMockRecorder {
+	return m.recorder
+}
+
+// isCreateProcessInstanceResult_Result mocks base method.
+func (m *MockisCreateProcessInstanceResult_Result) isCreateProcessInstanceResult_Result() {
+	m.ctrl.T.Helper()
+	m.ctrl.Call(m, "isCreateProcessInstanceResult_Result")
+}
+
+// isCreateProcessInstanceResult_Result indicates an expected call of isCreateProcessInstanceResult_Result.
+func (mr *MockisCreateProcessInstanceResult_ResultMockRecorder) isCreateProcessInstanceResult_Result() *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "isCreateProcessInstanceResult_Result", reflect.TypeOf((*MockisCreateProcessInstanceResult_Result)(nil).isCreateProcessInstanceResult_Result))
+}
+
 // MockisDeployment_Metadata is a mock of isDeployment_Metadata interface.
 type MockisDeployment_Metadata struct {
 	ctrl     *gomock.Controller
@@ -49,6 +154,41 @@ func (mr *MockisDeployment_MetadataMockRecorder) isDeployment_Metadata() *gomock
 	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "isDeployment_Metadata", reflect.TypeOf((*MockisDeployment_Metadata)(nil).isDeployment_Metadata))
 }
 
+// MockisPublishMessageResult_Result is a mock of isPublishMessageResult_Result interface.
+type MockisPublishMessageResult_Result struct {
+	ctrl     *gomock.Controller
+	recorder *MockisPublishMessageResult_ResultMockRecorder
+}
+
+// MockisPublishMessageResult_ResultMockRecorder is the mock recorder for MockisPublishMessageResult_Result.
+type MockisPublishMessageResult_ResultMockRecorder struct {
+	mock *MockisPublishMessageResult_Result
+}
+
+// NewMockisPublishMessageResult_Result creates a new mock instance.
+func NewMockisPublishMessageResult_Result(ctrl *gomock.Controller) *MockisPublishMessageResult_Result {
+	mock := &MockisPublishMessageResult_Result{ctrl: ctrl}
+	mock.recorder = &MockisPublishMessageResult_ResultMockRecorder{mock}
+	return mock
+}
+
+// EXPECT returns an object that allows the caller to indicate expected use.
+func (m *MockisPublishMessageResult_Result) EXPECT() *MockisPublishMessageResult_ResultMockRecorder {
+	return m.recorder
+}
+
+// isPublishMessageResult_Result mocks base method.
+func (m *MockisPublishMessageResult_Result) isPublishMessageResult_Result() {
+	m.ctrl.T.Helper()
+	m.ctrl.Call(m, "isPublishMessageResult_Result")
+}
+
+// isPublishMessageResult_Result indicates an expected call of isPublishMessageResult_Result.
+func (mr *MockisPublishMessageResult_ResultMockRecorder) isPublishMessageResult_Result() *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "isPublishMessageResult_Result", reflect.TypeOf((*MockisPublishMessageResult_Result)(nil).isPublishMessageResult_Result))
+}
+
 // MockGatewayClient is a mock of GatewayClient interface.
 type MockGatewayClient struct {
 	ctrl     *gomock.Controller
@@ -192,6 +332,26 @@ func (mr *MockGatewayClientMockRecorder) CreateProcessInstanceWithResult(ctx, in
 	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "CreateProcessInstanceWithResult", reflect.TypeOf((*MockGatewayClient)(nil).CreateProcessInstanceWithResult), varargs...)
 }
 
+// CreateProcessInstances mocks base method.
+func (m *MockGatewayClient) CreateProcessInstances(ctx context.Context, in *pb.CreateProcessInstancesRequest, opts ...grpc.CallOption) (*pb.CreateProcessInstancesResponse, error) {
+	m.ctrl.T.Helper()
+	varargs := []interface{}{ctx, in}
+	for _, a := range opts {
+		varargs = append(varargs, a)
+	}
+	ret := m.ctrl.Call(m, "CreateProcessInstances", varargs...)
+	ret0, _ := ret[0].(*pb.CreateProcessInstancesResponse)
+	ret1, _ := ret[1].(error)
+	return ret0, ret1
+}
+
+// CreateProcessInstances indicates an expected call of CreateProcessInstances.
+func (mr *MockGatewayClientMockRecorder) CreateProcessInstances(ctx, in interface{}, opts ...interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	varargs := append([]interface{}{ctx, in}, opts...)
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "CreateProcessInstances", reflect.TypeOf((*MockGatewayClient)(nil).CreateProcessInstances), varargs...)
+}
+
 // DeleteResource mocks base method.
 func (m *MockGatewayClient) DeleteResource(ctx context.Context, in *pb.DeleteResourceRequest, opts ...grpc.CallOption) (*pb.DeleteResourceResponse, error) {
 	m.ctrl.T.Helper()
@@ -352,6 +512,26 @@ func (mr *MockGatewayClientMockRecorder) PublishMessage(ctx, in interface{}, opt
 	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "PublishMessage", reflect.TypeOf((*MockGatewayClient)(nil).PublishMessage), varargs...)
 }
 
+// PublishMessages mocks base method.
+func (m *MockGatewayClient) PublishMessages(ctx context.Context, in *pb.PublishMessagesRequest, opts ...grpc.CallOption) (*pb.PublishMessagesResponse, error) {
+	m.ctrl.T.Helper()
+	varargs := []interface{}{ctx, in}
+	for _, a := range opts {
+		varargs = append(varargs, a)
+	}
+	ret := m.ctrl.Call(m, "PublishMessages", varargs...)
+	ret0, _ := ret[0].(*pb.PublishMessagesResponse)
+	ret1, _ := ret[1].(error)
+	return ret0, ret1
+}
+
+// PublishMessages indicates an expected call of PublishMessages.
+func (mr *MockGatewayClientMockRecorder) PublishMessages(ctx, in interface{}, opts ...interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	varargs := append([]interface{}{ctx, in}, opts...)
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "PublishMessages", reflect.TypeOf((*MockGatewayClient)(nil).PublishMessages), varargs...)
+}
+
 // ResolveIncident mocks base method.
 func (m *MockGatewayClient) ResolveIncident(ctx context.Context, in *pb.ResolveIncidentRequest, opts ...grpc.CallOption) (*pb.ResolveIncidentResponse, error) {
 	m.ctrl.T.Helper()
@@ -412,6 +592,26 @@ func (mr *MockGatewayClientMockRecorder) StreamActivatedJobs(ctx, in interface{}
 	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "StreamActivatedJobs", reflect.TypeOf((*MockGatewayClient)(nil).StreamActivatedJobs), varargs...)
 }
 
+// StreamJobs mocks base method.
+func (m *MockGatewayClient) StreamJobs(ctx context.Context, opts ...grpc.CallOption) (pb.Gateway_StreamJobsClient, error) {
+	m.ctrl.T.Helper()
+	varargs := []interface{}{ctx}
+	for _, a := range opts {
+		varargs = append(varargs, a)
+	}
+	ret := m.ctrl.Call(m, "StreamJobs", varargs...)
+	ret0, _ := ret[0].(pb.Gateway_StreamJobsClient)
+	ret1, _ := ret[1].(error)
+	return ret0, ret1
+}
+
+// StreamJobs indicates an expected call of StreamJobs.
+func (mr *MockGatewayClientMockRecorder) StreamJobs(ctx interface{}, opts ...interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	varargs := append([]interface{}{ctx}, opts...)
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "StreamJobs", reflect.TypeOf((*MockGatewayClient)(nil).StreamJobs), varargs...)
+}
+
 // ThrowError mocks base method.
 func (m *MockGatewayClient) ThrowError(ctx context.Context, in *pb.ThrowErrorRequest, opts ...grpc.CallOption) (*pb.ThrowErrorResponse, error) {
 	m.ctrl.T.Helper()
@@ -738,6 +938,143 @@ func (mr *MockGateway_StreamActivatedJobsClientMockRecorder) Trailer() *gomock.C
 	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "Trailer", reflect.TypeOf((*MockGateway_StreamActivatedJobsClient)(nil).Trailer))
 }
 
+// MockGateway_StreamJobsClient is a mock of Gateway_StreamJobsClient interface.
+type MockGateway_StreamJobsClient struct {
+	ctrl     *gomock.Controller
+	recorder *MockGateway_StreamJobsClientMockRecorder
+}
+
+// MockGateway_StreamJobsClientMockRecorder is the mock recorder for MockGateway_StreamJobsClient.
+type MockGateway_StreamJobsClientMockRecorder struct {
+	mock *MockGateway_StreamJobsClient
+}
+
+// NewMockGateway_StreamJobsClient creates a new mock instance.
+func NewMockGateway_StreamJobsClient(ctrl *gomock.Controller) *MockGateway_StreamJobsClient {
+	mock := &MockGateway_StreamJobsClient{ctrl: ctrl}
+	mock.recorder = &MockGateway_StreamJobsClientMockRecorder{mock}
+	return mock
+}
+
+// EXPECT returns an object that allows the caller to indicate expected use.
+func (m *MockGateway_StreamJobsClient) EXPECT() *MockGateway_StreamJobsClientMockRecorder {
+	return m.recorder
+}
+
+// CloseSend mocks base method.
+func (m *MockGateway_StreamJobsClient) CloseSend() error {
+	m.ctrl.T.Helper()
+	ret := m.ctrl.Call(m, "CloseSend")
+	ret0, _ := ret[0].(error)
+	return ret0
+}
+
+// CloseSend indicates an expected call of CloseSend.
+func (mr *MockGateway_StreamJobsClientMockRecorder) CloseSend() *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "CloseSend", reflect.TypeOf((*MockGateway_StreamJobsClient)(nil).CloseSend))
+}
+
+// Context mocks base method.
+func (m *MockGateway_StreamJobsClient) Context() context.Context {
+	m.ctrl.T.Helper()
+	ret := m.ctrl.Call(m, "Context")
+	ret0, _ := ret[0].(context.Context)
+	return ret0
+}
+
+// Context indicates an expected call of Context.
+func (mr *MockGateway_StreamJobsClientMockRecorder) Context() *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "Context", reflect.TypeOf((*MockGateway_StreamJobsClient)(nil).Context))
+}
+
+// Header mocks base method.
+func (m *MockGateway_StreamJobsClient) Header() (metadata.MD, error) {
+	m.ctrl.T.Helper()
+	ret := m.ctrl.Call(m, "Header")
+	ret0, _ := ret[0].(metadata.MD)
+	ret1, _ := ret[1].(error)
+	return ret0, ret1
+}
+
+// Header indicates an expected call of Header.
+func (mr *MockGateway_StreamJobsClientMockRecorder) Header() *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "Header", reflect.TypeOf((*MockGateway_StreamJobsClient)(nil).Header))
+}
+
+// Recv mocks base method.
+func (m *MockGateway_StreamJobsClient) Recv() (*pb.JobStreamResponse, error) {
+	m.ctrl.T.Helper()
+	ret := m.ctrl.Call(m, "Recv")
+	ret0, _ := ret[0].(*pb.JobStreamResponse)
+	ret1, _ := ret[1].(error)
+	return ret0, ret1
+}
+
+// Recv indicates an expected call of Recv.
+func (mr *MockGateway_StreamJobsClientMockRecorder) Recv() *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "Recv", reflect.TypeOf((*MockGateway_StreamJobsClient)(nil).Recv))
+}
+
+// RecvMsg mocks base method.
+func (m_2 *MockGateway_StreamJobsClient) RecvMsg(m any) error {
+	m_2.ctrl.T.Helper()
+	ret := m_2.ctrl.Call(m_2, "RecvMsg", m)
+	ret0, _ := ret[0].(error)
+	return ret0
+}
+
+// RecvMsg indicates an expected call of RecvMsg.
+func (mr *MockGateway_StreamJobsClientMockRecorder) RecvMsg(m interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "RecvMsg", reflect.TypeOf((*MockGateway_StreamJobsClient)(nil).RecvMsg), m)
+}
+
+// Send mocks base method.
+func (m *MockGateway_StreamJobsClient) Send(arg0 *pb.JobStreamRequest) error {
+	m.ctrl.T.Helper()
+	ret := m.ctrl.Call(m, "Send", arg0)
+	ret0, _ := ret[0].(error)
+	return ret0
+}
+
+// Send indicates an expected call of Send.
+func (mr *MockGateway_StreamJobsClientMockRecorder) Send(arg0 interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "Send", reflect.TypeOf((*MockGateway_StreamJobsClient)(nil).Send), arg0)
+}
+
+// SendMsg mocks base method.
+func (m_2 *MockGateway_StreamJobsClient) SendMsg(m any) error {
+	m_2.ctrl.T.Helper()
+	ret := m_2.ctrl.Call(m_2, "SendMsg", m)
+	ret0, _ := ret[0].(error)
+	return ret0
+}
+
+// SendMsg indicates an expected call of SendMsg.
+func (mr *MockGateway_StreamJobsClientMockRecorder) SendMsg(m interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "SendMsg", reflect.TypeOf((*MockGateway_StreamJobsClient)(nil).SendMsg), m)
+}
+
+// Trailer mocks base method.
+func (m *MockGateway_StreamJobsClient) Trailer() metadata.MD {
+	m.ctrl.T.Helper()
+	ret := m.ctrl.Call(m, "Trailer")
+	ret0, _ := ret[0].(metadata.MD)
+	return ret0
+}
+
+// Trailer indicates an expected call of Trailer.
+func (mr *MockGateway_StreamJobsClientMockRecorder) Trailer() *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "Trailer", reflect.TypeOf((*MockGateway_StreamJobsClient)(nil).Trailer))
+}
+
 // MockGatewayServer is a mock of GatewayServer interface.
 type MockGatewayServer struct {
 	ctrl     *gomock.Controller
@@ -850,6 +1187,21 @@ func (mr *MockGatewayServerMockRecorder) CreateProcessInstanceWithResult(arg0, a
 	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "CreateProcessInstanceWithResult", reflect.TypeOf((*MockGatewayServer)(nil).CreateProcessInstanceWithResult), arg0, arg1)
 }
 
+// CreateProcessInstances mocks base method.
+func (m *MockGatewayServer) CreateProcessInstances(arg0 context.Context, arg1 *pb.CreateProcessInstancesRequest) (*pb.CreateProcessInstancesResponse, error) {
+	m.ctrl.T.Helper()
+	ret := m.ctrl.Call(m, "CreateProcessInstances", arg0, arg1)
+	ret0, _ := ret[0].(*pb.CreateProcessInstancesResponse)
+	ret1, _ := ret[1].(error)
+	return ret0, ret1
+}
+
+// CreateProcessInstances indicates an expected call of CreateProcessInstances.
+func (mr *MockGatewayServerMockRecorder) CreateProcessInstances(arg0, arg1 interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "CreateProcessInstances", reflect.TypeOf((*MockGatewayServer)(nil).CreateProcessInstances), arg0, arg1)
+}
+
 // DeleteResource mocks base method.
 func (m *MockGatewayServer) DeleteResource(arg0 context.Context, arg1 *pb.DeleteResourceRequest) (*pb.DeleteResourceResponse, error) {
 	m.ctrl.T.Helper()
@@ -970,6 +1322,21 @@ func (mr *MockGatewayServerMockRecorder) PublishMessage(arg0, arg1 interface{})
 	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "PublishMessage", reflect.TypeOf((*MockGatewayServer)(nil).PublishMessage), arg0, arg1)
 }
 
+// PublishMessages mocks base method.
+func (m *MockGatewayServer) PublishMessages(arg0 context.Context, arg1 *pb.PublishMessagesRequest) (*pb.PublishMessagesResponse, error) {
+	m.ctrl.T.Helper()
+	ret := m.ctrl.Call(m, "PublishMessages", arg0, arg1)
+	ret0, _ := ret[0].(*pb.PublishMessagesResponse)
+	ret1, _ := ret[1].(error)
+	return ret0, ret1
+}
+
+// PublishMessages indicates an expected call of PublishMessages.
+func (mr *MockGatewayServerMockRecorder) PublishMessages(arg0, arg1 interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "PublishMessages", reflect.TypeOf((*MockGatewayServer)(nil).PublishMessages), arg0, arg1)
+}
+
 // ResolveIncident mocks base method.
 func (m *MockGatewayServer) ResolveIncident(arg0 context.Context, arg1 *pb.ResolveIncidentRequest) (*pb.ResolveIncidentResponse, error) {
 	m.ctrl.T.Helper()
@@ -1014,6 +1381,20 @@ func (mr *MockGatewayServerMockRecorder) StreamActivatedJobs(arg0, arg1 interfac
 	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "StreamActivatedJobs", reflect.TypeOf((*MockGatewayServer)(nil).StreamActivatedJobs), arg0, arg1)
 }
 
+// StreamJobs mocks base method.
+func (m *MockGatewayServer) StreamJobs(arg0 pb.Gateway_StreamJobsServer) error {
+	m.ctrl.T.Helper()
+	ret := m.ctrl.Call(m, "StreamJobs", arg0)
+	ret0, _ := ret[0].(error)
+	return ret0
+}
+
+// StreamJobs indicates an expected call of StreamJobs.
+func (mr *MockGatewayServerMockRecorder) StreamJobs(arg0 interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "StreamJobs", reflect.TypeOf((*MockGatewayServer)(nil).StreamJobs), arg0)
+}
+
 // ThrowError mocks base method.
 func (m *MockGatewayServer) ThrowError(arg0 context.Context, arg1 *pb.ThrowErrorRequest) (*pb.ThrowErrorResponse, error) {
 	m.ctrl.T.Helper()
@@ -1311,3 +1692,137 @@ func (mr *MockGateway_StreamActivatedJobsServerMockRecorder) SetTrailer(arg0 int
 	mr.mock.ctrl.T.Helper()
 	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "SetTrailer", reflect.TypeOf((*MockGateway_StreamActivatedJobsServer)(nil).SetTrailer), arg0)
 }
+
+// MockGateway_StreamJobsServer is a mock of Gateway_StreamJobsServer interface.
+type MockGateway_StreamJobsServer struct {
+	ctrl     *gomock.Controller
+	recorder *MockGateway_StreamJobsServerMockRecorder
+}
+
+// MockGateway_StreamJobsServerMockRecorder is the mock recorder for MockGateway_StreamJobsServer.
+type MockGateway_StreamJobsServerMockRecorder struct {
+	mock *MockGateway_StreamJobsServer
+}
+
+// NewMockGateway_StreamJobsServer creates a new mock instance.
+func NewMockGateway_StreamJobsServer(ctrl *gomock.Controller) *MockGateway_StreamJobsServer {
+	mock := &MockGateway_StreamJobsServer{ctrl: ctrl}
+	mock.recorder = &MockGateway_StreamJobsServerMockRecorder{mock}
+	return mock
+}
+
+// EXPECT returns an object that allows the caller to indicate expected use.
+func (m *MockGateway_StreamJobsServer) EXPECT() *MockGateway_StreamJobsServerMockRecorder {
+	return m.recorder
+}
+
+// Context mocks base method.
+func (m *MockGateway_StreamJobsServer) Context() context.Context {
+	m.ctrl.T.Helper()
+	ret := m.ctrl.Call(m, "Context")
+	ret0, _ := ret[0].(context.Context)
+	return ret0
+}
+
+// Context indicates an expected call of Context.
+func (mr *MockGateway_StreamJobsServerMockRecorder) Context() *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "Context", reflect.TypeOf((*MockGateway_StreamJobsServer)(nil).Context))
+}
+
+// Recv mocks base method.
+func (m *MockGateway_StreamJobsServer) Recv() (*pb.JobStreamRequest, error) {
+	m.ctrl.T.Helper()
+	ret := m.ctrl.Call(m, "Recv")
+	ret0, _ := ret[0].(*pb.JobStreamRequest)
+	ret1, _ := ret[1].(error)
+	return ret0, ret1
+}
+
+// Recv indicates an expected call of Recv.
+func (mr *MockGateway_StreamJobsServerMockRecorder) Recv() *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "Recv", reflect.TypeOf((*MockGateway_StreamJobsServer)(nil).Recv))
+}
+
+// RecvMsg mocks base method.
+func (m_2 *MockGateway_StreamJobsServer) RecvMsg(m any) error {
+	m_2.ctrl.T.Helper()
+	ret := m_2.ctrl.Call(m_2, "RecvMsg", m)
+	ret0, _ := ret[0].(error)
+	return ret0
+}
+
+// RecvMsg indicates an expected call of RecvMsg.
+func (mr *MockGateway_StreamJobsServerMockRecorder) RecvMsg(m interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "RecvMsg", reflect.TypeOf((*MockGateway_StreamJobsServer)(nil).RecvMsg), m)
+}
+
+// Send mocks base method.
+func (m *MockGateway_StreamJobsServer) Send(arg0 *pb.JobStreamResponse) error {
+	m.ctrl.T.Helper()
+	ret := m.ctrl.Call(m, "Send", arg0)
+	ret0, _ := ret[0].(error)
+	return ret0
+}
+
+// Send indicates an expected call of Send.
+func (mr *MockGateway_StreamJobsServerMockRecorder) Send(arg0 interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "Send", reflect.TypeOf((*MockGateway_StreamJobsServer)(nil).Send), arg0)
+}
+
+// SendHeader mocks base method.
+func (m *MockGateway_StreamJobsServer) SendHeader(arg0 metadata.MD) error {
+	m.ctrl.T.Helper()
+	ret := m.ctrl.Call(m, "SendHeader", arg0)
+	ret0, _ := ret[0].(error)
+	return ret0
+}
+
+// SendHeader indicates an expected call of SendHeader.
+func (mr *MockGateway_StreamJobsServerMockRecorder) SendHeader(arg0 interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "SendHeader", reflect.TypeOf((*MockGateway_StreamJobsServer)(nil).SendHeader), arg0)
+}
+
+// SendMsg mocks base method.
+func (m_2 *MockGateway_StreamJobsServer) SendMsg(m any) error {
+	m_2.ctrl.T.Helper()
+	ret := m_2.ctrl.Call(m_2, "SendMsg", m)
+	ret0, _ := ret[0].(error)
+	return ret0
+}
+
+// SendMsg indicates an expected call of SendMsg.
+func (mr *MockGateway_StreamJobsServerMockRecorder) SendMsg(m interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "SendMsg", reflect.TypeOf((*MockGateway_StreamJobsServer)(nil).SendMsg), m)
+}
+
+// SetHeader mocks base method.
+func (m *MockGateway_StreamJobsServer) SetHeader(arg0 metadata.MD) error {
+	m.ctrl.T.Helper()
+	ret := m.ctrl.Call(m, "SetHeader", arg0)
+	ret0, _ := ret[0].(error)
+	return ret0
+}
+
+// SetHeader indicates an expected call of SetHeader.
+func (mr *MockGateway_StreamJobsServerMockRecorder) SetHeader(arg0 interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "SetHeader", reflect.TypeOf((*MockGateway_StreamJobsServer)(nil).SetHeader), arg0)
+}
+
+// SetTrailer mocks base method.
+func (m *MockGateway_StreamJobsServer) SetTrailer(arg0 metadata.MD) {
+	m.ctrl.T.Helper()
+	m.ctrl.Call(m, "SetTrailer", arg0)
+}
+
+// SetTrailer indicates an expected call of SetTrailer.
+func (mr *MockGateway_StreamJobsServerMockRecorder) SetTrailer(arg0 interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "SetTrailer", reflect.TypeOf((*MockGateway_StreamJobsServer)(nil).SetTrailer), arg0)
+}
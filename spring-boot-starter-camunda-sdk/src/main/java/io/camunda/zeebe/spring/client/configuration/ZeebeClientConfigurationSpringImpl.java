@@ -183,6 +183,11 @@ public class ZeebeClientConfigurationSpringImpl implements ZeebeClientConfigurat
     return properties.getDefaultJobWorkerStreamEnabled();
   }
 
+  @Override
+  public boolean getDefaultJobWorkerVirtualThreadsEnabled() {
+    return properties.getDefaultJobWorkerVirtualThreadsEnabled();
+  }
+
   @Override
   public boolean useDefaultRetryPolicy() {
     return properties.useDefaultRetryPolicy();
@@ -78,6 +78,8 @@ public class ZeebeClientConfigurationProperties {
   private boolean ownsJobWorkerExecutor;
 
   private boolean defaultJobWorkerStreamEnabled = DEFAULT.getDefaultJobWorkerStreamEnabled();
+  private boolean defaultJobWorkerVirtualThreadsEnabled =
+      DEFAULT.getDefaultJobWorkerVirtualThreadsEnabled();
   private Duration requestTimeout = DEFAULT.getDefaultRequestTimeout();
 
   @Autowired
@@ -300,6 +302,15 @@ public class ZeebeClientConfigurationProperties {
     this.defaultJobWorkerStreamEnabled = defaultJobWorkerStreamEnabled;
   }
 
+  public boolean getDefaultJobWorkerVirtualThreadsEnabled() {
+    return defaultJobWorkerVirtualThreadsEnabled;
+  }
+
+  public void setDefaultJobWorkerVirtualThreadsEnabled(
+      final boolean defaultJobWorkerVirtualThreadsEnabled) {
+    this.defaultJobWorkerVirtualThreadsEnabled = defaultJobWorkerVirtualThreadsEnabled;
+  }
+
   public boolean useDefaultRetryPolicy() {
     return false;
   }
@@ -420,6 +431,8 @@ public class ZeebeClientConfigurationProperties {
         + ownsJobWorkerExecutor
         + ", defaultJobWorkerStreamEnabled="
         + defaultJobWorkerStreamEnabled
+        + ", defaultJobWorkerVirtualThreadsEnabled="
+        + defaultJobWorkerVirtualThreadsEnabled
         + ", requestTimeout="
         + requestTimeout
         + '}';
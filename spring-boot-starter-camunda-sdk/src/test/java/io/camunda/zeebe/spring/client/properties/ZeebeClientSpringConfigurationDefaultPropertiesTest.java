@@ -92,6 +92,11 @@ public class ZeebeClientSpringConfigurationDefaultPropertiesTest {
     assertThat(properties.getCaCertificatePath()).isNull();
   }
 
+  @Test
+  public void hasVirtualThreadsDisabled() {
+    assertThat(properties.getDefaultJobWorkerVirtualThreadsEnabled()).isFalse();
+  }
+
   @EnableConfigurationProperties(ZeebeClientConfigurationProperties.class)
   public static class TestConfig {}
 }
@@ -46,7 +46,8 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
       "zeebe.client.worker.override.foo.enabled=false",
       "zeebe.client.message.timeToLive=99s",
       "zeebe.client.security.certpath=aPath",
-      "zeebe.client.security.plaintext=true"
+      "zeebe.client.security.plaintext=true",
+      "zeebe.client.defaultJobWorkerVirtualThreadsEnabled=true"
     })
 @ContextConfiguration(classes = ZeebeClientSpringConfigurationPropertiesTest.TestConfig.class)
 public class ZeebeClientSpringConfigurationPropertiesTest {
@@ -119,6 +120,11 @@ public class ZeebeClientSpringConfigurationPropertiesTest {
     assertThat(properties.getSecurity().getCertPath()).isEqualTo("aPath");
   }
 
+  @Test
+  public void hasVirtualThreadsEnabled() {
+    assertThat(properties.getDefaultJobWorkerVirtualThreadsEnabled()).isTrue();
+  }
+
   @Test
   void shouldFooWorkerDisabled() {
     assertThat(properties.getWorker().getOverride().get("foo").getEnabled()).isFalse();
@@ -20,11 +20,17 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import io.atomix.raft.protocol.InstallRequest;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
 import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.slf4j.LoggerFactory;
 
@@ -48,11 +54,14 @@ public final class RaftMemberContext {
   private boolean appendSucceeded;
   private long appendTime;
   private boolean configuring;
-  private boolean installing;
+  // tracked by identity, as a chunk which is sent again results in an equal request
+  private final Set<InstallRequest> inFlightInstalls =
+      Collections.newSetFromMap(new IdentityHashMap<>());
   private int failures;
   private long failureTime;
   private volatile RaftLogReader reader;
   private SnapshotChunkReader snapshotChunkReader;
+  private Collection<String> reusedSnapshotChunks = List.of();
   private IndexedRaftLogEntry currentEntry;
 
   RaftMemberContext(
@@ -68,13 +77,14 @@ public final class RaftMemberContext {
     snapshotIndex = 0;
     nextSnapshotIndex = 0;
     nextSnapshotChunk = null;
+    reusedSnapshotChunks = List.of();
     matchIndex = 0;
     heartbeatTime = 0;
     responseTime = 0;
     inFlightAppendCount = 0;
     timeStats.clear();
     configuring = false;
-    installing = false;
+    inFlightInstalls.clear();
     appendSucceeded = false;
     failures = 0;
     failureTime = 0;
@@ -228,20 +238,57 @@ public final class RaftMemberContext {
   /**
    * Returns a boolean indicating whether an install request can be sent to the member.
    *
+   * @param maxInFlightInstalls the maximum number of install requests in flight to the member
    * @return Indicates whether an install request can be sent to the member.
    */
-  public boolean canInstall() {
-    return open && !installing;
+  public boolean canInstall(final int maxInFlightInstalls) {
+    return open && inFlightInstalls.size() < maxInFlightInstalls;
   }
 
-  /** Starts an install request to the member. */
-  public void startInstall() {
-    installing = true;
+  /**
+   * Returns a boolean indicating whether any install request to the member is still in flight.
+   *
+   * @return true if any install request was sent but not completed yet
+   */
+  public boolean hasInFlightInstalls() {
+    return !inFlightInstalls.isEmpty();
+  }
+
+  /**
+   * Returns a boolean indicating whether the initial install request of a snapshot is still in
+   * flight to the member.
+   *
+   * @return true if the initial install request was sent but not completed yet
+   */
+  public boolean hasInFlightInitialInstall() {
+    return inFlightInstalls.stream().anyMatch(InstallRequest::isInitial);
+  }
+
+  /**
+   * Starts an install request to the member.
+   *
+   * @param request the request which is sent
+   */
+  public void startInstall(final InstallRequest request) {
+    inFlightInstalls.add(request);
+  }
+
+  /**
+   * Completes an install request to the member.
+   *
+   * @param request the request which was completed
+   * @return true if the request was in flight, false if it was discarded in the meantime
+   */
+  public boolean completeInstall(final InstallRequest request) {
+    return inFlightInstalls.remove(request);
   }
 
-  /** Completes an install request to the member. */
-  public void completeInstall() {
-    installing = false;
+  /**
+   * Discards all install requests in flight to the member, such that their responses are ignored,
+   * e.g. because the chunks will be sent again.
+   */
+  public void discardInFlightInstalls() {
+    inFlightInstalls.clear();
   }
 
   /**
@@ -277,7 +324,7 @@ public final class RaftMemberContext {
         .add("appendSucceeded", appendSucceeded)
         .add("appendTime", appendTime)
         .add("configuring", configuring)
-        .add("installing", installing)
+        .add("installing", inFlightInstalls.size())
         .add("failures", failures)
         .toString();
   }
@@ -462,6 +509,25 @@ public final class RaftMemberContext {
     this.snapshotChunkReader = snapshotChunkReader;
   }
 
+  /**
+   * Returns the IDs of the chunks of the snapshot being sent which the member already has locally,
+   * and which are therefore not sent.
+   *
+   * @return the IDs of the snapshot chunks the member reuses
+   */
+  public Collection<String> getReusedSnapshotChunks() {
+    return reusedSnapshotChunks;
+  }
+
+  /**
+   * Sets the IDs of the chunks of the snapshot being sent which the member already has locally.
+   *
+   * @param reusedSnapshotChunks the IDs of the snapshot chunks the member reuses
+   */
+  public void setReusedSnapshotChunks(final Collection<String> reusedSnapshotChunks) {
+    this.reusedSnapshotChunks = reusedSnapshotChunks;
+  }
+
   public boolean hasNextEntry() {
     return reader.hasNext();
   }
@@ -1192,6 +1192,18 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     partitionConfig.setPreferSnapshotReplicationThreshold(snapshotReplicationThreshold);
   }
 
+  public int getSnapshotChunkSize() {
+    return partitionConfig.getSnapshotChunkSize();
+  }
+
+  public int getMaxSnapshotChunksInFlight() {
+    return partitionConfig.getMaxSnapshotChunksInFlight();
+  }
+
+  public void setMaxSnapshotChunksInFlight(final int maxSnapshotChunksInFlight) {
+    partitionConfig.setMaxSnapshotChunksInFlight(maxSnapshotChunksInFlight);
+  }
+
   public CompletableFuture<Void> reconfigurePriority(final int newPriority) {
     final CompletableFuture<Void> configureFuture = new CompletableFuture<>();
     threadContext.execute(
@@ -30,6 +30,9 @@ public class RaftPartitionConfig {
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final Duration DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT = Duration.ofSeconds(0);
   private static final int DEFAULT_SNAPSHOT_REPLICATION_THRESHOLD = 100;
+  // by default, every file of a snapshot is sent as a single chunk, one chunk at a time
+  private static final int DEFAULT_SNAPSHOT_CHUNK_SIZE = Integer.MAX_VALUE;
+  private static final int DEFAULT_MAX_SNAPSHOT_CHUNKS_IN_FLIGHT = 1;
 
   private Duration electionTimeout = DEFAULT_ELECTION_TIMEOUT;
   private Duration heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
@@ -41,6 +44,8 @@ public class RaftPartitionConfig {
   private int minStepDownFailureCount = DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT;
   private Duration maxQuorumResponseTimeout = DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT;
   private int preferSnapshotReplicationThreshold = DEFAULT_SNAPSHOT_REPLICATION_THRESHOLD;
+  private int snapshotChunkSize = DEFAULT_SNAPSHOT_CHUNK_SIZE;
+  private int maxSnapshotChunksInFlight = DEFAULT_MAX_SNAPSHOT_CHUNKS_IN_FLIGHT;
   private RaftStorageConfig storageConfig;
   private EntryValidator entryValidator;
   private Duration configurationChangeTimeout;
@@ -184,6 +189,34 @@ public class RaftPartitionConfig {
     this.preferSnapshotReplicationThreshold = preferSnapshotReplicationThreshold;
   }
 
+  /**
+   * Returns the maximum size of a snapshot chunk sent to a follower. Files of a snapshot which are
+   * larger are split into multiple chunks.
+   *
+   * @return the maximum size of a snapshot chunk in bytes
+   */
+  public int getSnapshotChunkSize() {
+    return snapshotChunkSize;
+  }
+
+  public void setSnapshotChunkSize(final int snapshotChunkSize) {
+    this.snapshotChunkSize = snapshotChunkSize;
+  }
+
+  /**
+   * Returns the maximum number of snapshot chunks which are sent to a follower without waiting for
+   * their responses.
+   *
+   * @return the maximum number of snapshot chunks in flight per follower
+   */
+  public int getMaxSnapshotChunksInFlight() {
+    return maxSnapshotChunksInFlight;
+  }
+
+  public void setMaxSnapshotChunksInFlight(final int maxSnapshotChunksInFlight) {
+    this.maxSnapshotChunksInFlight = maxSnapshotChunksInFlight;
+  }
+
   public RaftStorageConfig getStorageConfig() {
     return storageConfig;
   }
@@ -225,6 +258,10 @@ public class RaftPartitionConfig {
         + maxQuorumResponseTimeout
         + ", preferSnapshotReplicationThreshold="
         + preferSnapshotReplicationThreshold
+        + ", snapshotChunkSize="
+        + snapshotChunkSize
+        + ", maxSnapshotChunksInFlight="
+        + maxSnapshotChunksInFlight
         + '}';
   }
 }
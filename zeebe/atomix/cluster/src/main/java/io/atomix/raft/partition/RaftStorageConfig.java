@@ -19,6 +19,7 @@ package io.atomix.raft.partition;
 import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.atomix.utils.concurrent.ThreadContext;
+import io.camunda.zeebe.journal.file.SegmentFlushMode;
 
 /** Raft storage configuration. */
 public class RaftStorageConfig {
@@ -30,12 +31,14 @@ public class RaftStorageConfig {
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
 
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final SegmentFlushMode DEFAULT_SEGMENT_FLUSH_MODE = SegmentFlushMode.MSYNC;
 
   private long segmentSize = DEFAULT_MAX_SEGMENT_SIZE;
   private RaftLogFlusher.Factory flusherFactory = DEFAULT_FLUSHER_FACTORY;
   private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private SegmentFlushMode segmentFlushMode = DEFAULT_SEGMENT_FLUSH_MODE;
 
   /**
    * Returns the Raft log segment size.
@@ -125,6 +128,22 @@ public class RaftStorageConfig {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
 
+  /**
+   * @return the mode used to flush segments to disk
+   */
+  public SegmentFlushMode getSegmentFlushMode() {
+    return segmentFlushMode;
+  }
+
+  /**
+   * Sets how segments are flushed to disk. See {@link SegmentFlushMode} for the available modes.
+   *
+   * @param segmentFlushMode the mode used to flush segments
+   */
+  public void setSegmentFlushMode(final SegmentFlushMode segmentFlushMode) {
+    this.segmentFlushMode = segmentFlushMode;
+  }
+
   @Override
   public String toString() {
     return "RaftStorageConfig{"
@@ -138,6 +157,8 @@ public class RaftStorageConfig {
         + journalIndexDensity
         + ", preallocateSegmentFiles="
         + preallocateSegmentFiles
+        + ", segmentFlushMode="
+        + segmentFlushMode
         + '}';
   }
 }
@@ -23,6 +23,9 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import io.atomix.cluster.MemberId;
 import io.atomix.utils.misc.StringUtils;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -34,6 +37,11 @@ import java.util.Objects;
  * received by the follower, the snapshot is reconstructed based on the provided {@link #chunkId()}
  * and other metadata. The last install request will be sent with {@link #complete()} being {@code
  * true} to indicate that all chunks of the snapshot have been sent.
+ *
+ * <p>Chunks which the follower already has in its latest local snapshot, as advertised in the
+ * response to the initial request, may be skipped by the leader. These are then listed in the
+ * {@link #reusedChunkIds()} of the last request, such that the follower can take them from its
+ * local snapshot before committing the new one.
  */
 public class InstallRequest extends AbstractRaftRequest {
 
@@ -57,6 +65,9 @@ public class InstallRequest extends AbstractRaftRequest {
   private final boolean initial;
   // true if this is the last chunk
   private final boolean complete;
+  // the IDs of the chunks which were not sent, as the follower already has them; may be null if
+  // sent by an older version
+  private final List<String> reusedChunkIds;
 
   public InstallRequest(
       final long currentTerm,
@@ -68,7 +79,8 @@ public class InstallRequest extends AbstractRaftRequest {
       final ByteBuffer nextChunkId,
       final ByteBuffer data,
       final boolean initial,
-      final boolean complete) {
+      final boolean complete,
+      final List<String> reusedChunkIds) {
     this.currentTerm = currentTerm;
     this.leader = leader;
     this.index = index;
@@ -79,6 +91,7 @@ public class InstallRequest extends AbstractRaftRequest {
     this.initial = initial;
     this.complete = complete;
     this.term = term;
+    this.reusedChunkIds = reusedChunkIds;
   }
 
   /**
@@ -169,10 +182,30 @@ public class InstallRequest extends AbstractRaftRequest {
     return complete;
   }
 
+  /**
+   * Returns the IDs of the chunks which were not sent, because the follower advertised them as part
+   * of its latest local snapshot. Only set on the last chunk of a snapshot.
+   *
+   * @return the IDs of the chunks the follower should reuse from its local snapshot
+   */
+  public List<String> reusedChunkIds() {
+    return reusedChunkIds == null ? List.of() : reusedChunkIds;
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(
-        currentTerm, leader, index, term, version, chunkId, nextChunkId, data, initial, complete);
+        currentTerm,
+        leader,
+        index,
+        term,
+        version,
+        chunkId,
+        nextChunkId,
+        data,
+        initial,
+        complete,
+        reusedChunkIds());
   }
 
   @Override
@@ -193,7 +226,8 @@ public class InstallRequest extends AbstractRaftRequest {
         && Objects.equals(leader, that.leader)
         && Objects.equals(chunkId, that.chunkId)
         && Objects.equals(nextChunkId, that.nextChunkId)
-        && Objects.equals(data, that.data);
+        && Objects.equals(data, that.data)
+        && reusedChunkIds().equals(that.reusedChunkIds());
   }
 
   @Override
@@ -209,6 +243,7 @@ public class InstallRequest extends AbstractRaftRequest {
         .add("data", StringUtils.printShortBuffer(data))
         .add("initial", initial)
         .add("complete", complete)
+        .add("reusedChunks", reusedChunkIds().size())
         .toString();
   }
 
@@ -230,6 +265,7 @@ public class InstallRequest extends AbstractRaftRequest {
     private boolean complete;
     private boolean initial;
     private long term;
+    private List<String> reusedChunkIds = new ArrayList<>();
 
     /**
      * Sets the request current term.
@@ -343,6 +379,19 @@ public class InstallRequest extends AbstractRaftRequest {
       return this;
     }
 
+    /**
+     * Sets the IDs of the chunks which the follower should reuse from its local snapshot.
+     *
+     * @param reusedChunkIds the IDs of the reused chunks
+     * @return the request builder
+     */
+    public Builder withReusedChunkIds(final Collection<String> reusedChunkIds) {
+      checkNotNull(reusedChunkIds, "reusedChunkIds cannot be null");
+      // copy into a type known to the serializer, regardless of what we were given
+      this.reusedChunkIds = new ArrayList<>(reusedChunkIds);
+      return this;
+    }
+
     /**
      * @throws IllegalStateException if member is null
      */
@@ -350,7 +399,17 @@ public class InstallRequest extends AbstractRaftRequest {
     public InstallRequest build() {
       validate();
       return new InstallRequest(
-          currentTerm, leader, index, term, version, chunkId, nextChunkId, data, initial, complete);
+          currentTerm,
+          leader,
+          index,
+          term,
+          version,
+          chunkId,
+          nextChunkId,
+          data,
+          initial,
+          complete,
+          reusedChunkIds);
     }
 
     @Override
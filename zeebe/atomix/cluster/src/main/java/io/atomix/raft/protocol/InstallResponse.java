@@ -16,19 +16,33 @@
  */
 package io.atomix.raft.protocol;
 
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import io.atomix.raft.RaftError;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Snapshot installation response.
  *
  * <p>Install responses are sent once a snapshot installation request has been received and
- * processed. Install responses provide no additional metadata aside from indicating whether or not
- * the request was successful.
+ * processed. Aside from indicating whether or not the request was successful, the response to the
+ * initial request of a snapshot may list the chunks of the receiver's latest local snapshot, along
+ * with their checksums. The leader can then skip all chunks which the receiver already has, see
+ * {@link InstallRequest#reusedChunkIds()}.
  */
 public class InstallResponse extends AbstractRaftResponse {
 
-  public InstallResponse(final Status status, final RaftError error) {
+  // the checksums of the chunks of the receiver's latest snapshot, by chunk ID; may be null if
+  // sent by an older version
+  private final Map<String, Long> localChunkChecksums;
+
+  public InstallResponse(
+      final Status status, final RaftError error, final Map<String, Long> localChunkChecksums) {
     super(status, error);
+    this.localChunkChecksums = localChunkChecksums;
   }
 
   /**
@@ -40,13 +54,65 @@ public class InstallResponse extends AbstractRaftResponse {
     return new Builder();
   }
 
+  /**
+   * Returns the checksums of the chunks of the receiver's latest local snapshot, by chunk ID. Empty
+   * if the receiver has no snapshot it can reuse chunks from.
+   *
+   * @return the checksums of the receiver's local snapshot chunks
+   */
+  public Map<String, Long> localChunkChecksums() {
+    return localChunkChecksums == null ? Map.of() : localChunkChecksums;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(getClass(), status, localChunkChecksums());
+  }
+
+  @Override
+  public boolean equals(final Object object) {
+    if (object instanceof final InstallResponse response) {
+      return response.status == status
+          && Objects.equals(response.error, error)
+          && response.localChunkChecksums().equals(localChunkChecksums());
+    }
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    if (status == Status.OK) {
+      return toStringHelper(this)
+          .add("status", status)
+          .add("localChunks", localChunkChecksums().size())
+          .toString();
+    } else {
+      return toStringHelper(this).add("status", status).add("error", error).toString();
+    }
+  }
+
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
 
+    private Map<String, Long> localChunkChecksums = new HashMap<>();
+
+    /**
+     * Sets the checksums of the chunks of the receiver's latest local snapshot.
+     *
+     * @param localChunkChecksums the checksums of the local snapshot chunks, by chunk ID
+     * @return the response builder
+     */
+    public Builder withLocalChunkChecksums(final Map<String, Long> localChunkChecksums) {
+      checkNotNull(localChunkChecksums, "localChunkChecksums cannot be null");
+      // copy into a type known to the serializer, regardless of what we were given
+      this.localChunkChecksums = new HashMap<>(localChunkChecksums);
+      return this;
+    }
+
     @Override
     public InstallResponse build() {
       validate();
-      return new InstallResponse(status, error);
+      return new InstallResponse(status, error, localChunkChecksums);
     }
   }
 }
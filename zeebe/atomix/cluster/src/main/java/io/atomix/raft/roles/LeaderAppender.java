@@ -381,10 +381,22 @@ final class LeaderAppender {
   /** Builds an install request for the given member. */
   private Optional<InstallRequest> buildInstallRequest(
       final RaftMemberContext member, final PersistedSnapshot persistedSnapshot) {
+    // The response to the initial request determines which chunks are sent at all, and the
+    // follower only completes the snapshot once it has received all previous chunks. Requests of a
+    // previous snapshot must be drained before starting a new one, as it would abort the new one.
+    if (member.hasInFlightInstalls()
+        && (member.getNextSnapshotIndex() != persistedSnapshot.getIndex()
+            || member.getNextSnapshotChunk() == null
+            || member.hasInFlightInitialInstall())) {
+      return Optional.empty();
+    }
+
     if (member.getNextSnapshotIndex() != persistedSnapshot.getIndex()) {
       try {
         final SnapshotChunkReader snapshotChunkReader = persistedSnapshot.newChunkReader();
+        snapshotChunkReader.setMaximumChunkSize(raft.getSnapshotChunkSize());
         member.setSnapshotChunkReader(snapshotChunkReader);
+        member.setReusedSnapshotChunks(List.of());
       } catch (final UncheckedIOException e) {
         log.warn(
             "Expected to send Snapshot {} to {}. But could not open SnapshotChunkReader. Will retry.",
@@ -400,20 +412,25 @@ final class LeaderAppender {
     final SnapshotChunkReader reader = member.getSnapshotChunkReader();
 
     try {
-      // Reader might have advanced to the next chunk already. But if we want to retry a chunk the
-      // reader should seek to the chunk. To handle retries and not-retries the same, we seek
-      // always.
-      if (member.getNextSnapshotChunk() != null) {
-        reader.seek(member.getNextSnapshotChunk());
-      } else {
+      // Reader is usually positioned at the next chunk already, as chunks are sent without waiting
+      // for the previous response. But if we want to retry a chunk the reader should seek to it.
+      if (member.getNextSnapshotChunk() == null) {
         // member.getNextSnapshotChunk is null when it is the first chunk.
         reader.reset();
+      } else if (!member.getNextSnapshotChunk().equals(reader.nextId())) {
+        reader.seek(member.getNextSnapshotChunk());
       }
 
       if (!reader.hasNext()) {
         return Optional.empty();
       }
+      final ByteBuffer chunkId = reader.nextId();
       final SnapshotChunk chunk = reader.next();
+      if (!reader.hasNext() && member.hasInFlightInstalls()) {
+        // the last chunk completes the snapshot, so it is only sent once all others were received;
+        // the reader seeks back to it on the next attempt
+        return Optional.empty();
+      }
 
       // Create the install request, indicating whether this is the last chunk of data based on
       // the number of bytes remaining in the buffer.
@@ -427,11 +444,13 @@ final class LeaderAppender {
               .withTerm(persistedSnapshot.getTerm())
               .withVersion(persistedSnapshot.version())
               .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
-              .withChunkId(ByteBuffer.wrap(chunk.getChunkName().getBytes()))
+              .withChunkId(chunkId)
               .withInitial(member.getNextSnapshotChunk() == null)
               .withComplete(!reader.hasNext())
               .withNextChunkId(reader.nextId())
+              .withReusedChunkIds(reader.hasNext() ? List.of() : member.getReusedSnapshotChunks())
               .build();
+      member.setNextSnapshotChunk(request.nextChunkId());
       return Optional.of(request);
     } catch (final UncheckedIOException e) {
       log.warn(
@@ -449,7 +468,7 @@ final class LeaderAppender {
   /** Connects to the member and sends a snapshot request. */
   private void sendInstallRequest(final RaftMemberContext member, final InstallRequest request) {
     // Start the install to the member.
-    member.startInstall();
+    member.startInstall(request);
 
     final long timestamp = System.currentTimeMillis();
 
@@ -458,10 +477,9 @@ final class LeaderAppender {
         .install(member.getMember().memberId(), request)
         .whenCompleteAsync(
             (response, error) -> {
-              if (open) {
-                // Complete the install to the member.
-                member.completeInstall();
-
+              // Complete the install to the member. Responses to requests which were discarded in
+              // the meantime are ignored, as their chunks are sent again.
+              if (open && member.completeInstall(request)) {
                 if (error == null) {
                   log.trace("Received {} from {}", response, member.getMember().memberId());
                   handleInstallResponse(member, request, response, timestamp);
@@ -483,7 +501,12 @@ final class LeaderAppender {
         error instanceof TimeoutException
             || (error != null && error.getCause() instanceof TimeoutException);
 
-    if (!isTimeout) {
+    // On timeout, resend from the failed chunk on. All requests sent after it are resent too, as
+    // the member discards chunks which do not continue the ones it has received so far.
+    member.discardInFlightInstalls();
+    if (isTimeout) {
+      member.setNextSnapshotChunk(request.isInitial() ? null : request.chunkId());
+    } else {
       member.setNextSnapshotIndex(0);
       member.setNextSnapshotChunk(null);
     }
@@ -494,7 +517,9 @@ final class LeaderAppender {
 
   /** Handles an OK install response. */
   private void handleInstallResponseOk(
-      final RaftMemberContext member, final InstallRequest request) {
+      final RaftMemberContext member,
+      final InstallRequest request,
+      final InstallResponse response) {
     // Reset the member failure count and update the member's status if necessary.
     succeedAttempt(member);
 
@@ -506,15 +531,73 @@ final class LeaderAppender {
       member.setSnapshotIndex(request.index());
       resetNextIndex(member, request.index() + 1);
     }
-    // If more install requests remain, increment the member's snapshot offset.
-    else {
-      member.setNextSnapshotChunk(request.nextChunkId());
+    // The member's snapshot offset was already incremented when sending the request.
+    else if (request.isInitial()) {
+      excludeChunksKnownToMember(member, request, response);
     }
 
     // Recursively append entries to the member.
     appendEntries(member);
   }
 
+  /**
+   * Excludes all chunks of the snapshot being sent which the member already has in its latest local
+   * snapshot, as advertised in the response to the initial install request. These are listed in the
+   * last install request instead, such that the member can take them from its local snapshot. The
+   * first chunk was already sent with the initial request, and the last chunk is always sent, as
+   * the member only completes the snapshot once it receives it.
+   */
+  private void excludeChunksKnownToMember(
+      final RaftMemberContext member,
+      final InstallRequest request,
+      final InstallResponse response) {
+    final var memberChunkChecksums = response.localChunkChecksums();
+    final var persistedSnapshot = raft.getCurrentSnapshot();
+    if (memberChunkChecksums.isEmpty()
+        || persistedSnapshot == null
+        || persistedSnapshot.getIndex() != request.index()
+        || member.getNextSnapshotIndex() != request.index()) {
+      return;
+    }
+
+    final NavigableMap<String, Long> chunkChecksums;
+    try {
+      chunkChecksums = new TreeMap<>(persistedSnapshot.getChunkChecksums());
+    } catch (final UncheckedIOException e) {
+      log.warn(
+          "Failed to read the chunk checksums of snapshot {}, will send all chunks to {}",
+          persistedSnapshot.getId(),
+          member.getMember().memberId(),
+          e);
+      return;
+    }
+
+    if (chunkChecksums.size() < 3) {
+      return;
+    }
+
+    final List<String> reusedChunks = new ArrayList<>();
+    for (final var chunk :
+        chunkChecksums
+            .subMap(chunkChecksums.firstKey(), false, chunkChecksums.lastKey(), false)
+            .entrySet()) {
+      if (chunk.getValue().equals(memberChunkChecksums.get(chunk.getKey()))) {
+        reusedChunks.add(chunk.getKey());
+      }
+    }
+
+    if (!reusedChunks.isEmpty()) {
+      log.debug(
+          "Member {} already has {} of {} chunks of snapshot {}, which will not be sent",
+          member.getMember().memberId(),
+          reusedChunks.size(),
+          chunkChecksums.size(),
+          persistedSnapshot.getId());
+      member.getSnapshotChunkReader().exclude(reusedChunks);
+      member.setReusedSnapshotChunks(reusedChunks);
+    }
+  }
+
   /** Handles an ERROR install response. */
   @SuppressWarnings("unused")
   private void handleInstallResponseError(
@@ -527,6 +610,7 @@ final class LeaderAppender {
         member.getMember().memberId(),
         response.error().toString());
 
+    member.discardInFlightInstalls();
     member.setNextSnapshotIndex(0);
     member.setNextSnapshotChunk(null);
   }
@@ -843,7 +927,7 @@ final class LeaderAppender {
       final InstallResponse response,
       final long timestamp) {
     if (response.status() == RaftResponse.Status.OK) {
-      handleInstallResponseOk(member, request);
+      handleInstallResponseOk(member, request, response);
     } else {
       handleInstallResponseError(member, request, response);
     }
@@ -865,7 +949,7 @@ final class LeaderAppender {
 
   private void tryToReplicate(final RaftMemberContext member) {
     if (shouldReplicateSnapshot(member)) {
-      if (!member.canInstall()) {
+      if (!member.canInstall(raft.getMaxSnapshotChunksInFlight())) {
         return;
       }
       replicateSnapshot(member);
@@ -901,8 +985,13 @@ final class LeaderAppender {
         "Replicating snapshot {} to {}",
         persistedSnapshot.getIndex(),
         member.getMember().memberId());
-    buildInstallRequest(member, persistedSnapshot)
-        .ifPresent(installRequest -> sendInstallRequest(member, installRequest));
+    while (member.canInstall(raft.getMaxSnapshotChunksInFlight())) {
+      final var installRequest = buildInstallRequest(member, persistedSnapshot);
+      if (installRequest.isEmpty()) {
+        return;
+      }
+      sendInstallRequest(member, installRequest.get());
+    }
   }
 
   private void replicateEvents(final RaftMemberContext member) {
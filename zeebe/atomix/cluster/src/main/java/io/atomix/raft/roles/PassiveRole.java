@@ -52,10 +52,14 @@ import io.camunda.zeebe.journal.JournalException.InvalidIndex;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivedSnapshot;
 import io.camunda.zeebe.snapshots.SnapshotException.SnapshotAlreadyExistsException;
+import io.camunda.zeebe.snapshots.SnapshotReservation;
 import io.camunda.zeebe.util.logging.ThrottledLogger;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -68,6 +72,9 @@ public class PassiveRole extends InactiveRole {
   private long pendingSnapshotStartTimestamp;
   private ReceivedSnapshot pendingSnapshot;
   private ByteBuffer nextPendingSnapshotChunkId;
+  // the latest local snapshot while receiving a new one, whose chunks can be reused
+  private PersistedSnapshot reusableSnapshot;
+  private SnapshotReservation reusableSnapshotReservation;
 
   public PassiveRole(final RaftContext context) {
     super(context);
@@ -223,6 +230,7 @@ public class PassiveRole extends InactiveRole {
       // When all chunks of the snapshot is received the log will be reset. Hence notify the
       // listeners in advance so that they can close all consumers of the log.
       raft.notifySnapshotReplicationStarted();
+      reserveReusableSnapshot();
     }
 
     try {
@@ -251,6 +259,10 @@ public class PassiveRole extends InactiveRole {
       final PersistedSnapshot persistedSnapshot;
       log.debug("Committing snapshot {}", pendingSnapshot);
       try {
+        if (!request.reusedChunkIds().isEmpty()) {
+          reuseLocalSnapshotChunks(request.reusedChunkIds());
+        }
+
         // Reset before committing to prevent the edge case where the system crashes after
         // committing the snapshot, and restart with a snapshot and invalid log.
         resetLogOnReceivingSnapshot(pendingSnapshot.index());
@@ -271,6 +283,7 @@ public class PassiveRole extends InactiveRole {
 
       pendingSnapshot = null;
       pendingSnapshotStartTimestamp = 0L;
+      releaseReusableSnapshot();
       snapshotReplicationMetrics.decrementCount();
       snapshotReplicationMetrics.observeDuration(elapsed);
       raft.updateCurrentSnapshot();
@@ -279,8 +292,12 @@ public class PassiveRole extends InactiveRole {
       setNextExpected(request.nextChunkId());
     }
 
-    return CompletableFuture.completedFuture(
-        logResponse(InstallResponse.builder().withStatus(RaftResponse.Status.OK).build()));
+    final var response = InstallResponse.builder().withStatus(RaftResponse.Status.OK);
+    if (request.isInitial() && !request.complete()) {
+      // let the leader know which chunks it does not have to send
+      response.withLocalChunkChecksums(getReusableChunkChecksums());
+    }
+    return CompletableFuture.completedFuture(logResponse(response.build()));
   }
 
   @Override
@@ -457,6 +474,70 @@ public class PassiveRole extends InactiveRole {
     }
   }
 
+  /**
+   * Reserves the latest local snapshot, if any, such that its chunks can be reused for the snapshot
+   * being received. Without a reservation, the snapshot could be deleted before the chunks are
+   * reused.
+   */
+  private void reserveReusableSnapshot() {
+    final var currentSnapshot = raft.getCurrentSnapshot();
+    if (currentSnapshot == null) {
+      return;
+    }
+
+    try {
+      reusableSnapshotReservation = currentSnapshot.reserve().join();
+      reusableSnapshot = currentSnapshot;
+    } catch (final Exception e) {
+      log.debug(
+          "Failed to reserve snapshot {}, will receive all chunks of snapshot {}",
+          currentSnapshot.getId(),
+          pendingSnapshot,
+          e);
+    }
+  }
+
+  private Map<String, Long> getReusableChunkChecksums() {
+    if (reusableSnapshot == null) {
+      return Map.of();
+    }
+
+    try {
+      return reusableSnapshot.getChunkChecksums();
+    } catch (final UncheckedIOException e) {
+      log.debug(
+          "Failed to read the chunk checksums of snapshot {}, will receive all chunks of snapshot {}",
+          reusableSnapshot.getId(),
+          pendingSnapshot,
+          e);
+      return Map.of();
+    }
+  }
+
+  private void reuseLocalSnapshotChunks(final Collection<String> chunkIds) {
+    if (reusableSnapshot == null) {
+      throw new IllegalStateException(
+          String.format(
+              "Expected to reuse %d chunks of the latest local snapshot, but there is none",
+              chunkIds.size()));
+    }
+
+    log.debug(
+        "Reusing {} chunks of snapshot {} for snapshot {}",
+        chunkIds.size(),
+        reusableSnapshot.getId(),
+        pendingSnapshot);
+    pendingSnapshot.reuse(reusableSnapshot, chunkIds).join();
+  }
+
+  private void releaseReusableSnapshot() {
+    if (reusableSnapshotReservation != null) {
+      reusableSnapshotReservation.release();
+    }
+    reusableSnapshotReservation = null;
+    reusableSnapshot = null;
+  }
+
   private void onSnapshotReceiveCompletedOrAborted() {
     // Listeners should be notified whether snapshot is committed or aborted. Otherwise they can
     // wait for ever.
@@ -478,6 +559,7 @@ public class PassiveRole extends InactiveRole {
       }
       pendingSnapshot = null;
       pendingSnapshotStartTimestamp = 0L;
+      releaseReusableSnapshot();
 
       snapshotReplicationMetrics.decrementCount();
       onSnapshotReceiveCompletedOrAborted();
@@ -651,23 +733,33 @@ public class PassiveRole extends InactiveRole {
         raft.getLog().reset(request.prevLogIndex() + 1);
       }
 
-      // Iterate through entries and append them.
-      for (final ReplicatableRaftRecord entry : request.entries()) {
-        final long index = ++lastLogIndex;
-
-        // Get the last entry written to the log by the writer.
-        final IndexedRaftLogEntry lastEntry = raft.getLog().getLastEntry();
-
-        final boolean failedToAppend = tryToAppend(future, entry, index, lastEntry);
-        if (failedToAppend) {
-          flush(lastLogIndex - 1, request.prevLogIndex());
+      if (canAppendInBatch(request)) {
+        // all entries are new, so they can be written to the log in one go
+        if (!appendEntriesInBatch(request, future)) {
+          flush(raft.getLog().getLastIndex(), request.prevLogIndex());
           return;
         }
 
-        // If the last log index meets the commitIndex, break the append loop to avoid appending
-        // uncommitted entries.
-        if (!role().active() && index == commitIndex) {
-          break;
+        lastLogIndex = lastEntryIndex;
+      } else {
+        // Iterate through entries and append them.
+        for (final ReplicatableRaftRecord entry : request.entries()) {
+          final long index = ++lastLogIndex;
+
+          // Get the last entry written to the log by the writer.
+          final IndexedRaftLogEntry lastEntry = raft.getLog().getLastEntry();
+
+          final boolean failedToAppend = tryToAppend(future, entry, index, lastEntry);
+          if (failedToAppend) {
+            flush(lastLogIndex - 1, request.prevLogIndex());
+            return;
+          }
+
+          // If the last log index meets the commitIndex, break the append loop to avoid appending
+          // uncommitted entries.
+          if (!role().active() && index == commitIndex) {
+            break;
+          }
         }
       }
     }
@@ -688,6 +780,72 @@ public class PassiveRole extends InactiveRole {
     succeedAppend(lastLogIndex, future);
   }
 
+  /**
+   * Entries can be appended in a single batch if they all directly follow the last entry of the
+   * log, i.e. there are no existing entries to compare them against, and if they are all already
+   * serialized journal records. Passive members only append up to the commit index, so they always
+   * append entry by entry.
+   */
+  private boolean canAppendInBatch(final InternalAppendRequest request) {
+    if (!role().active()) {
+      return false;
+    }
+
+    final IndexedRaftLogEntry lastEntry = raft.getLog().getLastEntry();
+    if (lastEntry == null || lastEntry.index() != request.prevLogIndex()) {
+      return false;
+    }
+
+    for (final ReplicatableRaftRecord entry : request.entries()) {
+      if (!(entry instanceof ReplicatableJournalRecord)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Attempts to append all entries of the request at once, returning {@code false} if the append
+   * fails. On failure, the response is completed with the index of the last entry which was
+   * appended.
+   */
+  private boolean appendEntriesInBatch(
+      final InternalAppendRequest request, final CompletableFuture<AppendResponse> future) {
+    // checked by canAppendInBatch
+    @SuppressWarnings("unchecked")
+    final var entries = (List<ReplicatableJournalRecord>) (List<?>) request.entries();
+
+    try {
+      final IndexedRaftLogEntry indexed = raft.getLog().append(entries);
+      log.trace("Appended {} entries up to {}", entries.size(), indexed);
+      raft.getReplicationMetrics().setAppendIndex(indexed.index());
+    } catch (final JournalException.OutOfDiskSpace e) {
+      log.trace(
+          "Failed to append entries after index {} due to out of disk space",
+          raft.getLog().getLastIndex(),
+          e);
+      raft.getLogCompactor().compact();
+      failAppend(raft.getLog().getLastIndex(), future);
+      return false;
+    } catch (final InvalidChecksum e) {
+      log.debug(
+          "Failed to append entry at index {}. Entry checksum doesn't match entry data: ",
+          raft.getLog().getLastIndex() + 1,
+          e);
+      failAppend(raft.getLog().getLastIndex(), future);
+      return false;
+    } catch (final InvalidIndex e) {
+      failAppend(raft.getLog().getLastIndex(), future);
+      return false;
+    } catch (final Exception e) {
+      log.error("Failed to append entries after index {}", raft.getLog().getLastIndex(), e);
+      failAppend(raft.getLog().getLastIndex(), future);
+      return false;
+    }
+    return true;
+  }
+
   private void flush(final long lastFlushedIndex, final long previousEntryIndex) {
     if (lastFlushedIndex > previousEntryIndex) {
       raft.getLog().flush();
@@ -25,6 +25,7 @@ import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.atomix.raft.storage.system.MetaStore;
 import io.atomix.utils.concurrent.ThreadContext;
 import io.atomix.utils.concurrent.ThreadContextFactory;
+import io.camunda.zeebe.journal.file.SegmentFlushMode;
 import io.camunda.zeebe.snapshots.PersistedSnapshotStore;
 import io.camunda.zeebe.snapshots.ReceivableSnapshotStore;
 import io.camunda.zeebe.util.FileUtil;
@@ -63,6 +64,7 @@ public final class RaftStorage {
   private final ReceivableSnapshotStore persistedSnapshotStore;
   private final int journalIndexDensity;
   private final boolean preallocateSegmentFiles;
+  private final SegmentFlushMode segmentFlushMode;
   private final RaftLogFlusher.Factory flusherFactory;
 
   private RaftStorage(
@@ -74,7 +76,8 @@ public final class RaftStorage {
       final RaftLogFlusher.Factory flusherFactory,
       final ReceivableSnapshotStore persistedSnapshotStore,
       final int journalIndexDensity,
-      final boolean preallocateSegmentFiles) {
+      final boolean preallocateSegmentFiles,
+      final SegmentFlushMode segmentFlushMode) {
     this.prefix = prefix;
     this.partitionId = partitionId;
     this.directory = directory;
@@ -84,6 +87,7 @@ public final class RaftStorage {
     this.persistedSnapshotStore = persistedSnapshotStore;
     this.journalIndexDensity = journalIndexDensity;
     this.preallocateSegmentFiles = preallocateSegmentFiles;
+    this.segmentFlushMode = segmentFlushMode;
 
     try {
       FileUtil.ensureDirectoryExists(directory.toPath());
@@ -192,6 +196,7 @@ public final class RaftStorage {
         .withFreeDiskSpace(freeDiskSpace)
         .withJournalIndexDensity(journalIndexDensity)
         .withPreallocateSegmentFiles(preallocateSegmentFiles)
+        .withSegmentFlushMode(segmentFlushMode)
         .withMetaStore(metaStore)
         .withFlusher(flusherFactory.createFlusher(threadFactory))
         .build();
@@ -248,6 +253,7 @@ public final class RaftStorage {
         RaftLogFlusher.Factory::direct;
     private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
     private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+    private static final SegmentFlushMode DEFAULT_SEGMENT_FLUSH_MODE = SegmentFlushMode.MSYNC;
 
     // impossible value to make it clear it's unset and there's an error
     private static final int DEFAULT_PARTITION_ID = -1;
@@ -260,6 +266,7 @@ public final class RaftStorage {
     private ReceivableSnapshotStore persistedSnapshotStore;
     private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
     private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+    private SegmentFlushMode segmentFlushMode = DEFAULT_SEGMENT_FLUSH_MODE;
     private int partitionId = DEFAULT_PARTITION_ID;
 
     private Builder() {}
@@ -364,6 +371,17 @@ public final class RaftStorage {
       return this;
     }
 
+    /**
+     * Sets how segments are flushed to disk. See {@link SegmentFlushMode} for the available modes.
+     *
+     * @param segmentFlushMode the mode used to flush segments
+     * @return this builder for chaining
+     */
+    public Builder withSegmentFlushMode(final SegmentFlushMode segmentFlushMode) {
+      this.segmentFlushMode = checkNotNull(segmentFlushMode, "segmentFlushMode cannot be null");
+      return this;
+    }
+
     /**
      * The ID of the partition on which this storage resides.
      *
@@ -391,7 +409,8 @@ public final class RaftStorage {
           flusherFactory,
           persistedSnapshotStore,
           journalIndexDensity,
-          preallocateSegmentFiles);
+          preallocateSegmentFiles,
+          segmentFlushMode);
     }
   }
 }
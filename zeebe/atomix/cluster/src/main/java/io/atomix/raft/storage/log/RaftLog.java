@@ -27,6 +27,7 @@ import io.atomix.raft.storage.serializer.RaftEntrySerializer;
 import io.camunda.zeebe.journal.Journal;
 import io.camunda.zeebe.journal.JournalRecord;
 import java.io.Closeable;
+import java.util.List;
 import org.agrona.CloseHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -166,6 +167,29 @@ public final class RaftLog implements Closeable {
     return lastAppendedEntry;
   }
 
+  /**
+   * Appends the given replicated entries in a single journal append. If appending one of the
+   * entries fails, the preceding entries remain appended.
+   *
+   * @param entries the entries to append, must not be empty
+   * @return the last appended entry
+   */
+  public IndexedRaftLogEntry append(final List<ReplicatableJournalRecord> entries) {
+    final JournalRecord writtenRecord;
+    try {
+      writtenRecord = journal.append(entries);
+    } catch (final RuntimeException e) {
+      // some of the entries may have been appended, so the last entry has to be read again
+      lastAppendedEntry = null;
+      throw e;
+    }
+
+    final RaftLogEntry raftEntry = serializer.readRaftLogEntry(writtenRecord.data());
+    final long term = entries.get(entries.size() - 1).term();
+    lastAppendedEntry = new IndexedRaftLogEntryImpl(term, raftEntry.entry(), writtenRecord);
+    return lastAppendedEntry;
+  }
+
   public void reset(final long index) {
     journal.reset(index);
     lastAppendedEntry = null;
@@ -19,6 +19,7 @@ import io.atomix.raft.storage.log.RaftLogFlusher.DirectFlusher;
 import io.atomix.raft.storage.log.RaftLogFlusher.Factory;
 import io.camunda.zeebe.journal.Journal;
 import io.camunda.zeebe.journal.JournalMetaStore;
+import io.camunda.zeebe.journal.file.SegmentFlushMode;
 import io.camunda.zeebe.journal.file.SegmentedJournal;
 import io.camunda.zeebe.journal.file.SegmentedJournalBuilder;
 import java.io.File;
@@ -126,6 +127,17 @@ public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
     return this;
   }
 
+  /**
+   * Sets how segments are flushed to disk. See {@link SegmentFlushMode} for the available modes.
+   *
+   * @param segmentFlushMode the mode used to flush segments
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withSegmentFlushMode(final SegmentFlushMode segmentFlushMode) {
+    journalBuilder.withSegmentFlushMode(segmentFlushMode);
+    return this;
+  }
+
   /**
    * The ID of the partition on which this log resides.
    *
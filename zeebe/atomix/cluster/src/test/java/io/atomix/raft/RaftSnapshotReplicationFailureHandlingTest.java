@@ -24,6 +24,7 @@ import io.atomix.raft.protocol.TestRaftServerProtocol;
 import io.atomix.raft.protocol.TestRaftServerProtocol.ResponseInterceptor;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -112,6 +113,118 @@ public class RaftSnapshotReplicationFailureHandlingTest {
         .isEqualTo(2);
   }
 
+  @Test
+  public void shouldReplicateSnapshotWhenPipelinedResponsesArriveOutOfOrder() throws Throwable {
+    // given
+    final int numberOfChunks = 10;
+    leader.getContext().setMaxSnapshotChunksInFlight(4);
+    disconnectFollowerAndTakeSnapshot(numberOfChunks);
+
+    // delay every other response, such that later chunks are acknowledged before earlier ones
+    leaderProtocol.interceptResponse(InstallResponse.class, new DelayingResponseInterceptor(2));
+
+    // when
+    reconnectFollowerAndAwaitSnapshot();
+
+    // then
+    assertThat(raftRule.getSnapshotOnNode(follower.name()))
+        .isEqualTo(raftRule.getSnapshotOnNode(leader.name()));
+  }
+
+  @Test
+  public void shouldReplicateSnapshotWhenPipelinedChunksAreReceivedTwice() throws Throwable {
+    // given
+    final int numberOfChunks = 10;
+    leader.getContext().setMaxSnapshotChunksInFlight(4);
+    disconnectFollowerAndTakeSnapshot(numberOfChunks);
+
+    // The follower has processed the chunk, but the leader times out and sends it again, together
+    // with the chunks which were in flight behind it.
+    leaderProtocol.interceptResponse(InstallResponse.class, new TimingOutResponseInterceptor(3));
+
+    // when
+    reconnectFollowerAndAwaitSnapshot();
+
+    // then
+    assertThat(raftRule.getSnapshotOnNode(follower.name()))
+        .isEqualTo(raftRule.getSnapshotOnNode(leader.name()));
+    assertThat(totalInstallRequest.get())
+        .describedAs("Should resend the timed out chunk, but not restart from the first chunk")
+        .isGreaterThan(numberOfChunks)
+        .isLessThan(2 * numberOfChunks);
+  }
+
+  @Test
+  public void shouldRestartSnapshotReplicationIfPipelinedRequestFailed() throws Throwable {
+    // given
+    final int numberOfChunks = 10;
+    leader.getContext().setMaxSnapshotChunksInFlight(4);
+    disconnectFollowerAndTakeSnapshot(numberOfChunks);
+
+    // fail the third request before it reaches the follower, while other chunks are in flight
+    final var requestInterceptor = new FailingRequestInterceptor(3);
+    leaderProtocol.interceptRequest(InstallRequest.class, requestInterceptor);
+
+    // when
+    reconnectFollowerAndAwaitSnapshot();
+
+    // then
+    assertThat(raftRule.getSnapshotOnNode(follower.name()))
+        .isEqualTo(raftRule.getSnapshotOnNode(leader.name()));
+    assertThat(requestInterceptor.getCount())
+        .describedAs("Should resend the chunks after the failed request")
+        .isGreaterThan(numberOfChunks);
+  }
+
+  @Test
+  public void shouldReplicateSnapshotFromNewLeaderWhenLeaderChangesWithInstallsInFlight()
+      throws Throwable {
+    // given
+    final int numberOfChunks = 10;
+    leader.getContext().setMaxSnapshotChunksInFlight(4);
+    final long snapshotIndex = disconnectFollowerAndTakeSnapshot(numberOfChunks);
+
+    final var otherFollower =
+        raftRule.getServers().stream()
+            .filter(server -> server != leader && server != follower)
+            .findFirst()
+            .orElseThrow();
+    otherFollower.getContext().setPreferSnapshotReplicationThreshold(1);
+    raftRule.takeSnapshot(otherFollower, snapshotIndex, numberOfChunks);
+
+    // the follower only receives the initial chunk, all others stay in flight forever
+    final var chunksInFlight = new CountDownLatch(1);
+    leaderProtocol.interceptRequest(
+        InstallRequest.class,
+        (Function<InstallRequest, CompletableFuture<Void>>)
+            request -> {
+              if (request.isInitial()) {
+                return CompletableFuture.completedFuture(null);
+              }
+              chunksInFlight.countDown();
+              return new CompletableFuture<>();
+            });
+
+    final var snapshotReceived = new CountDownLatch(1);
+    raftRule
+        .getPersistedSnapshotStore(follower.name())
+        .addSnapshotListener(s -> snapshotReceived.countDown());
+    raftRule.reconnect(follower);
+    assertThat(chunksInFlight.await(30, TimeUnit.SECONDS)).isTrue();
+
+    // when
+    raftRule.shutdownServer(leader);
+    raftRule.awaitNewLeader();
+
+    // then
+    assertThat(snapshotReceived.await(30, TimeUnit.SECONDS)).isTrue();
+    assertThat(raftRule.getSnapshotOnNode(follower.name()))
+        .isEqualTo(raftRule.getSnapshotOnNode(otherFollower.name()));
+
+    final long index = raftRule.appendEntry();
+    raftRule.awaitSameLogSizeOnAllNodes(index);
+  }
+
   private void reconnectFollowerAndAwaitSnapshot() throws InterruptedException {
     final var snapshotReceived = new CountDownLatch(1);
     raftRule
@@ -122,7 +235,7 @@ public class RaftSnapshotReplicationFailureHandlingTest {
     assertThat(snapshotReceived.await(30, TimeUnit.SECONDS)).isTrue();
   }
 
-  private void disconnectFollowerAndTakeSnapshot(final int numberOfChunks) throws Exception {
+  private long disconnectFollowerAndTakeSnapshot(final int numberOfChunks) throws Exception {
     follower = raftRule.getFollower().orElseThrow();
     raftRule.partition(follower);
 
@@ -131,6 +244,7 @@ public class RaftSnapshotReplicationFailureHandlingTest {
 
     raftRule.takeSnapshot(leader, commitIndex, numberOfChunks);
     raftRule.appendEntry();
+    return commitIndex;
   }
 
   private static class TimingOutResponseInterceptor
@@ -157,6 +271,27 @@ public class RaftSnapshotReplicationFailureHandlingTest {
     }
   }
 
+  private static class DelayingResponseInterceptor
+      implements ResponseInterceptor<InstallResponse> {
+    private final AtomicInteger count = new AtomicInteger();
+    private final Executor delayedExecutor =
+        CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS);
+    private final int delayEveryNthResponse;
+
+    public DelayingResponseInterceptor(final int delayEveryNthResponse) {
+      this.delayEveryNthResponse = delayEveryNthResponse;
+    }
+
+    @Override
+    public CompletableFuture<InstallResponse> apply(final InstallResponse installResponse) {
+      if (count.incrementAndGet() % delayEveryNthResponse == 0) {
+        return CompletableFuture.supplyAsync(() -> installResponse, delayedExecutor);
+      } else {
+        return CompletableFuture.completedFuture(installResponse);
+      }
+    }
+  }
+
   private static class TimingOutRequestInterceptor
       implements Function<InstallRequest, CompletableFuture<Void>> {
     private int count = 0;
@@ -181,6 +316,29 @@ public class RaftSnapshotReplicationFailureHandlingTest {
     }
   }
 
+  private static class FailingRequestInterceptor
+      implements Function<InstallRequest, CompletableFuture<Void>> {
+    private final AtomicInteger count = new AtomicInteger();
+    private final int failAtRequest;
+
+    public FailingRequestInterceptor(final int failAtRequest) {
+      this.failAtRequest = failAtRequest;
+    }
+
+    int getCount() {
+      return count.get();
+    }
+
+    @Override
+    public CompletableFuture<Void> apply(final InstallRequest installRequest) {
+      if (count.incrementAndGet() == failAtRequest) {
+        return CompletableFuture.failedFuture(new IllegalStateException("expected"));
+      } else {
+        return CompletableFuture.completedFuture(null);
+      }
+    }
+  }
+
   private static class RejectingInterceptor implements ResponseInterceptor<InstallResponse> {
     private int count = 0;
     private final int rejectAtChunk;
@@ -17,6 +17,7 @@ package io.atomix.raft.roles;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -24,22 +25,33 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftError;
+import io.atomix.raft.cluster.impl.RaftClusterContext;
 import io.atomix.raft.impl.RaftContext;
 import io.atomix.raft.metrics.RaftReplicationMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
 import io.atomix.raft.protocol.PersistedRaftRecord;
 import io.atomix.raft.protocol.ProtocolVersionHandler;
+import io.atomix.raft.protocol.RaftResponse;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
 import io.atomix.raft.storage.RaftStorage;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLog;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivableSnapshotStore;
+import io.camunda.zeebe.snapshots.ReceivedSnapshot;
+import io.camunda.zeebe.snapshots.SnapshotChunk;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
@@ -50,10 +62,14 @@ import org.junit.rules.Timeout;
 
 public class PassiveRoleTest {
 
+  private static final long SNAPSHOT_INDEX = 5;
+
   @Rule public Timeout timeout = new Timeout(30, TimeUnit.SECONDS);
   private RaftLog log;
   private PassiveRole role;
   private RaftContext ctx;
+  private ReceivableSnapshotStore store;
+  private ReceivedSnapshot receivedSnapshot;
 
   @Before
   public void setup() throws IOException {
@@ -67,15 +83,23 @@ public class PassiveRoleTest {
     when(snapshot.getIndex()).thenReturn(1L);
     when(snapshot.getTerm()).thenReturn(1L);
 
-    final ReceivableSnapshotStore store = mock(ReceivableSnapshotStore.class);
+    store = mock(ReceivableSnapshotStore.class);
     when(store.getLatestSnapshot()).thenReturn(Optional.of(snapshot));
 
+    receivedSnapshot = mock(ReceivedSnapshot.class);
+    when(receivedSnapshot.index()).thenReturn(SNAPSHOT_INDEX);
+    when(receivedSnapshot.apply(any())).thenReturn(CompletableActorFuture.completed(null));
+    doReturn(CompletableActorFuture.completed(receivedSnapshot))
+        .when(store)
+        .newReceivedSnapshot(any());
+
     final RaftStorage storage = mock(RaftStorage.class);
     when(ctx.getStorage()).thenReturn(storage);
     when(ctx.getLog()).thenReturn(log);
     when(ctx.getPersistedSnapshotStore()).thenReturn(store);
     when(ctx.getTerm()).thenReturn(1L);
     when(ctx.getReplicationMetrics()).thenReturn(mock(RaftReplicationMetrics.class));
+    when(ctx.getCluster()).thenReturn(mock(RaftClusterContext.class));
 
     role = new PassiveRole(ctx);
   }
@@ -237,4 +261,125 @@ public class PassiveRoleTest {
     // then
     assertThat(response.succeeded()).isTrue();
   }
+
+  @Test
+  public void shouldAcceptDuplicateSnapshotChunk() {
+    // given
+    role.onInstall(installRequest(1, SNAPSHOT_INDEX, 0)).join();
+    role.onInstall(installRequest(1, SNAPSHOT_INDEX, 1)).join();
+
+    // when - the leader resends a chunk whose response it did not receive
+    final InstallResponse response = role.onInstall(installRequest(1, SNAPSHOT_INDEX, 1)).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(RaftResponse.Status.OK);
+    verify(store, times(1)).newReceivedSnapshot(any());
+    verify(receivedSnapshot, times(3)).apply(any());
+    verify(receivedSnapshot, never()).abort();
+  }
+
+  @Test
+  public void shouldRejectSnapshotChunkWithoutPendingSnapshot() {
+    // given - the initial chunk was lost, but the chunks behind it are still in flight
+
+    // when
+    final InstallResponse response = role.onInstall(installRequest(1, SNAPSHOT_INDEX, 1)).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(RaftResponse.Status.ERROR);
+    assertThat(response.error().type()).isEqualTo(RaftError.Type.ILLEGAL_MEMBER_STATE);
+    verify(store, never()).newReceivedSnapshot(any());
+  }
+
+  @Test
+  public void shouldRejectInFlightSnapshotChunksAfterFailedChunk() {
+    // given
+    role.onInstall(installRequest(1, SNAPSHOT_INDEX, 0)).join();
+    when(receivedSnapshot.apply(any()))
+        .thenReturn(CompletableActorFuture.completedExceptionally(new IOException("expected")));
+    final InstallResponse failedResponse =
+        role.onInstall(installRequest(1, SNAPSHOT_INDEX, 1)).join();
+
+    // when
+    final InstallResponse response = role.onInstall(installRequest(1, SNAPSHOT_INDEX, 2)).join();
+
+    // then
+    assertThat(failedResponse.status()).isEqualTo(RaftResponse.Status.ERROR);
+    assertThat(failedResponse.error().type()).isEqualTo(RaftError.Type.APPLICATION_ERROR);
+    verify(receivedSnapshot, times(1)).abort();
+    assertThat(response.status()).isEqualTo(RaftResponse.Status.ERROR);
+    assertThat(response.error().type()).isEqualTo(RaftError.Type.ILLEGAL_MEMBER_STATE);
+  }
+
+  @Test
+  public void shouldRejectSnapshotChunkOfPreviousLeader() {
+    // given
+    role.onInstall(installRequest(1, SNAPSHOT_INDEX, 0)).join();
+    when(ctx.getTerm()).thenReturn(2L);
+
+    // when - a chunk sent by the previous leader arrives after the leader changed
+    final InstallResponse response = role.onInstall(installRequest(1, SNAPSHOT_INDEX, 1)).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(RaftResponse.Status.ERROR);
+    assertThat(response.error().type()).isEqualTo(RaftError.Type.ILLEGAL_MEMBER_STATE);
+    verify(receivedSnapshot, times(1)).apply(any());
+  }
+
+  @Test
+  public void shouldContinuePendingSnapshotFromNewLeader() {
+    // given
+    role.onInstall(installRequest(1, SNAPSHOT_INDEX, 0)).join();
+    role.onInstall(installRequest(1, SNAPSHOT_INDEX, 1)).join();
+
+    // when - the new leader sends the same snapshot from the start
+    final InstallResponse response = role.onInstall(installRequest(2, SNAPSHOT_INDEX, 0)).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(RaftResponse.Status.OK);
+    verify(store, times(1)).newReceivedSnapshot(any());
+    verify(receivedSnapshot, never()).abort();
+  }
+
+  @Test
+  public void shouldAbortPendingSnapshotOnNewSnapshotIndex() {
+    // given
+    role.onInstall(installRequest(1, SNAPSHOT_INDEX, 0)).join();
+    role.onInstall(installRequest(1, SNAPSHOT_INDEX, 1)).join();
+
+    // when - the new leader sends a newer snapshot
+    final InstallResponse response =
+        role.onInstall(installRequest(2, SNAPSHOT_INDEX + 1, 0)).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(RaftResponse.Status.OK);
+    verify(receivedSnapshot, times(1)).abort();
+    verify(store, times(2)).newReceivedSnapshot(any());
+  }
+
+  private static InstallRequest installRequest(
+      final long currentTerm, final long index, final int chunk) {
+    final SnapshotChunk snapshotChunk = mock(SnapshotChunk.class);
+    when(snapshotChunk.getSnapshotId()).thenReturn(index + "-1");
+    when(snapshotChunk.getTotalCount()).thenReturn(10);
+    when(snapshotChunk.getChunkName()).thenReturn("chunk-" + chunk);
+    when(snapshotChunk.getContent()).thenReturn(("test-" + chunk).getBytes(StandardCharsets.UTF_8));
+
+    return InstallRequest.builder()
+        .withCurrentTerm(currentTerm)
+        .withLeader(MemberId.anonymous())
+        .withIndex(index)
+        .withTerm(1)
+        .withVersion(1)
+        .withChunkId(chunkId(chunk))
+        .withNextChunkId(chunkId(chunk + 1))
+        .withData(new SnapshotChunkImpl(snapshotChunk).toByteBuffer())
+        .withInitial(chunk == 0)
+        .withComplete(false)
+        .build();
+  }
+
+  private static ByteBuffer chunkId(final int chunk) {
+    return ByteBuffer.wrap(("chunk-" + chunk).getBytes(StandardCharsets.UTF_8));
+  }
 }
@@ -28,6 +28,8 @@ import io.camunda.zeebe.util.StringUtil;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Set;
@@ -118,6 +120,16 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
         return ByteBuffer.wrap(iterator.firstEntry().getKey().getBytes());
       }
 
+      @Override
+      public void exclude(final Collection<String> chunkIds) {
+        throw new UnsupportedOperationException("In-memory snapshots never reuse chunks");
+      }
+
+      @Override
+      public void setMaximumChunkSize(final int maximumChunkSize) {
+        // chunks of in-memory snapshots are tiny, there is no need to split them
+      }
+
       @Override
       public void close() {
         iterator = null;
@@ -163,6 +175,11 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
     return checksum;
   }
 
+  @Override
+  public Map<String, Long> getChunkChecksums() {
+    return Map.of();
+  }
+
   @Override
   public SnapshotMetadata getMetadata() {
     return null;
@@ -198,6 +215,14 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
     return CompletableActorFuture.completed(null);
   }
 
+  @Override
+  public ActorFuture<Void> reuse(
+      final PersistedSnapshot snapshot, final Collection<String> chunkIds) {
+    final var source = (InMemorySnapshot) snapshot;
+    chunkIds.forEach(chunkId -> chunks.put(chunkId, source.chunks.get(chunkId)));
+    return CompletableActorFuture.completed(null);
+  }
+
   @Override
   public ActorFuture<Void> abort() {
     return CompletableActorFuture.completed(null);
@@ -0,0 +1,49 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.jmh;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the broker microbenchmarks. Accepts the same arguments as the JMH command line, e.g. a
+ * regular expression to select the benchmarks to run, but writes the results as JSON to {@value
+ * #DEFAULT_RESULT_FILE} unless specified otherwise, such that the results of two runs can be
+ * compared with each other.
+ */
+public final class ZeebeBenchmarks {
+  static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+  private ZeebeBenchmarks() {}
+
+  public static void main(final String[] args) throws Exception {
+    final var cliOptions = new CommandLineOptions(args);
+    if (cliOptions.shouldHelp()) {
+      cliOptions.showHelp();
+      return;
+    }
+
+    final var options = new OptionsBuilder().parent(cliOptions);
+    if (!cliOptions.getResultFormat().hasValue()) {
+      options.resultFormat(ResultFormatType.JSON);
+    }
+    if (!cliOptions.getResult().hasValue()) {
+      options.result(DEFAULT_RESULT_FILE);
+    }
+
+    final var runner = new Runner(options.build());
+    if (cliOptions.shouldList()) {
+      runner.list();
+      return;
+    }
+
+    runner.run();
+  }
+}
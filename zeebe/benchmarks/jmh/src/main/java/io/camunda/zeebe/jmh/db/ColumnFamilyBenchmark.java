@@ -0,0 +1,142 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.jmh.db;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbBytes;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the basic operations of the transactional column family with the default RocksDB
+ * configuration. Like the engine does when processing a command, every invocation runs a few
+ * operations in a single transaction, which is committed at the end.
+ */
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ColumnFamilyBenchmark {
+  private static final int PREFIX_COUNT = 10_000;
+  private static final int ENTRIES_PER_PREFIX = 10;
+  private static final int OPERATIONS_PER_TRANSACTION = 10;
+
+  @Param({"64", "1024"})
+  public int valueSize;
+
+  private final DbLong prefix = new DbLong();
+  private final DbLong suffix = new DbLong();
+  private final DbCompositeKey<DbLong, DbLong> key = new DbCompositeKey<>(prefix, suffix);
+  private final DbBytes value = new DbBytes();
+
+  private Path directory;
+  private ZeebeDb<DefaultColumnFamily> db;
+  private TransactionContext context;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbBytes> columnFamily;
+
+  @Setup
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("column-family-benchmark");
+    db =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+                new RocksDbConfiguration(),
+                new ConsistencyChecksSettings(false, false),
+                new AccessMetricsConfiguration(Kind.NONE, 1))
+            .createDb(directory.toFile());
+    context = db.createContext();
+    columnFamily = db.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+    value.wrapBytes(new byte[valueSize]);
+
+    for (long p = 0; p < PREFIX_COUNT; p++) {
+      final long currentPrefix = p;
+      context.runInTransaction(
+          () -> {
+            for (long s = 0; s < ENTRIES_PER_PREFIX; s++) {
+              prefix.wrapLong(currentPrefix);
+              suffix.wrapLong(s);
+              columnFamily.upsert(key, value);
+            }
+          });
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    db.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(OPERATIONS_PER_TRANSACTION)
+  public void get(final Blackhole blackhole) {
+    final var random = ThreadLocalRandom.current();
+    context.runInTransaction(
+        () -> {
+          for (int i = 0; i < OPERATIONS_PER_TRANSACTION; i++) {
+            prefix.wrapLong(random.nextLong(PREFIX_COUNT));
+            suffix.wrapLong(random.nextLong(ENTRIES_PER_PREFIX));
+            blackhole.consume(columnFamily.get(key));
+          }
+        });
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(OPERATIONS_PER_TRANSACTION)
+  public void put() {
+    final var random = ThreadLocalRandom.current();
+    context.runInTransaction(
+        () -> {
+          for (int i = 0; i < OPERATIONS_PER_TRANSACTION; i++) {
+            prefix.wrapLong(random.nextLong(PREFIX_COUNT));
+            suffix.wrapLong(random.nextLong(ENTRIES_PER_PREFIX));
+            columnFamily.upsert(key, value);
+          }
+        });
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ENTRIES_PER_PREFIX)
+  public void prefixScan(final Blackhole blackhole) {
+    final var scannedPrefix = new DbLong();
+    scannedPrefix.wrapLong(ThreadLocalRandom.current().nextLong(PREFIX_COUNT));
+    context.runInTransaction(
+        () -> columnFamily.whileEqualPrefix(scannedPrefix, (k, v) -> blackhole.consume(v)));
+  }
+}
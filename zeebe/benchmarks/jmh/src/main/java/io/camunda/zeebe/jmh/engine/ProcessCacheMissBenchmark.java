@@ -0,0 +1,192 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.jmh.engine;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
+import io.camunda.zeebe.engine.processing.deployment.model.transformation.BpmnTransformer;
+import io.camunda.zeebe.engine.state.deployment.DbProcessState;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.builder.AbstractFlowNodeBuilder;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long it takes until all deployed processes can be instantiated after a fail-over,
+ * i.e. when the new leader starts with an empty process cache and has to load every process from
+ * the state on its first instance. Every process is a chain of service tasks, each with a job type
+ * and variable mappings as expressions, to resemble large models.
+ *
+ * <p>The processes are loaded from their persisted executable form. To compare it with loading them
+ * from their BPMN resources, reading and transforming the resources is also measured on its own,
+ * and reading them once with and once without validating them against the BPMN schema.
+ */
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ProcessCacheMissBenchmark {
+  private static final String TENANT_ID = TenantOwned.DEFAULT_TENANT_IDENTIFIER;
+
+  @Param({"300"})
+  public int processCount;
+
+  @Param({"100"})
+  public int taskCount;
+
+  private Path directory;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private DbProcessState processState;
+  private long[] processKeys;
+  private byte[][] resources;
+  private final BpmnTransformer transformer = BpmnFactory.createTransformer();
+
+  @Setup
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("process-cache-miss-benchmark");
+    zeebeDb =
+        new ZeebeRocksDbFactory<ZbColumnFamilies>(
+                new RocksDbConfiguration(),
+                new ConsistencyChecksSettings(false, false),
+                new AccessMetricsConfiguration(Kind.NONE, 1))
+            .createDb(directory.toFile());
+    processState =
+        new DbProcessState(
+            zeebeDb,
+            zeebeDb.createContext(),
+            1,
+            new EngineConfiguration().setProcessCacheCapacity(processCount));
+
+    processKeys = new long[processCount];
+    resources = new byte[processCount][];
+    final var processRecord = new ProcessRecord();
+    for (int i = 0; i < processCount; i++) {
+      final var processId = "process-" + i;
+      processKeys[i] = i + 1;
+      resources[i] = createResource(processId);
+
+      processRecord
+          .setResourceName(processId + ".bpmn")
+          .setResource(new UnsafeBuffer(resources[i]))
+          .setBpmnProcessId(processId)
+          .setVersion(1)
+          .setKey(processKeys[i])
+          .setChecksum(wrapString(processId))
+          .setTenantId(TENANT_ID);
+      processState.putProcess(processKeys[i], processRecord);
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void failOver() {
+    processState.clearCache();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public int loadProcessesAfterFailOver() {
+    int elementCount = 0;
+    for (final long processKey : processKeys) {
+      final var process = processState.getProcessByKeyAndTenant(processKey, TENANT_ID);
+      elementCount += process.getProcess().getFlowElements().size();
+    }
+
+    return elementCount;
+  }
+
+  @Benchmark
+  public int readResources() {
+    int rootElementCount = 0;
+    for (final byte[] resource : resources) {
+      final var model = Bpmn.readModelFromStream(new ByteArrayInputStream(resource));
+      rootElementCount += model.getDefinitions().getRootElements().size();
+    }
+
+    return rootElementCount;
+  }
+
+  @Benchmark
+  public int readResourcesWithoutValidation() {
+    int rootElementCount = 0;
+    for (final byte[] resource : resources) {
+      final var model =
+          Bpmn.readModelFromStreamWithoutValidation(new ByteArrayInputStream(resource));
+      rootElementCount += model.getDefinitions().getRootElements().size();
+    }
+
+    return rootElementCount;
+  }
+
+  @Benchmark
+  public int transformResources() {
+    int elementCount = 0;
+    for (final byte[] resource : resources) {
+      final var model =
+          Bpmn.readModelFromStreamWithoutValidation(new ByteArrayInputStream(resource));
+      for (final var process : transformer.transformDefinitions(model)) {
+        elementCount += process.getFlowElements().size();
+      }
+    }
+
+    return elementCount;
+  }
+
+  private byte[] createResource(final String processId) {
+    AbstractFlowNodeBuilder<?, ?> builder = Bpmn.createExecutableProcess(processId).startEvent();
+    for (int i = 0; i < taskCount; i++) {
+      builder =
+          builder.serviceTask(
+              "task-" + i,
+              task ->
+                  task.zeebeJobTypeExpression("\"type-\" + string(count)")
+                      .zeebeInputExpression("count + 1", "count")
+                      .zeebeOutputExpression("if result = null then count else result", "count"));
+    }
+
+    return Bpmn.convertToString(builder.endEvent().done()).getBytes(StandardCharsets.UTF_8);
+  }
+}
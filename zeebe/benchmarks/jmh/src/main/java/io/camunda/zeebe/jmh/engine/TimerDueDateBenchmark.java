@@ -0,0 +1,158 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.jmh.engine;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.engine.state.instance.DbTimerInstanceState;
+import io.camunda.zeebe.engine.state.instance.TimerDueDateCache;
+import io.camunda.zeebe.engine.state.instance.TimerInstance;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the due date checker with many timers which are due far in the future, e.g. with
+ * long-running processes. Every invocation stores a batch of timers which are due right away,
+ * triggers them, and removes them again, like the engine does when processing the triggered
+ * timers. The removed timers leave tombstones in the due date column family.
+ *
+ * <p>A horizon of 0 disables the due date cache, i.e. the column family is scanned on every check
+ * as before. The number of future timers can be raised, e.g. with {@code -p timerCount=10000000},
+ * at the cost of a longer setup.
+ */
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TimerDueDateBenchmark {
+  private static final long FUTURE = Duration.ofDays(365).toMillis();
+  private static final int TIMERS_PER_TRANSACTION = 10_000;
+
+  @Param({"1000000"})
+  public int timerCount;
+
+  @Param({"0", "60000"})
+  public long horizon;
+
+  @Param({"100"})
+  public int dueTimerCount;
+
+  private Path directory;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private TransactionContext transactionContext;
+  private DbTimerInstanceState timerState;
+  private TimerInstance[] dueTimers;
+  private long now;
+  private long nextKey;
+
+  @Setup
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("timer-due-date-benchmark");
+    zeebeDb =
+        new ZeebeRocksDbFactory<ZbColumnFamilies>(
+                new RocksDbConfiguration(),
+                new ConsistencyChecksSettings(false, false),
+                new AccessMetricsConfiguration(Kind.NONE, 1))
+            .createDb(directory.toFile());
+    transactionContext = zeebeDb.createContext();
+    timerState =
+        new DbTimerInstanceState(
+            zeebeDb,
+            transactionContext,
+            new TimerDueDateCache(Duration.ofMillis(horizon), Integer.MAX_VALUE));
+
+    now = System.currentTimeMillis();
+    for (int offset = 0; offset < timerCount; offset += TIMERS_PER_TRANSACTION) {
+      final int from = offset;
+      final int to = Math.min(timerCount, offset + TIMERS_PER_TRANSACTION);
+      transactionContext.runInTransaction(
+          () -> {
+            for (int i = from; i < to; i++) {
+              timerState.store(newTimer(now + FUTURE + i));
+            }
+          });
+      timerState.applyPendingCacheUpdates();
+    }
+
+    dueTimers = new TimerInstance[dueTimerCount];
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public int triggerDueTimers() {
+    now++;
+    transactionContext.runInTransaction(
+        () -> {
+          for (int i = 0; i < dueTimerCount; i++) {
+            dueTimers[i] = newTimer(now);
+            timerState.store(dueTimers[i]);
+          }
+        });
+    timerState.applyPendingCacheUpdates();
+
+    final int[] triggered = new int[1];
+    transactionContext.runInTransaction(
+        () ->
+            timerState.processTimersWithDueDateBefore(
+                now,
+                timer -> {
+                  triggered[0]++;
+                  return true;
+                }));
+
+    transactionContext.runInTransaction(
+        () -> {
+          for (final TimerInstance timer : dueTimers) {
+            timerState.remove(timer);
+          }
+        });
+    timerState.applyPendingCacheUpdates();
+
+    return triggered[0];
+  }
+
+  private TimerInstance newTimer(final long dueDate) {
+    final var timer = new TimerInstance();
+    final long key = ++nextKey;
+    timer.setKey(key);
+    timer.setElementInstanceKey(key);
+    timer.setDueDate(dueDate);
+    return timer;
+  }
+}
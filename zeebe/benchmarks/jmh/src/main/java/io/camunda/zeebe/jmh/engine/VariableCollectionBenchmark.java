@@ -0,0 +1,184 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.jmh.engine;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.engine.state.variable.DbVariableState;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures collecting the variables of all jobs in an activated job batch, when the jobs belong to
+ * the children of a large multi-instance activity. Every child has a few local variables, while the
+ * multi-instance body holds the input collection and the process instance holds the bulk of the
+ * variables, so most of the collected variables come from the scopes shared by all jobs.
+ *
+ * <p>With {@code cache=false}, the variable cache is cleared before every job, so the variables of
+ * every scope are read from the state for every job, as without the cache.
+ */
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class VariableCollectionBenchmark {
+  private static final long PROCESS_DEFINITION_KEY = 1;
+  private static final long PROCESS_INSTANCE_KEY = 2;
+  private static final long MULTI_INSTANCE_BODY_KEY = 3;
+  private static final List<DirectBuffer> FETCH_VARIABLES =
+      List.of(wrapString("item"), wrapString("var-1"), wrapString("var-2"));
+
+  @Param({"true", "false"})
+  public boolean cache;
+
+  @Param({"100", "1000"})
+  public int jobCount;
+
+  @Param({"50"})
+  public int processVariableCount;
+
+  private Path directory;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private TransactionContext transactionContext;
+  private DbVariableState variableState;
+  private long[] childKeys;
+  private long nextKey = MULTI_INSTANCE_BODY_KEY;
+
+  @Setup
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("variable-collection-benchmark");
+    zeebeDb =
+        new ZeebeRocksDbFactory<ZbColumnFamilies>(
+                new RocksDbConfiguration(),
+                new ConsistencyChecksSettings(false, false),
+                new AccessMetricsConfiguration(Kind.NONE, 1))
+            .createDb(directory.toFile());
+    transactionContext = zeebeDb.createContext();
+    variableState = new DbVariableState(zeebeDb, transactionContext, 1);
+
+    childKeys = new long[jobCount];
+    transactionContext.runInTransaction(
+        () -> {
+          variableState.createScope(PROCESS_INSTANCE_KEY, VariableState.NO_PARENT);
+          for (int i = 0; i < processVariableCount; i++) {
+            setVariable(PROCESS_INSTANCE_KEY, "var-" + i, string("value-" + "-".repeat(100)));
+          }
+
+          variableState.createScope(MULTI_INSTANCE_BODY_KEY, PROCESS_INSTANCE_KEY);
+          setVariable(MULTI_INSTANCE_BODY_KEY, "items", inputCollection(jobCount));
+
+          for (int i = 0; i < jobCount; i++) {
+            childKeys[i] = ++nextKey;
+            variableState.createScope(childKeys[i], MULTI_INSTANCE_BODY_KEY);
+            setVariable(childKeys[i], "item", string("item-" + i));
+            setVariable(childKeys[i], "loopCounter", integer(i + 1));
+          }
+        });
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public int collectAllVariables() {
+    variableState.clearCache();
+
+    int length = 0;
+    for (final long childKey : childKeys) {
+      if (!cache) {
+        variableState.clearCache();
+      }
+      length += variableState.getVariablesAsDocument(childKey).capacity();
+    }
+
+    return length;
+  }
+
+  @Benchmark
+  public int collectFetchVariables() {
+    variableState.clearCache();
+
+    int length = 0;
+    for (final long childKey : childKeys) {
+      if (!cache) {
+        variableState.clearCache();
+      }
+      length += variableState.getVariablesAsDocument(childKey, FETCH_VARIABLES).capacity();
+    }
+
+    return length;
+  }
+
+  private void setVariable(final long scopeKey, final String name, final DirectBuffer value) {
+    variableState.setVariableLocal(
+        ++nextKey, scopeKey, PROCESS_DEFINITION_KEY, wrapString(name), value);
+  }
+
+  private static DirectBuffer string(final String value) {
+    final var buffer = new ExpandableArrayBuffer();
+    final var writer = new MsgPackWriter().wrap(buffer, 0);
+    writer.writeString(wrapString(value));
+
+    return new UnsafeBuffer(buffer, 0, writer.getOffset());
+  }
+
+  private static DirectBuffer integer(final long value) {
+    final var buffer = new ExpandableArrayBuffer();
+    final var writer = new MsgPackWriter().wrap(buffer, 0);
+    writer.writeInteger(value);
+
+    return new UnsafeBuffer(buffer, 0, writer.getOffset());
+  }
+
+  private static DirectBuffer inputCollection(final int size) {
+    final var buffer = new ExpandableArrayBuffer();
+    final var writer = new MsgPackWriter().wrap(buffer, 0);
+    writer.writeArrayHeader(size);
+    for (int i = 0; i < size; i++) {
+      writer.writeString(wrapString("item-" + i));
+    }
+
+    return new UnsafeBuffer(buffer, 0, writer.getOffset());
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.jmh.journal;
+
+import io.camunda.zeebe.journal.JournalMetaStore;
+import io.camunda.zeebe.journal.file.SegmentFlushMode;
+import io.camunda.zeebe.journal.file.SegmentedJournal;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the latency distribution of committing an entry, i.e. appending it and flushing it
+ * right away, for each {@link SegmentFlushMode}. Sampling reports the percentiles, so the p99 of
+ * the modes can be compared directly. The journal is reset after every iteration to keep its size
+ * bounded.
+ */
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JournalFlushLatencyBenchmark {
+  private static final int MAX_SEGMENT_SIZE = 128 * 1024 * 1024;
+
+  @Param({"MSYNC", "FDATASYNC"})
+  public SegmentFlushMode flushMode;
+
+  @Param({"128", "4096"})
+  public int entrySize;
+
+  private final JournalMetaStore metaStore = new JournalMetaStore.InMemory();
+  private final DirectBufferWriter entry = new DirectBufferWriter();
+  private Path directory;
+  private SegmentedJournal journal;
+  private long asqn;
+
+  @Setup
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("journal-flush-latency-benchmark");
+    entry.wrap(new UnsafeBuffer(new byte[entrySize]));
+    journal =
+        SegmentedJournal.builder()
+            .withDirectory(directory.toFile())
+            .withName("journal")
+            .withMaxSegmentSize(MAX_SEGMENT_SIZE)
+            .withFreeDiskSpace(0)
+            .withMetaStore(metaStore)
+            .withSegmentFlushMode(flushMode)
+            .build();
+  }
+
+  @TearDown(Level.Iteration)
+  public void resetJournal() {
+    journal.reset(journal.getLastIndex() + 1);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    journal.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public long commit() {
+    final var index = journal.append(++asqn, entry).index();
+    journal.flush();
+    return index;
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.jmh.journal;
+
+import io.camunda.zeebe.journal.JournalMetaStore;
+import io.camunda.zeebe.journal.JournalReader;
+import io.camunda.zeebe.journal.file.SegmentedJournal;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures reading a journal spanning multiple segments, both sequentially, as followers and the
+ * log stream readers do, and after seeking to a random index, as when a reader is reset.
+ */
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JournalReadBenchmark {
+  private static final int ENTRY_COUNT = 200_000;
+  private static final int MAX_SEGMENT_SIZE = 16 * 1024 * 1024;
+
+  @Param({"128", "4096"})
+  public int entrySize;
+
+  private final JournalMetaStore metaStore = new JournalMetaStore.InMemory();
+  private Path directory;
+  private SegmentedJournal journal;
+  private JournalReader reader;
+
+  @Setup
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("journal-read-benchmark");
+    journal =
+        SegmentedJournal.builder()
+            .withDirectory(directory.toFile())
+            .withName("journal")
+            .withMaxSegmentSize(MAX_SEGMENT_SIZE)
+            .withFreeDiskSpace(0)
+            .withMetaStore(metaStore)
+            .build();
+
+    final var entry = new DirectBufferWriter().wrap(new UnsafeBuffer(new byte[entrySize]));
+    for (long asqn = 1; asqn <= ENTRY_COUNT; asqn++) {
+      journal.append(asqn, entry);
+    }
+    journal.flush();
+    reader = journal.openReader();
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    reader.close();
+    journal.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public long readNext() {
+    if (!reader.hasNext()) {
+      reader.seekToFirst();
+    }
+
+    return reader.next().asqn();
+  }
+
+  @Benchmark
+  public long seekAndRead() {
+    final var index =
+        ThreadLocalRandom.current().nextLong(journal.getFirstIndex(), journal.getLastIndex() + 1);
+    reader.seek(index);
+    return reader.next().asqn();
+  }
+}
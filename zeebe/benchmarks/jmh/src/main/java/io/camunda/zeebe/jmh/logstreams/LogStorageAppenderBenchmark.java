@@ -0,0 +1,186 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.jmh.logstreams;
+
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStream;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter.WriteFailure;
+import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.logstreams.storage.LogStorageReader;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures writing batches of entries to the log stream, from the writer through the sequencer and
+ * the log storage appender, until the storage accepted them. The storage itself only serializes
+ * every block into a reused buffer and commits it right away, such that only the overhead of the
+ * log stream is measured.
+ * Results are reported per written batch, once for a single writer and once for many concurrent
+ * writers, as the gateway, other partitions and the stream processor write to the same log.
+ */
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class LogStorageAppenderBenchmark {
+
+  @Param({"1", "16"})
+  public int batchSize;
+
+  private final DiscardingLogStorage logStorage = new DiscardingLogStorage();
+  private ActorScheduler actorScheduler;
+  private LogStream logStream;
+  private LogStreamWriter writer;
+  private List<LogAppendEntry> batch;
+
+  @Setup
+  public void setup() {
+    actorScheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .build();
+    actorScheduler.start();
+
+    logStream =
+        LogStream.builder()
+            .withActorSchedulingService(actorScheduler)
+            .withLogStorage(logStorage)
+            .withPartitionId(1)
+            .withLogName("benchmark")
+            .buildAsync()
+            .join();
+    writer = logStream.newLogStreamWriter().join();
+
+    final var metadata =
+        new RecordMetadata()
+            .recordType(RecordType.COMMAND)
+            .valueType(ValueType.JOB)
+            .intent(JobIntent.COMPLETE);
+    final var value = new JobRecord().setType("benchmark").setWorker("worker");
+    batch = new ArrayList<>(batchSize);
+    for (int i = 0; i < batchSize; i++) {
+      batch.add(LogAppendEntry.of(metadata, value));
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    logStream.close();
+    actorScheduler.close();
+  }
+
+  @Benchmark
+  public long writeBatch() {
+    final long position = tryWrite();
+    while (logStorage.appendedPosition < position) {
+      Thread.onSpinWait();
+    }
+
+    return position;
+  }
+
+  @Benchmark
+  @Threads(8)
+  public long writeBatchConcurrently() {
+    return writeBatch();
+  }
+
+  private long tryWrite() {
+    while (true) {
+      final var result = writer.tryWrite(batch);
+      if (result.isRight()) {
+        return result.get();
+      }
+
+      if (result.getLeft() != WriteFailure.FULL) {
+        throw new IllegalStateException("Failed to write batch: " + result.getLeft());
+      }
+      Thread.onSpinWait();
+    }
+  }
+
+  private static final class DiscardingLogStorage implements LogStorage {
+    private final MutableDirectBuffer block = new ExpandableArrayBuffer();
+    private volatile long appendedPosition;
+    private long address;
+
+    @Override
+    public LogStorageReader newReader() {
+      return new EmptyReader();
+    }
+
+    @Override
+    public void append(
+        final long lowestPosition,
+        final long highestPosition,
+        final BufferWriter bufferWriter,
+        final AppendListener listener) {
+      bufferWriter.write(block, 0);
+      final var appendedAddress = ++address;
+      listener.onWrite(appendedAddress);
+      listener.onCommit(appendedAddress);
+      appendedPosition = highestPosition;
+    }
+
+    @Override
+    public void addCommitListener(final CommitListener listener) {}
+
+    @Override
+    public void removeCommitListener(final CommitListener listener) {}
+  }
+
+  private static final class EmptyReader implements LogStorageReader {
+
+    @Override
+    public void seek(final long position) {}
+
+    @Override
+    public void close() {}
+
+    @Override
+    public boolean hasNext() {
+      return false;
+    }
+
+    @Override
+    public DirectBuffer next() {
+      throw new NoSuchElementException();
+    }
+  }
+}
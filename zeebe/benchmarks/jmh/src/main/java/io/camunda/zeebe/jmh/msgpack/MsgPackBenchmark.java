@@ -0,0 +1,97 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.jmh.msgpack;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures writing and reading a MessagePack document of variables, i.e. a map of names to values,
+ * with the low level {@link MsgPackWriter} and {@link MsgPackReader}.
+ */
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class MsgPackBenchmark {
+
+  @Param({"10", "1000"})
+  public int entryCount;
+
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final MsgPackReader reader = new MsgPackReader();
+  private final MutableDirectBuffer writeBuffer = new ExpandableArrayBuffer();
+  private final DirectBuffer stringValue = wrapString("some-string-value");
+  private DirectBuffer[] names;
+  private DirectBuffer document;
+
+  @Setup
+  public void setup() {
+    names = new DirectBuffer[entryCount];
+    for (int i = 0; i < entryCount; i++) {
+      names[i] = wrapString("variable-" + i);
+    }
+
+    final var length = write();
+    final var copy = new UnsafeBuffer(new byte[length]);
+    copy.putBytes(0, writeBuffer, 0, length);
+    document = copy;
+  }
+
+  @Benchmark
+  public int write() {
+    writer.wrap(writeBuffer, 0);
+    writer.writeMapHeader(entryCount);
+    for (int i = 0; i < entryCount; i++) {
+      writer.writeString(names[i]);
+      switch (i % 3) {
+        case 0 -> writer.writeInteger(i);
+        case 1 -> writer.writeString(stringValue);
+        default -> writer.writeBoolean(true);
+      }
+    }
+
+    return writer.getOffset();
+  }
+
+  @Benchmark
+  public long read() {
+    reader.wrap(document, 0, document.capacity());
+    final int size = reader.readMapHeader();
+    long result = 0;
+    for (int i = 0; i < size; i++) {
+      final int nameLength = reader.readStringLength();
+      reader.skipBytes(nameLength);
+      result += reader.readToken().getType().ordinal();
+    }
+
+    return result;
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.jmh.msgpack;
+
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures serializing and deserializing a record value, which is an {@code ObjectValue} with
+ * many declared properties. A job record is used, as it is one of the largest and most frequently
+ * written record values.
+ */
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ObjectValueBenchmark {
+  private final JobRecord record = new JobRecord();
+  private final JobRecord readRecord = new JobRecord();
+  private final MutableDirectBuffer writeBuffer = new ExpandableArrayBuffer();
+  private DirectBuffer serialized;
+
+  @Setup
+  public void setup() {
+    record
+        .setType("benchmark")
+        .setWorker("worker")
+        .setRetries(3)
+        .setDeadline(System.currentTimeMillis())
+        .setBpmnProcessId("process")
+        .setProcessDefinitionKey(1L)
+        .setProcessDefinitionVersion(1)
+        .setProcessInstanceKey(2L)
+        .setElementId("task")
+        .setElementInstanceKey(3L)
+        .setCustomHeaders(new UnsafeBuffer(MsgPackConverter.convertToMsgPack(Map.of("a", "b"))))
+        .setVariables(
+            new UnsafeBuffer(MsgPackConverter.convertToMsgPack(Map.of("x", 1, "y", "two"))));
+
+    final var length = write();
+    final var copy = new UnsafeBuffer(new byte[length]);
+    copy.putBytes(0, writeBuffer, 0, length);
+    serialized = copy;
+  }
+
+  @Benchmark
+  public int write() {
+    final var length = record.getLength();
+    record.write(writeBuffer, 0);
+    return length;
+  }
+
+  @Benchmark
+  public long read() {
+    readRecord.wrap(serialized, 0, serialized.capacity());
+    return readRecord.getProcessInstanceKey();
+  }
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.jmh.stream;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStream;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter;
+import io.camunda.zeebe.logstreams.util.ListLogStorage;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.stream.api.CommandResponseWriter;
+import io.camunda.zeebe.stream.api.InterPartitionCommandSender;
+import io.camunda.zeebe.stream.api.ProcessingResult;
+import io.camunda.zeebe.stream.api.ProcessingResultBuilder;
+import io.camunda.zeebe.stream.api.RecordProcessor;
+import io.camunda.zeebe.stream.api.RecordProcessorContext;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.impl.StreamProcessor;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many commands the processing state machine processes per second. Every command
+ * written to the log starts a chain of {@value #CHAIN_LENGTH} commands, where each command writes
+ * an event and the next command of the chain, such that the effect of batch processing, i.e.
+ * processing follow-up commands before writing them to the log, can be compared by limiting the
+ * number of commands per batch.
+ *
+ * <p>The record processor does no work besides writing the follow-up records, and the log is kept
+ * in memory, such that mostly the overhead of the stream platform is measured. The log and state
+ * are recreated for every iteration to keep the memory usage bounded.
+ */
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class StreamProcessorBenchmark {
+  private static final int CHAIN_LENGTH = 10;
+  private static final int CHAINS_PER_INVOCATION = 10;
+
+  @Param({"1", "100"})
+  public int maxCommandsInBatch;
+
+  private final AtomicLong completedChains = new AtomicLong();
+  private ActorScheduler actorScheduler;
+  private Path directory;
+  private LogStream logStream;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private StreamProcessor streamProcessor;
+  private LogStreamWriter writer;
+  private List<LogAppendEntry> commands;
+  private long expectedChains;
+
+  @Setup
+  public void setup() {
+    actorScheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(2)
+            .setIoBoundActorThreadCount(1)
+            .build();
+    actorScheduler.start();
+
+    final var metadata =
+        new RecordMetadata()
+            .recordType(RecordType.COMMAND)
+            .valueType(ValueType.JOB)
+            .intent(JobIntent.COMPLETE);
+    final var value = new JobRecord().setType("benchmark").setRetries(CHAIN_LENGTH - 1);
+    commands = new ArrayList<>(CHAINS_PER_INVOCATION);
+    for (int i = 0; i < CHAINS_PER_INVOCATION; i++) {
+      commands.add(LogAppendEntry.of(metadata, value));
+    }
+  }
+
+  @Setup(Level.Iteration)
+  public void openStreamProcessor() throws IOException {
+    directory = Files.createTempDirectory("stream-processor-benchmark");
+    logStream =
+        LogStream.builder()
+            .withActorSchedulingService(actorScheduler)
+            .withLogStorage(new ListLogStorage())
+            .withPartitionId(1)
+            .withLogName("benchmark")
+            .buildAsync()
+            .join();
+    zeebeDb =
+        new ZeebeRocksDbFactory<ZbColumnFamilies>(
+                new RocksDbConfiguration(),
+                new ConsistencyChecksSettings(false, false),
+                new AccessMetricsConfiguration(Kind.NONE, 1))
+            .createDb(directory.toFile());
+
+    streamProcessor =
+        StreamProcessor.builder()
+            .logStream(logStream)
+            .zeebeDb(zeebeDb)
+            .actorSchedulingService(actorScheduler)
+            .commandResponseWriter(new NoopCommandResponseWriter())
+            .partitionCommandSender(new NoopInterPartitionCommandSender())
+            .recordProcessors(List.of(new ChainProcessor(completedChains)))
+            .maxCommandsInBatch(maxCommandsInBatch)
+            .build();
+    streamProcessor.openAsync(false).join();
+    writer = logStream.newLogStreamWriter().join();
+  }
+
+  @TearDown(Level.Iteration)
+  public void closeStreamProcessor() throws Exception {
+    streamProcessor.closeAsync().join();
+    zeebeDb.close();
+    logStream.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    actorScheduler.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(CHAIN_LENGTH * CHAINS_PER_INVOCATION)
+  public long processChains() {
+    expectedChains += CHAINS_PER_INVOCATION;
+    while (writer.tryWrite(commands).isLeft()) {
+      Thread.onSpinWait();
+    }
+
+    while (completedChains.get() < expectedChains) {
+      Thread.onSpinWait();
+    }
+
+    return expectedChains;
+  }
+
+  private static final class ChainProcessor implements RecordProcessor {
+    private final AtomicLong completedChains;
+
+    private ChainProcessor(final AtomicLong completedChains) {
+      this.completedChains = completedChains;
+    }
+
+    @Override
+    public void init(final RecordProcessorContext recordProcessorContext) {}
+
+    @Override
+    public boolean accepts(final ValueType valueType) {
+      return valueType == ValueType.JOB;
+    }
+
+    @Override
+    public void replay(final TypedRecord record) {}
+
+    @Override
+    public ProcessingResult process(
+        final TypedRecord record, final ProcessingResultBuilder processingResultBuilder) {
+      final var job = (JobRecord) record.getValue();
+      processingResultBuilder.appendRecord(
+          record.getKey(),
+          job,
+          new RecordMetadata().recordType(RecordType.EVENT).intent(JobIntent.COMPLETED));
+
+      if (job.getRetries() > 0) {
+        // the value is copied when appended, so it can be reused for the next command
+        job.setRetries(job.getRetries() - 1);
+        processingResultBuilder.appendRecord(
+            record.getKey(),
+            job,
+            new RecordMetadata().recordType(RecordType.COMMAND).intent(JobIntent.COMPLETE));
+      } else {
+        processingResultBuilder.appendPostCommitTask(
+            () -> {
+              completedChains.incrementAndGet();
+              return true;
+            });
+      }
+
+      return processingResultBuilder.build();
+    }
+
+    @Override
+    public ProcessingResult onProcessingError(
+        final Throwable processingException,
+        final TypedRecord record,
+        final ProcessingResultBuilder processingResultBuilder) {
+      throw new IllegalStateException(
+          "Expected to process record %s, but failed".formatted(record), processingException);
+    }
+  }
+
+  private static final class NoopCommandResponseWriter implements CommandResponseWriter {
+
+    @Override
+    public CommandResponseWriter partitionId(final int partitionId) {
+      return this;
+    }
+
+    @Override
+    public CommandResponseWriter key(final long key) {
+      return this;
+    }
+
+    @Override
+    public CommandResponseWriter intent(final Intent intent) {
+      return this;
+    }
+
+    @Override
+    public CommandResponseWriter recordType(final RecordType type) {
+      return this;
+    }
+
+    @Override
+    public CommandResponseWriter valueType(final ValueType valueType) {
+      return this;
+    }
+
+    @Override
+    public CommandResponseWriter rejectionType(final RejectionType rejectionType) {
+      return this;
+    }
+
+    @Override
+    public CommandResponseWriter rejectionReason(final DirectBuffer rejectionReason) {
+      return this;
+    }
+
+    @Override
+    public CommandResponseWriter valueWriter(final BufferWriter value) {
+      return this;
+    }
+
+    @Override
+    public void tryWriteResponse(final int requestStreamId, final long requestId) {}
+  }
+
+  private static final class NoopInterPartitionCommandSender
+      implements InterPartitionCommandSender {
+
+    @Override
+    public void sendCommand(
+        final int receiverPartitionId,
+        final ValueType valueType,
+        final Intent intent,
+        final UnifiedRecordValue command) {}
+
+    @Override
+    public void sendCommand(
+        final int receiverPartitionId,
+        final ValueType valueType,
+        final Intent intent,
+        final Long recordKey,
+        final UnifiedRecordValue command) {}
+  }
+}
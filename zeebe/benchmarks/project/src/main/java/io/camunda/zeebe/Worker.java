@@ -49,6 +49,7 @@ public class Worker extends App {
     final String jobType = workerCfg.getJobType();
     final long completionDelay = workerCfg.getCompletionDelay().toMillis();
     final boolean isStreamEnabled = workerCfg.isStreamEnabled();
+    final boolean isVirtualThreadsEnabled = workerCfg.isVirtualThreadsEnabled();
     final var variables = readVariables(workerCfg.getPayloadPath());
     final BlockingQueue<Future<?>> requestFutures = new ArrayBlockingQueue<>(10_000);
     final BlockingDeque<DelayedCommand> delayedCommands = new LinkedBlockingDeque<>(10_000);
@@ -81,6 +82,7 @@ public class Worker extends App {
                   }
                 })
             .streamEnabled(isStreamEnabled)
+            .virtualThreadsEnabled(isVirtualThreadsEnabled)
             .metrics(metrics)
             .open();
 
@@ -28,6 +28,7 @@ public class WorkerCfg {
   private boolean completeJobsAsync;
   private String payloadPath;
   private boolean isStreamEnabled;
+  private boolean isVirtualThreadsEnabled;
   private Duration timeout;
 
   public String getJobType() {
@@ -102,6 +103,14 @@ public class WorkerCfg {
     this.isStreamEnabled = isStreamEnabled;
   }
 
+  public boolean isVirtualThreadsEnabled() {
+    return isVirtualThreadsEnabled;
+  }
+
+  public void setVirtualThreadsEnabled(final boolean isVirtualThreadsEnabled) {
+    this.isVirtualThreadsEnabled = isVirtualThreadsEnabled;
+  }
+
   public Duration getTimeout() {
     return timeout;
   }
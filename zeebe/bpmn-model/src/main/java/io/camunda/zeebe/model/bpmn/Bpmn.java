@@ -301,6 +301,20 @@ public class Bpmn {
     return INSTANCE.doReadModelFromInputStream(stream);
   }
 
+  /**
+   * Allows reading a {@link BpmnModelInstance} from an {@link InputStream}, like {@link
+   * #readModelFromStream(InputStream)}, but without the final validation of the parsed document
+   * against the BPMN schema. A model which violates the schema is not rejected, so this must only
+   * be used for models which were already validated before.
+   *
+   * @param stream the {@link InputStream} to read the {@link BpmnModelInstance} from
+   * @return the model read
+   * @throws ModelParseException if the model cannot be read
+   */
+  public static BpmnModelInstance readModelFromStreamWithoutValidation(final InputStream stream) {
+    return INSTANCE.doReadModelFromInputStreamWithoutValidation(stream);
+  }
+
   /**
    * Allows writing a {@link BpmnModelInstance} to a File. It will be validated before writing.
    *
@@ -406,6 +420,10 @@ public class Bpmn {
     return bpmnParser.parseModelFromStream(is);
   }
 
+  protected BpmnModelInstance doReadModelFromInputStreamWithoutValidation(final InputStream is) {
+    return bpmnParser.parseModelFromStreamWithoutValidation(is);
+  }
+
   protected void doWriteModelToFile(final File file, final BpmnModelInstance modelInstance) {
     OutputStream os = null;
     try {
@@ -25,6 +25,7 @@ import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.validation.SchemaFactory;
 import org.camunda.bpm.model.xml.impl.ModelImpl;
 import org.camunda.bpm.model.xml.impl.parser.AbstractModelParser;
+import org.camunda.bpm.model.xml.impl.util.DomUtil;
 import org.camunda.bpm.model.xml.impl.util.ReflectUtil;
 import org.camunda.bpm.model.xml.instance.DomDocument;
 
@@ -62,6 +63,20 @@ public class BpmnParser extends AbstractModelParser {
     return (BpmnModelInstanceImpl) super.parseModelFromStream(inputStream);
   }
 
+  /**
+   * Parses the model like {@link #parseModelFromStream(InputStream)}, but skips validating the
+   * parsed document against the BPMN schema. Only use it for models which were already validated
+   * before, e.g. when they were deployed.
+   */
+  public BpmnModelInstanceImpl parseModelFromStreamWithoutValidation(
+      final InputStream inputStream) {
+    final DomDocument document;
+    synchronized (documentBuilderFactory) {
+      document = DomUtil.parseInputStream(documentBuilderFactory, inputStream);
+    }
+    return createModelInstance(document);
+  }
+
   @Override
   public BpmnModelInstanceImpl getEmptyModel() {
     return (BpmnModelInstanceImpl) super.getEmptyModel();
@@ -20,9 +20,13 @@ import static io.camunda.zeebe.model.bpmn.impl.BpmnModelConstants.BPMN_EXECUTION
 import static io.camunda.zeebe.model.bpmn.impl.BpmnModelConstants.BPMN_EXPORTER;
 import static io.camunda.zeebe.model.bpmn.impl.BpmnModelConstants.MODELER_NS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.model.bpmn.instance.Definitions;
 import io.camunda.zeebe.model.bpmn.util.VersionUtil;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.camunda.bpm.model.xml.ModelException;
 import org.junit.Test;
 
 /**
@@ -46,4 +50,44 @@ public class BpmnTest {
     assertThat(definitions.getAttributeValueNs(MODELER_NS, "executionPlatformVersion"))
         .isEqualTo(VersionUtil.getVersion());
   }
+
+  @Test
+  public void shouldReadModelWithoutValidation() {
+    // given
+    final String xml =
+        Bpmn.convertToString(
+            Bpmn.createExecutableProcess("process").startEvent("start").endEvent().done());
+
+    // when
+    final BpmnModelInstance model =
+        Bpmn.readModelFromStreamWithoutValidation(
+            new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+
+    // then
+    assertThat(model.getModelElementById("process")).isNotNull();
+    assertThat(model.getModelElementById("start")).isNotNull();
+  }
+
+  @Test
+  public void shouldNotValidateModelAgainstSchemaWhenReadingWithoutValidation() {
+    // given
+    final String xml =
+        "<definitions xmlns=\"http://www.omg.org/spec/BPMN/20100524/MODEL\""
+            + " targetNamespace=\"test\">"
+            + "<process id=\"process\" isExecutable=\"no-boolean\"/>"
+            + "</definitions>";
+
+    // when
+    final BpmnModelInstance model =
+        Bpmn.readModelFromStreamWithoutValidation(
+            new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+
+    // then
+    assertThat(model.getModelElementById("process")).isNotNull();
+    assertThatThrownBy(
+            () ->
+                Bpmn.readModelFromStream(
+                    new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8))))
+        .isInstanceOf(ModelException.class);
+  }
 }
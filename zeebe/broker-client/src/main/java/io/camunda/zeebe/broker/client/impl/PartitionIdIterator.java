@@ -11,6 +11,7 @@ import static io.camunda.zeebe.protocol.Protocol.START_PARTITION_ID;
 
 import io.camunda.zeebe.broker.client.api.BrokerClusterState;
 import io.camunda.zeebe.broker.client.api.BrokerTopologyManager;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.PrimitiveIterator.OfInt;
 import java.util.stream.IntStream;
@@ -34,6 +35,17 @@ public final class PartitionIdIterator implements Iterator<Integer> {
             .iterator();
   }
 
+  /**
+   * Iterates over the given partitions in the given order, skipping partitions without a leader.
+   *
+   * @param partitionIds the IDs of the partitions to iterate over, in order
+   * @param topologyManager the topology manager used to look up the partition leaders
+   */
+  public PartitionIdIterator(
+      final int[] partitionIds, final BrokerTopologyManager topologyManager) {
+    iterator = Arrays.stream(partitionIds).filter(p -> hasLeader(topologyManager, p)).iterator();
+  }
+
   private boolean hasLeader(final BrokerTopologyManager topologyManager, final int p) {
     final var topology = topologyManager.getTopology();
     return topology != null && topology.getLeaderForPartition(p) != BrokerClusterState.NODE_ID_NULL;
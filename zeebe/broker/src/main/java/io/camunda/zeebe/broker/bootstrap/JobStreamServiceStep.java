@@ -46,7 +46,12 @@ public final class JobStreamServiceStep extends AbstractBrokerStartupStep {
                 clusterServices.getCommunicationService(),
                 JobStreamServiceStep::readJobActivationProperties,
                 errorHandlerService,
-                new JobStreamMetrics());
+                new JobStreamMetrics(),
+                brokerStartupContext
+                    .getBrokerConfiguration()
+                    .getExperimental()
+                    .getJobStream()
+                    .getPushSettings());
     final var errorHandlerStarted = scheduler.submitActor(errorHandlerService);
 
     errorHandlerStarted.onComplete(
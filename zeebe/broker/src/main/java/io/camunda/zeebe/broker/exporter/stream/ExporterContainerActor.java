@@ -0,0 +1,253 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.broker.exporter.stream.ExporterDirector.RecordExporter;
+import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
+import io.camunda.zeebe.logstreams.log.LogStream;
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorSchedulingService;
+import io.camunda.zeebe.scheduler.SchedulingHints;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.retry.BackOffRetryStrategy;
+import io.camunda.zeebe.scheduler.retry.EndlessRetryStrategy;
+import io.camunda.zeebe.scheduler.retry.RetryStrategy;
+import io.camunda.zeebe.stream.api.EventFilter;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+
+/**
+ * Exports the log to a single exporter, on its own actor and with its own reader. Used by the
+ * {@link ExporterDirector} when exporting in parallel, such that a slow exporter does not hold back
+ * the others. Each container persists its own position, from which the director computes the
+ * lowest exported position.
+ *
+ * <p>Besides reading for a single container only, exporting works the same as in the director:
+ * records are exported one by one, and exporting a record is retried until it succeeds.
+ */
+final class ExporterContainerActor extends Actor implements LogRecordAwaiter {
+
+  private static final Logger LOG = Loggers.EXPORTER_LOGGER;
+  private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
+      "Expected to export record '{}' successfully, but exception was thrown.";
+  private static final String ERROR_MESSAGE_SEEK_FAILED =
+      "Expected to find event with the exported position %d of exporter '%s' in log stream, but nothing was found.";
+
+  private final ExporterContainer container;
+  private final LogStream logStream;
+  private final ExporterMetrics metrics;
+  private final EventFilter eventFilter;
+  private final Consumer<Throwable> failureHandler;
+  private final String name;
+  private final int partitionId;
+  private final RecordExporter recordExporter;
+  private final RetryStrategy exportingRetryStrategy;
+  private final RetryStrategy recordWrapStrategy;
+
+  private LogStreamReader logStreamReader;
+  private boolean isOpened;
+  private boolean inExportingPhase;
+  private boolean isHardPaused;
+
+  ExporterContainerActor(
+      final ExporterContainer container,
+      final ExportersState state,
+      final LogStream logStream,
+      final ExporterMetrics metrics,
+      final EventFilter eventFilter,
+      final String directorName,
+      final Consumer<Throwable> failureHandler) {
+    this.container = container;
+    this.logStream = logStream;
+    this.metrics = metrics;
+    this.eventFilter = eventFilter;
+    this.failureHandler = failureHandler;
+    name = directorName + "-" + container.getId();
+    partitionId = logStream.getPartitionId();
+    recordExporter = new RecordExporter(metrics, List.of(container), partitionId);
+    exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
+    recordWrapStrategy = new EndlessRetryStrategy(actor);
+    container.initContainer(actor, metrics, state);
+  }
+
+  ActorFuture<Void> startAsync(
+      final ActorSchedulingService actorSchedulingService, final boolean isHardPaused) {
+    this.isHardPaused = isHardPaused;
+    return actorSchedulingService.submitActor(this, SchedulingHints.ioBound());
+  }
+
+  @Override
+  protected Map<String, String> createContext() {
+    final var context = super.createContext();
+    context.put(ACTOR_PROP_PARTITION_ID, Integer.toString(partitionId));
+    return context;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  protected void onActorStarting() {
+    actor.runOnCompletionBlockingCurrentPhase(
+        logStream.newLogStreamReader(),
+        (reader, error) -> {
+          if (error == null) {
+            logStreamReader = reader;
+          } else {
+            LOG.error(
+                "Unexpected error on retrieving reader from log {} for exporter {}",
+                logStream.getLogName(),
+                container.getId(),
+                error);
+            actor.fail(error);
+          }
+        });
+  }
+
+  @Override
+  protected void onActorStarted() {
+    container.openExporter();
+
+    final long position = container.getPosition();
+    if (!logStreamReader.seekToNextEvent(position)) {
+      throw new IllegalStateException(
+          String.format(ERROR_MESSAGE_SEEK_FAILED, position, container.getId()));
+    }
+
+    isOpened = true;
+    logStream.registerRecordAvailableListener(this);
+    actor.submit(this::readNextEvent);
+  }
+
+  @Override
+  protected void onActorCloseRequested() {
+    isOpened = false;
+    container.close();
+  }
+
+  @Override
+  protected void onActorClosing() {
+    logStream.removeRecordAvailableListener(this);
+    if (logStreamReader != null) {
+      logStreamReader.close();
+    }
+  }
+
+  @Override
+  protected void handleFailure(final Throwable failure) {
+    LOG.error(
+        "Actor '{}' failed in phase {} with: {} .",
+        name,
+        actor.getLifecyclePhase(),
+        failure,
+        failure);
+    isOpened = false;
+    actor.fail(failure);
+    failureHandler.accept(failure);
+  }
+
+  @Override
+  public void onRecordAvailable() {
+    actor.run(this::readNextEvent);
+  }
+
+  ActorFuture<Void> pause() {
+    return actor.call(() -> isHardPaused = true);
+  }
+
+  ActorFuture<Void> softPause() {
+    return actor.call(
+        () -> {
+          isHardPaused = false;
+          container.softPauseExporter();
+          actor.submit(this::readNextEvent);
+        });
+  }
+
+  ActorFuture<Void> resume(final boolean wasSoftPaused) {
+    return actor.call(
+        () -> {
+          isHardPaused = false;
+          if (wasSoftPaused) {
+            container.undoSoftPauseExporter();
+          }
+          actor.submit(this::readNextEvent);
+        });
+  }
+
+  private void readNextEvent() {
+    if (shouldExport()) {
+      final LoggedEvent currentEvent = logStreamReader.next();
+      if (eventFilter.applies(currentEvent)) {
+        inExportingPhase = true;
+        exportEvent(currentEvent);
+      } else {
+        skipRecord(currentEvent);
+      }
+    }
+  }
+
+  private boolean shouldExport() {
+    return isOpened && logStreamReader.hasNext() && !inExportingPhase && !isHardPaused;
+  }
+
+  private void skipRecord(final LoggedEvent currentEvent) {
+    final RecordMetadata metadata = new RecordMetadata();
+    currentEvent.readMetadata(metadata);
+    metrics.eventSkipped(metadata.getValueType());
+
+    container.updatePositionOnSkipIfUpToDate(currentEvent.getPosition());
+    actor.submit(this::readNextEvent);
+  }
+
+  private void exportEvent(final LoggedEvent event) {
+    final ActorFuture<Boolean> wrapRetryFuture =
+        recordWrapStrategy.runWithRetry(
+            () -> {
+              recordExporter.wrap(event);
+              return true;
+            },
+            this::isClosed);
+
+    actor.runOnCompletion(
+        wrapRetryFuture,
+        (b, t) -> {
+          assert t == null : "Throwable must be null";
+
+          final ActorFuture<Boolean> retryFuture =
+              exportingRetryStrategy.runWithRetry(recordExporter::export, this::isClosed);
+
+          actor.runOnCompletion(
+              retryFuture,
+              (bool, throwable) -> {
+                if (throwable != null) {
+                  LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
+                  isOpened = false;
+                  failureHandler.accept(throwable);
+                } else {
+                  metrics.eventExported(recordExporter.getTypedEvent().getValueType());
+                  inExportingPhase = false;
+                  actor.submit(this::readNextEvent);
+                }
+              });
+        });
+  }
+
+  private boolean isClosed() {
+    return !isOpened;
+  }
+}
@@ -36,6 +36,7 @@ import io.camunda.zeebe.util.health.FailureListener;
 import io.camunda.zeebe.util.health.HealthMonitorable;
 import io.camunda.zeebe.util.health.HealthReport;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -44,6 +45,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.agrona.LangUtil;
 import org.slf4j.Logger;
@@ -84,6 +86,10 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private ExporterStateDistributionService exporterDistributionService;
   private final int partitionId;
   private final EventFilter positionsToSkipFilter;
+  private final boolean parallelExporting;
+  private final List<ExporterContainerActor> containerActors = new ArrayList<>();
+  private boolean containerActorsStarted;
+  private ActorSchedulingService actorSchedulingService;
 
   public ExporterDirector(final ExporterDirectorContext context, final boolean shouldPauseOnStart) {
     name = context.getName();
@@ -105,9 +111,12 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     exporterMode = context.getExporterMode();
     distributionInterval = context.getDistributionInterval();
     positionsToSkipFilter = context.getPositionsToSkipFilter();
+    parallelExporting =
+        context.isParallelExporting() && context.getExporterMode() == ExporterMode.ACTIVE;
   }
 
   public ActorFuture<Void> startAsync(final ActorSchedulingService actorSchedulingService) {
+    this.actorSchedulingService = actorSchedulingService;
     return actorSchedulingService.submitActor(this, SchedulingHints.ioBound());
   }
 
@@ -129,6 +138,14 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       // are added.
       return CompletableActorFuture.completed(null);
     }
+    if (parallelExporting) {
+      return callOnContainerActors(
+          () -> {
+            isHardPaused = true;
+            exporterPhase = ExporterPhase.PAUSED;
+            return containerActors.stream().map(ExporterContainerActor::pause).toList();
+          });
+    }
     return actor.call(
         () -> {
           isHardPaused = true;
@@ -151,6 +168,14 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       // are added.
       return CompletableActorFuture.completed(null);
     }
+    if (parallelExporting) {
+      return callOnContainerActors(
+          () -> {
+            isHardPaused = false;
+            exporterPhase = ExporterPhase.SOFT_PAUSED;
+            return containerActors.stream().map(ExporterContainerActor::softPause).toList();
+          });
+    }
     return actor.call(
         () -> {
           isHardPaused = false;
@@ -172,6 +197,18 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       return CompletableActorFuture.completed(null);
     }
 
+    if (parallelExporting) {
+      return callOnContainerActors(
+          () -> {
+            isHardPaused = false;
+            final boolean wasSoftPaused = exporterPhase == ExporterPhase.SOFT_PAUSED;
+            exporterPhase = ExporterPhase.EXPORTING;
+            return containerActors.stream()
+                .map(containerActor -> containerActor.resume(wasSoftPaused))
+                .toList();
+          });
+    }
+
     return actor.call(
         () -> {
           isHardPaused = false;
@@ -185,6 +222,30 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         });
   }
 
+  /**
+   * Applies a change of the exporting phase to the director, and forwards it to the container
+   * actors. The returned future completes once all container actors have applied it as well.
+   */
+  private ActorFuture<Void> callOnContainerActors(
+      final Supplier<List<ActorFuture<Void>>> phaseChange) {
+    final var result = new CompletableActorFuture<Void>();
+    actor.run(
+        () -> {
+          final List<ActorFuture<Void>> futures =
+              containerActorsStarted ? phaseChange.get() : List.of();
+          actor.runOnCompletion(
+              futures,
+              error -> {
+                if (error == null) {
+                  result.complete(null);
+                } else {
+                  result.completeExceptionally(error);
+                }
+              });
+        });
+    return result;
+  }
+
   public ActorFuture<ExporterPhase> getPhase() {
     if (actor.isClosed()) {
       return CompletableActorFuture.completed(ExporterPhase.CLOSED);
@@ -206,7 +267,8 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   @Override
   protected void onActorStarting() {
-    if (exporterMode == ExporterMode.ACTIVE) {
+    // when exporting in parallel, every container actor reads the log on its own
+    if (exporterMode == ExporterMode.ACTIVE && !parallelExporting) {
       final ActorFuture<LogStreamReader> newReaderFuture = logStream.newLogStreamReader();
       actor.runOnCompletionBlockingCurrentPhase(
           newReaderFuture,
@@ -250,7 +312,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     // remove exporters from state
     // which are no longer in our configuration
     clearExporterState();
-    if (exporterMode == ExporterMode.ACTIVE) {
+    if (parallelExporting) {
+      startParallelExportingMode();
+    } else if (exporterMode == ExporterMode.ACTIVE) {
       startActiveExportingMode();
     } else { // PASSIVE, we consume the messages and set it in our state
       startPassiveExportingMode();
@@ -263,6 +327,18 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       logStreamReader.close();
     }
     logStream.removeRecordAvailableListener(this);
+
+    if (containerActorsStarted) {
+      for (final var containerActor : containerActors) {
+        actor.runOnCompletionBlockingCurrentPhase(
+            containerActor.closeAsync(),
+            (ignored, error) -> {
+              if (error != null) {
+                LOG.debug("Exporter actor '{}' failed before closing", containerActor.getName());
+              }
+            });
+      }
+    }
   }
 
   @Override
@@ -274,7 +350,12 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   @Override
   protected void onActorCloseRequested() {
     isOpened.set(false);
-    if (exporterMode == ExporterMode.ACTIVE) {
+    if (parallelExporting) {
+      // the containers are closed by their actors
+      if (!containerActorsStarted) {
+        containers.forEach(ExporterContainer::close);
+      }
+    } else if (exporterMode == ExporterMode.ACTIVE) {
       containers.forEach(ExporterContainer::close);
     } else {
       exporterDistributionService.close();
@@ -316,7 +397,23 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   private void initContainers() throws Exception {
     for (final ExporterContainer container : containers) {
-      container.initContainer(actor, metrics, state);
+      if (parallelExporting) {
+        // every container actor updates the state of its exporter through its own context
+        final var containerState = new ExportersState(zeebeDb, zeebeDb.createContext());
+        final var containerFilter =
+            positionsToSkipFilter.and(createEventFilter(List.of(container)));
+        containerActors.add(
+            new ExporterContainerActor(
+                container,
+                containerState,
+                logStream,
+                metrics,
+                containerFilter,
+                name,
+                this::onContainerActorFailure));
+      } else {
+        container.initContainer(actor, metrics, state);
+      }
       container.configureExporter();
     }
 
@@ -333,7 +430,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         snapshotPosition);
   }
 
-  private ExporterEventFilter createEventFilter(final List<ExporterContainer> containers) {
+  private static ExporterEventFilter createEventFilter(final List<ExporterContainer> containers) {
 
     final List<Context.RecordFilter> recordFilters =
         containers.stream().map(c -> c.getContext().getFilter()).collect(Collectors.toList());
@@ -360,6 +457,45 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     actor.close();
   }
 
+  private void onContainerActorFailure(final Throwable failure) {
+    actor.run(
+        () -> {
+          if (failure instanceof UnrecoverableException) {
+            handleFailure(failure);
+          } else {
+            onFailure();
+          }
+        });
+  }
+
+  private void startParallelExportingMode() {
+    for (final ExporterContainer container : containers) {
+      container.initPosition();
+    }
+
+    if (!state.hasExporters()) {
+      actor.close();
+      return;
+    }
+
+    exporterPhase = isHardPaused ? ExporterPhase.PAUSED : ExporterPhase.EXPORTING;
+    final List<ActorFuture<Void>> startFutures =
+        containerActors.stream()
+            .map(containerActor -> containerActor.startAsync(actorSchedulingService, isHardPaused))
+            .toList();
+    containerActorsStarted = true;
+    actor.runOnCompletion(
+        startFutures,
+        error -> {
+          if (error != null) {
+            LOG.error("Failed to start exporter actors of '{}'", getName(), error);
+            onFailure();
+          }
+        });
+
+    actor.runAtFixedRate(distributionInterval, this::distributeExporterState);
+  }
+
   private void startActiveExportingMode() {
     logStream.registerRecordAvailableListener(this);
 
@@ -522,7 +658,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     return actor.call(() -> state.getLowestPosition());
   }
 
-  private static class RecordExporter {
+  static final class RecordExporter {
 
     private final RecordValues recordValues = new RecordValues();
     private final RecordMetadata rawMetadata = new RecordMetadata();
@@ -28,6 +28,7 @@ public final class ExporterDirectorContext {
   private ExporterMode exporterMode = ExporterMode.ACTIVE; // per default we export records
   private Duration distributionInterval = DEFAULT_DISTRIBUTION_INTERVAL;
   private EventFilter positionsToSkipFilter;
+  private boolean parallelExporting;
 
   public int getId() {
     return id;
@@ -65,6 +66,10 @@ public final class ExporterDirectorContext {
     return positionsToSkipFilter;
   }
 
+  public boolean isParallelExporting() {
+    return parallelExporting;
+  }
+
   public ExporterDirectorContext id(final int id) {
     this.id = id;
     return this;
@@ -111,6 +116,16 @@ public final class ExporterDirectorContext {
     return this;
   }
 
+  /**
+   * When enabled, every exporter runs on its own actor with its own log stream reader, instead of
+   * all exporters being driven one record at a time by the director. Only applies to {@link
+   * ExporterMode#ACTIVE}.
+   */
+  public ExporterDirectorContext parallelExporting(final boolean parallelExporting) {
+    this.parallelExporting = parallelExporting;
+    return this;
+  }
+
   public enum ExporterMode {
     /**
      * ACTIVE, means it is actively running the exporting and distributes the exporter positions to
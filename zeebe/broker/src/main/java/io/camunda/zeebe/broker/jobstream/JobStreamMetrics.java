@@ -44,6 +44,13 @@ public class JobStreamMetrics implements RemoteStreamMetrics {
           .labelNames("code")
           .register();
 
+  private static final Counter PUSH_THROTTLED_COUNT =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("jobs_push_throttled_count")
+          .help("Total number of push attempts skipped because the stream had no push credit left")
+          .register();
+
   @Override
   public void addStream() {
     STREAM_COUNT.inc();
@@ -68,4 +75,9 @@ public class JobStreamMetrics implements RemoteStreamMetrics {
   public void pushTryFailed(final ErrorCode code) {
     PUSH_TRY_FAILED_COUNT.labels(code.name()).inc();
   }
+
+  @Override
+  public void pushThrottled() {
+    PUSH_THROTTLED_COUNT.inc();
+  }
 }
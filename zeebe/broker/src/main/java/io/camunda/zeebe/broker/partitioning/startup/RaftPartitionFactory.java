@@ -71,6 +71,8 @@ public final class RaftPartitionFactory {
     storageConfig.setJournalIndexDensity(brokerCfg.getData().getLogIndexDensity());
     storageConfig.setPreallocateSegmentFiles(
         brokerCfg.getExperimental().getRaft().isPreallocateSegmentFiles());
+    storageConfig.setSegmentFlushMode(
+        brokerCfg.getExperimental().getRaft().getSegmentFlushMode());
 
     partitionConfig.setStorageConfig(storageConfig);
     partitionConfig.setEntryValidator(new ZeebeEntryValidator());
@@ -93,6 +95,13 @@ public final class RaftPartitionFactory {
         brokerCfg.getExperimental().getRaft().getMinStepDownFailureCount());
     partitionConfig.setPreferSnapshotReplicationThreshold(
         brokerCfg.getExperimental().getRaft().getPreferSnapshotReplicationThreshold());
+    partitionConfig.setSnapshotChunkSize(
+        (int)
+            Math.min(
+                brokerCfg.getExperimental().getRaft().getSnapshotChunkSize().toBytes(),
+                Integer.MAX_VALUE));
+    partitionConfig.setMaxSnapshotChunksInFlight(
+        brokerCfg.getExperimental().getRaft().getMaxSnapshotChunksInFlight());
 
     return new RaftPartition(partitionMetadata, partitionConfig, partitionDirectory.toFile());
   }
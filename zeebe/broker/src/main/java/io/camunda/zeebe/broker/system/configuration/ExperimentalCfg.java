@@ -32,6 +32,7 @@ public class ExperimentalCfg implements ConfigurationEntry {
   private QueryApiCfg queryApi = new QueryApiCfg();
   private ConsistencyCheckCfg consistencyChecks = new ConsistencyCheckCfg();
   private EngineCfg engine = new EngineCfg();
+  private JobStreamCfg jobStream = new JobStreamCfg();
 
   private FeatureFlagsCfg features = new FeatureFlagsCfg();
 
@@ -129,6 +130,14 @@ public class ExperimentalCfg implements ConfigurationEntry {
     this.engine = engine;
   }
 
+  public JobStreamCfg getJobStream() {
+    return jobStream;
+  }
+
+  public void setJobStream(final JobStreamCfg jobStream) {
+    this.jobStream = jobStream;
+  }
+
   public FeatureFlagsCfg getFeatures() {
     return features;
   }
@@ -156,6 +165,8 @@ public class ExperimentalCfg implements ConfigurationEntry {
         + consistencyChecks
         + ", engineCfg="
         + engine
+        + ", jobStream="
+        + jobStream
         + ", features="
         + features
         + '}';
@@ -9,7 +9,9 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static io.camunda.zeebe.broker.system.configuration.ClusterCfg.DEFAULT_ELECTION_TIMEOUT;
 
+import io.camunda.zeebe.journal.file.SegmentFlushMode;
 import java.time.Duration;
+import org.springframework.util.unit.DataSize;
 
 public final class ExperimentalRaftCfg implements ConfigurationEntry {
 
@@ -22,15 +24,21 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private static final Duration DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT = Duration.ofSeconds(0);
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final int DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD = 100;
+  private static final DataSize DEFAULT_SNAPSHOT_CHUNK_SIZE = DataSize.ofBytes(Integer.MAX_VALUE);
+  private static final int DEFAULT_MAX_SNAPSHOT_CHUNKS_IN_FLIGHT = 1;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final SegmentFlushMode DEFAULT_SEGMENT_FLUSH_MODE = SegmentFlushMode.MSYNC;
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Duration snapshotRequestTimeout = DEFAULT_SNAPSHOT_REQUEST_TIMEOUT;
   private Duration configurationChangeTimeout = DEFAULT_CONFIGURATION_CHANGE_TIMEOUT;
   private Duration maxQuorumResponseTimeout = DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT;
   private int minStepDownFailureCount = DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT;
   private int preferSnapshotReplicationThreshold = DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD;
+  private DataSize snapshotChunkSize = DEFAULT_SNAPSHOT_CHUNK_SIZE;
+  private int maxSnapshotChunksInFlight = DEFAULT_MAX_SNAPSHOT_CHUNKS_IN_FLIGHT;
 
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private SegmentFlushMode segmentFlushMode = DEFAULT_SEGMENT_FLUSH_MODE;
 
   public Duration getRequestTimeout() {
     return requestTimeout;
@@ -80,6 +88,22 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
     this.preferSnapshotReplicationThreshold = preferSnapshotReplicationThreshold;
   }
 
+  public DataSize getSnapshotChunkSize() {
+    return snapshotChunkSize;
+  }
+
+  public void setSnapshotChunkSize(final DataSize snapshotChunkSize) {
+    this.snapshotChunkSize = snapshotChunkSize;
+  }
+
+  public int getMaxSnapshotChunksInFlight() {
+    return maxSnapshotChunksInFlight;
+  }
+
+  public void setMaxSnapshotChunksInFlight(final int maxSnapshotChunksInFlight) {
+    this.maxSnapshotChunksInFlight = maxSnapshotChunksInFlight;
+  }
+
   public boolean isPreallocateSegmentFiles() {
     return preallocateSegmentFiles;
   }
@@ -87,4 +111,12 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   public void setPreallocateSegmentFiles(final boolean preallocateSegmentFiles) {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
+
+  public SegmentFlushMode getSegmentFlushMode() {
+    return segmentFlushMode;
+  }
+
+  public void setSegmentFlushMode(final SegmentFlushMode segmentFlushMode) {
+    this.segmentFlushMode = segmentFlushMode;
+  }
 }
@@ -16,6 +16,7 @@ import java.util.Set;
  */
 public final class ExportingCfg implements ConfigurationEntry {
   private Set<Long> skipRecords;
+  private boolean parallelExporting;
 
   public Set<Long> getSkipRecords() {
     return skipRecords != null ? skipRecords : Set.of();
@@ -25,9 +26,21 @@ public final class ExportingCfg implements ConfigurationEntry {
     this.skipRecords = skipRecords;
   }
 
+  /**
+   * @return true if every exporter should run on its own actor, such that a slow exporter does not
+   *     hold back the others
+   */
+  public boolean isParallelExporting() {
+    return parallelExporting;
+  }
+
+  public void setParallelExporting(final boolean parallelExporting) {
+    this.parallelExporting = parallelExporting;
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(skipRecords);
+    return Objects.hash(skipRecords, parallelExporting);
   }
 
   @Override
@@ -39,11 +52,17 @@ public final class ExportingCfg implements ConfigurationEntry {
       return false;
     }
     final ExportingCfg that = (ExportingCfg) o;
-    return Objects.equals(skipRecords, that.skipRecords);
+    return parallelExporting == that.parallelExporting
+        && Objects.equals(skipRecords, that.skipRecords);
   }
 
   @Override
   public String toString() {
-    return "ExporterCfg{" + "skipRecords='" + skipRecords + '}';
+    return "ExporterCfg{"
+        + "skipRecords='"
+        + skipRecords
+        + ", parallelExporting="
+        + parallelExporting
+        + '}';
   }
 }
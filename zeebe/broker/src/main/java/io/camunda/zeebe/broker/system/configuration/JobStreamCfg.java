@@ -0,0 +1,46 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import io.camunda.zeebe.transport.stream.api.RemoteStreamPushSettings;
+import java.time.Duration;
+
+public final class JobStreamCfg {
+  private int pushCreditWindow = RemoteStreamPushSettings.DEFAULT_CREDIT_WINDOW;
+  private Duration pushBlockedBackoff = RemoteStreamPushSettings.DEFAULT_BLOCKED_BACKOFF;
+
+  public int getPushCreditWindow() {
+    return pushCreditWindow;
+  }
+
+  public void setPushCreditWindow(final int pushCreditWindow) {
+    this.pushCreditWindow = pushCreditWindow;
+  }
+
+  public Duration getPushBlockedBackoff() {
+    return pushBlockedBackoff;
+  }
+
+  public void setPushBlockedBackoff(final Duration pushBlockedBackoff) {
+    this.pushBlockedBackoff = pushBlockedBackoff;
+  }
+
+  public RemoteStreamPushSettings getPushSettings() {
+    return new RemoteStreamPushSettings(pushCreditWindow, pushBlockedBackoff);
+  }
+
+  @Override
+  public String toString() {
+    return "JobStreamCfg{"
+        + "pushCreditWindow="
+        + pushCreditWindow
+        + ", pushBlockedBackoff="
+        + pushBlockedBackoff
+        + '}';
+  }
+}
@@ -8,7 +8,10 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyTuning;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
@@ -28,6 +31,11 @@ public final class RocksdbCfg implements ConfigurationEntry {
   private int ioRateBytesPerSecond = RocksDbConfiguration.DEFAULT_IO_RATE_BYTES_PER_SECOND;
   private boolean disableWal = RocksDbConfiguration.DEFAULT_WAL_DISABLED;
   private boolean enableSstPartitioning = RocksDbConfiguration.DEFAULT_SST_PARTITIONING_ENABLED;
+  private boolean enablePhysicalColumnFamilies =
+      RocksDbConfiguration.DEFAULT_PHYSICAL_COLUMN_FAMILIES_ENABLED;
+  private Map<String, ColumnFamilyCfg> columnFamilies = new HashMap<>();
+  private boolean enableWriteBatchTransactions =
+      RocksDbConfiguration.DEFAULT_WRITE_BATCH_TRANSACTIONS_ENABLED;
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -121,6 +129,30 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.enableSstPartitioning = enableSstPartitioning;
   }
 
+  public boolean isEnablePhysicalColumnFamilies() {
+    return enablePhysicalColumnFamilies;
+  }
+
+  public void setEnablePhysicalColumnFamilies(final boolean enablePhysicalColumnFamilies) {
+    this.enablePhysicalColumnFamilies = enablePhysicalColumnFamilies;
+  }
+
+  public Map<String, ColumnFamilyCfg> getColumnFamilies() {
+    return columnFamilies;
+  }
+
+  public void setColumnFamilies(final Map<String, ColumnFamilyCfg> columnFamilies) {
+    this.columnFamilies = columnFamilies;
+  }
+
+  public boolean isEnableWriteBatchTransactions() {
+    return enableWriteBatchTransactions;
+  }
+
+  public void setEnableWriteBatchTransactions(final boolean enableWriteBatchTransactions) {
+    this.enableWriteBatchTransactions = enableWriteBatchTransactions;
+  }
+
   public AccessMetricsConfiguration.Kind getAccessMetrics() {
     return accessMetrics;
   }
@@ -139,7 +171,18 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setStatisticsEnabled(enableStatistics)
         .setIoRateBytesPerSecond(ioRateBytesPerSecond)
         .setWalDisabled(disableWal)
-        .setSstPartitioningEnabled(enableSstPartitioning);
+        .setSstPartitioningEnabled(enableSstPartitioning)
+        .setPhysicalColumnFamiliesEnabled(enablePhysicalColumnFamilies)
+        .setColumnFamilyTuning(createColumnFamilyTuning())
+        .setWriteBatchTransactionsEnabled(enableWriteBatchTransactions);
+  }
+
+  private Map<String, ColumnFamilyTuning> createColumnFamilyTuning() {
+    final var tuning = new HashMap<String, ColumnFamilyTuning>();
+    // keys may be given in any case, e.g. via environment variables, but must match the enum names
+    columnFamilies.forEach(
+        (name, cfg) -> tuning.put(name.toUpperCase(), cfg.createColumnFamilyTuning()));
+    return tuning;
   }
 
   @Override
@@ -165,9 +208,76 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + disableWal
         + ", enableSstPartitioning="
         + enableSstPartitioning
+        + ", enablePhysicalColumnFamilies="
+        + enablePhysicalColumnFamilies
+        + ", columnFamilies="
+        + columnFamilies
+        + ", enableWriteBatchTransactions="
+        + enableWriteBatchTransactions
         + '}';
   }
 
+  /**
+   * Tuning of a single physical column family, see {@link ColumnFamilyTuning}. Unset options are
+   * inherited from the shared column family options.
+   */
+  public static final class ColumnFamilyCfg {
+
+    private Integer bloomFilterBitsPerKey;
+    private DataSize writeBufferSize;
+    private String compression;
+
+    public Integer getBloomFilterBitsPerKey() {
+      return bloomFilterBitsPerKey;
+    }
+
+    public void setBloomFilterBitsPerKey(final Integer bloomFilterBitsPerKey) {
+      this.bloomFilterBitsPerKey = bloomFilterBitsPerKey;
+    }
+
+    public DataSize getWriteBufferSize() {
+      return writeBufferSize;
+    }
+
+    public void setWriteBufferSize(final DataSize writeBufferSize) {
+      this.writeBufferSize = writeBufferSize;
+    }
+
+    public String getCompression() {
+      return compression;
+    }
+
+    public void setCompression(final String compression) {
+      this.compression = compression;
+    }
+
+    private ColumnFamilyTuning createColumnFamilyTuning() {
+      final var tuning = new ColumnFamilyTuning();
+      if (bloomFilterBitsPerKey != null) {
+        tuning.setBloomFilterBitsPerKey(bloomFilterBitsPerKey);
+      }
+      if (writeBufferSize != null) {
+        tuning.setWriteBufferSize(writeBufferSize.toBytes());
+      }
+      if (compression != null) {
+        tuning.setCompression(compression);
+      }
+      return tuning;
+    }
+
+    @Override
+    public String toString() {
+      return "ColumnFamilyCfg{"
+          + "bloomFilterBitsPerKey="
+          + bloomFilterBitsPerKey
+          + ", writeBufferSize="
+          + writeBufferSize
+          + ", compression="
+          + compression
+          + '}';
+    }
+  }
+
   private static final class RocksDBColumnFamilyOption {
 
     private static final Pattern DOT_CHAR_PATTERN = Pattern.compile("\\.");
@@ -9,9 +9,14 @@ package io.camunda.zeebe.broker.system.configuration.engine;
 
 import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
 import io.camunda.zeebe.engine.EngineConfiguration;
+import java.time.Duration;
 
 public final class CachesCfg implements ConfigurationEntry {
   private int drgCacheCapacity = EngineConfiguration.DEFAULT_DRG_CACHE_CAPACITY;
+  private int processCacheCapacity = EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY;
+  private Duration timerDueDateCacheHorizon =
+      EngineConfiguration.DEFAULT_TIMER_DUE_DATE_CACHE_HORIZON;
+  private int timerDueDateCacheCapacity = EngineConfiguration.DEFAULT_TIMER_DUE_DATE_CACHE_CAPACITY;
 
   public int getDrgCacheCapacity() {
     return drgCacheCapacity;
@@ -21,8 +26,41 @@ public final class CachesCfg implements ConfigurationEntry {
     this.drgCacheCapacity = drgCacheCapacity;
   }
 
+  public int getProcessCacheCapacity() {
+    return processCacheCapacity;
+  }
+
+  public void setProcessCacheCapacity(final int processCacheCapacity) {
+    this.processCacheCapacity = processCacheCapacity;
+  }
+
+  public Duration getTimerDueDateCacheHorizon() {
+    return timerDueDateCacheHorizon;
+  }
+
+  public void setTimerDueDateCacheHorizon(final Duration timerDueDateCacheHorizon) {
+    this.timerDueDateCacheHorizon = timerDueDateCacheHorizon;
+  }
+
+  public int getTimerDueDateCacheCapacity() {
+    return timerDueDateCacheCapacity;
+  }
+
+  public void setTimerDueDateCacheCapacity(final int timerDueDateCacheCapacity) {
+    this.timerDueDateCacheCapacity = timerDueDateCacheCapacity;
+  }
+
   @Override
   public String toString() {
-    return "CachesCfg{" + "drgCacheCapacity=" + drgCacheCapacity + '}';
+    return "CachesCfg{"
+        + "drgCacheCapacity="
+        + drgCacheCapacity
+        + ", processCacheCapacity="
+        + processCacheCapacity
+        + ", timerDueDateCacheHorizon="
+        + timerDueDateCacheHorizon
+        + ", timerDueDateCacheCapacity="
+        + timerDueDateCacheCapacity
+        + '}';
   }
 }
@@ -58,6 +58,9 @@ public final class EngineCfg implements ConfigurationEntry {
         .setMessagesTtlCheckerBatchLimit(messages.getTtlCheckerBatchLimit())
         .setMessagesTtlCheckerInterval(messages.getTtlCheckerInterval())
         .setDrgCacheCapacity(caches.getDrgCacheCapacity())
+        .setProcessCacheCapacity(caches.getProcessCacheCapacity())
+        .setTimerDueDateCacheHorizon(caches.getTimerDueDateCacheHorizon())
+        .setTimerDueDateCacheCapacity(caches.getTimerDueDateCacheCapacity())
         .setJobsTimeoutCheckerPollingInterval(jobs.getTimeoutCheckerPollingInterval())
         .setJobsTimeoutCheckerBatchLimit(jobs.getTimeoutCheckerBatchLimit());
   }
@@ -99,7 +99,10 @@ public final class ExporterDirectorPartitionTransitionStep implements PartitionT
             .partitionMessagingService(context.getMessagingService())
             .descriptors(exporterDescriptors)
             .exporterMode(exporterMode)
-            .positionsToSkipFilter(exporterFilter);
+            .positionsToSkipFilter(exporterFilter)
+            .parallelExporting(
+                context.getBrokerCfg() != null
+                    && context.getBrokerCfg().getExporting().isParallelExporting());
 
     final ExporterDirector director = new ExporterDirector(exporterCtx, !context.shouldExport());
 
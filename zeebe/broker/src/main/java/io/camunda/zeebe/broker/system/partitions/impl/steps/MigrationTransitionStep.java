@@ -11,6 +11,7 @@ import io.atomix.raft.RaftServer.Role;
 import io.camunda.zeebe.broker.system.partitions.PartitionTransitionContext;
 import io.camunda.zeebe.broker.system.partitions.PartitionTransitionStep;
 import io.camunda.zeebe.engine.state.ProcessingDbState;
+import io.camunda.zeebe.engine.state.instance.TimerDueDateCache;
 import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
 import io.camunda.zeebe.engine.state.migration.DbMigratorImpl;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
@@ -35,6 +36,12 @@ public class MigrationTransitionStep implements PartitionTransitionStep {
     // migration
     final var transientMessageSubscriptionState = new TransientPendingSubscriptionState();
     final var transientProcessMessageSubscriptionState = new TransientPendingSubscriptionState();
+    final var engineConfiguration =
+        context.getBrokerCfg().getExperimental().getEngine().createEngineConfiguration();
+    final var timerDueDateCache =
+        new TimerDueDateCache(
+            engineConfiguration.getTimerDueDateCacheHorizon(),
+            engineConfiguration.getTimerDueDateCacheCapacity());
     final var zeebeDb = context.getZeebeDb();
     final var zeebeDbContext = zeebeDb.createContext();
     final var processingState =
@@ -45,7 +52,8 @@ public class MigrationTransitionStep implements PartitionTransitionStep {
             new DbKeyGenerator(context.getPartitionId(), zeebeDb, zeebeDbContext),
             transientMessageSubscriptionState,
             transientProcessMessageSubscriptionState,
-            context.getBrokerCfg().getExperimental().getEngine().createEngineConfiguration());
+            timerDueDateCache,
+            engineConfiguration);
 
     final var dbMigrator = new DbMigratorImpl(processingState);
     try {
@@ -0,0 +1,138 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
+import io.camunda.zeebe.broker.exporter.util.ControlledTestExporter;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.awaitility.Awaitility;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class ExporterDirectorParallelTest {
+
+  private static final String EXPORTER_ID_1 = "exporter-1";
+  private static final String EXPORTER_ID_2 = "exporter-2";
+
+  @Rule
+  public final ExporterRule rule = ExporterRule.activeExporter().withParallelExporting(true);
+
+  private final List<ControlledTestExporter> exporters = new ArrayList<>();
+  private final List<ExporterDescriptor> exporterDescriptors = new ArrayList<>();
+
+  @Before
+  public void init() {
+    createExporter(EXPORTER_ID_1);
+    createExporter(EXPORTER_ID_2);
+  }
+
+  @Test
+  public void shouldExportToAllExporters() {
+    // given
+    rule.startExporterDirector(exporterDescriptors);
+
+    // when
+    final long firstPosition = rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+    final long secondPosition = rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+
+    // then
+    Awaitility.await("all exporters have exported both records")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(exporters)
+                    .allSatisfy(
+                        exporter ->
+                            assertThat(exporter.getExportedRecords())
+                                .extracting(Record::getPosition)
+                                .containsExactly(firstPosition, secondPosition)));
+    Awaitility.await("the lowest position is the last exported one")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(rule.getDirector().getLowestPosition().join())
+                    .isEqualTo(secondPosition));
+  }
+
+  @Test
+  public void shouldNotBeHeldBackBySlowerExporter() {
+    // given
+    final var failingExporter = exporters.get(0);
+    final var tailingExporter = exporters.get(1);
+    failingExporter.onExport(
+        record -> {
+          throw new RuntimeException("expected");
+        });
+    rule.startExporterDirector(exporterDescriptors);
+
+    // when
+    rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+    final long lastPosition = rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+
+    // then
+    Awaitility.await("the tailing exporter has exported all records")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(rule.getExportersState().getPosition(EXPORTER_ID_2))
+                    .isEqualTo(lastPosition));
+    assertThat(tailingExporter.getExportedRecords()).hasSize(2);
+    assertThat(rule.getDirector().getLowestPosition().join()).isLessThan(lastPosition);
+  }
+
+  @Test
+  public void shouldNotExportWhenPaused() {
+    // given
+    rule.startExporterDirector(exporterDescriptors);
+    rule.getDirector().pauseExporting().join();
+
+    // when
+    rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+
+    // then
+    Awaitility.await("the record is not exported while paused")
+        .during(Duration.ofMillis(500))
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(exporters)
+                    .allSatisfy(e -> assertThat(e.getExportedRecords()).isEmpty()));
+
+    // when
+    rule.getDirector().resumeExporting().join();
+
+    // then
+    Awaitility.await("the record is exported after resuming")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(exporters)
+                    .allSatisfy(e -> assertThat(e.getExportedRecords()).hasSize(1)));
+  }
+
+  private void createExporter(final String exporterId) {
+    final ControlledTestExporter exporter = spy(new ControlledTestExporter());
+    final ExporterDescriptor descriptor =
+        spy(new ExporterDescriptor(exporterId, exporter.getClass(), Map.of()));
+    doAnswer(c -> exporter).when(descriptor).newInstance();
+
+    exporters.add(exporter);
+    exporterDescriptors.add(descriptor);
+  }
+}
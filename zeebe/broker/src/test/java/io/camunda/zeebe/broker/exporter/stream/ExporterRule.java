@@ -58,6 +58,7 @@ public final class ExporterRule implements TestRule {
   private ExporterDirector director;
   private Duration distributionInterval = Duration.ofSeconds(15);
   private EventFilter positionsToSkipFilter = SkipPositionsFilter.of(Set.of());
+  private boolean parallelExporting;
 
   private ExporterRule(final ExporterMode exporterMode) {
     this.exporterMode = exporterMode;
@@ -92,6 +93,11 @@ public final class ExporterRule implements TestRule {
     return this;
   }
 
+  public ExporterRule withParallelExporting(final boolean parallelExporting) {
+    this.parallelExporting = parallelExporting;
+    return this;
+  }
+
   @Override
   public Statement apply(final Statement base, final Description description) {
     return chain.apply(base, description);
@@ -112,7 +118,8 @@ public final class ExporterRule implements TestRule {
             .distributionInterval(distributionInterval)
             .partitionMessagingService(partitionMessagingService)
             .descriptors(exporterDescriptors)
-            .positionsToSkipFilter(positionsToSkipFilter);
+            .positionsToSkipFilter(positionsToSkipFilter)
+            .parallelExporting(parallelExporting);
 
     director = new ExporterDirector(context, false);
     director.startAsync(actorSchedulerRule.get()).join();
@@ -192,6 +192,32 @@ public final class RaftPartitionFactoryTest {
         .isEqualTo(1000);
   }
 
+  @Test
+  void shouldSetSnapshotChunkSize() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setSnapshotChunkSize(DataSize.ofMegabytes(4));
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getSnapshotChunkSize()).isEqualTo(4 * 1024 * 1024);
+  }
+
+  @Test
+  void shouldSetMaxSnapshotChunksInFlight() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setMaxSnapshotChunksInFlight(3);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getMaxSnapshotChunksInFlight()).isEqualTo(3);
+  }
+
   @ParameterizedTest
   @ValueSource(booleans = {true, false})
   void shouldSetSegmentFilesPreallocation(final boolean value) {
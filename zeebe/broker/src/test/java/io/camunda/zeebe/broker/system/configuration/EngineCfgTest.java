@@ -30,6 +30,9 @@ final class EngineCfgTest {
     assertThat(configuration.getMessagesTtlCheckerBatchLimit()).isEqualTo(Integer.MAX_VALUE);
     assertThat(configuration.getMessagesTtlCheckerInterval()).isEqualTo(Duration.ofMinutes(1));
     assertThat(configuration.getDrgCacheCapacity()).isEqualTo(1000L);
+    assertThat(configuration.getProcessCacheCapacity()).isEqualTo(1000L);
+    assertThat(configuration.getTimerDueDateCacheHorizon()).isEqualTo(Duration.ofMinutes(1));
+    assertThat(configuration.getTimerDueDateCacheCapacity()).isEqualTo(100_000);
     assertThat(configuration.getJobsTimeoutCheckerPollingInterval())
         .isEqualTo(Duration.ofSeconds(1));
     assertThat(configuration.getJobsTimeoutCheckerBatchLimit()).isEqualTo(Integer.MAX_VALUE);
@@ -47,6 +50,9 @@ final class EngineCfgTest {
     assertThat(configuration.getMessagesTtlCheckerBatchLimit()).isEqualTo(1000);
     assertThat(configuration.getMessagesTtlCheckerInterval()).isEqualTo(Duration.ofSeconds(15));
     assertThat(configuration.getDrgCacheCapacity()).isEqualTo(2000L);
+    assertThat(configuration.getProcessCacheCapacity()).isEqualTo(3000L);
+    assertThat(configuration.getTimerDueDateCacheHorizon()).isEqualTo(Duration.ofSeconds(30));
+    assertThat(configuration.getTimerDueDateCacheCapacity()).isEqualTo(5000);
     assertThat(configuration.getJobsTimeoutCheckerPollingInterval())
         .isEqualTo(Duration.ofSeconds(15));
     assertThat(configuration.getJobsTimeoutCheckerBatchLimit()).isEqualTo(1000);
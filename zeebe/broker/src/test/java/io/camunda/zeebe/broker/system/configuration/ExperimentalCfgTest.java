@@ -9,12 +9,14 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.transport.stream.api.RemoteStreamPushSettings;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.springframework.util.unit.DataSize;
 
 @Execution(ExecutionMode.CONCURRENT)
 final class ExperimentalCfgTest {
@@ -113,6 +115,52 @@ final class ExperimentalCfgTest {
     assertThat(raft.getPreferSnapshotReplicationThreshold()).isEqualTo(10);
   }
 
+  @Test
+  void shouldSetSnapshotChunkSizeFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.getSnapshotChunkSize()).isEqualTo(DataSize.ofMegabytes(1));
+  }
+
+  @Test
+  void shouldSetSnapshotChunkSizeFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.snapshotChunkSize", "512KB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.getSnapshotChunkSize()).isEqualTo(DataSize.ofKilobytes(512));
+  }
+
+  @Test
+  void shouldSetMaxSnapshotChunksInFlightFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.getMaxSnapshotChunksInFlight()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldSetMaxSnapshotChunksInFlightFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.maxSnapshotChunksInFlight", "8");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.getMaxSnapshotChunksInFlight()).isEqualTo(8);
+  }
+
   @Test
   void shouldSetEnablePreconditionsFromConfig() {
     // when
@@ -181,4 +229,60 @@ final class ExperimentalCfgTest {
     // then
     assertThat(raftCfg.isPreallocateSegmentFiles()).isTrue();
   }
+
+  @Test
+  void shouldSetJobStreamPushCreditWindowFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var jobStream = cfg.getExperimental().getJobStream();
+
+    // then
+    assertThat(jobStream.getPushCreditWindow()).isEqualTo(16);
+  }
+
+  @Test
+  void shouldSetJobStreamPushCreditWindowFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.jobStream.pushCreditWindow", "8");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var jobStream = cfg.getExperimental().getJobStream();
+
+    // then
+    assertThat(jobStream.getPushCreditWindow()).isEqualTo(8);
+  }
+
+  @Test
+  void shouldSetJobStreamPushBlockedBackoffFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var jobStream = cfg.getExperimental().getJobStream();
+
+    // then
+    assertThat(jobStream.getPushBlockedBackoff()).isEqualTo(Duration.ofMillis(250));
+  }
+
+  @Test
+  void shouldSetJobStreamPushBlockedBackoffFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.jobStream.pushBlockedBackoff", "1s");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var jobStream = cfg.getExperimental().getJobStream();
+
+    // then
+    assertThat(jobStream.getPushBlockedBackoff()).isEqualTo(Duration.ofSeconds(1));
+  }
+
+  @Test
+  void shouldUseDefaultJobStreamPushSettings() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var pushSettings = cfg.getExperimental().getJobStream().getPushSettings();
+
+    // then
+    assertThat(pushSettings).isEqualTo(RemoteStreamPushSettings.defaults());
+  }
 }
@@ -148,6 +148,12 @@ public final class ClientProperties {
    */
   public static final String STREAM_ENABLED = "zeebe.client.worker.stream.enabled";
 
+  /**
+   * @see ZeebeClientBuilder#defaultJobWorkerVirtualThreadsEnabled(boolean)
+   */
+  public static final String VIRTUAL_THREADS_ENABLED =
+      "zeebe.client.worker.virtualThreads.enabled";
+
   /**
    * @see ZeebeClientBuilder#useDefaultRetryPolicy(boolean)
    */
@@ -21,6 +21,7 @@ import io.camunda.zeebe.client.api.command.BroadcastSignalCommandStep1;
 import io.camunda.zeebe.client.api.command.CancelProcessInstanceCommandStep1;
 import io.camunda.zeebe.client.api.command.CompleteUserTaskCommandStep1;
 import io.camunda.zeebe.client.api.command.CreateProcessInstanceCommandStep1;
+import io.camunda.zeebe.client.api.command.CreateProcessInstancesCommandStep1;
 import io.camunda.zeebe.client.api.command.DeleteResourceCommandStep1;
 import io.camunda.zeebe.client.api.command.DeployProcessCommandStep1;
 import io.camunda.zeebe.client.api.command.DeployResourceCommandStep1;
@@ -28,6 +29,7 @@ import io.camunda.zeebe.client.api.command.EvaluateDecisionCommandStep1;
 import io.camunda.zeebe.client.api.command.MigrateProcessInstanceCommandStep1;
 import io.camunda.zeebe.client.api.command.ModifyProcessInstanceCommandStep1;
 import io.camunda.zeebe.client.api.command.PublishMessageCommandStep1;
+import io.camunda.zeebe.client.api.command.PublishMessagesCommandStep1;
 import io.camunda.zeebe.client.api.command.ResolveIncidentCommandStep1;
 import io.camunda.zeebe.client.api.command.SetVariablesCommandStep1;
 import io.camunda.zeebe.client.api.command.TopologyRequestStep1;
@@ -153,6 +155,23 @@ public interface ZeebeClient extends AutoCloseable, JobClient {
    */
   CreateProcessInstanceCommandStep1 newCreateInstanceCommand();
 
+  /**
+   * Command to create/start many process instances in a single request. Each instance is created
+   * independently of the others, and the result of each instance is returned in the order the
+   * instances were added.
+   *
+   * <pre>
+   * zeebeClient
+   *  .newCreateInstancesCommand()
+   *  .addInstance(zeebeClient.newCreateInstanceCommand().bpmnProcessId("a").latestVersion())
+   *  .addInstance(zeebeClient.newCreateInstanceCommand().bpmnProcessId("b").latestVersion())
+   *  .send();
+   * </pre>
+   *
+   * @return a builder for the command
+   */
+  CreateProcessInstancesCommandStep1 newCreateInstancesCommand();
+
   /**
    * Command to modify a process instance.
    *
@@ -292,6 +311,23 @@ public interface ZeebeClient extends AutoCloseable, JobClient {
    */
   PublishMessageCommandStep1 newPublishMessageCommand();
 
+  /**
+   * Command to publish many messages in a single request. Each message is published independently
+   * of the others, and the result of each message is returned in the order the messages were
+   * added.
+   *
+   * <pre>
+   * zeebeClient
+   *  .newPublishMessagesCommand()
+   *  .addMessage(zeebeClient.newPublishMessageCommand().messageName("a").correlationKey(key))
+   *  .addMessage(zeebeClient.newPublishMessageCommand().messageName("b").correlationKey(key))
+   *  .send();
+   * </pre>
+   *
+   * @return a builder for the command
+   */
+  PublishMessagesCommandStep1 newPublishMessagesCommand();
+
   /**
    * Command to broadcast a signal.
    *
@@ -192,6 +192,14 @@ public interface ZeebeClientBuilder {
    */
   ZeebeClientBuilder defaultJobWorkerStreamEnabled(boolean streamEnabled);
 
+  /**
+   * If enabled, job workers run their job handlers on virtual threads by default, instead of on the
+   * shared job worker executor. Requires a Java 21 runtime or newer. The default value is false.
+   *
+   * @see JobWorkerBuilderStep3#virtualThreadsEnabled(boolean)
+   */
+  ZeebeClientBuilder defaultJobWorkerVirtualThreadsEnabled(boolean virtualThreadsEnabled);
+
   /**
    * If enabled, the client will make use of the default retry policy defined. False by default.
    *
@@ -0,0 +1,38 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.api.command;
+
+import io.camunda.zeebe.client.api.command.CreateProcessInstanceCommandStep1.CreateProcessInstanceCommandStep3;
+import io.camunda.zeebe.client.api.response.CreateProcessInstancesResponse;
+
+public interface CreateProcessInstancesCommandStep1 {
+
+  /**
+   * Add a process instance to the batch. The instance is built using {@link
+   * io.camunda.zeebe.client.ZeebeClient#newCreateInstanceCommand()}, but must not be sent on its
+   * own; it is created together with the other instances of the batch.
+   *
+   * @param instance the process instance to create
+   * @return the builder for this command
+   */
+  CreateProcessInstancesCommandStep2 addInstance(CreateProcessInstanceCommandStep3 instance);
+
+  interface CreateProcessInstancesCommandStep2
+      extends CreateProcessInstancesCommandStep1,
+          FinalCommandStep<CreateProcessInstancesResponse> {
+    // the place for new optional parameters
+  }
+}
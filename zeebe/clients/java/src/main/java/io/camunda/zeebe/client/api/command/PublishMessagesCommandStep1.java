@@ -0,0 +1,37 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.api.command;
+
+import io.camunda.zeebe.client.api.command.PublishMessageCommandStep1.PublishMessageCommandStep3;
+import io.camunda.zeebe.client.api.response.PublishMessagesResponse;
+
+public interface PublishMessagesCommandStep1 {
+
+  /**
+   * Add a message to the batch. The message is built using {@link
+   * io.camunda.zeebe.client.ZeebeClient#newPublishMessageCommand()}, but must not be sent on its
+   * own; it is published together with the other messages of the batch.
+   *
+   * @param message the message to publish
+   * @return the builder for this command
+   */
+  PublishMessagesCommandStep2 addMessage(PublishMessageCommandStep3 message);
+
+  interface PublishMessagesCommandStep2
+      extends PublishMessagesCommandStep1, FinalCommandStep<PublishMessagesResponse> {
+    // the place for new optional parameters
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.api.response;
+
+import io.camunda.zeebe.client.api.command.ClientStatusException;
+
+/**
+ * The result of a single item of a batch command. Each item of a batch is processed independently,
+ * so an item can fail while the others succeed.
+ *
+ * @param <T> the response type of a successful item
+ */
+public interface BatchItemResult<T> {
+
+  /**
+   * @return true if the item was processed successfully, false otherwise
+   */
+  boolean isSuccess();
+
+  /**
+   * @return the response of the item, or null if it failed
+   */
+  T getResponse();
+
+  /**
+   * @return the reason why the item failed, or null if it was processed successfully
+   */
+  ClientStatusException getError();
+}
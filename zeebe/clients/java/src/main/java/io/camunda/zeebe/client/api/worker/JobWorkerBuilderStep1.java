@@ -241,6 +241,25 @@ public interface JobWorkerBuilderStep1 {
      */
     JobWorkerBuilderStep3 metrics(final JobWorkerMetrics metrics);
 
+    /**
+     * Opt-in feature flag to run the job handler on virtual threads. If enabled, every job is
+     * handled on its own virtual thread, instead of on the client's shared job worker executor (see
+     * {@link io.camunda.zeebe.client.ZeebeClientBuilder#numJobWorkerExecutionThreads(int)}). This
+     * lets handlers which block on I/O work on many jobs concurrently, without having to size a
+     * thread pool for it.
+     *
+     * <p>The number of jobs handled concurrently is limited by {@link #maxJobsActive(int)}.
+     *
+     * <p>If not set, the default from the {@link ZeebeClientConfiguration} is used.
+     *
+     * <p>NOTE: virtual threads require a Java 21 runtime or newer; opening the worker fails on
+     * older runtimes if this is enabled.
+     *
+     * @param virtualThreadsEnabled true if job handlers should run on virtual threads
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 virtualThreadsEnabled(boolean virtualThreadsEnabled);
+
     /**
      * Open the worker and start to work on available tasks.
      *
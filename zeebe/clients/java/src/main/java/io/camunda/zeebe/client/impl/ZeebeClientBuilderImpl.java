@@ -25,6 +25,7 @@ import static io.camunda.zeebe.client.ClientProperties.PREFER_REST_OVER_GRPC;
 import static io.camunda.zeebe.client.ClientProperties.STREAM_ENABLED;
 import static io.camunda.zeebe.client.ClientProperties.USE_DEFAULT_RETRY_POLICY;
 import static io.camunda.zeebe.client.ClientProperties.USE_PLAINTEXT_CONNECTION;
+import static io.camunda.zeebe.client.ClientProperties.VIRTUAL_THREADS_ENABLED;
 import static io.camunda.zeebe.client.impl.BuilderUtils.appendProperty;
 import static io.camunda.zeebe.client.impl.util.DataSizeUtil.ONE_MB;
 
@@ -57,6 +58,8 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
   public static final String OVERRIDE_AUTHORITY_VAR = "ZEEBE_OVERRIDE_AUTHORITY";
   public static final String ZEEBE_CLIENT_WORKER_STREAM_ENABLED =
       "ZEEBE_CLIENT_WORKER_STREAM_ENABLED";
+  public static final String ZEEBE_CLIENT_WORKER_VIRTUAL_THREADS_ENABLED =
+      "ZEEBE_CLIENT_WORKER_VIRTUAL_THREADS_ENABLED";
   public static final String DEFAULT_GATEWAY_ADDRESS = "0.0.0.0:26500";
   public static final URI DEFAULT_GRPC_ADDRESS =
       getURIFromString("https://" + DEFAULT_GATEWAY_ADDRESS);
@@ -97,6 +100,7 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
   private String overrideAuthority;
   private int maxMessageSize = 4 * ONE_MB;
   private boolean streamEnabled = false;
+  private boolean virtualThreadsEnabled = false;
   private boolean grpcAddressUsed = false;
   private ScheduledExecutorService jobWorkerExecutor;
   private boolean ownsJobWorkerExecutor;
@@ -217,6 +221,11 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
     return streamEnabled;
   }
 
+  @Override
+  public boolean getDefaultJobWorkerVirtualThreadsEnabled() {
+    return virtualThreadsEnabled;
+  }
+
   @Override
   public boolean useDefaultRetryPolicy() {
     return useDefaultRetryPolicy;
@@ -316,6 +325,10 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
     if (properties.containsKey(STREAM_ENABLED)) {
       defaultJobWorkerStreamEnabled(Boolean.parseBoolean(properties.getProperty(STREAM_ENABLED)));
     }
+    if (properties.containsKey(VIRTUAL_THREADS_ENABLED)) {
+      defaultJobWorkerVirtualThreadsEnabled(
+          Boolean.parseBoolean(properties.getProperty(VIRTUAL_THREADS_ENABLED)));
+    }
     if (properties.containsKey(USE_DEFAULT_RETRY_POLICY)) {
       useDefaultRetryPolicy(Boolean.parseBoolean(properties.getProperty(USE_DEFAULT_RETRY_POLICY)));
     }
@@ -470,6 +483,13 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
     return this;
   }
 
+  @Override
+  public ZeebeClientBuilder defaultJobWorkerVirtualThreadsEnabled(
+      final boolean virtualThreadsEnabled) {
+    this.virtualThreadsEnabled = virtualThreadsEnabled;
+    return this;
+  }
+
   @Override
   public ZeebeClientBuilder useDefaultRetryPolicy(final boolean useDefaultRetryPolicy) {
     this.useDefaultRetryPolicy = useDefaultRetryPolicy;
@@ -554,6 +574,12 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
           Boolean.parseBoolean(Environment.system().get(ZEEBE_CLIENT_WORKER_STREAM_ENABLED)));
     }
 
+    if (Environment.system().isDefined(ZEEBE_CLIENT_WORKER_VIRTUAL_THREADS_ENABLED)) {
+      defaultJobWorkerVirtualThreadsEnabled(
+          Boolean.parseBoolean(
+              Environment.system().get(ZEEBE_CLIENT_WORKER_VIRTUAL_THREADS_ENABLED)));
+    }
+
     if (Environment.system().isDefined(USE_DEFAULT_RETRY_POLICY_VAR)) {
       useDefaultRetryPolicy(
           Boolean.parseBoolean(Environment.system().get(USE_DEFAULT_RETRY_POLICY_VAR)));
@@ -580,6 +606,7 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
     appendProperty(sb, "jobWorkerExecutor", jobWorkerExecutor);
     appendProperty(sb, "ownsJobWorkerExecutor", ownsJobWorkerExecutor);
     appendProperty(sb, "streamEnabled", streamEnabled);
+    appendProperty(sb, "virtualThreadsEnabled", virtualThreadsEnabled);
     appendProperty(sb, "preferRestOverGrpc", preferRestOverGrpc);
 
     return sb.toString();
@@ -253,6 +253,13 @@ public class ZeebeClientCloudBuilderImpl
     return this;
   }
 
+  @Override
+  public ZeebeClientBuilder defaultJobWorkerVirtualThreadsEnabled(
+      final boolean virtualThreadsEnabled) {
+    innerBuilder.defaultJobWorkerVirtualThreadsEnabled(virtualThreadsEnabled);
+    return this;
+  }
+
   @Override
   public ZeebeClientBuilder useDefaultRetryPolicy(final boolean useDefaultRetryPolicy) {
     innerBuilder.useDefaultRetryPolicy(useDefaultRetryPolicy);
@@ -30,6 +30,7 @@ import io.camunda.zeebe.client.api.command.ClientException;
 import io.camunda.zeebe.client.api.command.CompleteJobCommandStep1;
 import io.camunda.zeebe.client.api.command.CompleteUserTaskCommandStep1;
 import io.camunda.zeebe.client.api.command.CreateProcessInstanceCommandStep1;
+import io.camunda.zeebe.client.api.command.CreateProcessInstancesCommandStep1;
 import io.camunda.zeebe.client.api.command.DeleteResourceCommandStep1;
 import io.camunda.zeebe.client.api.command.DeployProcessCommandStep1;
 import io.camunda.zeebe.client.api.command.DeployResourceCommandStep1;
@@ -38,6 +39,7 @@ import io.camunda.zeebe.client.api.command.FailJobCommandStep1;
 import io.camunda.zeebe.client.api.command.MigrateProcessInstanceCommandStep1;
 import io.camunda.zeebe.client.api.command.ModifyProcessInstanceCommandStep1;
 import io.camunda.zeebe.client.api.command.PublishMessageCommandStep1;
+import io.camunda.zeebe.client.api.command.PublishMessagesCommandStep1;
 import io.camunda.zeebe.client.api.command.ResolveIncidentCommandStep1;
 import io.camunda.zeebe.client.api.command.SetVariablesCommandStep1;
 import io.camunda.zeebe.client.api.command.StreamJobsCommandStep1;
@@ -55,6 +57,7 @@ import io.camunda.zeebe.client.impl.command.BroadcastSignalCommandImpl;
 import io.camunda.zeebe.client.impl.command.CancelProcessInstanceCommandImpl;
 import io.camunda.zeebe.client.impl.command.CompleteUserTaskCommandImpl;
 import io.camunda.zeebe.client.impl.command.CreateProcessInstanceCommandImpl;
+import io.camunda.zeebe.client.impl.command.CreateProcessInstancesCommandImpl;
 import io.camunda.zeebe.client.impl.command.DeleteResourceCommandImpl;
 import io.camunda.zeebe.client.impl.command.DeployProcessCommandImpl;
 import io.camunda.zeebe.client.impl.command.DeployResourceCommandImpl;
@@ -64,6 +67,7 @@ import io.camunda.zeebe.client.impl.command.JobUpdateTimeoutCommandImpl;
 import io.camunda.zeebe.client.impl.command.MigrateProcessInstanceCommandImpl;
 import io.camunda.zeebe.client.impl.command.ModifyProcessInstanceCommandImpl;
 import io.camunda.zeebe.client.impl.command.PublishMessageCommandImpl;
+import io.camunda.zeebe.client.impl.command.PublishMessagesCommandImpl;
 import io.camunda.zeebe.client.impl.command.ResolveIncidentCommandImpl;
 import io.camunda.zeebe.client.impl.command.SetVariablesCommandImpl;
 import io.camunda.zeebe.client.impl.command.StreamJobsCommandImpl;
@@ -339,6 +343,12 @@ public final class ZeebeClientImpl implements ZeebeClient {
         asyncStub, jsonMapper, config, credentialsProvider::shouldRetryRequest);
   }
 
+  @Override
+  public CreateProcessInstancesCommandStep1 newCreateInstancesCommand() {
+    return new CreateProcessInstancesCommandImpl(
+        asyncStub, config, credentialsProvider::shouldRetryRequest);
+  }
+
   @Override
   public ModifyProcessInstanceCommandStep1 newModifyProcessInstanceCommand(
       final long processInstanceKey) {
@@ -391,6 +401,12 @@ public final class ZeebeClientImpl implements ZeebeClient {
         asyncStub, config, jsonMapper, credentialsProvider::shouldRetryRequest);
   }
 
+  @Override
+  public PublishMessagesCommandStep1 newPublishMessagesCommand() {
+    return new PublishMessagesCommandImpl(
+        asyncStub, config, credentialsProvider::shouldRetryRequest);
+  }
+
   @Override
   public BroadcastSignalCommandStep1 newBroadcastSignalCommand() {
     return new BroadcastSignalCommandImpl(
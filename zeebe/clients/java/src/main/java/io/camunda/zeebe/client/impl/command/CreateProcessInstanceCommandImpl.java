@@ -139,7 +139,7 @@ public final class CreateProcessInstanceCommandImpl
 
   @Override
   public ZeebeFuture<ProcessInstanceEvent> send() {
-    final CreateProcessInstanceRequest request = builder.build();
+    final CreateProcessInstanceRequest request = buildRequest();
 
     final RetriableClientFutureImpl<
             ProcessInstanceEvent, GatewayOuterClass.CreateProcessInstanceResponse>
@@ -159,6 +159,10 @@ public final class CreateProcessInstanceCommandImpl
     return this;
   }
 
+  CreateProcessInstanceRequest buildRequest() {
+    return builder.build();
+  }
+
   private void send(
       final CreateProcessInstanceRequest request,
       final StreamObserver<GatewayOuterClass.CreateProcessInstanceResponse> future) {
@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.command;
+
+import io.camunda.zeebe.client.CredentialsProvider.StatusCode;
+import io.camunda.zeebe.client.ZeebeClientConfiguration;
+import io.camunda.zeebe.client.api.ZeebeFuture;
+import io.camunda.zeebe.client.api.command.CreateProcessInstanceCommandStep1.CreateProcessInstanceCommandStep3;
+import io.camunda.zeebe.client.api.command.CreateProcessInstancesCommandStep1;
+import io.camunda.zeebe.client.api.command.CreateProcessInstancesCommandStep1.CreateProcessInstancesCommandStep2;
+import io.camunda.zeebe.client.api.command.FinalCommandStep;
+import io.camunda.zeebe.client.api.response.CreateProcessInstancesResponse;
+import io.camunda.zeebe.client.impl.RetriableClientFutureImpl;
+import io.camunda.zeebe.client.impl.response.CreateProcessInstancesResponseImpl;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstancesRequest;
+import io.grpc.stub.StreamObserver;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+public final class CreateProcessInstancesCommandImpl
+    implements CreateProcessInstancesCommandStep1, CreateProcessInstancesCommandStep2 {
+
+  private final GatewayStub asyncStub;
+  private final Predicate<StatusCode> retryPredicate;
+  private final CreateProcessInstancesRequest.Builder builder;
+  private Duration requestTimeout;
+
+  public CreateProcessInstancesCommandImpl(
+      final GatewayStub asyncStub,
+      final ZeebeClientConfiguration configuration,
+      final Predicate<StatusCode> retryPredicate) {
+    this.asyncStub = asyncStub;
+    this.retryPredicate = retryPredicate;
+    builder = CreateProcessInstancesRequest.newBuilder();
+    requestTimeout = configuration.getDefaultRequestTimeout();
+  }
+
+  @Override
+  public CreateProcessInstancesCommandStep2 addInstance(
+      final CreateProcessInstanceCommandStep3 instance) {
+    if (!(instance instanceof CreateProcessInstanceCommandImpl)) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected to add an instance built with newCreateInstanceCommand(), but got %s",
+              instance.getClass()));
+    }
+
+    builder.addInstances(((CreateProcessInstanceCommandImpl) instance).buildRequest());
+    return this;
+  }
+
+  @Override
+  public FinalCommandStep<CreateProcessInstancesResponse> requestTimeout(
+      final Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+    return this;
+  }
+
+  @Override
+  public ZeebeFuture<CreateProcessInstancesResponse> send() {
+    final CreateProcessInstancesRequest request = builder.build();
+    final RetriableClientFutureImpl<
+            CreateProcessInstancesResponse, GatewayOuterClass.CreateProcessInstancesResponse>
+        future =
+            new RetriableClientFutureImpl<>(
+                CreateProcessInstancesResponseImpl::new,
+                retryPredicate,
+                streamObserver -> send(request, streamObserver));
+
+    send(request, future);
+    return future;
+  }
+
+  private void send(
+      final CreateProcessInstancesRequest request,
+      final StreamObserver<GatewayOuterClass.CreateProcessInstancesResponse> streamObserver) {
+    asyncStub
+        .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .createProcessInstances(request, streamObserver);
+  }
+}
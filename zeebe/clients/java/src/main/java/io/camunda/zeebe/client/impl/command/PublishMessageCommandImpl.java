@@ -105,7 +105,7 @@ public final class PublishMessageCommandImpl extends CommandWithVariables<Publis
 
   @Override
   public ZeebeFuture<PublishMessageResponse> send() {
-    final PublishMessageRequest request = builder.build();
+    final PublishMessageRequest request = buildRequest();
     final RetriableClientFutureImpl<
             PublishMessageResponse, GatewayOuterClass.PublishMessageResponse>
         future =
@@ -118,6 +118,10 @@ public final class PublishMessageCommandImpl extends CommandWithVariables<Publis
     return future;
   }
 
+  PublishMessageRequest buildRequest() {
+    return builder.build();
+  }
+
   private void send(
       final PublishMessageRequest request,
       final StreamObserver<GatewayOuterClass.PublishMessageResponse> streamObserver) {
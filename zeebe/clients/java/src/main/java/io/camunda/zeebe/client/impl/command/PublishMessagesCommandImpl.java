@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.command;
+
+import io.camunda.zeebe.client.CredentialsProvider.StatusCode;
+import io.camunda.zeebe.client.ZeebeClientConfiguration;
+import io.camunda.zeebe.client.api.ZeebeFuture;
+import io.camunda.zeebe.client.api.command.FinalCommandStep;
+import io.camunda.zeebe.client.api.command.PublishMessageCommandStep1.PublishMessageCommandStep3;
+import io.camunda.zeebe.client.api.command.PublishMessagesCommandStep1;
+import io.camunda.zeebe.client.api.command.PublishMessagesCommandStep1.PublishMessagesCommandStep2;
+import io.camunda.zeebe.client.api.response.PublishMessagesResponse;
+import io.camunda.zeebe.client.impl.RetriableClientFutureImpl;
+import io.camunda.zeebe.client.impl.response.PublishMessagesResponseImpl;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import io.grpc.stub.StreamObserver;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+public final class PublishMessagesCommandImpl
+    implements PublishMessagesCommandStep1, PublishMessagesCommandStep2 {
+
+  private final GatewayStub asyncStub;
+  private final Predicate<StatusCode> retryPredicate;
+  private final PublishMessagesRequest.Builder builder;
+  private Duration requestTimeout;
+
+  public PublishMessagesCommandImpl(
+      final GatewayStub asyncStub,
+      final ZeebeClientConfiguration configuration,
+      final Predicate<StatusCode> retryPredicate) {
+    this.asyncStub = asyncStub;
+    this.retryPredicate = retryPredicate;
+    builder = PublishMessagesRequest.newBuilder();
+    requestTimeout = configuration.getDefaultRequestTimeout();
+  }
+
+  @Override
+  public PublishMessagesCommandStep2 addMessage(final PublishMessageCommandStep3 message) {
+    if (!(message instanceof PublishMessageCommandImpl)) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected to add a message built with newPublishMessageCommand(), but got %s",
+              message.getClass()));
+    }
+
+    builder.addMessages(((PublishMessageCommandImpl) message).buildRequest());
+    return this;
+  }
+
+  @Override
+  public FinalCommandStep<PublishMessagesResponse> requestTimeout(final Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+    return this;
+  }
+
+  @Override
+  public ZeebeFuture<PublishMessagesResponse> send() {
+    final PublishMessagesRequest request = builder.build();
+    final RetriableClientFutureImpl<
+            PublishMessagesResponse, GatewayOuterClass.PublishMessagesResponse>
+        future =
+            new RetriableClientFutureImpl<>(
+                PublishMessagesResponseImpl::new,
+                retryPredicate,
+                streamObserver -> send(request, streamObserver));
+
+    send(request, future);
+    return future;
+  }
+
+  private void send(
+      final PublishMessagesRequest request,
+      final StreamObserver<GatewayOuterClass.PublishMessagesResponse> streamObserver) {
+    asyncStub
+        .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .publishMessages(request, streamObserver);
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.response;
+
+import io.camunda.zeebe.client.api.command.ClientStatusException;
+import io.camunda.zeebe.client.api.response.BatchItemResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchItemError;
+import io.grpc.Status;
+
+public final class BatchItemResultImpl<T> implements BatchItemResult<T> {
+
+  private final T response;
+  private final ClientStatusException error;
+
+  private BatchItemResultImpl(final T response, final ClientStatusException error) {
+    this.response = response;
+    this.error = error;
+  }
+
+  public static <T> BatchItemResult<T> ofResponse(final T response) {
+    return new BatchItemResultImpl<>(response, null);
+  }
+
+  public static <T> BatchItemResult<T> ofError(final BatchItemError error) {
+    final Status status = Status.fromCodeValue(error.getCode()).withDescription(error.getMessage());
+    return new BatchItemResultImpl<>(null, new ClientStatusException(status, null));
+  }
+
+  @Override
+  public boolean isSuccess() {
+    return error == null;
+  }
+
+  @Override
+  public T getResponse() {
+    return response;
+  }
+
+  @Override
+  public ClientStatusException getError() {
+    return error;
+  }
+}
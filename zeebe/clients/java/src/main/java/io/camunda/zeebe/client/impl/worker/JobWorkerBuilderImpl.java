@@ -35,6 +35,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 
 public final class JobWorkerBuilderImpl
@@ -58,6 +59,7 @@ public final class JobWorkerBuilderImpl
   private final List<String> customTenantIds;
   private BackoffSupplier backoffSupplier;
   private boolean enableStreaming;
+  private boolean enableVirtualThreads;
   private Duration streamingTimeout;
   private JobWorkerMetrics metrics = JobWorkerMetrics.noop();
 
@@ -76,6 +78,7 @@ public final class JobWorkerBuilderImpl
     pollInterval = configuration.getDefaultJobPollInterval();
     requestTimeout = configuration.getDefaultRequestTimeout();
     enableStreaming = configuration.getDefaultJobWorkerStreamEnabled();
+    enableVirtualThreads = configuration.getDefaultJobWorkerVirtualThreadsEnabled();
     defaultTenantIds = configuration.getDefaultJobWorkerTenantIds();
     customTenantIds = new ArrayList<>();
     backoffSupplier = DEFAULT_BACKOFF_SUPPLIER;
@@ -158,6 +161,12 @@ public final class JobWorkerBuilderImpl
     return this;
   }
 
+  @Override
+  public JobWorkerBuilderStep3 virtualThreadsEnabled(final boolean virtualThreadsEnabled) {
+    enableVirtualThreads = virtualThreadsEnabled;
+    return this;
+  }
+
   @Override
   public JobWorkerBuilderStep3 metrics(final JobWorkerMetrics metrics) {
     this.metrics = metrics == null ? JobWorkerMetrics.noop() : metrics;
@@ -185,7 +194,6 @@ public final class JobWorkerBuilderImpl
             getTenantIds(),
             maxJobsActive);
 
-    final Executor jobExecutor;
     if (enableStreaming) {
       if (streamingTimeout != null) {
         ensurePositive("streamingTimeout", streamingTimeout);
@@ -202,9 +210,22 @@ public final class JobWorkerBuilderImpl
               streamingTimeout,
               backoffSupplier,
               executorService);
-      jobExecutor = new BlockingExecutor(executorService, maxJobsActive, timeout);
     } else {
       jobStreamer = JobStreamer.noop();
+    }
+
+    final ExecutorService virtualThreadExecutor =
+        enableVirtualThreads
+            ? VirtualThreads.newThreadPerTaskExecutor("zeebe-job-worker-" + jobType + "-")
+            : null;
+    final Executor jobExecutor;
+    if (virtualThreadExecutor != null) {
+      // every job gets its own thread, so the number of concurrently handled jobs has to be bounded
+      // explicitly, whether they are polled or streamed
+      jobExecutor = new BlockingExecutor(virtualThreadExecutor, maxJobsActive, timeout);
+    } else if (enableStreaming) {
+      jobExecutor = new BlockingExecutor(executorService, maxJobsActive, timeout);
+    } else {
       jobExecutor = executorService;
     }
 
@@ -220,6 +241,10 @@ public final class JobWorkerBuilderImpl
             metrics,
             jobExecutor);
     closeables.add(jobWorker);
+    if (virtualThreadExecutor != null) {
+      // added after the worker, such that the worker is closed before its executor
+      closeables.add(virtualThreadExecutor::shutdown);
+    }
     return jobWorker;
   }
 
@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.worker;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates executors which run every task on a new virtual thread. Virtual threads are only
+ * available on Java 21 and newer, while the client is still compiled for Java 8, so the API is
+ * looked up reflectively.
+ */
+final class VirtualThreads {
+
+  private VirtualThreads() {}
+
+  /**
+   * @return true if the current runtime supports virtual threads
+   */
+  static boolean isSupported() {
+    try {
+      Thread.class.getMethod("ofVirtual");
+      return true;
+    } catch (final NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Returns a new executor which starts a virtual thread for every task. Threads are named using
+   * the given prefix followed by a counter.
+   *
+   * @param namePrefix the prefix of the thread names
+   * @return a new executor, which must be shut down once it is not used anymore
+   * @throws UnsupportedOperationException if the runtime does not support virtual threads
+   */
+  static ExecutorService newThreadPerTaskExecutor(final String namePrefix) {
+    try {
+      final Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+      final Method ofVirtual = Thread.class.getMethod("ofVirtual");
+      final Method name = builderType.getMethod("name", String.class, long.class);
+      final Method factory = builderType.getMethod("factory");
+      final Method newExecutor =
+          Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+
+      final Object builder = name.invoke(ofVirtual.invoke(null), namePrefix, 0L);
+      return (ExecutorService) newExecutor.invoke(null, factory.invoke(builder));
+    } catch (final ReflectiveOperationException | UnsupportedOperationException e) {
+      throw new UnsupportedOperationException(
+          String.format(
+              "Expected to run job handlers on virtual threads, but they are not supported by the"
+                  + " current Java runtime (%s); they require Java 21 or newer",
+              System.getProperty("java.version")),
+          e);
+    }
+  }
+}
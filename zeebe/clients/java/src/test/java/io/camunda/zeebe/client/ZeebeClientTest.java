@@ -22,6 +22,7 @@ import static io.camunda.zeebe.client.ClientProperties.MAX_MESSAGE_SIZE;
 import static io.camunda.zeebe.client.ClientProperties.STREAM_ENABLED;
 import static io.camunda.zeebe.client.ClientProperties.USE_DEFAULT_RETRY_POLICY;
 import static io.camunda.zeebe.client.ClientProperties.USE_PLAINTEXT_CONNECTION;
+import static io.camunda.zeebe.client.ClientProperties.VIRTUAL_THREADS_ENABLED;
 import static io.camunda.zeebe.client.impl.ZeebeClientBuilderImpl.CA_CERTIFICATE_VAR;
 import static io.camunda.zeebe.client.impl.ZeebeClientBuilderImpl.DEFAULT_GATEWAY_ADDRESS;
 import static io.camunda.zeebe.client.impl.ZeebeClientBuilderImpl.DEFAULT_GRPC_ADDRESS;
@@ -101,6 +102,7 @@ public final class ZeebeClientTest extends ClientTest {
       assertThat(configuration.getDefaultTenantId())
           .isEqualTo(CommandWithTenantStep.DEFAULT_TENANT_IDENTIFIER);
       assertThat(configuration.getDefaultJobWorkerStreamEnabled()).isFalse();
+      assertThat(configuration.getDefaultJobWorkerVirtualThreadsEnabled()).isFalse();
       assertThat(configuration.getDefaultJobWorkerTenantIds())
           .containsExactly(CommandWithTenantStep.DEFAULT_TENANT_IDENTIFIER);
       assertThat(configuration.preferRestOverGrpc()).isFalse();
@@ -186,6 +188,21 @@ public final class ZeebeClientTest extends ClientTest {
     assertThat(builder.getDefaultJobWorkerStreamEnabled()).isTrue();
   }
 
+  @Test
+  public void shouldEnableVirtualThreadsWithProperty() {
+    // given
+    final Properties properties = new Properties();
+    properties.putIfAbsent(VIRTUAL_THREADS_ENABLED, "true");
+    final ZeebeClientBuilderImpl builder = new ZeebeClientBuilderImpl();
+    builder.withProperties(properties);
+
+    // when
+    builder.build();
+
+    // then
+    assertThat(builder.getDefaultJobWorkerVirtualThreadsEnabled()).isTrue();
+  }
+
   @Test
   public void shouldEnableStreamingWithEnvironmentVariableWhenApplied() {
     // given
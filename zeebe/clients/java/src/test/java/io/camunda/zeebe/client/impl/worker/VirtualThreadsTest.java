@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.worker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+final class VirtualThreadsTest {
+
+  @Test
+  void shouldRunTasksOnNamedThreads() throws Exception {
+    // given
+    Assumptions.assumeTrue(VirtualThreads.isSupported(), "virtual threads require Java 21");
+    final ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("test-");
+
+    try {
+      // when
+      final Thread thread = executor.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+
+      // then - virtual threads are always daemon threads
+      assertThat(thread.getName()).startsWith("test-");
+      assertThat(thread.isDaemon()).isTrue();
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void shouldFailIfNotSupported() {
+    // given
+    Assumptions.assumeFalse(VirtualThreads.isSupported(), "virtual threads are supported");
+
+    // when - then
+    assertThatThrownBy(() -> VirtualThreads.newThreadPerTaskExecutor("test-"))
+        .isInstanceOf(UnsupportedOperationException.class)
+        .hasMessageContaining("Java 21");
+  }
+}
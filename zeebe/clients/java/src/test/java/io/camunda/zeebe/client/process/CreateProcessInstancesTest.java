@@ -0,0 +1,86 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.zeebe.client.api.command.CreateProcessInstanceCommandStep1.CreateProcessInstanceCommandStep3;
+import io.camunda.zeebe.client.api.response.CreateProcessInstancesResponse;
+import io.camunda.zeebe.client.util.ClientTest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstancesRequest;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public final class CreateProcessInstancesTest extends ClientTest {
+
+  @Test
+  public void shouldCreateProcessInstances() {
+    // given
+    gatewayService.addRequestHandler(
+        CreateProcessInstancesRequest.class,
+        request ->
+            GatewayOuterClass.CreateProcessInstancesResponse.newBuilder()
+                .addResults(
+                    CreateProcessInstanceResult.newBuilder()
+                        .setInstance(
+                            GatewayOuterClass.CreateProcessInstanceResponse.newBuilder()
+                                .setProcessInstanceKey(1)))
+                .addResults(
+                    CreateProcessInstanceResult.newBuilder()
+                        .setInstance(
+                            GatewayOuterClass.CreateProcessInstanceResponse.newBuilder()
+                                .setProcessInstanceKey(2)))
+                .build());
+
+    // when
+    final CreateProcessInstancesResponse response =
+        client
+            .newCreateInstancesCommand()
+            .addInstance(client.newCreateInstanceCommand().bpmnProcessId("a").latestVersion())
+            .addInstance(client.newCreateInstanceCommand().processDefinitionKey(123))
+            .send()
+            .join();
+
+    // then
+    final CreateProcessInstancesRequest request = gatewayService.getLastRequest();
+    assertThat(request.getInstancesList())
+        .extracting(
+            CreateProcessInstanceRequest::getBpmnProcessId,
+            CreateProcessInstanceRequest::getProcessDefinitionKey)
+        .containsExactly(tuple("a", 0L), tuple("", 123L));
+    assertThat(response.getResults())
+        .extracting(result -> result.getResponse().getProcessInstanceKey())
+        .containsExactly(1L, 2L);
+
+    rule.verifyDefaultRequestTimeout();
+  }
+
+  @Test
+  public void shouldRejectInstanceNotBuiltByClient() {
+    // given
+    final CreateProcessInstanceCommandStep3 instance =
+        Mockito.mock(CreateProcessInstanceCommandStep3.class);
+
+    // when/then
+    assertThatThrownBy(() -> client.newCreateInstancesCommand().addInstance(instance))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.zeebe.client.api.response.BatchItemResult;
+import io.camunda.zeebe.client.api.response.PublishMessageResponse;
+import io.camunda.zeebe.client.api.response.PublishMessagesResponse;
+import io.camunda.zeebe.client.util.ClientTest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchItemError;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import io.grpc.Status.Code;
+import org.junit.Test;
+
+public final class PublishMessagesTest extends ClientTest {
+
+  @Test
+  public void shouldPublishMessages() {
+    // when
+    client
+        .newPublishMessagesCommand()
+        .addMessage(client.newPublishMessageCommand().messageName("a").correlationKey("1"))
+        .addMessage(client.newPublishMessageCommand().messageName("b").correlationKey("2"))
+        .send()
+        .join();
+
+    // then
+    final PublishMessagesRequest request = gatewayService.getLastRequest();
+    assertThat(request.getMessagesList())
+        .extracting(PublishMessageRequest::getName, PublishMessageRequest::getCorrelationKey)
+        .containsExactly(tuple("a", "1"), tuple("b", "2"));
+
+    rule.verifyDefaultRequestTimeout();
+  }
+
+  @Test
+  public void shouldReturnResultOfEachMessageInOrder() {
+    // given
+    gatewayService.addRequestHandler(
+        PublishMessagesRequest.class,
+        request ->
+            GatewayOuterClass.PublishMessagesResponse.newBuilder()
+                .addResults(
+                    PublishMessageResult.newBuilder()
+                        .setMessage(
+                            GatewayOuterClass.PublishMessageResponse.newBuilder().setKey(123)))
+                .addResults(
+                    PublishMessageResult.newBuilder()
+                        .setError(
+                            BatchItemError.newBuilder()
+                                .setCode(Code.ALREADY_EXISTS.value())
+                                .setMessage("expected")))
+                .build());
+
+    // when
+    final PublishMessagesResponse response =
+        client
+            .newPublishMessagesCommand()
+            .addMessage(client.newPublishMessageCommand().messageName("a").correlationKey("1"))
+            .addMessage(client.newPublishMessageCommand().messageName("b").correlationKey("2"))
+            .send()
+            .join();
+
+    // then
+    assertThat(response.getResults()).hasSize(2);
+    final BatchItemResult<PublishMessageResponse> published = response.getResults().get(0);
+    assertThat(published.isSuccess()).isTrue();
+    assertThat(published.getResponse().getMessageKey()).isEqualTo(123L);
+    final BatchItemResult<PublishMessageResponse> failed = response.getResults().get(1);
+    assertThat(failed.isSuccess()).isFalse();
+    assertThat(failed.getResponse()).isNull();
+    assertThat(failed.getError().getStatus().getCode()).isEqualTo(Code.ALREADY_EXISTS);
+    assertThat(failed.getError()).hasMessage("expected");
+  }
+}
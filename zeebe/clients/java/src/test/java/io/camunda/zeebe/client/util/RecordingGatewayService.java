@@ -33,6 +33,8 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstance
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstancesRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstancesResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DecisionMetadata;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DecisionRequirementsMetadata;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeleteResourceRequest;
@@ -57,6 +59,8 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBr
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ProcessMetadata;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesRequest;
@@ -99,12 +103,17 @@ public final class RecordingGatewayService extends GatewayImplBase {
         DeployResourceRequest.class, r -> DeployResourceResponse.getDefaultInstance());
     addRequestHandler(
         PublishMessageRequest.class, r -> PublishMessageResponse.getDefaultInstance());
+    addRequestHandler(
+        PublishMessagesRequest.class, r -> PublishMessagesResponse.getDefaultInstance());
     addRequestHandler(
         CreateProcessInstanceRequest.class,
         r -> CreateProcessInstanceResponse.getDefaultInstance());
     addRequestHandler(
         CreateProcessInstanceWithResultRequest.class,
         r -> CreateProcessInstanceWithResultResponse.getDefaultInstance());
+    addRequestHandler(
+        CreateProcessInstancesRequest.class,
+        r -> CreateProcessInstancesResponse.getDefaultInstance());
     addRequestHandler(
         CancelProcessInstanceRequest.class,
         r -> CancelProcessInstanceResponse.getDefaultInstance());
@@ -332,6 +341,13 @@ public final class RecordingGatewayService extends GatewayImplBase {
     handle(request, responseObserver);
   }
 
+  @Override
+  public void createProcessInstances(
+      final CreateProcessInstancesRequest request,
+      final StreamObserver<CreateProcessInstancesResponse> responseObserver) {
+    handle(request, responseObserver);
+  }
+
   @Override
   public void createProcessInstanceWithResult(
       final CreateProcessInstanceWithResultRequest request,
@@ -379,6 +395,13 @@ public final class RecordingGatewayService extends GatewayImplBase {
     handle(request, responseObserver);
   }
 
+  @Override
+  public void publishMessages(
+      final PublishMessagesRequest request,
+      final StreamObserver<PublishMessagesResponse> responseObserver) {
+    handle(request, responseObserver);
+  }
+
   @Override
   public void resolveIncident(
       final ResolveIncidentRequest request,
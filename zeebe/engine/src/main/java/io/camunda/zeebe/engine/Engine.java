@@ -51,6 +51,8 @@ public class Engine implements RecordProcessor {
   private EventApplier eventApplier;
   private RecordProcessorMap recordProcessorMap;
   private MutableProcessingState processingState;
+  private ProcessingResultBuilder currentBatchResultBuilder;
+  private boolean timerCacheUpdateScheduled;
 
   private final ErrorRecord errorRecord = new ErrorRecord();
 
@@ -92,13 +94,18 @@ public class Engine implements RecordProcessor {
 
   @Override
   public void replay(final TypedRecord event) {
+    // a batch of events may be replayed again after a rollback
+    processingState.getVariableState().clearCache();
     eventApplier.applyState(
         event.getKey(), event.getIntent(), event.getValue(), event.getRecordVersion());
+    // there is no post commit hook on replay, but applying the same changes again is harmless
+    processingState.getTimerState().applyPendingCacheUpdates();
   }
 
   @Override
   public ProcessingResult process(
       final TypedRecord record, final ProcessingResultBuilder processingResultBuilder) {
+    onBatchProcessing(processingResultBuilder);
 
     try (final var scope = new ProcessingResultBuilderScope(processingResultBuilder)) {
       TypedRecordProcessor<?> currentProcessor = null;
@@ -127,6 +134,7 @@ public class Engine implements RecordProcessor {
         currentProcessor.processRecord(record);
       }
     }
+    scheduleTimerCacheUpdate(processingResultBuilder);
     return processingResultBuilder.build();
   }
 
@@ -135,6 +143,8 @@ public class Engine implements RecordProcessor {
       final Throwable processingException,
       final TypedRecord record,
       final ProcessingResultBuilder processingResultBuilder) {
+    onBatchProcessing(processingResultBuilder);
+
     try (final var scope = new ProcessingResultBuilderScope(processingResultBuilder)) {
 
       final var typedCommand = (TypedRecord<?>) record;
@@ -159,9 +169,42 @@ public class Engine implements RecordProcessor {
         handleUnexpectedError(processingException, errorRecord);
       }
     }
+    scheduleTimerCacheUpdate(processingResultBuilder);
     return processingResultBuilder.build();
   }
 
+  /**
+   * The stream processor uses a new result builder for every batch of commands, which are processed
+   * in a single transaction, as well as for the error handling after a rollback. When a new batch
+   * starts, the caches which may contain uncommitted state of a previous transaction are cleared.
+   */
+  private void onBatchProcessing(final ProcessingResultBuilder processingResultBuilder) {
+    if (processingResultBuilder != currentBatchResultBuilder) {
+      currentBatchResultBuilder = processingResultBuilder;
+      processingState.getVariableState().clearCache();
+      // the updates of a committed batch were applied by its post commit task already, so only
+      // the updates of a rolled back transaction are left
+      processingState.getTimerState().discardPendingCacheUpdates();
+      timerCacheUpdateScheduled = false;
+    }
+  }
+
+  /**
+   * The timer due date cache is shared with the due date checker, so the due dates of stored and
+   * removed timers are only applied to it once the batch is committed.
+   */
+  private void scheduleTimerCacheUpdate(final ProcessingResultBuilder processingResultBuilder) {
+    final var timerState = processingState.getTimerState();
+    if (!timerCacheUpdateScheduled && timerState.hasPendingCacheUpdates()) {
+      timerCacheUpdateScheduled = true;
+      processingResultBuilder.appendPostCommitTask(
+          () -> {
+            timerState.applyPendingCacheUpdates();
+            return true;
+          });
+    }
+  }
+
   private void handleUnexpectedError(
       final Throwable processingException, final TypedRecord record) {
     final String errorMessage =
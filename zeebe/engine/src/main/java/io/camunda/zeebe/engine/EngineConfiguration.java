@@ -21,14 +21,20 @@ public final class EngineConfiguration {
   public static final int BATCH_SIZE_CALCULATION_BUFFER = 1024 * 8;
 
   public static final int DEFAULT_DRG_CACHE_CAPACITY = 1000;
+  public static final int DEFAULT_PROCESS_CACHE_CAPACITY = 1000;
   public static final Duration DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL = Duration.ofSeconds(1);
   public static final int DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT = Integer.MAX_VALUE;
+  public static final Duration DEFAULT_TIMER_DUE_DATE_CACHE_HORIZON = Duration.ofMinutes(1);
+  public static final int DEFAULT_TIMER_DUE_DATE_CACHE_CAPACITY = 100_000;
 
   private int messagesTtlCheckerBatchLimit = DEFAULT_MESSAGES_TTL_CHECKER_BATCH_LIMIT;
   private Duration messagesTtlCheckerInterval = DEFAULT_MESSAGES_TTL_CHECKER_INTERVAL;
   private int drgCacheCapacity = DEFAULT_DRG_CACHE_CAPACITY;
+  private int processCacheCapacity = DEFAULT_PROCESS_CACHE_CAPACITY;
   private Duration jobsTimeoutCheckerPollingInterval = DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
   private int jobsTimeoutCheckerBatchLimit = DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT;
+  private Duration timerDueDateCacheHorizon = DEFAULT_TIMER_DUE_DATE_CACHE_HORIZON;
+  private int timerDueDateCacheCapacity = DEFAULT_TIMER_DUE_DATE_CACHE_CAPACITY;
 
   public int getMessagesTtlCheckerBatchLimit() {
     return messagesTtlCheckerBatchLimit;
@@ -59,6 +65,15 @@ public final class EngineConfiguration {
     return this;
   }
 
+  public int getProcessCacheCapacity() {
+    return processCacheCapacity;
+  }
+
+  public EngineConfiguration setProcessCacheCapacity(final int processCacheCapacity) {
+    this.processCacheCapacity = processCacheCapacity;
+    return this;
+  }
+
   public Duration getJobsTimeoutCheckerPollingInterval() {
     return jobsTimeoutCheckerPollingInterval;
   }
@@ -78,4 +93,22 @@ public final class EngineConfiguration {
     this.jobsTimeoutCheckerBatchLimit = jobsTimeoutCheckerBatchLimit;
     return this;
   }
+
+  public Duration getTimerDueDateCacheHorizon() {
+    return timerDueDateCacheHorizon;
+  }
+
+  public EngineConfiguration setTimerDueDateCacheHorizon(final Duration timerDueDateCacheHorizon) {
+    this.timerDueDateCacheHorizon = timerDueDateCacheHorizon;
+    return this;
+  }
+
+  public int getTimerDueDateCacheCapacity() {
+    return timerDueDateCacheCapacity;
+  }
+
+  public EngineConfiguration setTimerDueDateCacheCapacity(final int timerDueDateCacheCapacity) {
+    this.timerDueDateCacheCapacity = timerDueDateCacheCapacity;
+    return this;
+  }
 }
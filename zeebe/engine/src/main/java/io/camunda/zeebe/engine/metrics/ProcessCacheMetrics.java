@@ -0,0 +1,58 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+
+public final class ProcessCacheMetrics {
+
+  private static final String NAMESPACE = "zeebe";
+  private static final String PARTITION_LABEL = "partition";
+  private static final String RESULT_LABEL = "result";
+  private static final String RESULT_HIT = "hit";
+  private static final String RESULT_MISS = "miss";
+
+  private static final Counter PROCESS_CACHE_LOOKUPS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("process_cache_lookups_total")
+          .help("Number of deployed process lookups, by whether the process was cached or not")
+          .labelNames(PARTITION_LABEL, RESULT_LABEL)
+          .register();
+
+  private static final Counter PROCESS_CACHE_EVICTIONS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("process_cache_evictions_total")
+          .help("Number of deployed processes evicted from the cache because it was full")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private final Counter.Child hits;
+  private final Counter.Child misses;
+  private final Counter.Child evictions;
+
+  public ProcessCacheMetrics(final int partitionId) {
+    final var partitionIdLabel = String.valueOf(partitionId);
+    hits = PROCESS_CACHE_LOOKUPS.labels(partitionIdLabel, RESULT_HIT);
+    misses = PROCESS_CACHE_LOOKUPS.labels(partitionIdLabel, RESULT_MISS);
+    evictions = PROCESS_CACHE_EVICTIONS.labels(partitionIdLabel);
+  }
+
+  public void cacheHit() {
+    hits.inc();
+  }
+
+  public void cacheMiss() {
+    misses.inc();
+  }
+
+  public void processEvicted() {
+    evictions.inc();
+  }
+}
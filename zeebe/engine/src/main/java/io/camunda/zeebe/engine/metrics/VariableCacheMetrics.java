@@ -0,0 +1,63 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+
+public final class VariableCacheMetrics {
+
+  private static final String NAMESPACE = "zeebe";
+  private static final String PARTITION_LABEL = "partition";
+  private static final String TYPE_LABEL = "type";
+  private static final String TYPE_PARENT_SCOPE = "parent_scope";
+  private static final String TYPE_DOCUMENT = "document";
+  private static final String RESULT_LABEL = "result";
+  private static final String RESULT_HIT = "hit";
+  private static final String RESULT_MISS = "miss";
+
+  private static final Counter VARIABLE_CACHE_LOOKUPS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("variable_cache_lookups_total")
+          .help(
+              "Number of parent scope and local variable document lookups while collecting "
+                  + "variables, by whether they were cached within the processing batch or not")
+          .labelNames(PARTITION_LABEL, TYPE_LABEL, RESULT_LABEL)
+          .register();
+
+  private final Counter.Child parentScopeHits;
+  private final Counter.Child parentScopeMisses;
+  private final Counter.Child documentHits;
+  private final Counter.Child documentMisses;
+
+  public VariableCacheMetrics(final int partitionId) {
+    final var partitionIdLabel = String.valueOf(partitionId);
+    parentScopeHits =
+        VARIABLE_CACHE_LOOKUPS.labels(partitionIdLabel, TYPE_PARENT_SCOPE, RESULT_HIT);
+    parentScopeMisses =
+        VARIABLE_CACHE_LOOKUPS.labels(partitionIdLabel, TYPE_PARENT_SCOPE, RESULT_MISS);
+    documentHits = VARIABLE_CACHE_LOOKUPS.labels(partitionIdLabel, TYPE_DOCUMENT, RESULT_HIT);
+    documentMisses = VARIABLE_CACHE_LOOKUPS.labels(partitionIdLabel, TYPE_DOCUMENT, RESULT_MISS);
+  }
+
+  public void parentScopeHit() {
+    parentScopeHits.inc();
+  }
+
+  public void parentScopeMiss() {
+    parentScopeMisses.inc();
+  }
+
+  public void documentHit() {
+    documentHits.inc();
+  }
+
+  public void documentMiss() {
+    documentMisses.inc();
+  }
+}
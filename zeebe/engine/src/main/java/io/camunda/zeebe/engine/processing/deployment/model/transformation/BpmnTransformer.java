@@ -125,4 +125,8 @@ public final class BpmnTransformer {
 
     return context.getProcesses();
   }
+
+  public ExpressionLanguage getExpressionLanguage() {
+    return expressionLanguage;
+  }
 }
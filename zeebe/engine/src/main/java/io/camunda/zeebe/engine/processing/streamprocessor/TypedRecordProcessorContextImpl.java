@@ -13,6 +13,7 @@ import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
 import io.camunda.zeebe.engine.state.ProcessingDbState;
 import io.camunda.zeebe.engine.state.ScheduledTaskDbState;
 import io.camunda.zeebe.engine.state.immutable.ScheduledTaskState;
+import io.camunda.zeebe.engine.state.instance.TimerDueDateCache;
 import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.stream.api.InterPartitionCommandSender;
@@ -31,6 +32,7 @@ public class TypedRecordProcessorContextImpl implements TypedRecordProcessorCont
   private final EngineConfiguration config;
   private final TransientPendingSubscriptionState transientMessageSubscriptionState;
   private final TransientPendingSubscriptionState transientProcessMessageSubscriptionState;
+  private final TimerDueDateCache timerDueDateCache;
 
   public TypedRecordProcessorContextImpl(
       final RecordProcessorContext context,
@@ -41,6 +43,9 @@ public class TypedRecordProcessorContextImpl implements TypedRecordProcessorCont
     zeebeDb = context.getZeebeDb();
     transientMessageSubscriptionState = new TransientPendingSubscriptionState();
     transientProcessMessageSubscriptionState = new TransientPendingSubscriptionState();
+    timerDueDateCache =
+        new TimerDueDateCache(
+            config.getTimerDueDateCacheHorizon(), config.getTimerDueDateCacheCapacity());
     processingState =
         new ProcessingDbState(
             partitionId,
@@ -49,6 +54,7 @@ public class TypedRecordProcessorContextImpl implements TypedRecordProcessorCont
             context.getKeyGenerator(),
             transientMessageSubscriptionState,
             transientProcessMessageSubscriptionState,
+            timerDueDateCache,
             config);
     this.writers = writers;
     partitionCommandSender = context.getPartitionCommandSender();
@@ -88,7 +94,8 @@ public class TypedRecordProcessorContextImpl implements TypedRecordProcessorCont
             zeebeDb.createContext(),
             partitionId,
             transientMessageSubscriptionState,
-            transientProcessMessageSubscriptionState);
+            transientProcessMessageSubscriptionState,
+            timerDueDateCache);
   }
 
   @Override
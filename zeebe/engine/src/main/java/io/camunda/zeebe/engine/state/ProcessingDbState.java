@@ -26,6 +26,7 @@ import io.camunda.zeebe.engine.state.instance.DbIncidentState;
 import io.camunda.zeebe.engine.state.instance.DbJobState;
 import io.camunda.zeebe.engine.state.instance.DbTimerInstanceState;
 import io.camunda.zeebe.engine.state.instance.DbUserTaskState;
+import io.camunda.zeebe.engine.state.instance.TimerDueDateCache;
 import io.camunda.zeebe.engine.state.message.DbMessageStartEventSubscriptionState;
 import io.camunda.zeebe.engine.state.message.DbMessageState;
 import io.camunda.zeebe.engine.state.message.DbMessageSubscriptionState;
@@ -97,14 +98,15 @@ public class ProcessingDbState implements MutableProcessingState {
       final KeyGenerator keyGenerator,
       final TransientPendingSubscriptionState transientMessageSubscriptionState,
       final TransientPendingSubscriptionState transientProcessMessageSubscriptionState,
+      final TimerDueDateCache timerDueDateCache,
       final EngineConfiguration config) {
     this.partitionId = partitionId;
     this.zeebeDb = zeebeDb;
     this.keyGenerator = Objects.requireNonNull(keyGenerator);
 
-    variableState = new DbVariableState(zeebeDb, transactionContext);
-    processState = new DbProcessState(zeebeDb, transactionContext);
-    timerInstanceState = new DbTimerInstanceState(zeebeDb, transactionContext);
+    variableState = new DbVariableState(zeebeDb, transactionContext, partitionId);
+    processState = new DbProcessState(zeebeDb, transactionContext, partitionId, config);
+    timerInstanceState = new DbTimerInstanceState(zeebeDb, transactionContext, timerDueDateCache);
     elementInstanceState = new DbElementInstanceState(zeebeDb, transactionContext, variableState);
     eventScopeInstanceState = new DbEventScopeInstanceState(zeebeDb, transactionContext);
 
@@ -23,6 +23,7 @@ import io.camunda.zeebe.engine.state.immutable.UserTaskState;
 import io.camunda.zeebe.engine.state.instance.DbJobState;
 import io.camunda.zeebe.engine.state.instance.DbTimerInstanceState;
 import io.camunda.zeebe.engine.state.instance.DbUserTaskState;
+import io.camunda.zeebe.engine.state.instance.TimerDueDateCache;
 import io.camunda.zeebe.engine.state.message.DbMessageState;
 import io.camunda.zeebe.engine.state.message.DbMessageSubscriptionState;
 import io.camunda.zeebe.engine.state.message.DbProcessMessageSubscriptionState;
@@ -46,10 +47,11 @@ public final class ScheduledTaskDbState implements ScheduledTaskState {
       final TransactionContext transactionContext,
       final int partitionId,
       final TransientPendingSubscriptionState transientMessageSubscriptionState,
-      final TransientPendingSubscriptionState transientProcessMessageSubscriptionState) {
+      final TransientPendingSubscriptionState transientProcessMessageSubscriptionState,
+      final TimerDueDateCache timerDueDateCache) {
     distributionState = new DbDistributionState(zeebeDb, transactionContext);
     messageState = new DbMessageState(zeebeDb, transactionContext, partitionId);
-    timerInstanceState = new DbTimerInstanceState(zeebeDb, transactionContext);
+    timerInstanceState = new DbTimerInstanceState(zeebeDb, transactionContext, timerDueDateCache);
     jobState = new DbJobState(zeebeDb, transactionContext);
     deploymentState = new DbDeploymentState(zeebeDb, transactionContext);
     pendingMessageSubscriptionState =
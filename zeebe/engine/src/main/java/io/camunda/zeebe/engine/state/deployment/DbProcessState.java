@@ -9,6 +9,9 @@ package io.camunda.zeebe.engine.state.deployment;
 
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
@@ -19,6 +22,8 @@ import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.ProcessCacheMetrics;
 import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowElement;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
@@ -51,9 +56,16 @@ public final class DbProcessState implements MutableProcessState {
   private final BpmnTransformer transformer = BpmnFactory.createTransformer();
   private final ProcessRecord processRecordForDeployments = new ProcessRecord();
 
+  /**
+   * Index of the processes in {@link #processByTenantAndKeyCache} by their id and version. It only
+   * references processes which are present in that cache, and is kept in sync when a process is
+   * evicted from it.
+   */
   private final Map<String, Map<DirectBuffer, Long2ObjectHashMap<DeployedProcess>>>
       processesByTenantAndProcessIdAndVersionCache = new HashMap<>();
-  private final Map<String, Long2ObjectHashMap<DeployedProcess>> processByTenantAndKeyCache;
+
+  private final Cache<TenantIdAndProcessKey, DeployedProcess> processByTenantAndKeyCache;
+  private final ProcessCacheMetrics cacheMetrics;
 
   /** [tenant id | process definition key] => process */
   private final ColumnFamily<DbTenantAwareKey<DbLong>, PersistedProcess> processColumnFamily;
@@ -78,10 +90,19 @@ public final class DbProcessState implements MutableProcessState {
       digestByIdColumnFamily;
   private final Digest digest = new Digest();
 
+  /** [tenant id | process definition key] => executable process */
+  private final ColumnFamily<DbTenantAwareKey<DbLong>, PersistedExecutableProcess>
+      executableProcessColumnFamily;
+
+  private final PersistedExecutableProcess persistedExecutableProcess;
+
   private final VersionManager versionManager;
 
   public DbProcessState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final int partitionId,
+      final EngineConfiguration config) {
     processDefinitionKey = new DbLong();
     persistedProcess = new PersistedProcess();
     tenantIdKey = new DbString();
@@ -119,7 +140,20 @@ public final class DbProcessState implements MutableProcessState {
             fkTenantAwareProcessId,
             digest);
 
-    processByTenantAndKeyCache = new HashMap<>();
+    persistedExecutableProcess = new PersistedExecutableProcess();
+    executableProcessColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.PROCESS_CACHE_EXECUTABLE,
+            transactionContext,
+            tenantAwareProcessDefinitionKey,
+            persistedExecutableProcess);
+
+    cacheMetrics = new ProcessCacheMetrics(partitionId);
+    processByTenantAndKeyCache =
+        CacheBuilder.newBuilder()
+            .maximumSize(config.getProcessCacheCapacity())
+            .removalListener(this::onProcessRemovedFromCache)
+            .build();
 
     versionManager =
         new VersionManager(
@@ -176,13 +210,16 @@ public final class DbProcessState implements MutableProcessState {
 
     processColumnFamily.deleteExisting(tenantAwareProcessDefinitionKey);
     processByIdAndVersionColumnFamily.deleteExisting(tenantAwareProcessIdAndVersionKey);
+    // processes which were deployed before the executable form was persisted, or which can't be
+    // persisted in this form, have no entry
+    executableProcessColumnFamily.deleteIfExists(tenantAwareProcessDefinitionKey);
 
+    processByTenantAndKeyCache.invalidate(
+        new TenantIdAndProcessKey(
+            processRecord.getTenantId(), processRecord.getProcessDefinitionKey()));
     processesByTenantAndProcessIdAndVersionCache
         .getOrDefault(processRecord.getTenantId(), new HashMap<>())
         .remove(processRecord.getBpmnProcessIdBuffer());
-    processByTenantAndKeyCache
-        .getOrDefault(processRecord.getTenantId(), new Long2ObjectHashMap<>())
-        .remove(processRecord.getProcessDefinitionKey());
 
     final long latestVersion =
         versionManager.getLatestResourceVersion(
@@ -209,6 +246,15 @@ public final class DbProcessState implements MutableProcessState {
     processVersion.wrapLong(processRecord.getVersion());
 
     processByIdAndVersionColumnFamily.upsert(tenantAwareProcessIdAndVersionKey, persistedProcess);
+
+    // persist the executable form too, such that a cache miss doesn't need to transform the
+    // resource again
+    final Optional<ExecutableProcess> executableProcess =
+        transformProcess(processRecord.getResourceBuffer(), processRecord.getBpmnProcessIdBuffer());
+    if (executableProcess.isPresent() && persistedExecutableProcess.wrap(executableProcess.get())) {
+      executableProcessColumnFamily.upsert(
+          tenantAwareProcessDefinitionKey, persistedExecutableProcess);
+    }
   }
 
   private void updateLatestVersion(final ProcessRecord processRecord) {
@@ -229,23 +275,7 @@ public final class DbProcessState implements MutableProcessState {
     final PersistedProcess copiedProcess = new PersistedProcess();
     copiedProcess.wrap(buffer, 0, persistedProcess.getLength());
 
-    final BpmnModelInstance modelInstance =
-        readModelInstanceFromBuffer(copiedProcess.getResource());
-    final List<ExecutableProcess> definitions = transformer.transformDefinitions(modelInstance);
-
-    final ExecutableProcess executableProcess =
-        definitions.stream()
-            .filter(
-                process -> BufferUtil.equals(persistedProcess.getBpmnProcessId(), process.getId()))
-            .findFirst()
-            .orElseThrow(
-                () ->
-                    new NoSuchElementException(
-                        String.format(
-                            "Expected to find executable process in persisted process with key '%s',"
-                                + " but after transformation no such executable process could be found.",
-                            persistedProcess.getKey())));
-
+    final ExecutableProcess executableProcess = readExecutableProcess(copiedProcess);
     final DeployedProcess deployedProcess = new DeployedProcess(executableProcess, copiedProcess);
 
     addProcessToInMemoryState(deployedProcess);
@@ -253,19 +283,52 @@ public final class DbProcessState implements MutableProcessState {
     return deployedProcess;
   }
 
+  private ExecutableProcess readExecutableProcess(final PersistedProcess persistedProcess) {
+    tenantIdKey.wrapString(persistedProcess.getTenantId());
+    processDefinitionKey.wrapLong(persistedProcess.getKey());
+
+    final PersistedExecutableProcess executableProcess =
+        executableProcessColumnFamily.get(tenantAwareProcessDefinitionKey);
+    if (executableProcess != null && executableProcess.hasCurrentFormat()) {
+      return executableProcess.toExecutableProcess(transformer.getExpressionLanguage());
+    }
+
+    return transformProcess(persistedProcess.getResource(), persistedProcess.getBpmnProcessId())
+        .orElseThrow(
+            () ->
+                new NoSuchElementException(
+                    String.format(
+                        "Expected to find executable process in persisted process with key '%s',"
+                            + " but after transformation no such executable process could be found.",
+                        persistedProcess.getKey())));
+  }
+
+  private Optional<ExecutableProcess> transformProcess(
+      final DirectBuffer resource, final DirectBuffer bpmnProcessId) {
+    final BpmnModelInstance modelInstance = readModelInstanceFromBuffer(resource);
+    final List<ExecutableProcess> definitions = transformer.transformDefinitions(modelInstance);
+
+    return definitions.stream()
+        .filter(process -> BufferUtil.equals(bpmnProcessId, process.getId()))
+        .findFirst();
+  }
+
   private BpmnModelInstance readModelInstanceFromBuffer(final DirectBuffer buffer) {
     try (final DirectBufferInputStream stream = new DirectBufferInputStream(buffer)) {
-      return Bpmn.readModelFromStream(stream);
+      // the resource was validated when it was deployed, so it is not validated against the schema
+      // again
+      return Bpmn.readModelFromStreamWithoutValidation(stream);
     }
   }
 
   private void addProcessToInMemoryState(final DeployedProcess deployedProcess) {
     final DirectBuffer bpmnProcessId = deployedProcess.getBpmnProcessId();
 
-    final Long2ObjectHashMap<DeployedProcess> keyMap =
-        processByTenantAndKeyCache.computeIfAbsent(
-            deployedProcess.getTenantId(), key -> new Long2ObjectHashMap<>());
-    keyMap.put(deployedProcess.getKey(), deployedProcess);
+    // put it in the bounded cache first, such that a replaced or evicted process is removed from
+    // the version index before the new process is added to it
+    processByTenantAndKeyCache.put(
+        new TenantIdAndProcessKey(deployedProcess.getTenantId(), deployedProcess.getKey()),
+        deployedProcess);
 
     final Long2ObjectHashMap<DeployedProcess> versionMap =
         processesByTenantAndProcessIdAndVersionCache
@@ -276,6 +339,33 @@ public final class DbProcessState implements MutableProcessState {
     versionMap.put(version, deployedProcess);
   }
 
+  private void onProcessRemovedFromCache(
+      final RemovalNotification<TenantIdAndProcessKey, DeployedProcess> notification) {
+    if (notification.wasEvicted()) {
+      cacheMetrics.processEvicted();
+    }
+
+    final DeployedProcess removedProcess = notification.getValue();
+    if (removedProcess == null) {
+      return;
+    }
+
+    final var versionsByProcessId =
+        processesByTenantAndProcessIdAndVersionCache.get(removedProcess.getTenantId());
+    if (versionsByProcessId == null) {
+      return;
+    }
+
+    final var versionMap = versionsByProcessId.get(removedProcess.getBpmnProcessId());
+    // only remove the process if it was not already replaced by a newer instance
+    if (versionMap != null && versionMap.get(removedProcess.getVersion()) == removedProcess) {
+      versionMap.remove(removedProcess.getVersion());
+      if (versionMap.isEmpty()) {
+        versionsByProcessId.remove(removedProcess.getBpmnProcessId());
+      }
+    }
+  }
+
   @Override
   public DeployedProcess getLatestProcessVersionByProcessId(
       final DirectBuffer processIdBuffer, final String tenantId) {
@@ -287,16 +377,14 @@ public final class DbProcessState implements MutableProcessState {
     processId.wrapBuffer(processIdBuffer);
     final long latestVersion = versionManager.getLatestResourceVersion(processIdBuffer, tenantId);
 
-    DeployedProcess deployedProcess;
-    if (versionMap == null) {
-      deployedProcess = lookupProcessByIdAndPersistedVersion(latestVersion, tenantId);
-    } else {
-      deployedProcess = versionMap.get(latestVersion);
-      if (deployedProcess == null) {
-        deployedProcess = lookupProcessByIdAndPersistedVersion(latestVersion, tenantId);
-      }
+    final DeployedProcess deployedProcess = getCachedProcess(versionMap, latestVersion, tenantId);
+    if (deployedProcess != null) {
+      cacheMetrics.cacheHit();
+      return deployedProcess;
     }
-    return deployedProcess;
+
+    cacheMetrics.cacheMiss();
+    return lookupProcessByIdAndPersistedVersion(latestVersion, tenantId);
   }
 
   @Override
@@ -307,26 +395,28 @@ public final class DbProcessState implements MutableProcessState {
             .getOrDefault(tenantId, new HashMap<>())
             .get(processId);
 
-    if (versionMap != null) {
-      final DeployedProcess deployedProcess = versionMap.get(version);
-      return deployedProcess != null
-          ? deployedProcess
-          : lookupPersistenceState(processId, version, tenantId);
-    } else {
-      return lookupPersistenceState(processId, version, tenantId);
+    final DeployedProcess deployedProcess = getCachedProcess(versionMap, version, tenantId);
+    if (deployedProcess != null) {
+      cacheMetrics.cacheHit();
+      return deployedProcess;
     }
+
+    cacheMetrics.cacheMiss();
+    return lookupPersistenceState(processId, version, tenantId);
   }
 
   @Override
   public DeployedProcess getProcessByKeyAndTenant(final long key, final String tenantId) {
     final DeployedProcess deployedProcess =
-        processByTenantAndKeyCache.getOrDefault(tenantId, new Long2ObjectHashMap<>()).get(key);
+        processByTenantAndKeyCache.getIfPresent(new TenantIdAndProcessKey(tenantId, key));
 
     if (deployedProcess != null) {
+      cacheMetrics.cacheHit();
       return deployedProcess;
-    } else {
-      return lookupPersistenceStateForProcessByKey(key, tenantId);
     }
+
+    cacheMetrics.cacheMiss();
+    return lookupPersistenceStateForProcessByKey(key, tenantId);
   }
 
   @Override
@@ -383,11 +473,29 @@ public final class DbProcessState implements MutableProcessState {
 
   @Override
   public void clearCache() {
-    processByTenantAndKeyCache.clear();
+    processByTenantAndKeyCache.invalidateAll();
     processesByTenantAndProcessIdAndVersionCache.clear();
     versionManager.clear();
   }
 
+  /**
+   * Resolves the process through the bounded cache, rather than returning it from the version index
+   * directly, such that the lookup counts as an access. Otherwise, a process which is only looked
+   * up by its id and version would be evicted as if it was never used.
+   */
+  private DeployedProcess getCachedProcess(
+      final Long2ObjectHashMap<DeployedProcess> versionMap,
+      final long version,
+      final String tenantId) {
+    final DeployedProcess indexedProcess = versionMap != null ? versionMap.get(version) : null;
+    if (indexedProcess == null) {
+      return null;
+    }
+
+    return processByTenantAndKeyCache.getIfPresent(
+        new TenantIdAndProcessKey(tenantId, indexedProcess.getKey()));
+  }
+
   private DeployedProcess lookupProcessByIdAndPersistedVersion(
       final long latestVersion, final String tenantId) {
     tenantIdKey.wrapString(tenantId);
@@ -412,16 +520,7 @@ public final class DbProcessState implements MutableProcessState {
         processByIdAndVersionColumnFamily.get(tenantAwareProcessIdAndVersionKey);
 
     if (processWithVersionAndId != null) {
-      updateInMemoryState(processWithVersionAndId);
-
-      final Long2ObjectHashMap<DeployedProcess> newVersionMap =
-          processesByTenantAndProcessIdAndVersionCache
-              .getOrDefault(tenantId, new HashMap<>())
-              .get(processIdBuffer);
-
-      if (newVersionMap != null) {
-        return newVersionMap.get(version);
-      }
+      return updateInMemoryState(processWithVersionAndId);
     }
     // does not exist in persistence and in memory state
     return null;
@@ -435,13 +534,11 @@ public final class DbProcessState implements MutableProcessState {
     final PersistedProcess processWithKey =
         processColumnFamily.get(tenantAwareProcessDefinitionKey);
     if (processWithKey != null) {
-      updateInMemoryState(processWithKey);
-
-      return processByTenantAndKeyCache
-          .getOrDefault(tenantId, new Long2ObjectHashMap<>())
-          .get(processDefinitionKey);
+      return updateInMemoryState(processWithKey);
     }
     // does not exist in persistence and in memory state
     return null;
   }
+
+  private record TenantIdAndProcessKey(String tenantId, long processDefinitionKey) {}
 }
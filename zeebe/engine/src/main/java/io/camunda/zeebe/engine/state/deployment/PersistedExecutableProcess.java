@@ -0,0 +1,446 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+
+import io.camunda.zeebe.db.DbValue;
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.el.ExpressionLanguage;
+import io.camunda.zeebe.engine.processing.deployment.model.element.AbstractFlowElement;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableActivity;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableEndEvent;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableExclusiveGateway;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowNode;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableJobWorkerTask;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableSequenceFlow;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableStartEvent;
+import io.camunda.zeebe.engine.processing.deployment.model.element.JobWorkerProperties;
+import io.camunda.zeebe.msgpack.UnpackedObject;
+import io.camunda.zeebe.msgpack.property.ArrayProperty;
+import io.camunda.zeebe.msgpack.property.BooleanProperty;
+import io.camunda.zeebe.msgpack.property.EnumProperty;
+import io.camunda.zeebe.msgpack.property.IntegerProperty;
+import io.camunda.zeebe.msgpack.property.StringProperty;
+import io.camunda.zeebe.msgpack.value.ObjectValue;
+import io.camunda.zeebe.msgpack.value.StringValue;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.BpmnEventType;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * The executable form of a deployed process, which is persisted next to its BPMN resource, such
+ * that the process can be loaded on a cache miss without parsing and transforming the resource.
+ * <br>
+ * Only processes which consist of start and end events, tasks, service and send tasks, exclusive
+ * and parallel gateways, and sequence flows, without boundary events, event sub-processes,
+ * execution listeners or multi-instance activities, can be persisted in this form. Other processes
+ * are loaded from their resource. Expressions are persisted as text, and parsed again when the
+ * process is loaded.
+ */
+public final class PersistedExecutableProcess extends UnpackedObject implements DbValue {
+
+  /** Must be incremented on every change of the format, such that older entries are ignored. */
+  private static final int FORMAT_VERSION = 1;
+
+  private static final String EXPRESSION_MARKER = "=";
+  private static final Set<BpmnElementType> JOB_WORKER_TASKS =
+      Set.of(BpmnElementType.SERVICE_TASK, BpmnElementType.SEND_TASK);
+  private static final Set<BpmnElementType> TASKS =
+      Set.of(BpmnElementType.TASK, BpmnElementType.MANUAL_TASK);
+  private static final Set<BpmnEventType> END_EVENTS =
+      Set.of(BpmnEventType.NONE, BpmnEventType.TERMINATE);
+
+  private final IntegerProperty formatVersionProp = new IntegerProperty("formatVersion", -1);
+  private final StringProperty idProp = new StringProperty("id", "");
+  private final ArrayProperty<StringValue> startEventIdsProp =
+      new ArrayProperty<>("startEventIds", StringValue::new);
+  private final ArrayProperty<PersistedFlowElement> elementsProp =
+      new ArrayProperty<>("elements", PersistedFlowElement::new);
+
+  public PersistedExecutableProcess() {
+    super(4);
+    declareProperty(formatVersionProp)
+        .declareProperty(idProp)
+        .declareProperty(startEventIdsProp)
+        .declareProperty(elementsProp);
+  }
+
+  /**
+   * @return {@code true} if the process was written in its persisted form, or {@code false} if it
+   *     contains elements which can't be persisted in this form
+   */
+  public boolean wrap(final ExecutableProcess process) {
+    reset();
+
+    if (process.getClass() != ExecutableProcess.class
+        || process.getElementType() != BpmnElementType.PROCESS
+        || !isSupportedFlowNode(process)
+        || !isSupportedActivity(process)) {
+      return false;
+    }
+
+    formatVersionProp.setValue(FORMAT_VERSION);
+    idProp.setValue(process.getId());
+    for (final var startEvent : process.getStartEvents()) {
+      startEventIdsProp.add().wrap(startEvent.getId());
+    }
+
+    for (final var element : process.getFlowElements()) {
+      if (element != process && !writeElement(process, element, elementsProp.add())) {
+        reset();
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public boolean hasCurrentFormat() {
+    return formatVersionProp.getValue() == FORMAT_VERSION;
+  }
+
+  public ExecutableProcess toExecutableProcess(final ExpressionLanguage expressionLanguage) {
+    final var process = new ExecutableProcess(bufferAsString(idProp.getValue()));
+    process.setElementType(BpmnElementType.PROCESS);
+
+    for (final var element : elementsProp) {
+      final var flowElement = newFlowElement(element);
+      flowElement.setElementType(element.elementTypeProp.getValue());
+      flowElement.setEventType(element.eventTypeProp.getValue());
+      process.addFlowElement(flowElement);
+
+      if (flowElement instanceof ExecutableFlowNode) {
+        flowElement.setFlowScope(process);
+        process.addChildElement(flowElement);
+      }
+    }
+
+    // connect the sequence flows first, as a gateway needs the conditions of its outgoing flows
+    for (final var element : elementsProp) {
+      if (element.elementTypeProp.getValue() == BpmnElementType.SEQUENCE_FLOW) {
+        readSequenceFlow(process, element, expressionLanguage);
+      }
+    }
+
+    for (final var element : elementsProp) {
+      if (element.elementTypeProp.getValue() != BpmnElementType.SEQUENCE_FLOW) {
+        readFlowNode(process, element, expressionLanguage);
+      }
+    }
+
+    for (final var startEventId : startEventIdsProp) {
+      process.addStartEvent(
+          process.getElementById(startEventId.getValue(), ExecutableStartEvent.class));
+    }
+
+    return process;
+  }
+
+  private boolean writeElement(
+      final ExecutableProcess process,
+      final AbstractFlowElement element,
+      final PersistedFlowElement target) {
+    target.idProp.setValue(element.getId());
+    target.elementTypeProp.setValue(element.getElementType());
+    target.eventTypeProp.setValue(element.getEventType());
+
+    if (element.getClass() == ExecutableSequenceFlow.class) {
+      return writeSequenceFlow((ExecutableSequenceFlow) element, target);
+    }
+
+    if (!(element instanceof final ExecutableFlowNode flowNode)
+        || flowNode.getFlowScope() != process
+        || !isSupportedFlowNode(flowNode)) {
+      return false;
+    }
+
+    flowNode.getIncoming().forEach(flow -> target.incomingProp.add().wrap(flow.getId()));
+    flowNode.getOutgoing().forEach(flow -> target.outgoingProp.add().wrap(flow.getId()));
+    flowNode
+        .getInputMappings()
+        .ifPresent(mappings -> writeText(mappings, target.inputMappingsProp));
+    flowNode
+        .getOutputMappings()
+        .ifPresent(mappings -> writeText(mappings, target.outputMappingsProp));
+
+    final var type = element.getClass();
+    if (type == ExecutableStartEvent.class) {
+      final var startEvent = (ExecutableStartEvent) element;
+      target.interruptingProp.setValue(startEvent.interrupting());
+      return startEvent.getEventType() == BpmnEventType.NONE
+          && startEvent.isNone()
+          && startEvent.getEventSubProcess() == null
+          && !startEvent.isConnectedToEventBasedGateway();
+
+    } else if (type == ExecutableEndEvent.class) {
+      final var endEvent = (ExecutableEndEvent) element;
+      return END_EVENTS.contains(endEvent.getEventType())
+          && endEvent.getJobWorkerProperties() == null
+          && endEvent.getError() == null
+          && endEvent.getEscalation() == null
+          && endEvent.getSignal() == null
+          && endEvent.getCompensation() == null;
+
+    } else if (type == ExecutableJobWorkerTask.class) {
+      final var task = (ExecutableJobWorkerTask) element;
+      return JOB_WORKER_TASKS.contains(task.getElementType())
+          && isSupportedActivity(task)
+          && writeJobWorkerProperties(task.getJobWorkerProperties(), target);
+
+    } else if (type == ExecutableActivity.class) {
+      final var task = (ExecutableActivity) element;
+      return TASKS.contains(task.getElementType()) && isSupportedActivity(task);
+
+    } else if (type == ExecutableExclusiveGateway.class) {
+      final var defaultFlow = ((ExecutableExclusiveGateway) element).getDefaultFlow();
+      if (defaultFlow != null) {
+        target.defaultFlowIdProp.setValue(defaultFlow.getId());
+      }
+      return true;
+
+    } else if (type == ExecutableFlowNode.class) {
+      return element.getElementType() == BpmnElementType.PARALLEL_GATEWAY;
+    }
+
+    return false;
+  }
+
+  private boolean writeSequenceFlow(
+      final ExecutableSequenceFlow flow, final PersistedFlowElement target) {
+    if (!isPersistable(flow.getCondition())) {
+      return false;
+    }
+
+    target.sourceIdProp.setValue(flow.getSource().getId());
+    target.targetIdProp.setValue(flow.getTarget().getId());
+    if (flow.getCondition() != null) {
+      writeText(flow.getCondition(), target.conditionProp);
+    }
+    return true;
+  }
+
+  private boolean writeJobWorkerProperties(
+      final JobWorkerProperties properties, final PersistedFlowElement target) {
+    if (properties == null) {
+      return true;
+    }
+
+    final boolean isJobWorkerOnly =
+        properties.getAssignee() == null
+            && properties.getCandidateGroups() == null
+            && properties.getCandidateUsers() == null
+            && properties.getDueDate() == null
+            && properties.getExternalFormReference() == null
+            && properties.getFollowUpDate() == null
+            && properties.getFormId() == null;
+    if (!isJobWorkerOnly
+        || !isPersistable(properties.getType())
+        || !isPersistable(properties.getRetries())) {
+      return false;
+    }
+
+    target.jobWorkerProp.setValue(true);
+    Optional.ofNullable(properties.getType())
+        .ifPresent(type -> writeText(type, target.jobTypeProp));
+    Optional.ofNullable(properties.getRetries())
+        .ifPresent(retries -> writeText(retries, target.jobRetriesProp));
+    properties
+        .getTaskHeaders()
+        .forEach(
+            (key, value) -> {
+              final var header = target.taskHeadersProp.add();
+              header.keyProp.setValue(key);
+              header.valueProp.setValue(value);
+            });
+    return true;
+  }
+
+  private void readSequenceFlow(
+      final ExecutableProcess process,
+      final PersistedFlowElement element,
+      final ExpressionLanguage expressionLanguage) {
+    final var flow =
+        process.getElementById(element.idProp.getValue(), ExecutableSequenceFlow.class);
+    flow.setSource(
+        process.getElementById(element.sourceIdProp.getValue(), ExecutableFlowNode.class));
+    flow.setTarget(
+        process.getElementById(element.targetIdProp.getValue(), ExecutableFlowNode.class));
+    readExpression(element.conditionProp, expressionLanguage).ifPresent(flow::setCondition);
+  }
+
+  private void readFlowNode(
+      final ExecutableProcess process,
+      final PersistedFlowElement element,
+      final ExpressionLanguage expressionLanguage) {
+    final var flowNode =
+        process.getElementById(element.idProp.getValue(), ExecutableFlowNode.class);
+
+    for (final var flowId : element.incomingProp) {
+      flowNode.addIncoming(process.getElementById(flowId.getValue(), ExecutableSequenceFlow.class));
+    }
+    for (final var flowId : element.outgoingProp) {
+      flowNode.addOutgoing(process.getElementById(flowId.getValue(), ExecutableSequenceFlow.class));
+    }
+    readExpression(element.inputMappingsProp, expressionLanguage)
+        .ifPresent(flowNode::setInputMappings);
+    readExpression(element.outputMappingsProp, expressionLanguage)
+        .ifPresent(flowNode::setOutputMappings);
+
+    if (flowNode instanceof final ExecutableStartEvent startEvent) {
+      startEvent.setInterrupting(element.interruptingProp.getValue());
+
+    } else if (flowNode instanceof final ExecutableEndEvent endEvent) {
+      endEvent.setTerminateEndEvent(endEvent.getEventType() == BpmnEventType.TERMINATE);
+
+    } else if (flowNode instanceof final ExecutableExclusiveGateway gateway) {
+      if (element.defaultFlowIdProp.getValue().capacity() > 0) {
+        gateway.setDefaultFlow(
+            process.getElementById(
+                element.defaultFlowIdProp.getValue(), ExecutableSequenceFlow.class));
+      }
+
+    } else if (flowNode instanceof final ExecutableJobWorkerTask task
+        && element.jobWorkerProp.getValue()) {
+      task.setJobWorkerProperties(readJobWorkerProperties(element, expressionLanguage));
+    }
+  }
+
+  private JobWorkerProperties readJobWorkerProperties(
+      final PersistedFlowElement element, final ExpressionLanguage expressionLanguage) {
+    final var properties = new JobWorkerProperties();
+    readExpression(element.jobTypeProp, expressionLanguage).ifPresent(properties::setType);
+    readExpression(element.jobRetriesProp, expressionLanguage).ifPresent(properties::setRetries);
+
+    if (!element.taskHeadersProp.isEmpty()) {
+      final var taskHeaders = new HashMap<String, String>();
+      for (final var header : element.taskHeadersProp) {
+        taskHeaders.put(
+            bufferAsString(header.keyProp.getValue()), bufferAsString(header.valueProp.getValue()));
+      }
+      properties.setTaskHeaders(taskHeaders);
+    }
+    return properties;
+  }
+
+  private static AbstractFlowElement newFlowElement(final PersistedFlowElement element) {
+    final String id = bufferAsString(element.idProp.getValue());
+    return switch (element.elementTypeProp.getValue()) {
+      case START_EVENT -> new ExecutableStartEvent(id);
+      case END_EVENT -> new ExecutableEndEvent(id);
+      case SERVICE_TASK, SEND_TASK -> new ExecutableJobWorkerTask(id);
+      case TASK, MANUAL_TASK -> new ExecutableActivity(id);
+      case EXCLUSIVE_GATEWAY -> new ExecutableExclusiveGateway(id);
+      case PARALLEL_GATEWAY -> new ExecutableFlowNode(id);
+      case SEQUENCE_FLOW -> new ExecutableSequenceFlow(id);
+      default ->
+          throw new IllegalStateException(
+              String.format(
+                  "Expected persisted element '%s' to be of a supported type, but it is of type '%s'",
+                  id, element.elementTypeProp.getValue()));
+    };
+  }
+
+  private static boolean isSupportedFlowNode(final ExecutableFlowNode flowNode) {
+    return flowNode.getStartExecutionListeners().isEmpty()
+        && flowNode.getEndExecutionListeners().isEmpty()
+        && flowNode.getInputMappings().map(PersistedExecutableProcess::isPersistable).orElse(true)
+        && flowNode.getOutputMappings().map(PersistedExecutableProcess::isPersistable).orElse(true);
+  }
+
+  private static boolean isSupportedActivity(final ExecutableActivity activity) {
+    return activity.getBoundaryEvents().isEmpty()
+        && activity.getEventSubprocesses().isEmpty()
+        && activity.getEvents().isEmpty();
+  }
+
+  /** An empty text is used for absent expressions, so an expression must not have an empty text. */
+  private static boolean isPersistable(final Expression expression) {
+    return expression == null || !textOf(expression).isEmpty();
+  }
+
+  private static String textOf(final Expression expression) {
+    return expression.isStatic()
+        ? expression.getExpression()
+        : EXPRESSION_MARKER + expression.getExpression();
+  }
+
+  private static void writeText(final Expression expression, final StringProperty property) {
+    property.setValue(textOf(expression));
+  }
+
+  private static Optional<Expression> readExpression(
+      final StringProperty property, final ExpressionLanguage expressionLanguage) {
+    final var text = property.getValue();
+    if (text.capacity() == 0) {
+      return Optional.empty();
+    }
+    return Optional.of(expressionLanguage.parseExpression(bufferAsString(text)));
+  }
+
+  private static final class PersistedFlowElement extends ObjectValue {
+    private final StringProperty idProp = new StringProperty("id", "");
+    private final EnumProperty<BpmnElementType> elementTypeProp =
+        new EnumProperty<>("elementType", BpmnElementType.class, BpmnElementType.UNSPECIFIED);
+    private final EnumProperty<BpmnEventType> eventTypeProp =
+        new EnumProperty<>("eventType", BpmnEventType.class, BpmnEventType.UNSPECIFIED);
+    private final ArrayProperty<StringValue> incomingProp =
+        new ArrayProperty<>("incoming", StringValue::new);
+    private final ArrayProperty<StringValue> outgoingProp =
+        new ArrayProperty<>("outgoing", StringValue::new);
+    private final StringProperty inputMappingsProp = new StringProperty("inputMappings", "");
+    private final StringProperty outputMappingsProp = new StringProperty("outputMappings", "");
+    private final BooleanProperty interruptingProp = new BooleanProperty("interrupting", true);
+    private final StringProperty defaultFlowIdProp = new StringProperty("defaultFlowId", "");
+    private final StringProperty sourceIdProp = new StringProperty("sourceId", "");
+    private final StringProperty targetIdProp = new StringProperty("targetId", "");
+    private final StringProperty conditionProp = new StringProperty("condition", "");
+    private final BooleanProperty jobWorkerProp = new BooleanProperty("jobWorker", false);
+    private final StringProperty jobTypeProp = new StringProperty("jobType", "");
+    private final StringProperty jobRetriesProp = new StringProperty("jobRetries", "");
+    private final ArrayProperty<PersistedTaskHeader> taskHeadersProp =
+        new ArrayProperty<>("taskHeaders", PersistedTaskHeader::new);
+
+    private PersistedFlowElement() {
+      super(16);
+      for (final var property :
+          List.of(
+              idProp,
+              elementTypeProp,
+              eventTypeProp,
+              incomingProp,
+              outgoingProp,
+              inputMappingsProp,
+              outputMappingsProp,
+              interruptingProp,
+              defaultFlowIdProp,
+              sourceIdProp,
+              targetIdProp,
+              conditionProp,
+              jobWorkerProp,
+              jobTypeProp,
+              jobRetriesProp,
+              taskHeadersProp)) {
+        declareProperty(property);
+      }
+    }
+  }
+
+  private static final class PersistedTaskHeader extends ObjectValue {
+    private final StringProperty keyProp = new StringProperty("key", "");
+    private final StringProperty valueProp = new StringProperty("value", "");
+
+    private PersistedTaskHeader() {
+      super(2);
+      declareProperty(keyProp).declareProperty(valueProp);
+    }
+  }
+}
@@ -15,8 +15,11 @@ import io.camunda.zeebe.db.impl.DbForeignKey;
 import io.camunda.zeebe.db.impl.DbForeignKey.MatchType;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.engine.state.instance.TimerDueDateCache.DueDateVisitor;
 import io.camunda.zeebe.engine.state.mutable.MutableTimerInstanceState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
 
 public final class DbTimerInstanceState implements MutableTimerInstanceState {
@@ -35,10 +38,15 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
   private final DbCompositeKey<DbLong, DbCompositeKey<DbForeignKey<DbLong>, DbLong>>
       dueDateCompositeKey;
 
-  private long nextDueDate;
+  private final TimerDueDateCache dueDateCache;
+  // changes of the due date cache are only applied once the transaction is committed, as the
+  // cache is shared with the due date checker
+  private final List<Runnable> pendingCacheUpdates = new ArrayList<>();
 
   public DbTimerInstanceState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final TimerDueDateCache dueDateCache) {
     timerInstance = new TimerInstance();
     timerKey = new DbLong();
     elementInstanceKey =
@@ -60,6 +68,7 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
             transactionContext,
             dueDateCompositeKey,
             DbNil.INSTANCE);
+    this.dueDateCache = dueDateCache;
   }
 
   @Override
@@ -71,6 +80,11 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     dueDate.wrapLong(timer.getDueDate());
     dueDateColumnFamily.insert(dueDateCompositeKey, DbNil.INSTANCE);
+
+    final long timerDueDate = timer.getDueDate();
+    final long timerElementInstanceKey = timer.getElementInstanceKey();
+    final long key = timer.getKey();
+    pendingCacheUpdates.add(() -> dueDateCache.add(timerDueDate, timerElementInstanceKey, key));
   }
 
   @Override
@@ -81,38 +95,63 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     dueDate.wrapLong(timer.getDueDate());
     dueDateColumnFamily.deleteExisting(dueDateCompositeKey);
+
+    final long timerDueDate = timer.getDueDate();
+    final long timerElementInstanceKey = timer.getElementInstanceKey();
+    final long key = timer.getKey();
+    pendingCacheUpdates.add(() -> dueDateCache.remove(timerDueDate, timerElementInstanceKey, key));
   }
 
   @Override
-  public long processTimersWithDueDateBefore(final long timestamp, final TimerVisitor consumer) {
-    nextDueDate = -1L;
+  public boolean hasPendingCacheUpdates() {
+    return !pendingCacheUpdates.isEmpty();
+  }
 
-    dueDateColumnFamily.whileTrue(
-        (key, nil) -> {
-          final var dueDate = key.first().getValue();
-          final var elementAndTimerKey = key.second();
+  @Override
+  public void applyPendingCacheUpdates() {
+    pendingCacheUpdates.forEach(Runnable::run);
+    pendingCacheUpdates.clear();
+  }
 
-          boolean consumed = false;
-          if (dueDate <= timestamp) {
-            final var timerInstance = timerInstanceColumnFamily.get(elementAndTimerKey);
-            if (timerInstance == null) {
-              // Time for due date no longer exists. This can occur due to the following data race:
-              // 1. Scheduled task reads a due date for a timer
-              // 2. Processing removes timer and due date
-              // 3. Scheduled task fails to find timer
-              // Because timer and due date were already removed, we can ignore this here.
-              return true;
-            }
-            consumed = consumer.visit(timerInstance);
-          }
-
-          if (!consumed) {
-            nextDueDate = dueDate;
-          }
-          return consumed;
-        });
+  @Override
+  public void discardPendingCacheUpdates() {
+    pendingCacheUpdates.clear();
+  }
 
-    return nextDueDate;
+  @Override
+  public long processTimersWithDueDateBefore(final long timestamp, final TimerVisitor consumer) {
+    if (dueDateCache.isRefillRequired(timestamp)) {
+      dueDateCache.refill(timestamp, this::scanDueDates);
+    }
+
+    final long nextDueDateAfterHorizon = dueDateCache.nextDueDateAfterHorizon();
+    for (final var cachedDueDate : dueDateCache.dueDates()) {
+      if (cachedDueDate.dueDate() > timestamp) {
+        // timers which were stored during the refill may be cached after the end of the horizon
+        return nextDueDateAfterHorizon >= 0
+            ? Math.min(cachedDueDate.dueDate(), nextDueDateAfterHorizon)
+            : cachedDueDate.dueDate();
+      }
+
+      elementInstanceKey.inner().wrapLong(cachedDueDate.elementInstanceKey());
+      timerKey.wrapLong(cachedDueDate.timerKey());
+      final var timerInstance = timerInstanceColumnFamily.get(elementAndTimerKey);
+      if (timerInstance == null) {
+        // Time for due date no longer exists. This can occur due to the following data race:
+        // 1. Scheduled task reads a due date for a timer
+        // 2. Processing removes timer and due date
+        // 3. Scheduled task fails to find timer
+        // Because timer and due date were already removed, we can ignore this here. The cached due
+        // date is removed once the removal is committed, or with the next refill.
+        continue;
+      }
+
+      if (!consumer.visit(timerInstance)) {
+        return cachedDueDate.dueDate();
+      }
+    }
+
+    return nextDueDateAfterHorizon;
   }
 
   @Override
@@ -134,4 +173,15 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     return timerInstanceColumnFamily.get(elementAndTimerKey);
   }
+
+  private void scanDueDates(final DueDateVisitor visitor) {
+    dueDateColumnFamily.whileTrue(
+        (key, nil) -> {
+          final var elementAndTimerKey = key.second();
+          return visitor.visit(
+              key.first().getValue(),
+              elementAndTimerKey.first().inner().getValue(),
+              elementAndTimerKey.second().getValue());
+        });
+  }
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import java.time.Duration;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * This class is used by {@link DbTimerInstanceState} to keep the due dates of the timers which are
+ * due within a horizon in memory, ordered by due date, such that finding the due timers does not
+ * need to iterate over the due date column family, including the tombstones of all timers which
+ * were triggered recently, every time the due date checker runs. <br>
+ * The cache is empty until it is {@link #refill(long, DueDateScanner) refilled} from the column
+ * family. A refill caches the due dates before the end of the horizon, i.e. the given timestamp
+ * plus the configured horizon, but at most the configured capacity of due dates. If the capacity is
+ * reached, the horizon ends at the first due date which was not cached, which may already be due,
+ * e.g. after a downtime with many overdue timers. <br>
+ * Until the end of the horizon is reached, timers which are stored or removed are added to or
+ * removed from the cache once the transaction which stored or removed them is committed, if their
+ * due date is before the end of the horizon. <br>
+ * This class is thread safe. It's intended use is that one thread is adding and removing entries
+ * while another thread is visiting the due entries and refilling the cache. The cache may briefly
+ * contain entries of timers which were already removed, until their removal is applied. The column
+ * family stays the source of truth, and a refill replaces all cached entries.
+ */
+public final class TimerDueDateCache {
+
+  private final NavigableSet<CachedDueDate> dueDates = new ConcurrentSkipListSet<>();
+  private final long horizon;
+  private final int capacity;
+
+  /** All timers with a due date before this one are cached, nothing is cached before a refill. */
+  private volatile long horizonEnd = Long.MIN_VALUE;
+
+  /** The first due date after the horizon at the time of the last refill, or -1 if none. */
+  private volatile long nextDueDateAfterHorizon = -1L;
+
+  /**
+   * @param horizon how far after the refill timers are cached
+   * @param capacity the maximum number of timers which are cached on refill
+   */
+  public TimerDueDateCache(final Duration horizon, final int capacity) {
+    this.horizon = horizon.toMillis();
+    // cache at least one timer, such that the due date checker makes progress after each refill
+    this.capacity = Math.max(capacity, 1);
+  }
+
+  void add(final long dueDate, final long elementInstanceKey, final long timerKey) {
+    if (dueDate < horizonEnd) {
+      dueDates.add(new CachedDueDate(dueDate, elementInstanceKey, timerKey));
+    }
+  }
+
+  void remove(final long dueDate, final long elementInstanceKey, final long timerKey) {
+    dueDates.remove(new CachedDueDate(dueDate, elementInstanceKey, timerKey));
+  }
+
+  boolean isRefillRequired(final long timestamp) {
+    return timestamp >= horizonEnd;
+  }
+
+  /**
+   * Caches the due dates provided by the scanner, in ascending order, until the end of the new
+   * horizon or the capacity is reached.
+   */
+  void refill(final long timestamp, final DueDateScanner scanner) {
+    final long limit = timestamp > Long.MAX_VALUE - horizon ? Long.MAX_VALUE : timestamp + horizon;
+    // all cached timers are due, so the scan caches them again unless they were removed
+    dueDates.clear();
+    // extend the horizon before scanning, such that timers which are stored concurrently are
+    // cached too
+    horizonEnd = limit;
+
+    final var refill = new Refill(limit);
+    scanner.scan(refill);
+
+    horizonEnd = refill.stoppedAt < 0 ? limit : Math.min(refill.stoppedAt, limit);
+    nextDueDateAfterHorizon = refill.stoppedAt;
+  }
+
+  /**
+   * @return the cached due dates, in ascending order
+   */
+  Iterable<CachedDueDate> dueDates() {
+    return dueDates;
+  }
+
+  long nextDueDateAfterHorizon() {
+    return nextDueDateAfterHorizon;
+  }
+
+  /**
+   * A cached due date of a timer, ordered like the keys of the due date column family, i.e. by due
+   * date, element instance key and timer key, where the keys are compared as unsigned values.
+   */
+  record CachedDueDate(long dueDate, long elementInstanceKey, long timerKey)
+      implements Comparable<CachedDueDate> {
+
+    @Override
+    public int compareTo(final CachedDueDate other) {
+      int result = Long.compare(dueDate, other.dueDate);
+      if (result == 0) {
+        result = Long.compareUnsigned(elementInstanceKey, other.elementInstanceKey);
+      }
+      if (result == 0) {
+        result = Long.compareUnsigned(timerKey, other.timerKey);
+      }
+      return result;
+    }
+  }
+
+  @FunctionalInterface
+  interface DueDateScanner {
+
+    /** Presents all due dates to the visitor in ascending order, until the visitor stops. */
+    void scan(DueDateVisitor visitor);
+  }
+
+  @FunctionalInterface
+  interface DueDateVisitor {
+
+    /**
+     * @return {@code true} to continue with the next due date, {@code false} to stop
+     */
+    boolean visit(long dueDate, long elementInstanceKey, long timerKey);
+  }
+
+  private final class Refill implements DueDateVisitor {
+    private final long limit;
+    private int cached;
+    private long stoppedAt = -1L;
+
+    private Refill(final long limit) {
+      this.limit = limit;
+    }
+
+    @Override
+    public boolean visit(final long dueDate, final long elementInstanceKey, final long timerKey) {
+      if (dueDate >= limit || cached >= capacity) {
+        stoppedAt = dueDate;
+        return false;
+      }
+
+      dueDates.add(new CachedDueDate(dueDate, elementInstanceKey, timerKey));
+      cached++;
+      return true;
+    }
+  }
+}
@@ -15,4 +15,24 @@ public interface MutableTimerInstanceState extends TimerInstanceState {
   void store(TimerInstance timer);
 
   void remove(TimerInstance timer);
+
+  /**
+   * @return {@code true} if timers were stored or removed in the current transaction, whose due
+   *     dates are not yet applied to the due date cache
+   */
+  boolean hasPendingCacheUpdates();
+
+  /**
+   * Applies the due dates of the timers which were stored or removed to the due date cache. Must
+   * only be called after the transaction which stored or removed them is committed, since the cache
+   * is shared with the due date checker.
+   */
+  void applyPendingCacheUpdates();
+
+  /**
+   * Discards the due dates of the timers which were stored or removed, without applying them to
+   * the due date cache. Must be called when the transaction which stored or removed them was
+   * rolled back.
+   */
+  void discardPendingCacheUpdates();
 }
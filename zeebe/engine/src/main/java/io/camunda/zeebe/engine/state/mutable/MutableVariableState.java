@@ -61,4 +61,11 @@ public interface MutableVariableState extends VariableState {
   void removeScope(long scopeKey);
 
   void removeAllVariables(long scopeKey);
+
+  /**
+   * Clears the cached scopes and variable documents, which were read within the current
+   * transaction. Must be called before a new transaction is started, e.g. before processing a new
+   * batch or after a rollback, since the cache may contain uncommitted changes.
+   */
+  void clearCache();
 }
@@ -14,6 +14,7 @@ import io.camunda.zeebe.engine.state.QueryService;
 import io.camunda.zeebe.engine.state.deployment.DeployedProcess;
 import io.camunda.zeebe.engine.state.immutable.ProcessingState;
 import io.camunda.zeebe.engine.state.instance.ElementInstance;
+import io.camunda.zeebe.engine.state.instance.TimerDueDateCache;
 import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
@@ -83,6 +84,9 @@ public final class StateQueryService implements QueryService {
               },
               new TransientPendingSubscriptionState(),
               new TransientPendingSubscriptionState(),
+              new TimerDueDateCache(
+                  EngineConfiguration.DEFAULT_TIMER_DUE_DATE_CACHE_HORIZON,
+                  EngineConfiguration.DEFAULT_TIMER_DUE_DATE_CACHE_CAPACITY),
               new EngineConfiguration());
     }
   }
@@ -13,8 +13,10 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.engine.metrics.VariableCacheMetrics;
 import io.camunda.zeebe.engine.state.instance.ParentScopeKey;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.util.buffer.BufferUtil;
@@ -33,10 +35,19 @@ import org.agrona.concurrent.UnsafeBuffer;
 
 public class DbVariableState implements MutableVariableState {
 
+  private static final BiConsumer<DirectBuffer, DirectBuffer> NO_OP_CONSUMER = (name, value) -> {};
+
   private final MsgPackWriter writer = new MsgPackWriter();
   private final ExpandableArrayBuffer documentResultBuffer = new ExpandableArrayBuffer();
   private final DirectBuffer resultView = new UnsafeBuffer(0, 0);
 
+  // reading local variable documents
+  private final MsgPackWriter localDocumentWriter = new MsgPackWriter();
+  private final ExpandableArrayBuffer localDocumentBuffer = new ExpandableArrayBuffer();
+  private final MsgPackReader documentReader = new MsgPackReader();
+  private final DirectBuffer documentNameView = new UnsafeBuffer(0, 0);
+  private final DirectBuffer documentValueView = new UnsafeBuffer(0, 0);
+
   // (child scope key) => (parent scope key)
   private final ColumnFamily<DbLong, ParentScopeKey> childParentColumnFamily;
   private final DbLong childKey;
@@ -56,8 +67,12 @@ public class DbVariableState implements MutableVariableState {
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
 
+  private final VariableScopeCache cache;
+
   public DbVariableState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final int partitionId) {
     childKey = new DbLong();
     childParentColumnFamily =
         zeebeDb.createColumnFamily(
@@ -75,6 +90,8 @@ public class DbVariableState implements MutableVariableState {
             transactionContext,
             scopeKeyVariableNameKey,
             new VariableInstance());
+
+    cache = new VariableScopeCache(new VariableCacheMetrics(partitionId));
   }
 
   @Override
@@ -109,6 +126,7 @@ public class DbVariableState implements MutableVariableState {
     variableName.wrapBuffer(variableNameView);
 
     variablesColumnFamily.upsert(scopeKeyVariableNameKey, newVariable);
+    cache.invalidateVariables(scopeKey);
   }
 
   @Override
@@ -117,6 +135,7 @@ public class DbVariableState implements MutableVariableState {
     this.parentKey.set(parentKey);
 
     childParentColumnFamily.insert(this.childKey, this.parentKey);
+    cache.invalidateScope(childKey);
   }
 
   @Override
@@ -128,6 +147,7 @@ public class DbVariableState implements MutableVariableState {
     childKey.wrapLong(scopeKey);
     // TODO: Could be deleteExisting except for tests
     childParentColumnFamily.deleteIfExists(childKey);
+    cache.invalidateScope(scopeKey);
   }
 
   @Override
@@ -137,6 +157,7 @@ public class DbVariableState implements MutableVariableState {
         dbString -> true,
         (dbString, variable1) -> variablesColumnFamily.deleteExisting(scopeKeyVariableNameKey),
         () -> false);
+    cache.invalidateVariables(scopeKey);
   }
 
   @Override
@@ -179,11 +200,19 @@ public class DbVariableState implements MutableVariableState {
 
     long currentScopeKey = scopeKey;
     do {
-      final VariableInstance variable =
-          getVariableLocal(currentScopeKey, name, nameOffset, nameLength);
-
-      if (variable != null) {
-        return variable.getValue();
+      final DirectBuffer cachedDocument = cache.getCachedLocalDocument(currentScopeKey);
+      if (cachedDocument != null) {
+        variableNameView.wrap(name, nameOffset, nameLength);
+        if (visitDocument(cachedDocument, variableNameView::equals, NO_OP_CONSUMER, () -> true)) {
+          return documentValueView;
+        }
+      } else {
+        final VariableInstance variable =
+            getVariableLocal(currentScopeKey, name, nameOffset, nameLength);
+
+        if (variable != null) {
+          return variable.getValue();
+        }
       }
 
       currentScopeKey = getParentScopeKey(currentScopeKey);
@@ -202,15 +231,14 @@ public class DbVariableState implements MutableVariableState {
 
     visitVariables(
         scopeKey,
-        name -> !collectedVariables.contains(name.getBuffer()),
+        name -> !collectedVariables.contains(name),
         (name, value) -> {
-          final DirectBuffer variableNameBuffer = name.getBuffer();
-          writer.writeString(variableNameBuffer);
-          writer.writeRaw(value.getValue());
+          writer.writeString(name);
+          writer.writeRaw(value);
 
           // must create a new name wrapper, because we keep them all in the hashset at the same
           // time
-          final MutableDirectBuffer nameView = new UnsafeBuffer(variableNameBuffer);
+          final MutableDirectBuffer nameView = new UnsafeBuffer(name);
           collectedVariables.add(nameView);
         },
         () -> false);
@@ -234,12 +262,12 @@ public class DbVariableState implements MutableVariableState {
 
     visitVariables(
         scopeKey,
-        name -> variablesToCollect.contains(name.getBuffer()),
+        variablesToCollect::contains,
         (name, value) -> {
-          writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
+          writer.writeString(name);
+          writer.writeRaw(value);
 
-          variablesToCollect.remove(name.getBuffer());
+          variablesToCollect.remove(name);
         },
         variablesToCollect::isEmpty);
 
@@ -251,24 +279,7 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public DirectBuffer getVariablesLocalAsDocument(final long scopeKey) {
-    writer.wrap(documentResultBuffer, 0);
-    writer.reserveMapHeader();
-
-    final MutableInteger variableCount = new MutableInteger();
-    visitVariablesLocal(
-        scopeKey,
-        name -> true,
-        (name, value) -> {
-          writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
-
-          variableCount.addAndGet(1);
-        },
-        () -> false);
-
-    writer.writeReservedMapHeader(0, variableCount.get());
-
-    resultView.wrap(documentResultBuffer, 0, writer.getOffset());
+    resultView.wrap(cache.getLocalDocument(scopeKey, this::readVariablesLocalAsDocument));
     return resultView;
   }
 
@@ -301,6 +312,15 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public long getParentScopeKey(final long childScopeKey) {
+    return cache.getParentScopeKey(childScopeKey, this::readParentScopeKey);
+  }
+
+  @Override
+  public void clearCache() {
+    cache.clear();
+  }
+
+  private long readParentScopeKey(final long childScopeKey) {
     childKey.wrapLong(childScopeKey);
 
     final ParentScopeKey parentScopeKey = childParentColumnFamily.get(childKey);
@@ -317,25 +337,94 @@ public class DbVariableState implements MutableVariableState {
   }
 
   /**
-   * Like {@link #visitVariablesLocal(long, Predicate, BiConsumer, BooleanSupplier)} but walks up
-   * the scope hierarchy.
+   * Provides the variables of a scope and its parent scopes to the given consumer until a condition
+   * is met, reading the variables of each scope as document from the cache. Variables of a scope
+   * are provided before the variables of its parent scope.
+   *
+   * @param variableFilter evaluated with the name of each variable; the variable is consumed only
+   *     if the filter returns true
+   * @param variableConsumer a consumer that receives variable name and value
+   * @param completionCondition evaluated after every consumption; if true, consumption stops.
    */
   private void visitVariables(
       final long scopeKey,
-      final Predicate<DbString> filter,
-      final BiConsumer<DbString, VariableInstance> variableConsumer,
+      final Predicate<DirectBuffer> variableFilter,
+      final BiConsumer<DirectBuffer, DirectBuffer> variableConsumer,
       final BooleanSupplier completionCondition) {
     long currentScope = scopeKey;
 
     boolean completed;
     do {
-      completed = visitVariablesLocal(currentScope, filter, variableConsumer, completionCondition);
+      final DirectBuffer document =
+          cache.getLocalDocument(currentScope, this::readVariablesLocalAsDocument);
+      completed = visitDocument(document, variableFilter, variableConsumer, completionCondition);
 
       currentScope = getParentScopeKey(currentScope);
 
     } while (!completed && currentScope >= 0);
   }
 
+  /**
+   * Like {@link #visitVariables(long, Predicate, BiConsumer, BooleanSupplier)} but for the
+   * variables of a single document. The name and value passed to the consumer are only valid until
+   * the next variable is visited; if the condition is met, they stay valid until the next visit.
+   *
+   * @return true if the completion condition was met
+   */
+  private boolean visitDocument(
+      final DirectBuffer document,
+      final Predicate<DirectBuffer> variableFilter,
+      final BiConsumer<DirectBuffer, DirectBuffer> variableConsumer,
+      final BooleanSupplier completionCondition) {
+    documentReader.wrap(document, 0, document.capacity());
+
+    final int variables = documentReader.readMapHeader();
+    for (int i = 0; i < variables; i++) {
+      final int nameLength = documentReader.readStringLength();
+      documentNameView.wrap(document, documentReader.getOffset(), nameLength);
+      documentReader.skipBytes(nameLength);
+
+      final int valueOffset = documentReader.getOffset();
+      documentReader.skipValue();
+      documentValueView.wrap(document, valueOffset, documentReader.getOffset() - valueOffset);
+
+      if (variableFilter.test(documentNameView)) {
+        variableConsumer.accept(documentNameView, documentValueView);
+
+        if (completionCondition.getAsBoolean()) {
+          return true;
+        }
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Reads the variables of the given scope from the state into a new document, such that the
+   * document can be kept in the cache.
+   */
+  private DirectBuffer readVariablesLocalAsDocument(final long scopeKey) {
+    localDocumentWriter.wrap(localDocumentBuffer, 0);
+    localDocumentWriter.reserveMapHeader();
+
+    final MutableInteger variableCount = new MutableInteger();
+    visitVariablesLocal(
+        scopeKey,
+        name -> true,
+        (name, value) -> {
+          localDocumentWriter.writeString(name.getBuffer());
+          localDocumentWriter.writeRaw(value.getValue());
+
+          variableCount.addAndGet(1);
+        },
+        () -> false);
+
+    localDocumentWriter.writeReservedMapHeader(0, variableCount.get());
+
+    return BufferUtil.cloneBuffer(localDocumentBuffer, 0, localDocumentWriter.getOffset());
+  }
+
   /**
    * Provides all variables of a scope to the given consumer until a condition is met.
    *
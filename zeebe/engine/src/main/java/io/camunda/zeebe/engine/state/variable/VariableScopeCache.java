@@ -0,0 +1,118 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import io.camunda.zeebe.engine.metrics.VariableCacheMetrics;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2LongHashMap;
+import org.agrona.collections.Long2ObjectHashMap;
+
+/**
+ * This class is used by {@link DbVariableState} to keep the parent of each variable scope, and the
+ * local variables of each scope as MsgPack document, which were read within the current processing
+ * batch. Collecting the variables of many sibling scopes, e.g. when activating the jobs of a large
+ * multi-instance activity, then reads the shared parent scopes only once from the state. <br>
+ * Entries of a scope are invalidated when the scope or its variables are modified through the
+ * variable state. Since the cached entries may contain uncommitted changes, the cache must be
+ * {@link #clear() cleared} whenever a new transaction is started. <br>
+ * The cache is bounded by the number of scopes and the size of the cached documents; once full,
+ * further lookups are passed through to the state until it is cleared.
+ */
+final class VariableScopeCache {
+
+  static final int MAX_CACHED_SCOPES = 1024;
+  static final long MAX_CACHED_BYTES = 16 * 1024 * 1024;
+
+  private static final long NOT_CACHED = Long.MIN_VALUE;
+
+  // (child scope key) => (parent scope key)
+  private final Long2LongHashMap parentScopes = new Long2LongHashMap(NOT_CACHED);
+  // (scope key) => (local variables document)
+  private final Long2ObjectHashMap<DirectBuffer> localDocuments = new Long2ObjectHashMap<>();
+  private long cachedBytes;
+
+  private final VariableCacheMetrics metrics;
+
+  VariableScopeCache(final VariableCacheMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  /**
+   * @param lookup reads the parent scope key from the state, if it is not cached
+   * @return the parent scope key of the given scope
+   */
+  long getParentScopeKey(final long scopeKey, final LongUnaryOperator lookup) {
+    final long cachedParentScopeKey = parentScopes.get(scopeKey);
+    if (cachedParentScopeKey != NOT_CACHED) {
+      metrics.parentScopeHit();
+      return cachedParentScopeKey;
+    }
+
+    metrics.parentScopeMiss();
+    final long parentScopeKey = lookup.applyAsLong(scopeKey);
+    if (parentScopes.size() < MAX_CACHED_SCOPES) {
+      parentScopes.put(scopeKey, parentScopeKey);
+    }
+    return parentScopeKey;
+  }
+
+  /**
+   * @param lookup reads the local variables document from the state, if it is not cached; the
+   *     returned buffer is kept by the cache and must not be reused by the caller
+   * @return the local variables document of the given scope
+   */
+  DirectBuffer getLocalDocument(final long scopeKey, final LongFunction<DirectBuffer> lookup) {
+    final DirectBuffer cachedDocument = localDocuments.get(scopeKey);
+    if (cachedDocument != null) {
+      metrics.documentHit();
+      return cachedDocument;
+    }
+
+    metrics.documentMiss();
+    final DirectBuffer document = lookup.apply(scopeKey);
+    if (localDocuments.size() < MAX_CACHED_SCOPES
+        && cachedBytes + document.capacity() <= MAX_CACHED_BYTES) {
+      localDocuments.put(scopeKey, document);
+      cachedBytes += document.capacity();
+    }
+    return document;
+  }
+
+  /**
+   * @return the local variables document of the given scope, or {@code null} if it is not cached
+   */
+  DirectBuffer getCachedLocalDocument(final long scopeKey) {
+    return localDocuments.get(scopeKey);
+  }
+
+  /** Invalidates the cached local variables of the given scope. */
+  void invalidateVariables(final long scopeKey) {
+    final DirectBuffer document = localDocuments.remove(scopeKey);
+    if (document != null) {
+      cachedBytes -= document.capacity();
+    }
+  }
+
+  /** Invalidates the cached parent and local variables of the given scope. */
+  void invalidateScope(final long scopeKey) {
+    parentScopes.remove(scopeKey);
+    invalidateVariables(scopeKey);
+  }
+
+  void clear() {
+    if (!parentScopes.isEmpty()) {
+      parentScopes.clear();
+    }
+    if (!localDocuments.isEmpty()) {
+      localDocuments.clear();
+      cachedBytes = 0;
+    }
+  }
+}
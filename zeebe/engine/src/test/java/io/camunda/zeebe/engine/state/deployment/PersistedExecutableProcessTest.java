@@ -0,0 +1,263 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.el.ExpressionLanguage;
+import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
+import io.camunda.zeebe.engine.processing.deployment.model.element.AbstractFlowElement;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableEndEvent;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableExclusiveGateway;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowElement;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowNode;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableJobWorkerTask;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableSequenceFlow;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableStartEvent;
+import io.camunda.zeebe.engine.processing.deployment.model.transformation.BpmnTransformer;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+final class PersistedExecutableProcessTest {
+
+  private final BpmnTransformer transformer = BpmnFactory.createTransformer();
+
+  @Test
+  void shouldRestoreProcess() {
+    // given
+    final var process =
+        transform(
+            Bpmn.createExecutableProcess("process")
+                .startEvent("start")
+                .zeebeOutputExpression("1", "x")
+                .serviceTask(
+                    "task",
+                    t ->
+                        t.zeebeJobType("type")
+                            .zeebeJobRetriesExpression("retries")
+                            .zeebeTaskHeader("key", "value")
+                            .zeebeInputExpression("x", "y"))
+                .exclusiveGateway("split")
+                .defaultFlow()
+                .manualTask("manual")
+                .parallelGateway("fork")
+                .sendTask("send", t -> t.zeebeJobType("=\"send\""))
+                .endEvent("end")
+                .moveToNode("fork")
+                .task("other")
+                .endEvent("terminate", e -> e.terminate())
+                .moveToNode("split")
+                .sequenceFlowId("condition")
+                .conditionExpression("x > 1")
+                .endEvent("skip")
+                .done());
+
+    // when
+    final var persistedProcess = new PersistedExecutableProcess();
+    final boolean isPersisted = persistedProcess.wrap(process);
+    final var restoredProcess = copy(persistedProcess).toExecutableProcess(expressionLanguage());
+
+    // then
+    assertThat(isPersisted).isTrue();
+    assertThat(describe(restoredProcess)).isEqualTo(describe(process));
+    assertThat(restoredProcess.getStartEvents())
+        .extracting(startEvent -> bufferAsString(startEvent.getId()))
+        .containsExactly("start");
+    assertThat(restoredProcess.getChildElements())
+        .extracting(element -> bufferAsString(element.getId()))
+        .containsExactlyInAnyOrderElementsOf(
+            process.getChildElements().stream()
+                .map(element -> bufferAsString(element.getId()))
+                .toList());
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("unsupportedProcesses")
+  void shouldNotPersistUnsupportedProcess(
+      final String description, final BpmnModelInstance modelInstance) {
+    // given
+    final var process = transform(modelInstance);
+
+    // when
+    final var persistedProcess = new PersistedExecutableProcess();
+    final boolean isPersisted = persistedProcess.wrap(process);
+
+    // then
+    assertThat(isPersisted).isFalse();
+    assertThat(persistedProcess.hasCurrentFormat()).isFalse();
+  }
+
+  private static Stream<Arguments> unsupportedProcesses() {
+    return Stream.of(
+        Arguments.of(
+            "boundary event",
+            Bpmn.createExecutableProcess("process")
+                .startEvent()
+                .serviceTask("task", t -> t.zeebeJobType("type"))
+                .boundaryEvent("timer", b -> b.timerWithDuration("PT1H").endEvent())
+                .moveToActivity("task")
+                .endEvent()
+                .done()),
+        Arguments.of(
+            "multi-instance activity",
+            Bpmn.createExecutableProcess("process")
+                .startEvent()
+                .serviceTask(
+                    "task",
+                    t ->
+                        t.zeebeJobType("type")
+                            .multiInstance(m -> m.zeebeInputCollectionExpression("items")))
+                .endEvent()
+                .done()),
+        Arguments.of(
+            "execution listener",
+            Bpmn.createExecutableProcess("process")
+                .startEvent()
+                .serviceTask(
+                    "task", t -> t.zeebeJobType("type").zeebeStartExecutionListener("listener"))
+                .endEvent()
+                .done()),
+        Arguments.of(
+            "embedded sub-process",
+            Bpmn.createExecutableProcess("process")
+                .startEvent()
+                .subProcess("sub", s -> s.embeddedSubProcess().startEvent().endEvent())
+                .endEvent()
+                .done()),
+        Arguments.of(
+            "user task",
+            Bpmn.createExecutableProcess("process")
+                .startEvent()
+                .userTask("task")
+                .endEvent()
+                .done()),
+        Arguments.of(
+            "timer start event",
+            Bpmn.createExecutableProcess("process")
+                .startEvent()
+                .timerWithCycle("R/PT1H")
+                .endEvent()
+                .done()));
+  }
+
+  private ExecutableProcess transform(final BpmnModelInstance modelInstance) {
+    return transformer.transformDefinitions(modelInstance).get(0);
+  }
+
+  private ExpressionLanguage expressionLanguage() {
+    return transformer.getExpressionLanguage();
+  }
+
+  private static PersistedExecutableProcess copy(final PersistedExecutableProcess original) {
+    final var buffer = new UnsafeBuffer(new byte[original.getLength()]);
+    original.write(buffer, 0);
+
+    final var copy = new PersistedExecutableProcess();
+    copy.wrap(buffer, 0, buffer.capacity());
+    return copy;
+  }
+
+  /** Describes every element by the properties which are persisted, to compare two processes. */
+  private static Map<String, String> describe(final ExecutableProcess process) {
+    final var descriptions = new TreeMap<String, String>();
+    for (final AbstractFlowElement element : process.getFlowElements()) {
+      if (element == process) {
+        continue;
+      }
+
+      final var description = new StringBuilder();
+      description
+          .append(element.getClass().getSimpleName())
+          .append(' ')
+          .append(element.getElementType())
+          .append(' ')
+          .append(element.getEventType());
+
+      if (element instanceof final ExecutableSequenceFlow flow) {
+        description
+            .append(" source=")
+            .append(idOf(flow.getSource()))
+            .append(" target=")
+            .append(idOf(flow.getTarget()))
+            .append(" condition=")
+            .append(textOf(flow.getCondition()));
+      }
+
+      if (element instanceof final ExecutableFlowNode flowNode) {
+        description
+            .append(" scope=")
+            .append(idOf(flowNode.getFlowScope()))
+            .append(" incoming=")
+            .append(idsOf(flowNode.getIncoming()))
+            .append(" outgoing=")
+            .append(idsOf(flowNode.getOutgoing()))
+            .append(" input=")
+            .append(flowNode.getInputMappings().map(PersistedExecutableProcessTest::textOf))
+            .append(" output=")
+            .append(flowNode.getOutputMappings().map(PersistedExecutableProcessTest::textOf));
+      }
+
+      if (element instanceof final ExecutableStartEvent startEvent) {
+        description.append(" interrupting=").append(startEvent.isInterrupting());
+      }
+
+      if (element instanceof final ExecutableEndEvent endEvent) {
+        description.append(" terminate=").append(endEvent.isTerminateEndEvent());
+      }
+
+      if (element instanceof final ExecutableExclusiveGateway gateway) {
+        description
+            .append(" default=")
+            .append(idOf(gateway.getDefaultFlow()))
+            .append(" conditional=")
+            .append(idsOf(gateway.getOutgoingWithCondition()));
+      }
+
+      if (element instanceof final ExecutableJobWorkerTask task) {
+        final var properties = task.getJobWorkerProperties();
+        description
+            .append(" type=")
+            .append(textOf(properties.getType()))
+            .append(" retries=")
+            .append(textOf(properties.getRetries()))
+            .append(" headers=")
+            .append(new TreeMap<>(properties.getTaskHeaders()));
+      }
+
+      descriptions.put(bufferAsString(element.getId()), description.toString());
+    }
+    return descriptions;
+  }
+
+  private static String idOf(final ExecutableFlowElement element) {
+    return element != null ? bufferAsString(element.getId()) : null;
+  }
+
+  private static List<String> idsOf(final List<? extends ExecutableFlowElement> elements) {
+    return elements.stream().map(PersistedExecutableProcessTest::idOf).toList();
+  }
+
+  private static String textOf(final Expression expression) {
+    if (expression == null) {
+      return null;
+    }
+    return List.of(expression.getClass().getSimpleName(), expression.getExpression()).toString();
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import static io.camunda.zeebe.engine.state.deployment.ProcessStateTest.creatingProcessRecord;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessState;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.engine.util.ProcessingStateRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class ProcessStateCacheTest {
+
+  private static final String TENANT_ID = "defaultTenant";
+
+  @Rule
+  public final ProcessingStateRule stateRule =
+      new ProcessingStateRule(new EngineConfiguration().setProcessCacheCapacity(2));
+
+  private MutableProcessState processState;
+  private MutableProcessingState processingState;
+
+  @Before
+  public void setUp() {
+    processingState = stateRule.getProcessingState();
+    processState = processingState.getProcessState();
+  }
+
+  @Test
+  public void shouldReloadEvictedProcessByKey() {
+    // given
+    final var firstProcess = creatingProcessRecord(processingState, "first", 1);
+    final var secondProcess = creatingProcessRecord(processingState, "second", 1);
+    final var thirdProcess = creatingProcessRecord(processingState, "third", 1);
+    processState.putProcess(firstProcess.getKey(), firstProcess);
+    processState.putProcess(secondProcess.getKey(), secondProcess);
+    processState.putProcess(thirdProcess.getKey(), thirdProcess);
+    processState.getProcessByKeyAndTenant(firstProcess.getKey(), TENANT_ID);
+
+    // when - loading the other processes evicts the first one
+    processState.getProcessByKeyAndTenant(secondProcess.getKey(), TENANT_ID);
+    processState.getProcessByKeyAndTenant(thirdProcess.getKey(), TENANT_ID);
+    final var reloadedProcess =
+        processState.getProcessByKeyAndTenant(firstProcess.getKey(), TENANT_ID);
+
+    // then
+    assertThat(reloadedProcess).isNotNull();
+    assertThat(reloadedProcess.getKey()).isEqualTo(firstProcess.getKey());
+    assertThat(reloadedProcess.getProcess().getElementById(wrapString("test"))).isNotNull();
+  }
+
+  @Test
+  public void shouldReloadEvictedProcessByIdAndVersion() {
+    // given
+    final var firstVersion = creatingProcessRecord(processingState, "process", 1);
+    final var secondVersion = creatingProcessRecord(processingState, "process", 2);
+    final var otherProcess = creatingProcessRecord(processingState, "other", 1);
+    processState.putProcess(firstVersion.getKey(), firstVersion);
+    processState.putProcess(secondVersion.getKey(), secondVersion);
+    processState.putProcess(otherProcess.getKey(), otherProcess);
+    processState.getProcessByProcessIdAndVersion(wrapString("process"), 1, TENANT_ID);
+
+    // when - loading the latest version and another process evicts the first version
+    final var latestProcess =
+        processState.getLatestProcessVersionByProcessId(wrapString("process"), TENANT_ID);
+    processState.getProcessByKeyAndTenant(otherProcess.getKey(), TENANT_ID);
+    final var reloadedProcess =
+        processState.getProcessByProcessIdAndVersion(wrapString("process"), 1, TENANT_ID);
+
+    // then
+    assertThat(latestProcess.getKey()).isEqualTo(secondVersion.getKey());
+    assertThat(reloadedProcess).isNotNull();
+    assertThat(reloadedProcess.getKey()).isEqualTo(firstVersion.getKey());
+    assertThat(reloadedProcess.getVersion()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldKeepProcessUsedByIdAndVersionWhenEvicting() {
+    // given
+    final var usedProcess = creatingProcessRecord(processingState, "used", 1);
+    final var unusedProcess = creatingProcessRecord(processingState, "unused", 1);
+    final var newProcess = creatingProcessRecord(processingState, "new", 1);
+    processState.putProcess(usedProcess.getKey(), usedProcess);
+    processState.putProcess(unusedProcess.getKey(), unusedProcess);
+    processState.putProcess(newProcess.getKey(), newProcess);
+    final var cachedProcess =
+        processState.getProcessByProcessIdAndVersion(wrapString("used"), 1, TENANT_ID);
+    final var cachedUnusedProcess =
+        processState.getProcessByKeyAndTenant(unusedProcess.getKey(), TENANT_ID);
+
+    // when - the used process is looked up again before a new process is loaded
+    processState.getLatestProcessVersionByProcessId(wrapString("used"), TENANT_ID);
+    processState.getProcessByKeyAndTenant(newProcess.getKey(), TENANT_ID);
+
+    // then - the least recently used process was evicted instead of the used one
+    assertThat(processState.getProcessByProcessIdAndVersion(wrapString("used"), 1, TENANT_ID))
+        .isSameAs(cachedProcess);
+    assertThat(processState.getProcessByKeyAndTenant(unusedProcess.getKey(), TENANT_ID))
+        .isNotSameAs(cachedUnusedProcess);
+  }
+
+  @Test
+  public void shouldReturnSameProcessWhileCached() {
+    // given
+    final var process = creatingProcessRecord(processingState, "process", 1);
+    processState.putProcess(process.getKey(), process);
+
+    // when
+    final var byKey = processState.getProcessByKeyAndTenant(process.getKey(), TENANT_ID);
+    final var byIdAndVersion =
+        processState.getProcessByProcessIdAndVersion(wrapString("process"), 1, TENANT_ID);
+
+    // then
+    assertThat(byIdAndVersion).isSameAs(byKey);
+  }
+}
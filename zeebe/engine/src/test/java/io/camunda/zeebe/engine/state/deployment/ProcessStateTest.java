@@ -11,6 +11,7 @@ import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.engine.processing.deployment.model.element.AbstractFlowElement;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableJobWorkerTask;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
 import io.camunda.zeebe.engine.state.deployment.PersistedProcess.PersistedProcessState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessState;
@@ -24,6 +25,8 @@ import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
 import io.camunda.zeebe.stream.api.state.KeyGenerator;
 import io.camunda.zeebe.test.util.Strings;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.io.IOException;
+import java.io.InputStream;
 import org.assertj.core.api.Assertions;
 import org.junit.Before;
 import org.junit.Rule;
@@ -216,6 +219,90 @@ public final class ProcessStateTest {
     assertThat(otherversion).isEqualTo(2L);
   }
 
+  @Test
+  public void shouldLoadProcessDeployedWithOlderVersion() throws IOException {
+    // given - a resource exported by an old modeler, stored as it was deployed back then
+    final byte[] resource;
+    try (final InputStream stream =
+        getClass().getResourceAsStream("/processes/exclusive-gateway.bpmn")) {
+      resource = stream.readAllBytes();
+    }
+    final var processRecord =
+        creatingProcessRecord(processingState, "order-fulfilled-xor", 1)
+            .setResource(BufferUtil.wrapArray(resource));
+    processState.putProcess(processRecord.getKey(), processRecord);
+    processState.clearCache();
+
+    // when
+    final var deployedProcess =
+        processState.getProcessByKeyAndTenant(processRecord.getKey(), TENANT_ID);
+
+    // then
+    assertThat(deployedProcess).isNotNull();
+    assertThat(deployedProcess.getResource()).isEqualTo(BufferUtil.wrapArray(resource));
+    final ExecutableProcess process = deployedProcess.getProcess();
+    assertThat(process.getId()).isEqualTo(wrapString("order-fulfilled-xor"));
+    assertThat(process.getElementById("split")).isNotNull();
+    assertThat(process.getElementById("a")).isNotNull();
+    assertThat(process.getElementById("b")).isNotNull();
+    assertThat(process.getElementById("end")).isNotNull();
+  }
+
+  @Test
+  public void shouldLoadProcessFromExecutableFormAfterCacheMiss() {
+    // given
+    final var processRecord = creatingProcessRecord(processingState, "process", 1);
+    processState.putProcess(processRecord.getKey(), processRecord);
+    processState.clearCache();
+
+    // when
+    final var deployedProcess =
+        processState.getProcessByKeyAndTenant(processRecord.getKey(), TENANT_ID);
+
+    // then
+    assertThat(deployedProcess).isNotNull();
+    final ExecutableProcess process = deployedProcess.getProcess();
+    assertThat(process.getStartEvents())
+        .extracting(startEvent -> BufferUtil.bufferAsString(startEvent.getId()))
+        .containsExactly("startEvent");
+    final var task = process.getElementById("test", ExecutableJobWorkerTask.class);
+    assertThat(task.getJobWorkerProperties().getType().getExpression()).isEqualTo("type");
+    assertThat(task.getOutgoing())
+        .extracting(flow -> flow.getTarget().getId())
+        .containsExactly(wrapString("endEvent"));
+  }
+
+  @Test
+  public void shouldLoadProcessFromResourceIfExecutableFormIsNotSupported() {
+    // given - a boundary event can't be persisted in the executable form
+    final var processRecord =
+        creatingProcessRecord(processingState, "process", 1)
+            .setResource(
+                wrapString(
+                    Bpmn.convertToString(
+                        Bpmn.createExecutableProcess("process")
+                            .startEvent()
+                            .serviceTask("task", t -> t.zeebeJobType("type"))
+                            .boundaryEvent("timer", b -> b.timerWithDuration("PT1H").endEvent())
+                            .moveToActivity("task")
+                            .endEvent()
+                            .done())));
+    processState.putProcess(processRecord.getKey(), processRecord);
+    processState.clearCache();
+
+    // when
+    final var deployedProcess =
+        processState.getProcessByKeyAndTenant(processRecord.getKey(), TENANT_ID);
+
+    // then
+    assertThat(deployedProcess).isNotNull();
+    final var task =
+        deployedProcess.getProcess().getElementById("task", ExecutableJobWorkerTask.class);
+    assertThat(task.getBoundaryEvents())
+        .extracting(boundaryEvent -> BufferUtil.bufferAsString(boundaryEvent.getId()))
+        .containsExactly("timer");
+  }
+
   @Test
   // Regression test for https://github.com/camunda/zeebe/issues/14309#issuecomment-1731052065
   public void shouldStoreVersionsInCacheSeparately() {
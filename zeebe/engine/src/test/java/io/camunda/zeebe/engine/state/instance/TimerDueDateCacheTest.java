@@ -0,0 +1,189 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.state.instance.TimerDueDateCache.CachedDueDate;
+import io.camunda.zeebe.engine.state.instance.TimerDueDateCache.DueDateScanner;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class TimerDueDateCacheTest {
+
+  @Test
+  void shouldRequireRefillInitially() {
+    // given
+    final var cache = new TimerDueDateCache(Duration.ofMillis(1000), 10);
+
+    // then
+    assertThat(cache.isRefillRequired(0)).isTrue();
+    assertThat(cache.dueDates()).isEmpty();
+  }
+
+  @Test
+  void shouldNotCacheBeforeRefill() {
+    // given
+    final var cache = new TimerDueDateCache(Duration.ofMillis(1000), 10);
+
+    // when
+    cache.add(100, 1, 1);
+
+    // then
+    assertThat(cache.dueDates()).isEmpty();
+  }
+
+  @Test
+  void shouldCacheDueDatesWithinHorizonOnRefill() {
+    // given
+    final var cache = new TimerDueDateCache(Duration.ofMillis(1000), 10);
+
+    // when
+    cache.refill(100, scannerOf(dueDate(50), dueDate(500), dueDate(1099), dueDate(1100)));
+
+    // then
+    assertThat(cache.dueDates()).containsExactly(dueDate(50), dueDate(500), dueDate(1099));
+    assertThat(cache.nextDueDateAfterHorizon()).isEqualTo(1100);
+    assertThat(cache.isRefillRequired(1099)).isFalse();
+    assertThat(cache.isRefillRequired(1100)).isTrue();
+  }
+
+  @Test
+  void shouldCacheDueDatesUpToCapacityOnRefill() {
+    // given
+    final var cache = new TimerDueDateCache(Duration.ofMillis(1000), 2);
+
+    // when
+    cache.refill(100, scannerOf(dueDate(50), dueDate(200), dueDate(300)));
+
+    // then
+    assertThat(cache.dueDates()).containsExactly(dueDate(50), dueDate(200));
+    assertThat(cache.nextDueDateAfterHorizon()).isEqualTo(300);
+    assertThat(cache.isRefillRequired(299)).isFalse();
+    assertThat(cache.isRefillRequired(300)).isTrue();
+  }
+
+  @Test
+  void shouldCacheDueTimersUpToCapacityOnRefill() {
+    // given
+    final var cache = new TimerDueDateCache(Duration.ofMillis(1000), 2);
+
+    // when - more timers are already due than the capacity
+    cache.refill(100, scannerOf(dueDate(50), dueDate(60), dueDate(70), dueDate(200)));
+
+    // then - the next check refills the cache, starting with the first timer which wasn't cached
+    assertThat(cache.dueDates()).containsExactly(dueDate(50), dueDate(60));
+    assertThat(cache.nextDueDateAfterHorizon()).isEqualTo(70);
+    assertThat(cache.isRefillRequired(100)).isTrue();
+  }
+
+  @Test
+  void shouldOnlyAddDueDatesBeforeFirstDueDateWhichWasNotCached() {
+    // given
+    final var cache = new TimerDueDateCache(Duration.ofMillis(1000), 1);
+    cache.refill(100, scannerOf(dueDate(50), dueDate(70)));
+
+    // when
+    cache.add(60, 1, 1);
+    cache.add(80, 2, 2);
+
+    // then
+    assertThat(cache.dueDates()).containsExactly(dueDate(50), new CachedDueDate(60, 1, 1));
+  }
+
+  @Test
+  void shouldHaveNoNextDueDateIfAllDueDatesAreCached() {
+    // given
+    final var cache = new TimerDueDateCache(Duration.ofMillis(1000), 10);
+
+    // when
+    cache.refill(100, scannerOf(dueDate(50), dueDate(500)));
+
+    // then
+    assertThat(cache.nextDueDateAfterHorizon()).isEqualTo(-1);
+    assertThat(cache.isRefillRequired(1099)).isFalse();
+    assertThat(cache.isRefillRequired(1100)).isTrue();
+  }
+
+  @Test
+  void shouldOnlyAddDueDatesWithinHorizon() {
+    // given
+    final var cache = new TimerDueDateCache(Duration.ofMillis(1000), 10);
+    cache.refill(100, scannerOf());
+
+    // when
+    cache.add(1099, 1, 1);
+    cache.add(1100, 2, 2);
+
+    // then
+    assertThat(cache.dueDates()).containsExactly(new CachedDueDate(1099, 1, 1));
+  }
+
+  @Test
+  void shouldRemoveDueDate() {
+    // given
+    final var cache = new TimerDueDateCache(Duration.ofMillis(1000), 10);
+    cache.refill(100, scannerOf());
+    cache.add(500, 1, 1);
+    cache.add(500, 2, 2);
+
+    // when
+    cache.remove(500, 1, 1);
+
+    // then
+    assertThat(cache.dueDates()).containsExactly(new CachedDueDate(500, 2, 2));
+  }
+
+  @Test
+  void shouldReplaceCachedDueDatesOnRefill() {
+    // given
+    final var cache = new TimerDueDateCache(Duration.ofMillis(1000), 10);
+    cache.refill(100, scannerOf());
+    cache.add(500, 1, 1);
+
+    // when - the timer was removed, but its removal was not applied to the cache
+    cache.refill(1100, scannerOf(dueDate(1200)));
+
+    // then
+    assertThat(cache.dueDates()).containsExactly(dueDate(1200));
+  }
+
+  @Test
+  void shouldOrderDueDatesLikeTheColumnFamily() {
+    // given
+    final var cache = new TimerDueDateCache(Duration.ofMillis(1000), 10);
+    cache.refill(100, scannerOf());
+
+    // when
+    cache.add(500, -1, 1);
+    cache.add(500, 2, 1);
+    cache.add(200, 3, 1);
+
+    // then - keys are compared like their big endian representation
+    assertThat(cache.dueDates())
+        .containsExactly(
+            new CachedDueDate(200, 3, 1),
+            new CachedDueDate(500, 2, 1),
+            new CachedDueDate(500, -1, 1));
+  }
+
+  private static CachedDueDate dueDate(final long dueDate) {
+    return new CachedDueDate(dueDate, dueDate, dueDate);
+  }
+
+  private static DueDateScanner scannerOf(final CachedDueDate... dueDates) {
+    return visitor -> {
+      for (final var dueDate : List.of(dueDates)) {
+        if (!visitor.visit(dueDate.dueDate(), dueDate.elementInstanceKey(), dueDate.timerKey())) {
+          return;
+        }
+      }
+    };
+  }
+}
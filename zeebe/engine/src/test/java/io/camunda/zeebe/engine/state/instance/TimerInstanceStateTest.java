@@ -14,6 +14,7 @@ import io.camunda.zeebe.engine.state.mutable.MutableTimerInstanceState;
 import io.camunda.zeebe.engine.util.ProcessingStateRule;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import org.assertj.core.api.Assertions;
@@ -170,6 +171,112 @@ public final class TimerInstanceStateTest {
     assertThat(nextDueDate).isEqualTo(timer1.getDueDate());
   }
 
+  @Test
+  public void shouldFindTimerCreatedAfterFirstCheck() {
+    // given
+    state.processTimersWithDueDateBefore(1000L, t -> true);
+    createTimerInstance(1, 1, 2000L);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    final long nextDueDate =
+        state.processTimersWithDueDateBefore(2000L, t -> keys.add(t.getElementInstanceKey()));
+
+    // then
+    assertThat(keys).containsExactly(1L);
+    assertThat(nextDueDate).isEqualTo(-1L);
+  }
+
+  @Test
+  public void shouldFindTimerDueAfterHorizonOfFirstCheck() {
+    // given
+    final long afterHorizon = 1000L + Duration.ofHours(1).toMillis();
+    state.processTimersWithDueDateBefore(1000L, t -> true);
+    createTimerInstance(1, 1, afterHorizon);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    state.processTimersWithDueDateBefore(afterHorizon, t -> keys.add(t.getElementInstanceKey()));
+
+    // then
+    assertThat(keys).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldReturnNextDueDateAfterHorizon() {
+    // given
+    final long afterHorizon = 1000L + Duration.ofHours(1).toMillis();
+    createTimerInstance(1, 1, afterHorizon);
+
+    // when
+    final long nextDueDate = state.processTimersWithDueDateBefore(1000L, t -> true);
+
+    // then
+    assertThat(nextDueDate).isEqualTo(afterHorizon);
+  }
+
+  @Test
+  public void shouldNotFindTimerRemovedAfterFirstCheck() {
+    // given
+    final var timer = createTimerInstance(1, 1, 2000L);
+    state.processTimersWithDueDateBefore(1000L, t -> true);
+    state.remove(timer);
+    state.applyPendingCacheUpdates();
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    final long nextDueDate =
+        state.processTimersWithDueDateBefore(2000L, t -> keys.add(t.getElementInstanceKey()));
+
+    // then
+    assertThat(keys).isEmpty();
+    assertThat(nextDueDate).isEqualTo(-1L);
+  }
+
+  @Test
+  public void shouldKeepCachedTimerWhichIsNotFound() {
+    // given - a cached timer which is not visible in the state, e.g. as it is not committed yet
+    final var timer = createTimerInstance(1, 1, 1500L);
+    state.processTimersWithDueDateBefore(1000L, t -> true);
+    state.remove(timer);
+    state.discardPendingCacheUpdates();
+    state.processTimersWithDueDateBefore(2000L, t -> true);
+
+    // when - the timer becomes visible
+    state.store(timer);
+    state.discardPendingCacheUpdates();
+    final List<Long> keys = new ArrayList<>();
+    state.processTimersWithDueDateBefore(2000L, t -> keys.add(t.getElementInstanceKey()));
+
+    // then
+    assertThat(keys).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldNotCacheTimerBeforeUpdatesAreApplied() {
+    // given
+    state.processTimersWithDueDateBefore(1000L, t -> true);
+    createElementInstance(1);
+    final TimerInstance timer = new TimerInstance();
+    timer.setElementInstanceKey(1L);
+    timer.setKey(1L);
+    timer.setDueDate(2000L);
+    state.store(timer);
+
+    // when
+    final List<Long> keysBeforeCommit = new ArrayList<>();
+    state.processTimersWithDueDateBefore(
+        2000L, t -> keysBeforeCommit.add(t.getElementInstanceKey()));
+    state.applyPendingCacheUpdates();
+    final List<Long> keysAfterCommit = new ArrayList<>();
+    state.processTimersWithDueDateBefore(
+        2000L, t -> keysAfterCommit.add(t.getElementInstanceKey()));
+
+    // then
+    assertThat(keysBeforeCommit).isEmpty();
+    assertThat(keysAfterCommit).containsExactly(1L);
+  }
+
   @Test
   public void shouldListAllTimersByElementInstanceKey() {
     // given
@@ -209,6 +316,7 @@ public final class TimerInstanceStateTest {
     timer.setKey(timerKey);
     timer.setDueDate(dueDate);
     state.store(timer);
+    state.applyPendingCacheUpdates();
     return timer;
   }
 
@@ -310,6 +310,82 @@ public final class VariableStateTest {
     assertEquality(document, "{}");
   }
 
+  @Test
+  public void shouldCollectVariablesUpdatedAfterCollectingThem() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(child, wrapString("b"), asMsgPack("2"));
+    variableState.getVariablesAsDocument(child);
+
+    // when
+    setVariableLocal(parent, wrapString("a"), asMsgPack("3"));
+    setVariableLocal(parent, wrapString("c"), asMsgPack("4"));
+    final DirectBuffer variablesDocument = variableState.getVariablesAsDocument(child);
+
+    // then
+    assertEquality(variablesDocument, "{'a': 3, 'b': 2, 'c': 4}");
+    assertEquality(variableState.getVariable(child, wrapString("a")), "3");
+    assertEquality(variableState.getVariablesLocalAsDocument(parent), "{'a': 3, 'c': 4}");
+  }
+
+  @Test
+  public void shouldNotCollectVariablesOfRemovedScopeAfterCollectingThem() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(child, wrapString("b"), asMsgPack("2"));
+    variableState.getVariablesAsDocument(child);
+
+    // when
+    variableState.removeScope(child);
+    final DirectBuffer variablesDocument = variableState.getVariablesAsDocument(child);
+
+    // then
+    assertEquality(variablesDocument, "{}");
+    assertThat(variableState.getParentScopeKey(child)).isEqualTo(VariableState.NO_PARENT);
+    assertThat(variableState.getVariable(child, wrapString("b"))).isNull();
+  }
+
+  @Test
+  public void shouldCollectVariablesOfSiblingScopes() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    declareScope(parent, child2);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(child, wrapString("b"), asMsgPack("2"));
+    setVariableLocal(child2, wrapString("b"), asMsgPack("3"));
+
+    // when
+    final DirectBuffer childDocument = cloneBuffer(variableState.getVariablesAsDocument(child));
+    final DirectBuffer child2Document = variableState.getVariablesAsDocument(child2);
+
+    // then
+    assertEquality(childDocument, "{'a': 1, 'b': 2}");
+    assertEquality(child2Document, "{'a': 1, 'b': 3}");
+  }
+
+  @Test
+  public void shouldCollectVariablesAfterClearingCache() {
+    // given
+    declareScope(parent);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    variableState.getVariablesAsDocument(parent);
+
+    // when
+    variableState.clearCache();
+    final DirectBuffer variablesDocument = variableState.getVariablesAsDocument(parent);
+
+    // then
+    assertEquality(variablesDocument, "{'a': 1}");
+  }
+
   @Test
   public void shouldReturnParentScopeKey() {
     // given
@@ -16,6 +16,7 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
 import io.camunda.zeebe.engine.state.ProcessingDbState;
+import io.camunda.zeebe.engine.state.instance.TimerDueDateCache;
 import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.protocol.Protocol;
@@ -166,6 +167,9 @@ public class ProcessingStateExtension implements BeforeEachCallback {
                 keyGenerator,
                 new TransientPendingSubscriptionState(),
                 new TransientPendingSubscriptionState(),
+                new TimerDueDateCache(
+                    EngineConfiguration.DEFAULT_TIMER_DUE_DATE_CACHE_HORIZON,
+                    EngineConfiguration.DEFAULT_TIMER_DUE_DATE_CACHE_CAPACITY),
                 new EngineConfiguration());
       } catch (final Exception e) {
         ExceptionUtils.throwAsUncheckedException(e);
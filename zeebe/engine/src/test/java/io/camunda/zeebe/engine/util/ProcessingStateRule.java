@@ -11,6 +11,7 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
 import io.camunda.zeebe.engine.state.ProcessingDbState;
+import io.camunda.zeebe.engine.state.instance.TimerDueDateCache;
 import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.protocol.Protocol;
@@ -23,6 +24,7 @@ public final class ProcessingStateRule extends ExternalResource {
 
   private final TemporaryFolder tempFolder = new TemporaryFolder();
   private final int partition;
+  private final EngineConfiguration config;
   private ZeebeDb<ZbColumnFamilies> db;
   private MutableProcessingState processingState;
 
@@ -31,7 +33,16 @@ public final class ProcessingStateRule extends ExternalResource {
   }
 
   public ProcessingStateRule(final int partition) {
+    this(partition, new EngineConfiguration());
+  }
+
+  public ProcessingStateRule(final EngineConfiguration config) {
+    this(Protocol.DEPLOYMENT_PARTITION, config);
+  }
+
+  public ProcessingStateRule(final int partition, final EngineConfiguration config) {
     this.partition = partition;
+    this.config = config;
   }
 
   @Override
@@ -49,7 +60,9 @@ public final class ProcessingStateRule extends ExternalResource {
             keyGenerator,
             new TransientPendingSubscriptionState(),
             new TransientPendingSubscriptionState(),
-            new EngineConfiguration());
+            new TimerDueDateCache(
+                config.getTimerDueDateCacheHorizon(), config.getTimerDueDateCacheCapacity()),
+            config);
   }
 
   @Override
@@ -29,9 +29,12 @@ import io.prometheus.client.Histogram;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.apache.http.entity.EntityTemplate;
 import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 
 class ElasticsearchClient implements AutoCloseable {
@@ -41,7 +44,7 @@ class ElasticsearchClient implements AutoCloseable {
   private final ElasticsearchExporterConfiguration configuration;
   private final TemplateReader templateReader;
   private final RecordIndexRouter indexRouter;
-  private final BulkIndexRequest bulkIndexRequest;
+  private BulkIndexRequest bulkIndexRequest;
 
   private ElasticsearchMetrics metrics;
 
@@ -118,6 +121,85 @@ class ElasticsearchClient implements AutoCloseable {
     }
   }
 
+  /**
+   * Hands over the current bulk request, and starts a new one for the records indexed from now on.
+   * The returned request can then be sent via {@link #exportBulkAsync(BulkIndexRequest)}.
+   *
+   * @return the current bulk request, or null if it is empty
+   */
+  BulkIndexRequest detachBulk() {
+    if (bulkIndexRequest.isEmpty()) {
+      return null;
+    }
+
+    final var bulk = bulkIndexRequest;
+    bulkIndexRequest = new BulkIndexRequest();
+    return bulk;
+  }
+
+  /**
+   * Sends the given bulk request to Elastic without waiting for the response. The request is not
+   * modified, so it can be sent again if it fails.
+   *
+   * @return a future which is completed once all items of the bulk were flushed successfully, or
+   *     completed exceptionally with an {@link ElasticsearchExporterException} otherwise
+   */
+  CompletableFuture<Void> exportBulkAsync(final BulkIndexRequest bulk) {
+    final var result = new CompletableFuture<Void>();
+    metrics.recordBulkSize(bulk.size());
+    metrics.recordBulkMemorySize(bulk.memoryUsageBytes());
+    metrics.recordBulkSent();
+
+    final Histogram.Timer timer = metrics.measureFlushDuration();
+    client.performRequestAsync(
+        newBulkRequest(bulk),
+        new ResponseListener() {
+          @Override
+          public void onSuccess(final Response response) {
+            try {
+              final var bulkResponse = readResponse(response, BulkIndexResponse.class);
+              if (bulkResponse.errors()) {
+                throwCollectedBulkError(bulkResponse);
+              }
+              complete(null);
+            } catch (final IOException e) {
+              complete(new ElasticsearchExporterException("Failed to flush bulk", e));
+            } catch (final ElasticsearchExporterException e) {
+              complete(e);
+            }
+          }
+
+          @Override
+          public void onFailure(final Exception exception) {
+            complete(new ElasticsearchExporterException("Failed to flush bulk", exception));
+          }
+
+          private void complete(final ElasticsearchExporterException error) {
+            timer.close();
+            metrics.recordBulkCompleted();
+            if (error == null) {
+              result.complete(null);
+            } else {
+              metrics.recordFailedFlush();
+              result.completeExceptionally(error);
+            }
+          }
+        });
+
+    return result;
+  }
+
+  /**
+   * Records how many bulk requests were sent, but not yet acknowledged by the exporter.
+   *
+   * @param queueDepth the number of unacknowledged bulk requests
+   */
+  void recordBulkQueueDepth(final int queueDepth) {
+    if (metrics != null) {
+      metrics.recordBulkQueueDepth(queueDepth);
+    }
+  }
+
   /**
    * Returns whether the exporter should call {@link #flush()} or not.
    *
@@ -156,12 +238,7 @@ class ElasticsearchClient implements AutoCloseable {
   private void exportBulk() {
     final BulkIndexResponse response;
     try {
-      final var request = new Request("POST", "/_bulk");
-      final var body = new EntityTemplate(bulkIndexRequest);
-      body.setContentType("application/x-ndjson");
-      request.setEntity(body);
-
-      response = sendRequest(request, BulkIndexResponse.class);
+      response = sendRequest(newBulkRequest(bulkIndexRequest), BulkIndexResponse.class);
     } catch (final IOException e) {
       throw new ElasticsearchExporterException("Failed to flush bulk", e);
     }
@@ -171,6 +248,14 @@ class ElasticsearchClient implements AutoCloseable {
     }
   }
 
+  private static Request newBulkRequest(final BulkIndexRequest bulk) {
+    final var request = new Request("POST", "/_bulk");
+    final var body = new EntityTemplate(bulk);
+    body.setContentType("application/x-ndjson");
+    request.setEntity(body);
+    return request;
+  }
+
   private void throwCollectedBulkError(final BulkIndexResponse bulkResponse) {
     final var collectedErrors = new ArrayList<String>();
     bulkResponse.items().stream()
@@ -247,7 +332,11 @@ class ElasticsearchClient implements AutoCloseable {
   }
 
   private <T> T sendRequest(final Request request, final Class<T> responseType) throws IOException {
-    final var response = client.performRequest(request);
+    return readResponse(client.performRequest(request), responseType);
+  }
+
+  private static <T> T readResponse(final Response response, final Class<T> responseType)
+      throws IOException {
     // buffer the complete response in memory before parsing it; this will give us a better error
     // message which contains the raw response should the deserialization fail
     final var responseBody = response.getEntity().getContent().readAllBytes();
@@ -10,6 +10,7 @@ package io.camunda.zeebe.exporter;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.zeebe.exporter.ElasticsearchExporterConfiguration.IndexConfiguration;
+import io.camunda.zeebe.exporter.InFlightBulks.InFlightBulk;
 import io.camunda.zeebe.exporter.api.Exporter;
 import io.camunda.zeebe.exporter.api.ExporterException;
 import io.camunda.zeebe.exporter.api.context.Context;
@@ -21,6 +22,7 @@ import java.io.IOException;
 import java.time.Duration;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import org.slf4j.Logger;
@@ -41,6 +43,8 @@ public class ElasticsearchExporter implements Exporter {
       Pattern.compile(PATTERN_MIN_AGE_FORMAT).asPredicate();
   // by default, the bulk request may not be bigger than 100MB
   private static final int RECOMMENDED_MAX_BULK_MEMORY_LIMIT = 100 * 1024 * 1024;
+  // how often to check for responses to in-flight bulk requests
+  private static final Duration IN_FLIGHT_BULKS_CHECK_INTERVAL = Duration.ofMillis(100);
   private Logger log = LoggerFactory.getLogger(getClass().getPackageName());
   private final ObjectMapper exporterMetadataObjectMapper = new ObjectMapper();
 
@@ -51,6 +55,8 @@ public class ElasticsearchExporter implements Exporter {
   private ElasticsearchExporterConfiguration configuration;
   private ElasticsearchClient client;
   private ElasticsearchRecordCounters recordCounters;
+  private InFlightBulks inFlightBulks;
+  private boolean inFlightBulksCheckScheduled;
 
   private long lastPosition = -1;
   private boolean indexTemplatesCreated;
@@ -81,6 +87,10 @@ public class ElasticsearchExporter implements Exporter {
             .map(ElasticsearchRecordCounters::new)
             .orElse(new ElasticsearchRecordCounters());
 
+    if (isPipelined()) {
+      inFlightBulks = new InFlightBulks(client, configuration.bulk.maxInFlightRequests, log);
+    }
+
     scheduleDelayedFlush();
     log.info("Exporter opened");
   }
@@ -89,6 +99,7 @@ public class ElasticsearchExporter implements Exporter {
   public void close() {
 
     try {
+      awaitInFlightBulks();
       flush();
       updateLastExportedPosition();
     } catch (final Exception e) {
@@ -112,11 +123,21 @@ public class ElasticsearchExporter implements Exporter {
       updateRetentionPolicyForExistingIndices();
     }
 
+    if (isPipelined()) {
+      acknowledgeInFlightBulks();
+    }
+
     final var recordSequence = recordCounters.getNextRecordSequence(record);
     client.index(record, recordSequence);
     lastPosition = record.getPosition();
 
-    if (client.shouldFlush()) {
+    if (isPipelined() && client.shouldFlush()) {
+      // wait for a free slot before updating the record counters; if it fails, the exporter will
+      // be invoked with the same record again, just as with a failing synchronous flush
+      awaitInFlightBulkCapacity();
+      recordCounters.updateRecordCounters(record, recordSequence);
+      flushAsync();
+    } else if (client.shouldFlush()) {
       flush();
       // Update the record counters only after the flush was successful. If the synchronous flush
       // fails then the exporter will be invoked with the same record again.
@@ -144,6 +165,13 @@ public class ElasticsearchExporter implements Exporter {
           RECOMMENDED_MAX_BULK_MEMORY_LIMIT);
     }
 
+    if (configuration.bulk.maxInFlightRequests < 0) {
+      throw new ExporterException(
+          String.format(
+              "Elasticsearch bulk maxInFlightRequests must be >= 0. Current value: %d",
+              configuration.bulk.maxInFlightRequests));
+    }
+
     final Integer numberOfShards = configuration.index.getNumberOfShards();
     if (numberOfShards != null && numberOfShards < 1) {
       throw new ExporterException(
@@ -185,8 +213,15 @@ public class ElasticsearchExporter implements Exporter {
 
   private void flushAndReschedule() {
     try {
-      flush();
-      updateLastExportedPosition();
+      if (isPipelined()) {
+        acknowledgeInFlightBulks();
+        if (!inFlightBulks.isFull()) {
+          flushAsync();
+        }
+      } else {
+        flush();
+        updateLastExportedPosition();
+      }
     } catch (final Exception e) {
       log.warn("Unexpected exception occurred on periodically flushing bulk, will retry later.", e);
     }
@@ -202,10 +237,72 @@ public class ElasticsearchExporter implements Exporter {
     client.flush();
   }
 
+  private boolean isPipelined() {
+    return configuration.bulk.maxInFlightRequests > 0;
+  }
+
+  /**
+   * Sends the current bulk without waiting for the response. The exported position is only updated
+   * once the bulk, and all bulks sent before it, are acknowledged.
+   */
+  private void flushAsync() {
+    final var bulk = client.detachBulk();
+    if (bulk != null) {
+      inFlightBulks.send(bulk, lastPosition, recordCounters.getRecordCounters());
+    } else if (inFlightBulks.isEmpty()) {
+      // nothing left to acknowledge, so everything up to the last record was exported
+      updateLastExportedPosition();
+    }
+
+    scheduleInFlightBulksCheck();
+  }
+
+  private void awaitInFlightBulkCapacity() {
+    while (inFlightBulks.isFull()) {
+      inFlightBulks.awaitOldest().ifPresent(this::updateLastExportedPosition);
+    }
+  }
+
+  private void awaitInFlightBulks() {
+    if (isPipelined()) {
+      while (!inFlightBulks.isEmpty()) {
+        inFlightBulks.awaitOldest().ifPresent(this::updateLastExportedPosition);
+      }
+    }
+  }
+
+  private void acknowledgeInFlightBulks() {
+    inFlightBulks.acknowledge().ifPresent(this::updateLastExportedPosition);
+  }
+
+  private void scheduleInFlightBulksCheck() {
+    if (inFlightBulksCheckScheduled || inFlightBulks.isEmpty()) {
+      return;
+    }
+
+    inFlightBulksCheckScheduled = true;
+    controller.scheduleCancellableTask(
+        IN_FLIGHT_BULKS_CHECK_INTERVAL,
+        () -> {
+          inFlightBulksCheckScheduled = false;
+          acknowledgeInFlightBulks();
+          scheduleInFlightBulksCheck();
+        });
+  }
+
   private void updateLastExportedPosition() {
-    exporterMetadata.setRecordCountersByValueType(recordCounters.getRecordCounters());
+    updateLastExportedPosition(lastPosition, recordCounters.getRecordCounters());
+  }
+
+  private void updateLastExportedPosition(final InFlightBulk acknowledgedBulk) {
+    updateLastExportedPosition(acknowledgedBulk.lastPosition(), acknowledgedBulk.recordCounters());
+  }
+
+  private void updateLastExportedPosition(
+      final long position, final Map<ValueType, Long> recordCountersByValueType) {
+    exporterMetadata.setRecordCountersByValueType(recordCountersByValueType);
     final var serializeExporterMetadata = serializeExporterMetadata(exporterMetadata);
-    controller.updateLastExportedRecordPosition(lastPosition, serializeExporterMetadata);
+    controller.updateLastExportedRecordPosition(position, serializeExporterMetadata);
   }
 
   private byte[] serializeExporterMetadata(final ElasticsearchExporterMetadata metadata) {
@@ -313,6 +313,9 @@ public class ElasticsearchExporterConfiguration {
     public int size = 1_000;
     // memory limit of the bulk in bytes before flush
     public int memoryLimit = 10 * 1024 * 1024;
+    // number of bulk requests which may be in flight at the same time; with 0, bulks are flushed
+    // synchronously. The memory used by in-flight bulks is bounded by this times the memory limit
+    public int maxInFlightRequests = 0;
 
     @Override
     public String toString() {
@@ -323,6 +326,8 @@ public class ElasticsearchExporterConfiguration {
           + size
           + ", memoryLimit="
           + memoryLimit
+          + ", maxInFlightRequests="
+          + maxInFlightRequests
           + '}';
     }
   }
@@ -48,6 +48,24 @@ public class ElasticsearchMetrics {
           .labelNames(PARTITION_LABEL)
           .register();
 
+  private static final Gauge BULK_IN_FLIGHT =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("bulk_in_flight")
+          .help("Number of bulk requests which were sent, but not answered yet")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private static final Gauge BULK_QUEUE_DEPTH =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("bulk_queue_depth")
+          .help(
+              "Number of bulk requests which were sent, but whose records are not acknowledged as"
+                  + " exported yet")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
   private final String partitionIdLabel;
 
   public ElasticsearchMetrics(final int partitionId) {
@@ -69,4 +87,16 @@ public class ElasticsearchMetrics {
   public void recordFailedFlush() {
     FAILED_FLUSH.labels(partitionIdLabel).inc();
   }
+
+  public void recordBulkSent() {
+    BULK_IN_FLIGHT.labels(partitionIdLabel).inc();
+  }
+
+  public void recordBulkCompleted() {
+    BULK_IN_FLIGHT.labels(partitionIdLabel).dec();
+  }
+
+  public void recordBulkQueueDepth(final int queueDepth) {
+    BULK_QUEUE_DEPTH.labels(partitionIdLabel).set(queueDepth);
+  }
 }
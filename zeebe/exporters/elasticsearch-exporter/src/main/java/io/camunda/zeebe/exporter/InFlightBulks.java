@@ -0,0 +1,145 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.exporter;
+
+import io.camunda.zeebe.protocol.record.ValueType;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.slf4j.Logger;
+
+/**
+ * Keeps track of the bulk requests which were sent asynchronously, in the order they were sent.
+ * Bulks are acknowledged strictly in that order: a bulk is only acknowledged once it and all bulks
+ * sent before it were flushed successfully. A failed bulk is sent again, and holds back the
+ * acknowledgement of all following bulks until it succeeds. Together, this guarantees that the
+ * exported position never moves past a record which was not flushed.
+ *
+ * <p>Not thread-safe; all methods are expected to be called from the exporter.
+ */
+final class InFlightBulks {
+
+  private final Deque<InFlightBulk> bulks = new ArrayDeque<>();
+  private final ElasticsearchClient client;
+  private final int maxInFlightRequests;
+  private final Logger log;
+
+  InFlightBulks(final ElasticsearchClient client, final int maxInFlightRequests, final Logger log) {
+    this.client = client;
+    this.maxInFlightRequests = maxInFlightRequests;
+    this.log = log;
+  }
+
+  /**
+   * Sends the given bulk asynchronously.
+   *
+   * @param bulk the bulk to send
+   * @param lastPosition the position of the last record in the bulk
+   * @param recordCounters the record counters after the last record in the bulk
+   */
+  void send(
+      final BulkIndexRequest bulk,
+      final long lastPosition,
+      final Map<ValueType, Long> recordCounters) {
+    final var inFlightBulk = new InFlightBulk(bulk, lastPosition, new EnumMap<>(recordCounters));
+    inFlightBulk.response = client.exportBulkAsync(bulk);
+    bulks.addLast(inFlightBulk);
+    client.recordBulkQueueDepth(bulks.size());
+  }
+
+  boolean isFull() {
+    return bulks.size() >= maxInFlightRequests;
+  }
+
+  boolean isEmpty() {
+    return bulks.isEmpty();
+  }
+
+  /**
+   * Acknowledges all bulks which were flushed successfully, in order, without waiting. If the
+   * oldest unacknowledged bulk failed, it is sent again.
+   *
+   * @return the last acknowledged bulk, if any
+   */
+  Optional<InFlightBulk> acknowledge() {
+    InFlightBulk acknowledged = null;
+    while (!bulks.isEmpty() && bulks.peekFirst().response.isDone()) {
+      final var oldest = bulks.peekFirst();
+      if (oldest.response.isCompletedExceptionally()) {
+        final var error = oldest.response.handle((ok, failure) -> failure).join();
+        log.warn("Failed to flush bulk request, will retry it", error);
+        retry(oldest);
+        break;
+      }
+
+      acknowledged = bulks.removeFirst();
+    }
+
+    client.recordBulkQueueDepth(bulks.size());
+    return Optional.ofNullable(acknowledged);
+  }
+
+  /**
+   * Waits until the oldest unacknowledged bulk is flushed, and acknowledges it together with all
+   * following bulks which were flushed in the meantime.
+   *
+   * @return the last acknowledged bulk, if any
+   * @throws ElasticsearchExporterException if the oldest bulk failed to flush; it is then sent
+   *     again
+   */
+  Optional<InFlightBulk> awaitOldest() {
+    final var oldest = bulks.peekFirst();
+    if (oldest == null) {
+      return Optional.empty();
+    }
+
+    try {
+      oldest.response.join();
+    } catch (final CompletionException e) {
+      retry(oldest);
+      if (e.getCause() instanceof final ElasticsearchExporterException cause) {
+        throw cause;
+      }
+      throw new ElasticsearchExporterException("Failed to flush bulk", e.getCause());
+    }
+
+    return acknowledge();
+  }
+
+  private void retry(final InFlightBulk bulk) {
+    bulk.response = client.exportBulkAsync(bulk.request);
+  }
+
+  static final class InFlightBulk {
+    private final BulkIndexRequest request;
+    private final long lastPosition;
+    private final Map<ValueType, Long> recordCounters;
+    private CompletableFuture<Void> response;
+
+    private InFlightBulk(
+        final BulkIndexRequest request,
+        final long lastPosition,
+        final Map<ValueType, Long> recordCounters) {
+      this.request = request;
+      this.lastPosition = lastPosition;
+      this.recordCounters = recordCounters;
+    }
+
+    long lastPosition() {
+      return lastPosition;
+    }
+
+    Map<ValueType, Long> recordCounters() {
+      return recordCounters;
+    }
+  }
+}
@@ -30,7 +30,9 @@ import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.ValueType;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -313,6 +315,134 @@ final class ElasticsearchExporterTest {
     }
   }
 
+  @Nested
+  final class PipelinedFlushTest {
+    private final List<CompletableFuture<Void>> responses = new ArrayList<>();
+    private boolean failResponses;
+
+    @BeforeEach
+    void beforeEach() {
+      config.bulk.maxInFlightRequests = 2;
+      when(client.shouldFlush()).thenReturn(true);
+      when(client.detachBulk()).thenAnswer(i -> new BulkIndexRequest());
+      when(client.exportBulkAsync(any()))
+          .thenAnswer(
+              i -> {
+                final var response = new CompletableFuture<Void>();
+                if (failResponses) {
+                  response.completeExceptionally(new ElasticsearchExporterException("failed"));
+                }
+                responses.add(response);
+                return response;
+              });
+      exporter.configure(context);
+      exporter.open(controller);
+    }
+
+    @Test
+    void shouldNotFlushSynchronously() {
+      // when
+      exporter.export(recordAt(10L));
+
+      // then
+      verify(client, never()).flush();
+      verify(client, times(1)).exportBulkAsync(any());
+      assertThat(controller.getPosition()).isEqualTo(-1L);
+    }
+
+    @Test
+    void shouldUpdatePositionOnceBulkIsAcknowledged() {
+      // given
+      exporter.export(recordAt(10L));
+
+      // when
+      responses.get(0).complete(null);
+      controller.runScheduledTasks(Duration.ofSeconds(1));
+
+      // then
+      assertThat(controller.getPosition()).isEqualTo(10L);
+    }
+
+    @Test
+    void shouldAcknowledgeBulksInOrder() {
+      // given
+      exporter.export(recordAt(10L));
+      exporter.export(recordAt(20L));
+
+      // when
+      responses.get(1).complete(null);
+      controller.runScheduledTasks(Duration.ofSeconds(1));
+
+      // then
+      assertThat(controller.getPosition()).isEqualTo(-1L);
+
+      // when
+      responses.get(0).complete(null);
+      controller.runScheduledTasks(Duration.ofSeconds(1));
+
+      // then
+      assertThat(controller.getPosition()).isEqualTo(20L);
+    }
+
+    @Test
+    void shouldRetryFailedBulk() {
+      // given
+      exporter.export(recordAt(10L));
+      exporter.export(recordAt(20L));
+      responses.get(1).complete(null);
+
+      // when
+      responses.get(0).completeExceptionally(new ElasticsearchExporterException("failed"));
+      controller.runScheduledTasks(Duration.ofSeconds(1));
+
+      // then
+      verify(client, times(3)).exportBulkAsync(any());
+      assertThat(controller.getPosition()).isEqualTo(-1L);
+
+      // when
+      responses.get(2).complete(null);
+      controller.runScheduledTasks(Duration.ofSeconds(1));
+
+      // then
+      assertThat(controller.getPosition()).isEqualTo(20L);
+    }
+
+    @Test
+    void shouldFailExportIfPipelineIsFullAndOldestBulkFails() {
+      // given
+      exporter.export(recordAt(10L));
+      exporter.export(recordAt(20L));
+      responses.get(0).completeExceptionally(new ElasticsearchExporterException("failed"));
+      failResponses = true;
+
+      // when - then
+      assertThatThrownBy(() -> exporter.export(recordAt(30L)))
+          .isInstanceOf(ElasticsearchExporterException.class);
+      assertThat(controller.getPosition()).isEqualTo(-1L);
+    }
+
+    @Test
+    void shouldAwaitInFlightBulksOnClose() {
+      // given
+      exporter.export(recordAt(10L));
+      responses.get(0).complete(null);
+
+      // when
+      exporter.close();
+
+      // then
+      verify(client, times(1)).flush();
+      assertThat(controller.getPosition()).isEqualTo(10L);
+    }
+
+    private Record<?> recordAt(final long position) {
+      return ImmutableRecord.builder()
+          .withPosition(position)
+          .withValueType(ValueType.PROCESS_INSTANCE)
+          .build();
+    }
+  }
+
   @Nested
   final class ValidationTest {
     @Test
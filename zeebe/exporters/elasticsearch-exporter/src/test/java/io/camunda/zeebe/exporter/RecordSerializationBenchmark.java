@@ -0,0 +1,138 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.exporter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.zeebe.exporter.dto.BulkIndexAction;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.camunda.zeebe.protocol.impl.record.CopiedRecord;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.MessageIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares serializing records with variables for the bulk request, which streams the variables
+ * from their MessagePack encoding, to the plain Jackson serialization, which decodes them into a
+ * map first. Run it via {@link #main(String[])}.
+ */
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class RecordSerializationBenchmark {
+
+  @Param({"JOB", "PROCESS_INSTANCE_CREATION", "MESSAGE"})
+  public ValueType valueType;
+
+  @Param({"10", "1000", "10000"})
+  public int variableCount;
+
+  private final ObjectMapper plainMapper = new ObjectMapper();
+  private final BulkIndexRequest bulkRequest = new BulkIndexRequest();
+  private final BulkIndexAction action = new BulkIndexAction("index", "1-10", "1");
+  private final RecordSequence recordSequence = new RecordSequence(1, 1);
+  private CopiedRecord<?> record;
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(RecordSerializationBenchmark.class.getSimpleName())
+                .build())
+        .run();
+  }
+
+  @Setup
+  public void setup() {
+    final var variables = new UnsafeBuffer(MsgPackConverter.convertToMsgPack(variablesJson()));
+    record =
+        switch (valueType) {
+          case JOB ->
+              newRecord(
+                  new JobRecord().setType("benchmark").setVariables(variables), JobIntent.CREATED);
+          case PROCESS_INSTANCE_CREATION ->
+              newRecord(
+                  new ProcessInstanceCreationRecord()
+                      .setBpmnProcessId("benchmark")
+                      .setVariables(variables),
+                  ProcessInstanceCreationIntent.CREATED);
+          case MESSAGE ->
+              newRecord(
+                  new MessageRecord()
+                      .setName("benchmark")
+                      .setCorrelationKey("key")
+                      .setVariables(variables),
+                  MessageIntent.PUBLISHED);
+          default -> throw new IllegalArgumentException("Unsupported value type " + valueType);
+        };
+  }
+
+  @Benchmark
+  public int serializeStreamingVariables() {
+    bulkRequest.index(action, record, recordSequence);
+    final int size = bulkRequest.memoryUsageBytes();
+    bulkRequest.clear();
+    return size;
+  }
+
+  @Benchmark
+  public int serializeDecodedVariables() throws IOException {
+    return plainMapper.writeValueAsBytes(record).length;
+  }
+
+  private String variablesJson() {
+    final var json = new StringBuilder("{");
+    for (int i = 0; i < variableCount; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append("\"var")
+          .append(i)
+          .append("\":{\"name\":\"value-")
+          .append(i)
+          .append("\",\"count\":")
+          .append(i)
+          .append(",\"tags\":[\"a\",\"b\",\"c\"],\"active\":true}");
+    }
+    return json.append('}').toString();
+  }
+
+  private CopiedRecord<?> newRecord(final UnifiedRecordValue value, final Intent intent) {
+    final var metadata =
+        new RecordMetadata().recordType(RecordType.EVENT).valueType(valueType).intent(intent);
+    return new CopiedRecord<>(value, metadata, 1, 1, 10, 5, System.currentTimeMillis());
+  }
+}
@@ -15,11 +15,13 @@ import io.camunda.zeebe.broker.client.api.BrokerClusterState;
 import io.camunda.zeebe.broker.client.api.BrokerTopologyManager;
 import io.camunda.zeebe.broker.client.api.dto.BrokerRequest;
 import io.camunda.zeebe.gateway.ResponseMapper.BrokerResponseMapper;
+import io.camunda.zeebe.gateway.grpc.BatchResponseCollector;
 import io.camunda.zeebe.gateway.grpc.ServerStreamObserver;
 import io.camunda.zeebe.gateway.impl.broker.RequestRetryHandler;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.camunda.zeebe.gateway.impl.configuration.MultiTenancyCfg;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.camunda.zeebe.gateway.impl.stream.JobStreamRequestObserver;
 import io.camunda.zeebe.gateway.impl.stream.StreamJobsHandler;
 import io.camunda.zeebe.gateway.interceptors.InterceptorUtil;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
@@ -35,8 +37,11 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResult;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstancesRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstancesResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeleteResourceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeleteResourceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeployProcessRequest;
@@ -47,6 +52,8 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.EvaluateDecisionReque
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.EvaluateDecisionResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobStreamRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobStreamResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.MigrateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.MigrateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ModifyProcessInstanceRequest;
@@ -56,6 +63,9 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBr
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerRole;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesRequest;
@@ -73,14 +83,22 @@ import io.camunda.zeebe.protocol.record.value.TenantOwned;
 import io.camunda.zeebe.util.VersionUtil;
 import io.grpc.Context;
 import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 public final class EndpointManager {
 
+  /**
+   * The maximum number of items of a single batch request. Every item is sent as its own broker
+   * request, so this bounds how many requests a single call can put in flight at once.
+   */
+  public static final int MAX_BATCH_SIZE = 1_000;
+
   private final BrokerClient brokerClient;
   private final BrokerTopologyManager topologyManager;
   private final ActivateJobsHandler activateJobsHandler;
@@ -179,6 +197,12 @@ public final class EndpointManager {
     }
   }
 
+  public StreamObserver<JobStreamRequest> streamJobs(
+      final ServerCallStreamObserver<JobStreamResponse> responseObserver) {
+    return new JobStreamRequestObserver(
+        responseObserver, streamJobsHandler, this::sendJobStreamCommand);
+  }
+
   public void activateJobs(
       final ActivateJobsRequest request,
       final ServerStreamObserver<ActivateJobsResponse> responseObserver) {
@@ -223,6 +247,26 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void createProcessInstances(
+      final CreateProcessInstancesRequest request,
+      final ServerStreamObserver<CreateProcessInstancesResponse> responseObserver) {
+    if (!isValidBatchSize(request.getInstancesCount(), "process instances", responseObserver)) {
+      return;
+    }
+
+    final var collector =
+        new BatchResponseCollector<>(
+            request.getInstancesCount(),
+            (CreateProcessInstanceResponse instance) ->
+                CreateProcessInstanceResult.newBuilder().setInstance(instance).build(),
+            error -> CreateProcessInstanceResult.newBuilder().setError(error).build(),
+            results -> CreateProcessInstancesResponse.newBuilder().addAllResults(results).build(),
+            responseObserver);
+    for (int i = 0; i < request.getInstancesCount(); i++) {
+      createProcessInstance(request.getInstances(i), collector.itemObserver(i));
+    }
+  }
+
   public void createProcessInstanceWithResult(
       final CreateProcessInstanceWithResultRequest request,
       final ServerStreamObserver<CreateProcessInstanceWithResultResponse> responseObserver) {
@@ -304,6 +348,26 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void publishMessages(
+      final PublishMessagesRequest request,
+      final ServerStreamObserver<PublishMessagesResponse> responseObserver) {
+    if (!isValidBatchSize(request.getMessagesCount(), "messages", responseObserver)) {
+      return;
+    }
+
+    final var collector =
+        new BatchResponseCollector<>(
+            request.getMessagesCount(),
+            (PublishMessageResponse message) ->
+                PublishMessageResult.newBuilder().setMessage(message).build(),
+            error -> PublishMessageResult.newBuilder().setError(error).build(),
+            results -> PublishMessagesResponse.newBuilder().addAllResults(results).build(),
+            responseObserver);
+    for (int i = 0; i < request.getMessagesCount(); i++) {
+      publishMessage(request.getMessages(i), collector.itemObserver(i));
+    }
+  }
+
   public void resolveIncident(
       final ResolveIncidentRequest request,
       final ServerStreamObserver<ResolveIncidentResponse> responseObserver) {
@@ -419,6 +483,27 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  private boolean isValidBatchSize(
+      final int size, final String items, final StreamObserver<?> responseObserver) {
+    if (size == 0) {
+      responseObserver.onError(
+          new IllegalArgumentException(
+              "Expected at least one item in the batch, but no %s were given"
+                  .formatted(items)));
+      return false;
+    }
+
+    if (size > MAX_BATCH_SIZE) {
+      responseObserver.onError(
+          new IllegalArgumentException(
+              "Expected at most %d %s per request, but %d were given"
+                  .formatted(MAX_BATCH_SIZE, items, size)));
+      return false;
+    }
+
+    return true;
+  }
+
   private <GrpcRequestT, BrokerResponseT, GrpcResponseT> void sendRequest(
       final GrpcRequestT grpcRequest,
       final Function<GrpcRequestT, BrokerRequest<BrokerResponseT>> requestMapper,
@@ -439,6 +524,42 @@ public final class EndpointManager {
         streamObserver::onError);
   }
 
+  private void sendJobStreamCommand(
+      final JobStreamRequest request,
+      final Runnable onSuccess,
+      final Consumer<Throwable> onError) {
+    switch (request.getRequestCase()) {
+      case COMPLETE ->
+          sendJobStreamCommand(
+              request.getComplete(), RequestMapper::toCompleteJobRequest, onSuccess, onError);
+      case FAIL ->
+          sendJobStreamCommand(
+              request.getFail(), RequestMapper::toFailJobRequest, onSuccess, onError);
+      default ->
+          onError.accept(
+              new IllegalArgumentException(
+                  "Expected to send a job command, but got '%s'"
+                      .formatted(request.getRequestCase())));
+    }
+  }
+
+  private <GrpcRequestT, BrokerResponseT> void sendJobStreamCommand(
+      final GrpcRequestT grpcRequest,
+      final Function<GrpcRequestT, BrokerRequest<BrokerResponseT>> requestMapper,
+      final Runnable onSuccess,
+      final Consumer<Throwable> onError) {
+
+    final BrokerRequest<BrokerResponseT> brokerRequest;
+    try {
+      brokerRequest = mapToBrokerRequest(grpcRequest, requestMapper);
+    } catch (final Exception e) {
+      onError.accept(e);
+      return;
+    }
+
+    brokerClient.sendRequestWithRetry(brokerRequest, (key, response) -> onSuccess.run(), onError);
+  }
+
   private <GrpcRequestT, BrokerResponseT, GrpcResponseT> void sendRequestWithRetryPartitions(
       final GrpcRequestT grpcRequest,
       final Function<GrpcRequestT, BrokerRequest<BrokerResponseT>> requestMapper,
@@ -22,6 +22,8 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstance
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstancesRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstancesResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeleteResourceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeleteResourceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeployProcessRequest;
@@ -32,12 +34,16 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.EvaluateDecisionReque
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.EvaluateDecisionResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobStreamRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobStreamResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.MigrateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.MigrateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ModifyProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ModifyProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesRequest;
@@ -76,6 +82,13 @@ public class GatewayGrpcService extends GatewayImplBase {
         request, ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
   }
 
+  @Override
+  public StreamObserver<JobStreamRequest> streamJobs(
+      final StreamObserver<JobStreamResponse> responseObserver) {
+    return endpointManager.streamJobs(
+        ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
+  }
+
   @Override
   public void cancelProcessInstance(
       final CancelProcessInstanceRequest request,
@@ -108,6 +121,14 @@ public class GatewayGrpcService extends GatewayImplBase {
         request, ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
   }
 
+  @Override
+  public void createProcessInstances(
+      final CreateProcessInstancesRequest request,
+      final StreamObserver<CreateProcessInstancesResponse> responseObserver) {
+    endpointManager.createProcessInstances(
+        request, ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
+  }
+
   @Override
   public void evaluateDecision(
       final EvaluateDecisionRequest request,
@@ -153,6 +174,14 @@ public class GatewayGrpcService extends GatewayImplBase {
         request, ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
   }
 
+  @Override
+  public void publishMessages(
+      final PublishMessagesRequest request,
+      final StreamObserver<PublishMessagesResponse> responseObserver) {
+    endpointManager.publishMessages(
+        request, ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
+  }
+
   @Override
   public void resolveIncident(
       final ResolveIncidentRequest request,
@@ -7,9 +7,9 @@
  */
 package io.camunda.zeebe.gateway;
 
-import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsArray;
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 
+import com.google.protobuf.ByteString;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalResponse;
@@ -59,8 +59,14 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.io.ExpandableDirectBufferOutputStream;
 
 public final class ResponseMapper {
+  // large enough for most variable documents, while keeping the memory retained per thread bounded
+  private static final int MAX_POOLED_JSON_BUFFER_CAPACITY = 1024 * 1024;
+  private static final ThreadLocal<ExpandableArrayBuffer> JSON_BUFFER =
+      ThreadLocal.withInitial(ExpandableArrayBuffer::new);
 
   public static DeployProcessResponse toDeployProcessResponse(
       final long key, final DeploymentRecord brokerResponse) {
@@ -192,7 +198,7 @@ public final class ResponseMapper {
         .setVersion(brokerResponse.getVersion())
         .setTenantId(brokerResponse.getTenantId())
         .setProcessInstanceKey(brokerResponse.getProcessInstanceKey())
-        .setVariables(bufferAsJson(brokerResponse.getVariablesBuffer()))
+        .setVariablesBytes(bufferAsJson(brokerResponse.getVariablesBuffer()))
         .build();
   }
 
@@ -356,11 +362,11 @@ public final class ResponseMapper {
         .setProcessDefinitionVersion(job.getProcessDefinitionVersion())
         .setProcessDefinitionKey(job.getProcessDefinitionKey())
         .setElementInstanceKey(job.getElementInstanceKey())
-        .setCustomHeaders(bufferAsJson(job.getCustomHeadersBuffer()))
+        .setCustomHeadersBytes(bufferAsJson(job.getCustomHeadersBuffer()))
         .setWorker(bufferAsString(job.getWorkerBuffer()))
         .setRetries(job.getRetries())
         .setDeadline(job.getDeadline())
-        .setVariables(bufferAsJson(job.getVariablesBuffer()))
+        .setVariablesBytes(bufferAsJson(job.getVariablesBuffer()))
         .setTenantId(job.getTenantId())
         .build();
   }
@@ -393,8 +399,23 @@ public final class ResponseMapper {
         .build();
   }
 
-  private static String bufferAsJson(final DirectBuffer customHeaders) {
-    return MsgPackConverter.convertToJson(bufferAsArray(customHeaders));
+  /**
+   * Converts the given MessagePack document to JSON, writing it as UTF-8 bytes straight into a
+   * {@link ByteString}, without materializing it as a {@link String} first. The JSON is written
+   * into a buffer pooled per thread, so that only the final byte string is allocated.
+   */
+  private static ByteString bufferAsJson(final DirectBuffer msgPack) {
+    final ExpandableArrayBuffer jsonBuffer = JSON_BUFFER.get();
+    final var outputStream = new ExpandableDirectBufferOutputStream(jsonBuffer);
+    MsgPackConverter.convertToJson(msgPack, outputStream);
+
+    final ByteString json = ByteString.copyFrom(jsonBuffer.byteArray(), 0, outputStream.position());
+    if (jsonBuffer.capacity() > MAX_POOLED_JSON_BUFFER_CAPACITY) {
+      // don't hold on to the memory of an unusually large document
+      JSON_BUFFER.remove();
+    }
+
+    return json;
   }
 
   public record JobActivationResult(
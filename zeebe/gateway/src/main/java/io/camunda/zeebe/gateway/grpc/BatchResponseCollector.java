@@ -0,0 +1,116 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.grpc;
+
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchItemError;
+import io.grpc.Status;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Collects the responses of the items of a batch request, where each item is sent to the broker as
+ * its own request, and completes the batch once every item is done. Results are kept in the order
+ * of the request, regardless of the order in which the items complete, and a failed item is mapped
+ * to a {@link BatchItemError} instead of failing the whole batch.
+ *
+ * @param <GrpcResponseT> the response type of a single item
+ * @param <GrpcResultT> the result type of a single item, i.e. either its response or its error
+ * @param <GrpcBatchResponseT> the response type of the batch
+ */
+public final class BatchResponseCollector<GrpcResponseT, GrpcResultT, GrpcBatchResponseT> {
+  private static final GrpcErrorMapper ERROR_MAPPER = new GrpcErrorMapper();
+
+  private final AtomicReferenceArray<GrpcResultT> results;
+  private final AtomicInteger remainingItems;
+  private final Function<GrpcResponseT, GrpcResultT> responseMapper;
+  private final Function<BatchItemError, GrpcResultT> errorMapper;
+  private final Function<List<GrpcResultT>, GrpcBatchResponseT> batchResponseMapper;
+  private final ServerStreamObserver<GrpcBatchResponseT> batchObserver;
+
+  public BatchResponseCollector(
+      final int size,
+      final Function<GrpcResponseT, GrpcResultT> responseMapper,
+      final Function<BatchItemError, GrpcResultT> errorMapper,
+      final Function<List<GrpcResultT>, GrpcBatchResponseT> batchResponseMapper,
+      final ServerStreamObserver<GrpcBatchResponseT> batchObserver) {
+    results = new AtomicReferenceArray<>(size);
+    remainingItems = new AtomicInteger(size);
+    this.responseMapper = responseMapper;
+    this.errorMapper = errorMapper;
+    this.batchResponseMapper = batchResponseMapper;
+    this.batchObserver = batchObserver;
+  }
+
+  /**
+   * Returns the observer for the item at the given index of the batch. Every item observer must be
+   * completed or failed exactly once, after which the batch is completed.
+   *
+   * @param index the index of the item in the batch request
+   * @return an observer which collects the response of the item
+   */
+  public ServerStreamObserver<GrpcResponseT> itemObserver(final int index) {
+    return new ItemObserver(index);
+  }
+
+  private void onItemResult(final int index, final GrpcResultT result) {
+    results.set(index, result);
+    if (remainingItems.decrementAndGet() > 0) {
+      return;
+    }
+
+    final List<GrpcResultT> orderedResults = new ArrayList<>(results.length());
+    for (int i = 0; i < results.length(); i++) {
+      orderedResults.add(results.get(i));
+    }
+
+    batchObserver.onNext(batchResponseMapper.apply(orderedResults));
+    batchObserver.onCompleted();
+  }
+
+  private final class ItemObserver implements ServerStreamObserver<GrpcResponseT> {
+    private final int index;
+
+    private ItemObserver(final int index) {
+      this.index = index;
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return batchObserver.isCancelled();
+    }
+
+    @Override
+    public void setOnCancelHandler(final Runnable handler) {
+      // items cannot be cancelled on their own, only the batch as a whole
+    }
+
+    @Override
+    public void onNext(final GrpcResponseT value) {
+      onItemResult(index, responseMapper.apply(value));
+    }
+
+    @Override
+    public void onError(final Throwable t) {
+      final Status status = ERROR_MAPPER.mapError(t).getStatus();
+      final var error = BatchItemError.newBuilder().setCode(status.getCode().value());
+      if (status.getDescription() != null) {
+        error.setMessage(status.getDescription());
+      }
+
+      onItemResult(index, errorMapper.apply(error.build()));
+    }
+
+    @Override
+    public void onCompleted() {
+      // the result is collected as soon as the response is received
+    }
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import static io.camunda.zeebe.protocol.Protocol.START_PARTITION_ID;
+
+import io.camunda.zeebe.gateway.metrics.JobActivationMetrics;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Estimates, per job type, which partitions are likely to have jobs to activate, based on the
+ * results of previous activations. Partitions are probed by ascending number of consecutive empty
+ * polls, so partitions which recently returned jobs come first, and partitions which were
+ * repeatedly empty come last. Partitions with the same estimate keep their round-robin order, such
+ * that the load is still spread over all partitions; every partition is still probed if needed.
+ *
+ * <p>Jobs available notifications do not carry the partition the jobs were created on, so a
+ * notification resets the estimate for all partitions of the job type.
+ *
+ * <p>A request stops probing once it activated enough jobs, so a partition which is probed last may
+ * not be probed at all, and its estimate is never corrected. To still find jobs on such partitions,
+ * e.g. when long polling is disabled and there are no notifications, the estimate of a job type is
+ * also reset every {@link #RESET_INTERVAL} requests.
+ *
+ * <p>Job types are arbitrary strings, so the estimate of a job type is removed as soon as it is
+ * reset, or all of its partitions had jobs again. As job types which are not polled anymore may
+ * still keep their last estimate, at most {@link #MAX_JOB_TYPES} job types are tracked; other job
+ * types are simply probed in round-robin order until an estimate is removed.
+ */
+final class JobAvailabilityTracker {
+  // only the order matters, so capping the count keeps partitions which were empty for a long time
+  // comparable with each other, and quickly recovers once they have jobs again
+  private static final int MAX_EMPTY_POLLS = 64;
+  private static final int RESET_INTERVAL = 16;
+  private static final int MAX_JOB_TYPES = 1024;
+
+  private final Map<String, Estimate> estimatesByType = new ConcurrentHashMap<>();
+  private final JobActivationMetrics metrics;
+
+  JobAvailabilityTracker(final JobActivationMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  /**
+   * Returns the partitions to probe for the given job type, in the order in which they should be
+   * probed.
+   *
+   * @param jobType the type of jobs to activate
+   * @param startPartitionId the next partition in round-robin order
+   * @param partitionsCount the number of partitions
+   * @return the IDs of all partitions, ordered by their likelihood to have jobs to activate
+   */
+  int[] orderPartitions(
+      final String jobType, final int startPartitionId, final int partitionsCount) {
+    final var estimate = estimatesByType.get(jobType);
+    final int[] partitionIds = new int[partitionsCount];
+    for (int i = 0; i < partitionsCount; i++) {
+      partitionIds[i] =
+          (i + startPartitionId - START_PARTITION_ID) % partitionsCount + START_PARTITION_ID;
+    }
+
+    if (estimate == null) {
+      return partitionIds;
+    }
+
+    if (estimate.requests().incrementAndGet() % RESET_INTERVAL == 0) {
+      // probe in plain round-robin order, such that partitions which were skipped are probed again
+      estimatesByType.remove(jobType, estimate);
+      return partitionIds;
+    }
+
+    // stable insertion sort, as there are only a few partitions and ties must keep their order
+    final int[] keys = new int[partitionsCount];
+    for (int i = 0; i < partitionsCount; i++) {
+      keys[i] = getEmptyPolls(estimate.emptyPolls(), partitionIds[i]);
+    }
+    for (int i = 1; i < partitionsCount; i++) {
+      final int partitionId = partitionIds[i];
+      final int key = keys[i];
+      int j = i - 1;
+      while (j >= 0 && keys[j] > key) {
+        partitionIds[j + 1] = partitionIds[j];
+        keys[j + 1] = keys[j];
+        j--;
+      }
+      partitionIds[j + 1] = partitionId;
+      keys[j + 1] = key;
+    }
+
+    return partitionIds;
+  }
+
+  /**
+   * Records the result of polling the given partition for jobs of the given type.
+   *
+   * @param jobType the type of the polled jobs
+   * @param partitionId the polled partition
+   * @param hasJobs true if jobs were activated, or more jobs are available on the partition
+   */
+  void onPolled(final String jobType, final int partitionId, final boolean hasJobs) {
+    final int index = partitionId - START_PARTITION_ID;
+    if (hasJobs) {
+      metrics.countActivatingPoll(partitionId);
+      estimatesByType.computeIfPresent(jobType, (type, estimate) -> onHasJobs(estimate, index));
+      return;
+    }
+
+    metrics.countEmptyPoll(partitionId);
+    estimatesByType.compute(jobType, (type, estimate) -> onEmptyPoll(estimate, index));
+  }
+
+  /**
+   * Resets the estimate for the given job type, as new jobs were made available on any partition.
+   *
+   * @param jobType the type of the available jobs
+   */
+  void onJobsAvailable(final String jobType) {
+    estimatesByType.remove(jobType);
+  }
+
+  /** Returns the number of job types for which an estimate is currently kept. */
+  int trackedJobTypes() {
+    return estimatesByType.size();
+  }
+
+  private Estimate onHasJobs(final Estimate estimate, final int index) {
+    final var emptyPolls = estimate.emptyPolls();
+    if (index < emptyPolls.length()) {
+      emptyPolls.set(index, 0);
+    }
+
+    // nothing to estimate anymore if every partition had jobs, so stop tracking the job type
+    for (int i = 0; i < emptyPolls.length(); i++) {
+      if (emptyPolls.get(i) > 0) {
+        return estimate;
+      }
+    }
+    return null;
+  }
+
+  private Estimate onEmptyPoll(final Estimate estimate, final int index) {
+    final Estimate updated;
+    if (estimate == null) {
+      if (estimatesByType.size() >= MAX_JOB_TYPES) {
+        return null;
+      }
+      updated = new Estimate(new AtomicIntegerArray(index + 1), new AtomicInteger());
+    } else if (estimate.emptyPolls().length() <= index) {
+      updated = new Estimate(resize(estimate.emptyPolls(), index + 1), estimate.requests());
+    } else {
+      updated = estimate;
+    }
+
+    updated.emptyPolls().updateAndGet(index, count -> Math.min(count + 1, MAX_EMPTY_POLLS));
+    return updated;
+  }
+
+  private AtomicIntegerArray resize(
+      final AtomicIntegerArray emptyPolls, final int partitionsCount) {
+    final var resized = new AtomicIntegerArray(partitionsCount);
+    for (int i = 0; i < emptyPolls.length(); i++) {
+      resized.set(i, emptyPolls.get(i));
+    }
+    return resized;
+  }
+
+  private int getEmptyPolls(final AtomicIntegerArray emptyPolls, final int partitionId) {
+    final int index = partitionId - START_PARTITION_ID;
+    return index < emptyPolls.length() ? emptyPolls.get(index) : 0;
+  }
+
+  /**
+   * The estimate of a single job type.
+   *
+   * @param emptyPolls the consecutive empty polls, indexed by partition
+   * @param requests the number of requests which used this estimate, to periodically reset it
+   */
+  private record Estimate(AtomicIntegerArray emptyPolls, AtomicInteger requests) {}
+}
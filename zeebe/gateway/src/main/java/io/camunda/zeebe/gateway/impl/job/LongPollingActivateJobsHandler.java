@@ -289,6 +289,7 @@ public final class LongPollingActivateJobsHandler implements ActivateJobsHandler
     // get to avoid the creation of a state instance.
     final var state = jobTypeState.get(jobType);
 
+    activateJobsHandler.onJobsAvailable(jobType);
     if (state != null && state.shouldNotifyAndStartNotification()) {
       LOG.trace("Handle jobs available notification for type {}.", jobType);
       actor.run(
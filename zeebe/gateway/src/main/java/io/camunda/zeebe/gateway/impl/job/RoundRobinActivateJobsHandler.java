@@ -22,6 +22,7 @@ import io.camunda.zeebe.gateway.ResponseMapper.JobActivationResult;
 import io.camunda.zeebe.gateway.grpc.ServerStreamObserver;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerFailJobRequest;
+import io.camunda.zeebe.gateway.metrics.JobActivationMetrics;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
@@ -37,7 +38,9 @@ import java.util.function.Consumer;
 
 /**
  * Iterates in round-robin fashion over partitions to activate jobs. Uses a map from job type to
- * partition-IDs to determine the next partition to use.
+ * partition-IDs to determine the next partition to use. Partitions which are likely to have jobs,
+ * as estimated by the {@link JobAvailabilityTracker}, are probed before partitions which were
+ * recently empty.
  */
 public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler {
 
@@ -49,6 +52,8 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
 
   private final Map<String, RoundRobinDispatchStrategy> jobTypeToNextPartitionId =
       new ConcurrentHashMap<>();
+  private final JobAvailabilityTracker jobAvailability =
+      new JobAvailabilityTracker(new JobActivationMetrics());
   private final BrokerClient brokerClient;
   private final BrokerTopologyManager topologyManager;
   private final long maxMessageSize;
@@ -66,6 +71,16 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
     this.actor = actor;
   }
 
+  /**
+   * Notifies the handler that jobs of the given type were made available on some partition, such
+   * that all partitions are considered again for this type.
+   *
+   * @param jobType the type of the available jobs
+   */
+  public void onJobsAvailable(final String jobType) {
+    jobAvailability.onJobsAvailable(jobType);
+  }
+
   @Override
   public void activateJobs(
       final BrokerActivateJobsRequest request,
@@ -192,6 +207,10 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
 
           final var remainingJobsToActivate = requestState.getRemainingAmount() - jobsCount;
           final var shouldPollCurrentPartitionAgain = response.getTruncated();
+          jobAvailability.onPolled(
+              request.getType(),
+              requestState.getCurrentPartition(),
+              jobsActivated || shouldPollCurrentPartitionAgain);
 
           requestState.setRemainingAmount(remainingJobsToActivate);
           requestState.setPollPrevPartition(shouldPollCurrentPartitionAgain);
@@ -292,9 +311,9 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
       final String jobType, final int partitionsCount) {
     final var nextPartitionSupplier =
         jobTypeToNextPartitionId.computeIfAbsent(jobType, t -> new RoundRobinDispatchStrategy());
+    final var startPartitionId = nextPartitionSupplier.determinePartition(topologyManager);
     return new PartitionIdIterator(
-        nextPartitionSupplier.determinePartition(topologyManager),
-        partitionsCount,
+        jobAvailability.orderPartitions(jobType, startPartitionId, partitionsCount),
         topologyManager);
   }
 
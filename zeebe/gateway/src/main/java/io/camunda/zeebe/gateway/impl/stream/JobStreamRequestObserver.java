@@ -0,0 +1,360 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.stream;
+
+import io.camunda.zeebe.gateway.RequestMapper;
+import io.camunda.zeebe.gateway.grpc.GrpcErrorMapper;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobStreamRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobStreamResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobStreamResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
+import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Handles the client side of a bidirectional job stream. The first request opens the job stream,
+ * after which activated jobs are pushed to the client, and the client can complete or fail jobs
+ * over the same call; the result of each command is sent back inline as a {@link JobStreamResult}.
+ *
+ * <p>Jobs are pushed from the {@link StreamJobsHandler} actor, while command results arrive on the
+ * broker client's threads, so all writes to the response observer are synchronized on this
+ * instance.
+ *
+ * <p>Inbound flow control is managed manually: the call only requests as many messages from the
+ * client as there may be commands in flight, and requests one more every time a command's result
+ * was sent. This bounds the number of pending commands per stream, as a client which sends faster
+ * than the broker processes its commands is simply not read from.
+ */
+public final class JobStreamRequestObserver implements StreamObserver<JobStreamRequest> {
+  /** The maximum number of commands which may be in flight for a single job stream. */
+  static final int MAX_PENDING_COMMANDS = 32;
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(JobStreamRequestObserver.class);
+
+  private final GrpcErrorMapper errorMapper = new GrpcErrorMapper();
+  private final ActivatedJobObserver jobObserver = new ActivatedJobObserver();
+  private final ServerCallStreamObserver<JobStreamResponse> responseObserver;
+  private final StreamJobsHandler streamJobsHandler;
+  private final JobCommandSender commandSender;
+
+  private boolean isActivated;
+  private boolean isHalfClosed;
+  private boolean isClosed;
+  private int pendingCommands;
+  private Runnable jobStreamRemover;
+
+  public JobStreamRequestObserver(
+      final ServerCallStreamObserver<JobStreamResponse> responseObserver,
+      final StreamJobsHandler streamJobsHandler,
+      final JobCommandSender commandSender) {
+    this.responseObserver = responseObserver;
+    this.streamJobsHandler = streamJobsHandler;
+    this.commandSender = commandSender;
+
+    // the handlers can only be set before the call is started, which is long before the job stream
+    // is opened, so we register them here and remove the stream ourselves once the call is closed
+    responseObserver.setOnCancelHandler(this::onCallClosed);
+    responseObserver.setOnCloseHandler(this::onCallClosed);
+
+    // like the handlers, automatic flow control can only be disabled before the call is started
+    responseObserver.disableAutoInboundFlowControl();
+    responseObserver.request(MAX_PENDING_COMMANDS);
+  }
+
+  @Override
+  public void onNext(final JobStreamRequest request) {
+    switch (request.getRequestCase()) {
+      case ACTIVATE -> activate(request.getActivate());
+      case COMPLETE -> sendCommand(request, request.getComplete().getJobKey());
+      case FAIL -> sendCommand(request, request.getFail().getJobKey());
+      default ->
+          jobObserver.onError(
+              Status.INVALID_ARGUMENT
+                  .withDescription(
+                      "Expected to receive a request to activate, complete, or fail jobs, but it"
+                          + " was empty")
+                  .asRuntimeException());
+    }
+  }
+
+  @Override
+  public void onError(final Throwable error) {
+    LOGGER.trace("Job stream was closed by the client with an error", error);
+    synchronized (this) {
+      isClosed = true;
+    }
+    removeJobStream();
+  }
+
+  @Override
+  public void onCompleted() {
+    synchronized (this) {
+      isHalfClosed = true;
+    }
+
+    // the client will not send any more results, so stop pushing jobs to it; any job which is
+    // still in flight is yielded back since the observer is not ready anymore
+    removeJobStream();
+    completeIfDone();
+  }
+
+  private void activate(final StreamActivatedJobsRequest request) {
+    synchronized (this) {
+      if (isActivated) {
+        jobObserver.onError(
+            Status.INVALID_ARGUMENT
+                .withDescription(
+                    "Expected to open the job stream once, but it was already opened for type '%s'"
+                        .formatted(request.getType()))
+                .asRuntimeException());
+        return;
+      }
+
+      isActivated = true;
+    }
+
+    try {
+      final JobActivationProperties properties = RequestMapper.toJobActivationProperties(request);
+      streamJobsHandler.handle(request.getType(), properties, jobObserver);
+    } catch (final Exception e) {
+      jobObserver.onError(e);
+      return;
+    }
+
+    // the activation does not occupy a command slot, so release the message it consumed
+    requestNextMessage();
+  }
+
+  private void sendCommand(final JobStreamRequest request, final long jobKey) {
+    synchronized (this) {
+      if (isClosed) {
+        return;
+      }
+
+      pendingCommands++;
+    }
+
+    commandSender.send(
+        request,
+        () -> onCommandResult(jobKey, Status.OK),
+        error -> onCommandResult(jobKey, errorMapper.mapError(error).getStatus()));
+  }
+
+  private void onCommandResult(final long jobKey, final Status status) {
+    synchronized (this) {
+      pendingCommands--;
+      if (isClosed) {
+        return;
+      }
+
+      final var result =
+          JobStreamResult.newBuilder().setJobKey(jobKey).setCode(status.getCode().value());
+      if (status.getDescription() != null) {
+        result.setMessage(status.getDescription());
+      }
+
+      try {
+        responseObserver.onNext(JobStreamResponse.newBuilder().setResult(result).build());
+      } catch (final Exception e) {
+        LOGGER.debug("Failed to send result of command for job {}, closing stream", jobKey, e);
+        isClosed = true;
+        responseObserver.onError(e);
+        return;
+      }
+    }
+
+    requestNextMessage();
+    completeIfDone();
+  }
+
+  private void requestNextMessage() {
+    synchronized (this) {
+      if (isClosed || isHalfClosed) {
+        return;
+      }
+
+      responseObserver.request(1);
+    }
+  }
+
+  private void completeIfDone() {
+    synchronized (this) {
+      if (isClosed || !isHalfClosed || pendingCommands > 0) {
+        return;
+      }
+
+      isClosed = true;
+      responseObserver.onCompleted();
+    }
+  }
+
+  private void onCallClosed() {
+    synchronized (this) {
+      isClosed = true;
+    }
+    removeJobStream();
+  }
+
+  private void removeJobStream() {
+    final Runnable remover;
+    synchronized (this) {
+      remover = jobStreamRemover;
+      jobStreamRemover = null;
+    }
+
+    if (remover != null) {
+      remover.run();
+    }
+  }
+
+  private synchronized boolean isOpen() {
+    return !isClosed && !isHalfClosed;
+  }
+
+  /** Sends a job command, i.e. complete or fail, to the broker on behalf of a job stream. */
+  @FunctionalInterface
+  public interface JobCommandSender {
+
+    /**
+     * Sends the given command to the broker. Exactly one of the callbacks must be called once the
+     * command was processed, or it failed.
+     *
+     * @param request the stream request containing the command
+     * @param onSuccess called if the command was processed
+     * @param onError called if the command could not be sent, or was rejected
+     */
+    void send(JobStreamRequest request, Runnable onSuccess, Consumer<Throwable> onError);
+  }
+
+  /**
+   * Adapts the response observer of the call to the one expected by the {@link StreamJobsHandler},
+   * wrapping every pushed job into a {@link JobStreamResponse}. Since the call's handlers cannot be
+   * set anymore once the stream is activated, the job stream remover is kept here and invoked when
+   * the call is closed.
+   */
+  private final class ActivatedJobObserver extends ServerCallStreamObserver<ActivatedJob> {
+
+    @Override
+    public boolean isReady() {
+      return isOpen() && responseObserver.isReady();
+    }
+
+    @Override
+    public void setOnReadyHandler(final Runnable onReadyHandler) {
+      throw new UnsupportedOperationException(
+          "Expected to set an on ready handler, but it cannot be set once the call is started");
+    }
+
+    @Override
+    public void disableAutoInboundFlowControl() {
+      throw new UnsupportedOperationException(
+          "Expected to disable inbound flow control, but the inbound side is used for commands");
+    }
+
+    @Override
+    public void request(final int count) {
+      throw new UnsupportedOperationException(
+          "Expected to request messages, but the inbound side is used for commands");
+    }
+
+    @Override
+    public void setMessageCompression(final boolean enable) {
+      responseObserver.setMessageCompression(enable);
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return responseObserver.isCancelled();
+    }
+
+    @Override
+    public void setOnCancelHandler(final Runnable onCancelHandler) {
+      setJobStreamRemover(onCancelHandler);
+    }
+
+    @Override
+    public void setCompression(final String compression) {
+      responseObserver.setCompression(compression);
+    }
+
+    @Override
+    public void setOnCloseHandler(final Runnable onCloseHandler) {
+      setJobStreamRemover(onCloseHandler);
+    }
+
+    @Override
+    public void onNext(final ActivatedJob job) {
+      synchronized (JobStreamRequestObserver.this) {
+        if (!isOpen()) {
+          // throwing will cause the job to be yielded back to the broker
+          throw new IllegalStateException(
+              "Expected to push job %d to the client, but the stream is already closed"
+                  .formatted(job.getKey()));
+        }
+
+        responseObserver.onNext(JobStreamResponse.newBuilder().setJob(job).build());
+      }
+    }
+
+    @Override
+    public void onError(final Throwable error) {
+      synchronized (JobStreamRequestObserver.this) {
+        if (isClosed) {
+          return;
+        }
+
+        if (isHalfClosed) {
+          // a job push raced with the client's half-close; the job is yielded back to the broker,
+          // and the call is completed once the results of all pending commands were sent
+          LOGGER.trace("Failed to push job to half-closed stream, yielding it back", error);
+        } else {
+          isClosed = true;
+          responseObserver.onError(error);
+        }
+      }
+      removeJobStream();
+      completeIfDone();
+    }
+
+    @Override
+    public void onCompleted() {
+      synchronized (JobStreamRequestObserver.this) {
+        if (isClosed) {
+          return;
+        }
+
+        if (!isHalfClosed) {
+          isClosed = true;
+          responseObserver.onCompleted();
+        }
+      }
+      removeJobStream();
+      completeIfDone();
+    }
+
+    private void setJobStreamRemover(final Runnable remover) {
+      synchronized (JobStreamRequestObserver.this) {
+        if (isOpen()) {
+          // the stream jobs handler sets the same remover as close and cancel handler
+          jobStreamRemover = remover;
+          return;
+        }
+      }
+
+      // the call was closed before the stream could be registered, so remove it right away; the
+      // remover can handle being called before the stream was added
+      remover.run();
+    }
+  }
+}
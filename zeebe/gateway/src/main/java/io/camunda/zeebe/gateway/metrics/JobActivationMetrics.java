@@ -0,0 +1,30 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.metrics;
+
+import io.prometheus.client.Counter;
+
+public final class JobActivationMetrics {
+  private static final Counter PARTITION_POLLS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("gateway_job_activation_partition_polls")
+          .help(
+              "Number of activate jobs requests sent to a partition, by whether the partition"
+                  + " returned jobs or was empty")
+          .labelNames("partition", "result")
+          .register();
+
+  public void countEmptyPoll(final int partitionId) {
+    PARTITION_POLLS.labels(Integer.toString(partitionId), "empty").inc();
+  }
+
+  public void countActivatingPoll(final int partitionId) {
+    PARTITION_POLLS.labels(Integer.toString(partitionId), "activated").inc();
+  }
+}
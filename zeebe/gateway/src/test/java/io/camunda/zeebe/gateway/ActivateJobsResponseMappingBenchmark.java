@@ -0,0 +1,137 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsArray;
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares mapping a job batch to an activation response, where the variables are written as JSON
+ * bytes straight into the response, to the previous mapping, which converted them to a JSON {@link
+ * String} first. Run it via {@link #main(String[])}.
+ */
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ActivateJobsResponseMappingBenchmark {
+
+  @Param({"1", "32"})
+  public int jobCount;
+
+  @Param({"10", "1000", "10000"})
+  public int variableCount;
+
+  private final JobBatchRecord jobBatch = new JobBatchRecord();
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(ActivateJobsResponseMappingBenchmark.class.getSimpleName())
+                .build())
+        .run();
+  }
+
+  @Setup
+  public void setup() {
+    final var variables = new UnsafeBuffer(MsgPackConverter.convertToMsgPack(variablesJson()));
+    final var customHeaders =
+        new UnsafeBuffer(MsgPackConverter.convertToMsgPack(Map.of("header", "value")));
+    final var batch = new JobBatchRecord().setType("benchmark").setWorker("worker");
+    for (int i = 0; i < jobCount; i++) {
+      batch.jobKeys().add().setValue(i);
+      batch
+          .jobs()
+          .add()
+          .setType("benchmark")
+          .setWorker("worker")
+          .setBpmnProcessId("process")
+          .setElementId("task")
+          .setCustomHeaders(customHeaders)
+          .setVariables(variables);
+    }
+
+    // read the batch from its serialized form, as it is received from the broker
+    final var buffer = new ExpandableArrayBuffer();
+    batch.write(buffer, 0);
+    jobBatch.wrap(buffer, 0, batch.getLength());
+  }
+
+  @Benchmark
+  public int mapJsonBytes() {
+    return ResponseMapper.toActivateJobsResponse(1, jobBatch, Long.MAX_VALUE)
+        .activateJobsResponse()
+        .getSerializedSize();
+  }
+
+  @Benchmark
+  public int mapJsonStrings() {
+    final var response = ActivateJobsResponse.newBuilder();
+    final var jobKeys = jobBatch.jobKeys().iterator();
+    for (final JobRecord job : jobBatch.jobs()) {
+      response.addJobs(
+          ActivatedJob.newBuilder()
+              .setKey(jobKeys.next().getValue())
+              .setType(bufferAsString(job.getTypeBuffer()))
+              .setBpmnProcessId(job.getBpmnProcessId())
+              .setElementId(job.getElementId())
+              .setCustomHeaders(
+                  MsgPackConverter.convertToJson(bufferAsArray(job.getCustomHeadersBuffer())))
+              .setWorker(bufferAsString(job.getWorkerBuffer()))
+              .setVariables(MsgPackConverter.convertToJson(bufferAsArray(job.getVariablesBuffer())))
+              .setTenantId(job.getTenantId()));
+    }
+
+    return response.build().getSerializedSize();
+  }
+
+  private String variablesJson() {
+    final var json = new StringBuilder("{");
+    for (int i = 0; i < variableCount; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append("\"var")
+          .append(i)
+          .append("\":{\"name\":\"value-")
+          .append(i)
+          .append("\",\"count\":")
+          .append(i)
+          .append(",\"tags\":[\"a\",\"b\",\"c\"],\"active\":true}");
+    }
+    return json.append('}').toString();
+  }
+}
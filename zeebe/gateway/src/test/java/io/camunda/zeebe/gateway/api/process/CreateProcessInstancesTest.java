@@ -0,0 +1,182 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.api.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.broker.client.api.dto.BrokerError;
+import io.camunda.zeebe.broker.client.api.dto.BrokerErrorResponse;
+import io.camunda.zeebe.broker.client.api.dto.BrokerRejection;
+import io.camunda.zeebe.broker.client.api.dto.BrokerRejectionResponse;
+import io.camunda.zeebe.broker.client.api.dto.BrokerRequest;
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.gateway.EndpointManager;
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient.RequestHandler;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstancesRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstancesResponse;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
+import io.camunda.zeebe.protocol.record.ErrorCode;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public final class CreateProcessInstancesTest extends GatewayTest {
+
+  private static final long INSTANCE_KEY_OFFSET = 1_000;
+
+  @Test
+  public void shouldCreateEveryInstanceInOrder() {
+    // given
+    registerHandler(CreateProcessInstancesTest::respondWithInstance);
+
+    final CreateProcessInstancesRequest request =
+        CreateProcessInstancesRequest.newBuilder()
+            .addInstances(CreateProcessInstanceRequest.newBuilder().setProcessDefinitionKey(3))
+            .addInstances(CreateProcessInstanceRequest.newBuilder().setProcessDefinitionKey(1))
+            .addInstances(CreateProcessInstanceRequest.newBuilder().setProcessDefinitionKey(2))
+            .build();
+
+    // when
+    final CreateProcessInstancesResponse response = client.createProcessInstances(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .hasSize(3)
+        .allMatch(CreateProcessInstanceResult::hasInstance)
+        .extracting(result -> result.getInstance().getProcessDefinitionKey())
+        .containsExactly(3L, 1L, 2L);
+    assertThat(response.getResultsList())
+        .extracting(result -> result.getInstance().getProcessInstanceKey())
+        .containsExactly(3 + INSTANCE_KEY_OFFSET, 1 + INSTANCE_KEY_OFFSET, 2 + INSTANCE_KEY_OFFSET);
+    assertThat(brokerClient.getBrokerRequests())
+        .map(brokerRequest -> (BrokerCreateProcessInstanceRequest) brokerRequest)
+        .map(brokerRequest -> brokerRequest.getRequestWriter().getProcessDefinitionKey())
+        .containsExactly(3L, 1L, 2L);
+  }
+
+  @Test
+  public void shouldReturnErrorPerInstanceWithoutFailingOthers() {
+    // given
+    registerHandler(
+        request -> {
+          if (request.getRequestWriter().getProcessDefinitionKey() == 2) {
+            return new BrokerRejectionResponse<>(
+                new BrokerRejection(
+                    ProcessInstanceCreationIntent.CREATE, 2, RejectionType.NOT_FOUND, "expected"));
+          }
+          return respondWithInstance(request);
+        });
+
+    final CreateProcessInstancesRequest request =
+        CreateProcessInstancesRequest.newBuilder()
+            .addInstances(CreateProcessInstanceRequest.newBuilder().setProcessDefinitionKey(1))
+            .addInstances(CreateProcessInstanceRequest.newBuilder().setProcessDefinitionKey(2))
+            .addInstances(CreateProcessInstanceRequest.newBuilder().setProcessDefinitionKey(3))
+            .build();
+
+    // when
+    final CreateProcessInstancesResponse response = client.createProcessInstances(request);
+
+    // then
+    assertThat(response.getResultsList()).hasSize(3);
+    assertThat(response.getResults(0).getInstance().getProcessDefinitionKey()).isEqualTo(1L);
+    assertThat(response.getResults(1).hasInstance()).isFalse();
+    assertThat(response.getResults(1).getError().getCode())
+        .isEqualTo(Status.Code.NOT_FOUND.value());
+    assertThat(response.getResults(2).getInstance().getProcessDefinitionKey()).isEqualTo(3L);
+  }
+
+  @Test
+  public void shouldRetryInstanceOnNextPartition() {
+    // given
+    final List<Integer> partitionIds = new ArrayList<>();
+    registerHandler(
+        request -> {
+          partitionIds.add(request.getPartitionId());
+          if (partitionIds.size() == 1) {
+            return new BrokerErrorResponse<>(
+                new BrokerError(ErrorCode.RESOURCE_EXHAUSTED, "Resources exhausted"));
+          }
+          return respondWithInstance(request);
+        });
+
+    final CreateProcessInstancesRequest request =
+        CreateProcessInstancesRequest.newBuilder()
+            .addInstances(CreateProcessInstanceRequest.newBuilder().setProcessDefinitionKey(1))
+            .build();
+
+    // when
+    final CreateProcessInstancesResponse response = client.createProcessInstances(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .hasSize(1)
+        .allMatch(CreateProcessInstanceResult::hasInstance);
+    assertThat(partitionIds).hasSize(2).doesNotHaveDuplicates();
+  }
+
+  @Test
+  public void shouldRejectEmptyBatch() {
+    // given
+    final CreateProcessInstancesRequest request =
+        CreateProcessInstancesRequest.getDefaultInstance();
+
+    // when/then
+    assertThatThrownBy(() -> client.createProcessInstances(request))
+        .isInstanceOf(StatusRuntimeException.class)
+        .extracting(t -> ((StatusRuntimeException) t).getStatus().getCode())
+        .isEqualTo(Status.Code.INVALID_ARGUMENT);
+    assertThat(brokerClient.getBrokerRequests()).isEmpty();
+  }
+
+  @Test
+  public void shouldRejectBatchExceedingMaxSize() {
+    // given
+    final var request = CreateProcessInstancesRequest.newBuilder();
+    for (int i = 0; i <= EndpointManager.MAX_BATCH_SIZE; i++) {
+      request.addInstances(CreateProcessInstanceRequest.newBuilder().setProcessDefinitionKey(1));
+    }
+
+    // when/then
+    assertThatThrownBy(() -> client.createProcessInstances(request.build()))
+        .isInstanceOf(StatusRuntimeException.class)
+        .extracting(t -> ((StatusRuntimeException) t).getStatus().getCode())
+        .isEqualTo(Status.Code.INVALID_ARGUMENT);
+    assertThat(brokerClient.getBrokerRequests()).isEmpty();
+  }
+
+  private void registerHandler(
+      final RequestHandler<BrokerCreateProcessInstanceRequest, BrokerResponse<?>> handler) {
+    brokerClient.registerHandler(
+        BrokerCreateProcessInstanceRequest.class,
+        (RequestHandler<BrokerRequest<?>, BrokerResponse<?>>)
+            request -> handler.handle((BrokerCreateProcessInstanceRequest) request));
+  }
+
+  private static BrokerResponse<ProcessInstanceCreationRecord> respondWithInstance(
+      final BrokerCreateProcessInstanceRequest request) {
+    final long processDefinitionKey = request.getRequestWriter().getProcessDefinitionKey();
+    final long processInstanceKey = processDefinitionKey + INSTANCE_KEY_OFFSET;
+    final var record =
+        new ProcessInstanceCreationRecord()
+            .setBpmnProcessId(CreateProcessInstanceStub.PROCESS_ID)
+            .setVersion(CreateProcessInstanceStub.PROCESS_VERSION)
+            .setProcessDefinitionKey(processDefinitionKey)
+            .setProcessInstanceKey(processInstanceKey);
+    return new BrokerResponse<>(record, 0, processInstanceKey);
+  }
+}
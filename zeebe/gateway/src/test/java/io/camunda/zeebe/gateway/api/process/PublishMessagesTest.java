@@ -0,0 +1,118 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.api.process;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.broker.client.api.dto.BrokerRejection;
+import io.camunda.zeebe.broker.client.api.dto.BrokerRejectionResponse;
+import io.camunda.zeebe.broker.client.api.dto.BrokerRequest;
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.gateway.EndpointManager;
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient.RequestHandler;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessageRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResponse;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.MessageIntent;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import org.junit.Test;
+
+public final class PublishMessagesTest extends GatewayTest {
+
+  @Test
+  public void shouldPublishEveryMessage() {
+    // given
+    new PublishMessageStub().registerWith(brokerClient);
+
+    final PublishMessagesRequest request =
+        PublishMessagesRequest.newBuilder()
+            .addMessages(PublishMessageRequest.newBuilder().setName("a").setCorrelationKey("1"))
+            .addMessages(PublishMessageRequest.newBuilder().setName("b").setCorrelationKey("2"))
+            .build();
+
+    // when
+    final PublishMessagesResponse response = client.publishMessages(request);
+
+    // then
+    assertThat(response.getResultsList()).hasSize(2).allMatch(PublishMessageResult::hasMessage);
+    assertThat(brokerClient.getBrokerRequests())
+        .map(brokerRequest -> (BrokerPublishMessageRequest) brokerRequest)
+        .map(brokerRequest -> bufferAsString(brokerRequest.getRequestWriter().getNameBuffer()))
+        .containsExactly("a", "b");
+  }
+
+  @Test
+  public void shouldReturnErrorPerMessageInOrder() {
+    // given
+    final var stub = new PublishMessageStub();
+    brokerClient.registerHandler(
+        BrokerPublishMessageRequest.class,
+        (RequestHandler<BrokerRequest<?>, BrokerResponse<?>>)
+            request -> {
+              final var publishRequest = (BrokerPublishMessageRequest) request;
+              if (bufferAsString(publishRequest.getRequestWriter().getMessageIdBuffer())
+                  .equals("duplicate")) {
+                return new BrokerRejectionResponse<>(
+                    new BrokerRejection(
+                        MessageIntent.PUBLISH, 1, RejectionType.ALREADY_EXISTS, "expected"));
+              }
+              return stub.handle(publishRequest);
+            });
+
+    final PublishMessagesRequest request =
+        PublishMessagesRequest.newBuilder()
+            .addMessages(PublishMessageRequest.newBuilder().setName("a").setMessageId("duplicate"))
+            .addMessages(PublishMessageRequest.newBuilder().setName("b").setMessageId("unique"))
+            .build();
+
+    // when
+    final PublishMessagesResponse response = client.publishMessages(request);
+
+    // then
+    assertThat(response.getResultsList()).hasSize(2);
+    assertThat(response.getResults(0).getError().getCode())
+        .isEqualTo(Status.Code.ALREADY_EXISTS.value());
+    assertThat(response.getResults(1).hasMessage()).isTrue();
+  }
+
+  @Test
+  public void shouldRejectEmptyBatch() {
+    // given
+    final PublishMessagesRequest request = PublishMessagesRequest.getDefaultInstance();
+
+    // when/then
+    assertThatThrownBy(() -> client.publishMessages(request))
+        .isInstanceOf(StatusRuntimeException.class)
+        .extracting(t -> ((StatusRuntimeException) t).getStatus().getCode())
+        .isEqualTo(Status.Code.INVALID_ARGUMENT);
+    assertThat(brokerClient.getBrokerRequests()).isEmpty();
+  }
+
+  @Test
+  public void shouldRejectBatchExceedingMaxSize() {
+    // given
+    final var request = PublishMessagesRequest.newBuilder();
+    for (int i = 0; i <= EndpointManager.MAX_BATCH_SIZE; i++) {
+      request.addMessages(PublishMessageRequest.newBuilder().setName("a"));
+    }
+
+    // when/then
+    assertThatThrownBy(() -> client.publishMessages(request.build()))
+        .isInstanceOf(StatusRuntimeException.class)
+        .extracting(t -> ((StatusRuntimeException) t).getStatus().getCode())
+        .isEqualTo(Status.Code.INVALID_ARGUMENT);
+    assertThat(brokerClient.getBrokerRequests()).isEmpty();
+  }
+}
@@ -17,6 +17,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import org.agrona.LangUtil;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -73,6 +74,18 @@ public final class MsgPackConverterTest {
     assertThat(new String(jsonBytes, StandardCharsets.UTF_8)).isEqualTo(JSON);
   }
 
+  @Test
+  public void shouldConvertFromMsgPackBufferToJsonOutputStream() {
+    // given
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    // when
+    MsgPackConverter.convertToJson(new UnsafeBuffer(MSG_PACK), outputStream);
+
+    // then
+    assertThat(new String(outputStream.toByteArray(), StandardCharsets.UTF_8)).isEqualTo(JSON);
+  }
+
   @Test
   public void shouldConvertStringFromMsgPackToJsonString() {
     // when
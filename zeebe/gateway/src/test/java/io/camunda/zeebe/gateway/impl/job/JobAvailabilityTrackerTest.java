@@ -0,0 +1,140 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.gateway.metrics.JobActivationMetrics;
+import org.junit.jupiter.api.Test;
+
+final class JobAvailabilityTrackerTest {
+  private final JobAvailabilityTracker tracker =
+      new JobAvailabilityTracker(new JobActivationMetrics());
+
+  @Test
+  void shouldKeepRoundRobinOrderWithoutEstimate() {
+    // when
+    final var partitions = tracker.orderPartitions("foo", 3, 4);
+
+    // then
+    assertThat(partitions).containsExactly(3, 4, 1, 2);
+  }
+
+  @Test
+  void shouldProbeEmptyPartitionsLast() {
+    // given
+    tracker.onPolled("foo", 1, false);
+    tracker.onPolled("foo", 1, false);
+    tracker.onPolled("foo", 2, false);
+
+    // when
+    final var partitions = tracker.orderPartitions("foo", 1, 4);
+
+    // then
+    assertThat(partitions).containsExactly(3, 4, 2, 1);
+  }
+
+  @Test
+  void shouldResetEstimateWhenPartitionHasJobs() {
+    // given
+    tracker.onPolled("foo", 1, false);
+    tracker.onPolled("foo", 2, false);
+
+    // when
+    tracker.onPolled("foo", 1, true);
+
+    // then
+    assertThat(tracker.orderPartitions("foo", 1, 3)).containsExactly(1, 3, 2);
+  }
+
+  @Test
+  void shouldResetEstimateOnJobsAvailable() {
+    // given
+    tracker.onPolled("foo", 1, false);
+    tracker.onPolled("foo", 2, false);
+
+    // when
+    tracker.onJobsAvailable("foo");
+
+    // then
+    assertThat(tracker.orderPartitions("foo", 1, 3)).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  void shouldPeriodicallyResetEstimate() {
+    // given
+    tracker.onPolled("foo", 2, false);
+
+    // when - partition 1 always has jobs, so partition 2 is not probed until the estimate is reset
+    int requests = 0;
+    int[] partitions;
+    do {
+      partitions = tracker.orderPartitions("foo", 2, 2);
+      tracker.onPolled("foo", partitions[0], true);
+      requests++;
+    } while (partitions[0] == 1 && requests < 100);
+
+    // then - partition 2 is probed first again
+    assertThat(partitions).containsExactly(2, 1);
+    assertThat(requests).isLessThan(100);
+  }
+
+  @Test
+  void shouldTrackJobTypesIndependently() {
+    // given
+    tracker.onPolled("foo", 1, false);
+
+    // when
+    final var partitions = tracker.orderPartitions("bar", 1, 2);
+
+    // then
+    assertThat(partitions).containsExactly(1, 2);
+  }
+
+  @Test
+  void shouldStopTrackingJobTypeOnceAllPartitionsHadJobs() {
+    // given
+    tracker.onPolled("foo", 1, false);
+    tracker.onPolled("foo", 2, false);
+
+    // when
+    tracker.onPolled("foo", 1, true);
+    tracker.onPolled("foo", 2, true);
+
+    // then
+    assertThat(tracker.trackedJobTypes()).isZero();
+  }
+
+  @Test
+  void shouldStopTrackingJobTypeOnReset() {
+    // given
+    tracker.onPolled("foo", 1, false);
+    tracker.onPolled("bar", 1, false);
+
+    // when
+    tracker.onJobsAvailable("foo");
+    for (int i = 0; i < 100 && tracker.trackedJobTypes() > 0; i++) {
+      tracker.orderPartitions("bar", 1, 2);
+    }
+
+    // then
+    assertThat(tracker.trackedJobTypes()).isZero();
+  }
+
+  @Test
+  void shouldBoundTrackedJobTypes() {
+    // when
+    for (int i = 0; i < 10_000; i++) {
+      tracker.onPolled("type-" + i, 1, false);
+    }
+
+    // then
+    assertThat(tracker.trackedJobTypes()).isLessThan(10_000);
+    assertThat(tracker.orderPartitions("type-9999", 1, 2)).containsExactly(1, 2);
+  }
+}
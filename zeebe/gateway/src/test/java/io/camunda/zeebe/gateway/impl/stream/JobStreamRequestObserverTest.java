@@ -0,0 +1,361 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.zeebe.gateway.impl.stream.JobStreamRequestObserver.JobCommandSender;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobStreamRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobStreamResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobStreamResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
+import io.grpc.Status;
+import io.grpc.Status.Code;
+import io.grpc.stub.ServerCallStreamObserver;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+
+final class JobStreamRequestObserverTest {
+  private final TestResponseObserver responseObserver = new TestResponseObserver();
+  private final StreamJobsHandler streamJobsHandler = mock(StreamJobsHandler.class);
+  private final TestCommandSender commandSender = new TestCommandSender();
+  private final JobStreamRequestObserver requestObserver =
+      new JobStreamRequestObserver(responseObserver, streamJobsHandler, commandSender);
+
+  @Test
+  void shouldOpenJobStreamOnActivate() {
+    // when
+    requestObserver.onNext(activateRequest("foo"));
+
+    // then
+    verify(streamJobsHandler).handle(eq("foo"), any(), any());
+  }
+
+  @Test
+  void shouldRejectSecondActivation() {
+    // given
+    requestObserver.onNext(activateRequest("foo"));
+
+    // when
+    requestObserver.onNext(activateRequest("bar"));
+
+    // then
+    verify(streamJobsHandler).handle(eq("foo"), any(), any());
+    assertThat(responseObserver.error)
+        .isNotNull()
+        .extracting(Status::fromThrowable)
+        .extracting(Status::getCode)
+        .isEqualTo(Code.INVALID_ARGUMENT);
+  }
+
+  @Test
+  void shouldWrapPushedJobs() {
+    // given
+    final var jobObserver = captureJobObserver();
+    requestObserver.onNext(activateRequest("foo"));
+
+    // when
+    jobObserver.get().onNext(ActivatedJob.newBuilder().setKey(1).build());
+
+    // then
+    assertThat(responseObserver.responses)
+        .extracting(JobStreamResponse::getJob)
+        .extracting(ActivatedJob::getKey)
+        .containsExactly(1L);
+  }
+
+  @Test
+  void shouldSendCommandResultInline() {
+    // given
+    requestObserver.onNext(completeRequest(1));
+    requestObserver.onNext(failRequest(2));
+
+    // when
+    commandSender.onSuccess.get(0).run();
+    commandSender.onError.get(1).accept(new IllegalArgumentException("bad request"));
+
+    // then
+    assertThat(responseObserver.responses)
+        .extracting(JobStreamResponse::getResult)
+        .containsExactly(
+            JobStreamResult.newBuilder().setJobKey(1).setCode(Code.OK.value()).build(),
+            JobStreamResult.newBuilder()
+                .setJobKey(2)
+                .setCode(Code.INVALID_ARGUMENT.value())
+                .setMessage("bad request")
+                .build());
+  }
+
+  @Test
+  void shouldCompleteOnceAllCommandsAreDoneAfterHalfClose() {
+    // given
+    requestObserver.onNext(completeRequest(1));
+
+    // when
+    requestObserver.onCompleted();
+
+    // then
+    assertThat(responseObserver.isCompleted).isFalse();
+    commandSender.onSuccess.get(0).run();
+    assertThat(responseObserver.isCompleted).isTrue();
+    assertThat(responseObserver.responses).hasSize(1);
+  }
+
+  @Test
+  void shouldNotFailCallIfJobPushRacesWithHalfClose() {
+    // given
+    final var jobObserver = captureJobObserver();
+    requestObserver.onNext(activateRequest("foo"));
+    requestObserver.onNext(completeRequest(1));
+    requestObserver.onCompleted();
+
+    // when - the handler fails to push a job since the stream was half-closed concurrently
+    final var job = ActivatedJob.newBuilder().setKey(2).build();
+    assertThatThrownBy(() -> jobObserver.get().onNext(job))
+        .isInstanceOf(IllegalStateException.class);
+    jobObserver.get().onError(new IllegalStateException("failed to push job"));
+
+    // then
+    assertThat(responseObserver.error).isNull();
+    assertThat(responseObserver.isCompleted).isFalse();
+    commandSender.onSuccess.get(0).run();
+    assertThat(responseObserver.isCompleted).isTrue();
+    assertThat(responseObserver.responses)
+        .extracting(JobStreamResponse::getResult)
+        .containsExactly(
+            JobStreamResult.newBuilder().setJobKey(1).setCode(Code.OK.value()).build());
+  }
+
+  @Test
+  void shouldOnlyRequestAsManyMessagesAsCommandsMayBePending() {
+    // then
+    assertThat(responseObserver.isAutoInboundFlowControlDisabled).isTrue();
+    assertThat(responseObserver.requestedMessages)
+        .isEqualTo(JobStreamRequestObserver.MAX_PENDING_COMMANDS);
+  }
+
+  @Test
+  void shouldRequestNextMessageOnceCommandResultIsSent() {
+    // given
+    requestObserver.onNext(completeRequest(1));
+    requestObserver.onNext(failRequest(2));
+    assertThat(responseObserver.requestedMessages)
+        .isEqualTo(JobStreamRequestObserver.MAX_PENDING_COMMANDS);
+
+    // when
+    commandSender.onSuccess.get(0).run();
+    commandSender.onError.get(1).accept(new IllegalArgumentException("bad request"));
+
+    // then
+    assertThat(responseObserver.requestedMessages)
+        .isEqualTo(JobStreamRequestObserver.MAX_PENDING_COMMANDS + 2);
+  }
+
+  @Test
+  void shouldRequestNextMessageAfterActivation() {
+    // when
+    requestObserver.onNext(activateRequest("foo"));
+
+    // then
+    assertThat(responseObserver.requestedMessages)
+        .isEqualTo(JobStreamRequestObserver.MAX_PENDING_COMMANDS + 1);
+  }
+
+  @Test
+  void shouldNotRequestMoreMessagesAfterHalfClose() {
+    // given
+    requestObserver.onNext(completeRequest(1));
+    requestObserver.onCompleted();
+
+    // when
+    commandSender.onSuccess.get(0).run();
+
+    // then
+    assertThat(responseObserver.requestedMessages)
+        .isEqualTo(JobStreamRequestObserver.MAX_PENDING_COMMANDS);
+  }
+
+  @Test
+  void shouldRemoveJobStreamOnClose() {
+    // given
+    final var removals = new AtomicInteger();
+    final var jobObserver = captureJobObserver();
+    requestObserver.onNext(activateRequest("foo"));
+    jobObserver.get().setOnCloseHandler(removals::incrementAndGet);
+
+    // when
+    responseObserver.onCloseHandler.run();
+
+    // then
+    assertThat(removals).hasValue(1);
+    assertThat(jobObserver.get().isReady()).isFalse();
+  }
+
+  @Test
+  void shouldRemoveJobStreamOnHalfClose() {
+    // given
+    final var removals = new AtomicInteger();
+    final var jobObserver = captureJobObserver();
+    requestObserver.onNext(activateRequest("foo"));
+    jobObserver.get().setOnCloseHandler(removals::incrementAndGet);
+
+    // when
+    requestObserver.onCompleted();
+
+    // then
+    assertThat(removals).hasValue(1);
+    assertThat(responseObserver.isCompleted).isTrue();
+    assertThatThrownBy(() -> jobObserver.get().onNext(ActivatedJob.getDefaultInstance()))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void shouldRemoveJobStreamImmediatelyIfAlreadyClosed() {
+    // given
+    final var removals = new AtomicInteger();
+    final var jobObserver = captureJobObserver();
+    requestObserver.onNext(activateRequest("foo"));
+    responseObserver.onCancelHandler.run();
+
+    // when
+    jobObserver.get().setOnCancelHandler(removals::incrementAndGet);
+
+    // then
+    assertThat(removals).hasValue(1);
+  }
+
+  @SuppressWarnings("unchecked")
+  private AtomicReference<ServerCallStreamObserver<ActivatedJob>> captureJobObserver() {
+    final var jobObserver = new AtomicReference<ServerCallStreamObserver<ActivatedJob>>();
+    doAnswer(
+            invocation -> {
+              jobObserver.set(invocation.getArgument(2, ServerCallStreamObserver.class));
+              return null;
+            })
+        .when(streamJobsHandler)
+        .handle(any(), any(), any());
+    return jobObserver;
+  }
+
+  private JobStreamRequest activateRequest(final String type) {
+    return JobStreamRequest.newBuilder()
+        .setActivate(StreamActivatedJobsRequest.newBuilder().setType(type).setTimeout(1000))
+        .build();
+  }
+
+  private JobStreamRequest completeRequest(final long jobKey) {
+    return JobStreamRequest.newBuilder()
+        .setComplete(CompleteJobRequest.newBuilder().setJobKey(jobKey))
+        .build();
+  }
+
+  private JobStreamRequest failRequest(final long jobKey) {
+    return JobStreamRequest.newBuilder()
+        .setFail(FailJobRequest.newBuilder().setJobKey(jobKey))
+        .build();
+  }
+
+  private static final class TestCommandSender implements JobCommandSender {
+    private final List<Runnable> onSuccess = new ArrayList<>();
+    private final List<Consumer<Throwable>> onError = new ArrayList<>();
+
+    @Override
+    public void send(
+        final JobStreamRequest request,
+        final Runnable onSuccess,
+        final Consumer<Throwable> onError) {
+      this.onSuccess.add(onSuccess);
+      this.onError.add(onError);
+    }
+  }
+
+  private static final class TestResponseObserver
+      extends ServerCallStreamObserver<JobStreamResponse> {
+    private final List<JobStreamResponse> responses = new ArrayList<>();
+
+    private Runnable onCancelHandler;
+    private Runnable onCloseHandler;
+    private Throwable error;
+    private boolean isCompleted;
+    private boolean isAutoInboundFlowControlDisabled;
+    private int requestedMessages;
+
+    @Override
+    public boolean isCancelled() {
+      return false;
+    }
+
+    @Override
+    public void setOnCancelHandler(final Runnable onCancelHandler) {
+      this.onCancelHandler = onCancelHandler;
+    }
+
+    @Override
+    public void setCompression(final String compression) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean isReady() {
+      return true;
+    }
+
+    @Override
+    public void setOnReadyHandler(final Runnable onReadyHandler) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void request(final int count) {
+      requestedMessages += count;
+    }
+
+    @Override
+    public void setMessageCompression(final boolean enable) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void disableAutoInboundFlowControl() {
+      isAutoInboundFlowControlDisabled = true;
+    }
+
+    @Override
+    public void setOnCloseHandler(final Runnable onCloseHandler) {
+      this.onCloseHandler = onCloseHandler;
+    }
+
+    @Override
+    public void onNext(final JobStreamResponse value) {
+      responses.add(value);
+    }
+
+    @Override
+    public void onError(final Throwable t) {
+      error = t;
+    }
+
+    @Override
+    public void onCompleted() {
+      isCompleted = true;
+    }
+  }
+}
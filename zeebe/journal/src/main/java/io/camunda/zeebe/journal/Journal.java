@@ -18,6 +18,7 @@ package io.camunda.zeebe.journal;
 import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
 import io.camunda.zeebe.journal.JournalException.InvalidIndex;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.List;
 
 public interface Journal extends AutoCloseable {
 
@@ -64,6 +65,20 @@ public interface Journal extends AutoCloseable {
    */
   JournalRecord append(long checksum, byte[] serializedRecord);
 
+  /**
+   * Appends a batch of already serialized journal records, in order. This is equivalent to calling
+   * {@link #append(long, byte[])} for each record, but the available space and whether a new
+   * segment is required is only determined once per segment instead of once per record.
+   *
+   * <p>If appending one of the records fails, the records before it remain appended.
+   *
+   * @param records the serialized records to append; must not be empty
+   * @return the last appended record
+   * @exception InvalidIndex if the index of a record is not the next expected index
+   * @exception InvalidChecksum if the checksum of a record does not match its serialized form
+   */
+  JournalRecord append(List<? extends SerializedJournalRecord> records);
+
   /**
    * Delete all records after indexExclusive. After a call to this method, {@link
    * Journal#getLastIndex()} should return indexExclusive.
@@ -0,0 +1,25 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal;
+
+/**
+ * A journal record which was already serialized, e.g. by the journal of another node, along with
+ * the checksum of its serialized form. See {@link JournalRecord#serializedRecord()}.
+ */
+public interface SerializedJournalRecord {
+
+  /**
+   * @return the checksum of the serialized record
+   */
+  long checksum();
+
+  /**
+   * @return the serialized record
+   */
+  byte[] serializedJournalRecord();
+}
@@ -31,6 +31,16 @@ interface JournalIndex {
    */
   void index(JournalRecord record, int position);
 
+  /**
+   * Indexes the given record index, asqn and position within a segment. Used to restore
+   * previously persisted mappings without having to read the record itself.
+   *
+   * @param index the index of the record
+   * @param position the position of the record in its segment
+   * @param asqn the asqn of the record, or {@link SegmentedJournal#ASQN_IGNORE} if it has none
+   */
+  void index(long index, int position, long asqn);
+
   /**
    * Looks up the position of the given index.
    *
@@ -89,4 +99,19 @@ interface JournalIndex {
    * @return true if this index likely have been already indexed. false if otherwise.
    */
   boolean hasIndexed(long index);
+
+  /**
+   * Visits all mappings with an index between the given bounds (both inclusive), in ascending
+   * order of their index.
+   *
+   * @param fromIndex the lowest index to visit
+   * @param toIndex the highest index to visit
+   * @param visitor called for each indexed mapping
+   */
+  void forEach(long fromIndex, long toIndex, IndexVisitor visitor);
+
+  @FunctionalInterface
+  interface IndexVisitor {
+    void visit(long index, int position, long asqn);
+  }
 }
@@ -27,8 +27,11 @@ import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.util.Set;
+import org.agrona.CloseHelper;
 import org.agrona.IoUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,6 +53,12 @@ final class Segment implements AutoCloseable, FlushableSegment {
   private final Set<SegmentReader> readers = Sets.newConcurrentHashSet();
   private final MappedByteBuffer buffer;
   private final JournalMetrics metrics;
+  private final SegmentFlushMode flushMode;
+  private FileChannel flushChannel;
+
+  // the range of the buffer which was modified since the last flush; marked by the writer and
+  // taken by the flusher, which may run asynchronously
+  private final SegmentDirtyRange dirtyRange;
 
   // This needs to be volatile in case the flushing is asynchronous
   private volatile boolean open = true;
@@ -62,12 +71,17 @@ final class Segment implements AutoCloseable, FlushableSegment {
       final MappedByteBuffer buffer,
       final long lastWrittenAsqn,
       final JournalIndex index,
-      final JournalMetrics metrics) {
+      final JournalMetrics metrics,
+      final SegmentFlushMode flushMode) {
     this.file = file;
     this.descriptor = descriptor;
     this.buffer = buffer;
     this.index = index;
     this.metrics = metrics;
+    this.flushMode = flushMode;
+
+    // we don't know what was modified before, so the first flush covers the whole segment
+    dirtyRange = new SegmentDirtyRange(0, buffer.capacity());
 
     writer = createWriter(lastWrittenAsqn, metrics);
   }
@@ -120,10 +134,31 @@ final class Segment implements AutoCloseable, FlushableSegment {
   @Override
   public boolean flush() {
     final long lastIndex = lastIndex();
+    // take the range before flushing: anything marked afterwards is left for the next flush
+    final long range = dirtyRange.take();
+    if (SegmentDirtyRange.isEmpty(range)) {
+      LOG.trace("Skipped flushing segment {} as nothing was modified", descriptor.id());
+      return true;
+    }
 
+    final int from = SegmentDirtyRange.from(range);
+    final int to = SegmentDirtyRange.to(range);
     try (final var ignored = metrics.observeSegmentFlush()) {
-      buffer.force();
+      switch (flushMode) {
+        case MSYNC -> buffer.force(from, to - from);
+        case FDATASYNC -> flushChannel().force(false);
+        default -> throw new IllegalStateException("Unknown flush mode " + flushMode);
+      }
+    } catch (final IOException e) {
+      dirtyRange.mark(from, to);
+      if (isOpen()) {
+        throw new UncheckedIOException(e);
+      }
+
+      LOG.debug("Flushing failed on a closed or deleted segment, and will be ignored");
+      return false;
     } catch (final UncheckedIOException e) {
+      dirtyRange.mark(from, to);
       if (isOpen()) {
         throw e;
       }
@@ -140,6 +175,25 @@ final class Segment implements AutoCloseable, FlushableSegment {
     return true;
   }
 
+  /**
+   * Marks the given range of the segment's buffer as modified, such that it is covered by the next
+   * flush.
+   *
+   * @param from the start of the modified range, inclusive
+   * @param to the end of the modified range, exclusive
+   */
+  void markDirty(final int from, final int to) {
+    dirtyRange.mark(from, Math.min(to, buffer.capacity()));
+  }
+
+  private FileChannel flushChannel() throws IOException {
+    if (flushChannel == null) {
+      flushChannel = FileChannel.open(file.file().toPath(), StandardOpenOption.WRITE);
+    }
+
+    return flushChannel;
+  }
+
   /**
    * Returns the last application sequence number in the segment.
    *
@@ -229,11 +283,13 @@ final class Segment implements AutoCloseable, FlushableSegment {
     open = false;
     readers.forEach(SegmentReader::close);
     IoUtil.unmap(buffer);
+    CloseHelper.quietClose(flushChannel);
   }
 
   /** Deletes the segment. */
   void delete() {
     open = false;
+    SegmentIndexFile.delete(file);
     markForDeletion();
     if (readers.isEmpty()) {
       safeDelete();
@@ -249,6 +305,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
     }
     try {
       IoUtil.unmap(buffer);
+      CloseHelper.quietClose(flushChannel);
       Files.deleteIfExists(file.getFileMarkedForDeletion());
     } catch (final IOException e) {
       LOG.warn(
@@ -282,9 +339,21 @@ final class Segment implements AutoCloseable, FlushableSegment {
     descriptor.setLastIndex(writer.getLastIndex());
     descriptor.setLastPosition(writer.getLastEntryPosition());
     descriptor.updateIfCurrentVersion(buffer);
+    markDirty(0, descriptor.length());
+  }
+
+  /**
+   * Persists the index mappings of this segment next to it, so that they can be restored on the
+   * next start. Should only be called once the segment is sealed, i.e. no more entries are appended
+   * to it.
+   */
+  void persistIndex() {
+    SegmentIndexFile.write(this, index);
   }
 
   void resetLastEntryInDescriptor() {
+    // the segment is about to be truncated, so its persisted index is outdated
+    SegmentIndexFile.delete(file);
     descriptor.setLastIndex(0);
     descriptor.setLastPosition(0);
     descriptor.updateIfCurrentVersion(buffer);
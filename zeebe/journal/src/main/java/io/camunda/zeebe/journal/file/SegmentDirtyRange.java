@@ -0,0 +1,67 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the range of a segment's buffer which was modified since the last flush. The writer marks
+ * ranges as dirty while the flusher, which may run on a different thread, takes the whole range at
+ * once. Both bounds are packed into a single long, such that marking and taking are atomic with
+ * respect to each other and no modification can get lost between reading and resetting the range.
+ */
+final class SegmentDirtyRange {
+
+  static final long EMPTY = pack(Integer.MAX_VALUE, 0);
+
+  private final AtomicLong range;
+
+  SegmentDirtyRange(final int from, final int to) {
+    range = new AtomicLong(pack(from, to));
+  }
+
+  /**
+   * Extends the dirty range such that it also covers the given range.
+   *
+   * @param from the start of the modified range, inclusive
+   * @param to the end of the modified range, exclusive
+   */
+  void mark(final int from, final int to) {
+    range.accumulateAndGet(
+        pack(from, to),
+        (current, marked) ->
+            pack(Math.min(from(current), from(marked)), Math.max(to(current), to(marked))));
+  }
+
+  /**
+   * Returns the current dirty range and resets it, such that later modifications are only covered
+   * by the next call. If the returned range could not be flushed, it should be given back via
+   * {@link #mark(int, int)}.
+   *
+   * @return the packed range, to be read via {@link #from(long)} and {@link #to(long)}
+   */
+  long take() {
+    return range.getAndSet(EMPTY);
+  }
+
+  static boolean isEmpty(final long range) {
+    return from(range) >= to(range);
+  }
+
+  static int from(final long range) {
+    return (int) (range >>> 32);
+  }
+
+  static int to(final long range) {
+    return (int) range;
+  }
+
+  private static long pack(final int from, final int to) {
+    return ((long) from << 32) | (to & 0xFFFFFFFFL);
+  }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.file;
+
+/**
+ * Defines how the data written to a segment is flushed to disk. Records are always written through
+ * the segment's memory mapped buffer; the mode only selects the system call used to flush them.
+ */
+public enum SegmentFlushMode {
+  /**
+   * Flushes the segment's memory mapped buffer via {@code msync}, limited to the range which was
+   * modified since the last flush.
+   */
+  MSYNC,
+
+  /**
+   * Flushes the segment via {@code fdatasync} on a file channel opened for the segment file. On
+   * Linux, this writes back the pages modified through the memory mapping as well, without having
+   * to walk the mapped range, and skips flushing file metadata which is not required to read the
+   * data back.
+   */
+  FDATASYNC
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads and writes the sidecar index file of a sealed segment. The file contains the {@link
+ * JournalIndex} mappings of the segment, so that they can be restored when the journal is opened
+ * instead of being rebuilt by reading the segment again.
+ *
+ * <p>The file is only an optimization: if it is missing, does not belong to the segment, or does
+ * not match the segment's last index or its own checksum, it is ignored and the index is rebuilt
+ * lazily, as it would be without it. It is written to a temporary file first, which is flushed and
+ * then atomically moved in place, such that a crash never leaves a partially written index file.
+ *
+ * <p>Layout (little endian): version (int), segment id (long), first index (long), last index
+ * (long), entry count (int), entries as (index (long), position (int), asqn (long)), followed by
+ * the CRC32C checksum (int) of all the preceding bytes.
+ */
+final class SegmentIndexFile {
+  private static final Logger LOG = LoggerFactory.getLogger(SegmentIndexFile.class);
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+
+  private static final int VERSION = 1;
+  private static final int HEADER_LENGTH = Integer.BYTES + 3 * Long.BYTES + Integer.BYTES;
+  private static final int ENTRY_LENGTH = Long.BYTES + Integer.BYTES + Long.BYTES;
+  private static final int CHECKSUM_LENGTH = Integer.BYTES;
+  private static final String TMP_SUFFIX = ".tmp";
+
+  private SegmentIndexFile() {}
+
+  /**
+   * Persists the index mappings of the given segment, replacing any previous index file. Failures
+   * are logged and otherwise ignored, since the journal remains correct without the file.
+   */
+  static void write(final Segment segment, final JournalIndex journalIndex) {
+    final var indexFile = segment.file().indexFile();
+    final long firstIndex = segment.index();
+    final long lastIndex = segment.lastIndex();
+
+    final var entries = new EntryCollector();
+    journalIndex.forEach(firstIndex, lastIndex, entries);
+
+    final var buffer =
+        ByteBuffer.allocate(HEADER_LENGTH + entries.count * ENTRY_LENGTH + CHECKSUM_LENGTH)
+            .order(ENDIANNESS);
+    buffer
+        .putInt(VERSION)
+        .putLong(segment.id())
+        .putLong(firstIndex)
+        .putLong(lastIndex)
+        .putInt(entries.count);
+    for (int i = 0; i < entries.count; i++) {
+      buffer.putLong(entries.indexes[i]).putInt(entries.positions[i]).putLong(entries.asqns[i]);
+    }
+    buffer.putInt(checksum(buffer, buffer.position()));
+    buffer.flip();
+
+    final var tmpIndexFile = temporaryIndexFile(indexFile);
+    try {
+      try (final var channel =
+          FileChannel.open(
+              tmpIndexFile,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.WRITE,
+              StandardOpenOption.TRUNCATE_EXISTING)) {
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+        channel.force(true);
+      }
+
+      FileUtil.moveDurably(
+          tmpIndexFile,
+          indexFile,
+          StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+    } catch (final IOException e) {
+      LOG.warn(
+          "Failed to persist index of segment {}; it will be rebuilt from the segment on restart",
+          segment,
+          e);
+      delete(segment.file());
+    }
+  }
+
+  /**
+   * Restores the index mappings of the given segment from its index file, if there is a valid one.
+   * An invalid file is deleted.
+   *
+   * @return true if the mappings were restored, false otherwise
+   */
+  static boolean restore(final Segment segment, final JournalIndex journalIndex) {
+    final var indexFile = segment.file().indexFile();
+    final ByteBuffer buffer;
+    try {
+      buffer = ByteBuffer.wrap(Files.readAllBytes(indexFile)).order(ENDIANNESS);
+    } catch (final NoSuchFileException e) {
+      return false;
+    } catch (final IOException e) {
+      LOG.debug("Failed to read index file {}, ignoring it", indexFile, e);
+      return false;
+    }
+
+    if (!isValid(buffer, segment)) {
+      LOG.debug("Index file {} does not match segment {}, ignoring it", indexFile, segment);
+      delete(segment.file());
+      return false;
+    }
+
+    final int count = buffer.getInt(HEADER_LENGTH - Integer.BYTES);
+    for (int i = 0; i < count; i++) {
+      final int offset = HEADER_LENGTH + i * ENTRY_LENGTH;
+      journalIndex.index(
+          buffer.getLong(offset),
+          buffer.getInt(offset + Long.BYTES),
+          buffer.getLong(offset + Long.BYTES + Integer.BYTES));
+    }
+
+    return true;
+  }
+
+  /** Deletes the index file of the given segment, if any, and any leftover temporary file. */
+  static void delete(final SegmentFile segmentFile) {
+    final var indexFile = segmentFile.indexFile();
+    try {
+      Files.deleteIfExists(temporaryIndexFile(indexFile));
+      Files.deleteIfExists(indexFile);
+    } catch (final IOException e) {
+      LOG.warn(
+          "Failed to delete index file {}; it will be ignored on restart if it is outdated",
+          indexFile,
+          e);
+    }
+  }
+
+  private static Path temporaryIndexFile(final Path indexFile) {
+    return indexFile.resolveSibling(indexFile.getFileName() + TMP_SUFFIX);
+  }
+
+  private static boolean isValid(final ByteBuffer buffer, final Segment segment) {
+    if (buffer.capacity() < HEADER_LENGTH + CHECKSUM_LENGTH) {
+      return false;
+    }
+
+    final int count = buffer.getInt(HEADER_LENGTH - Integer.BYTES);
+    final long expectedLength = HEADER_LENGTH + (long) count * ENTRY_LENGTH + CHECKSUM_LENGTH;
+    if (count < 0 || buffer.capacity() != expectedLength) {
+      return false;
+    }
+
+    final int checksumOffset = buffer.capacity() - CHECKSUM_LENGTH;
+    if (buffer.getInt(checksumOffset) != checksum(buffer, checksumOffset)) {
+      return false;
+    }
+
+    return buffer.getInt(0) == VERSION
+        && buffer.getLong(Integer.BYTES) == segment.id()
+        && buffer.getLong(Integer.BYTES + Long.BYTES) == segment.index()
+        && buffer.getLong(Integer.BYTES + 2 * Long.BYTES) == segment.lastIndex();
+  }
+
+  private static int checksum(final ByteBuffer buffer, final int length) {
+    final var crc = new CRC32C();
+    crc.update(buffer.duplicate().position(0).limit(length));
+    return (int) crc.getValue();
+  }
+
+  private static final class EntryCollector implements JournalIndex.IndexVisitor {
+    private long[] indexes = new long[64];
+    private int[] positions = new int[64];
+    private long[] asqns = new long[64];
+    private int count;
+
+    @Override
+    public void visit(final long index, final int position, final long asqn) {
+      if (count == indexes.length) {
+        indexes = Arrays.copyOf(indexes, count * 2);
+        positions = Arrays.copyOf(positions, count * 2);
+        asqns = Arrays.copyOf(asqns, count * 2);
+      }
+
+      indexes[count] = index;
+      positions[count] = position;
+      asqns[count] = asqn;
+      count++;
+    }
+  }
+}
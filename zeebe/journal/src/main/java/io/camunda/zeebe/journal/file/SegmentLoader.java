@@ -32,6 +32,7 @@ final class SegmentLoader {
   private final SegmentAllocator allocator;
   private final long minFreeDiskSpace;
   private final JournalMetrics metrics;
+  private final SegmentFlushMode flushMode;
 
   SegmentLoader(final int minFreeDiskSpace, final JournalMetrics metrics) {
     this(minFreeDiskSpace, metrics, SegmentAllocator.fill());
@@ -39,9 +40,18 @@ final class SegmentLoader {
 
   SegmentLoader(
       final long minFreeDiskSpace, final JournalMetrics metrics, final SegmentAllocator allocator) {
+    this(minFreeDiskSpace, metrics, allocator, SegmentFlushMode.MSYNC);
+  }
+
+  SegmentLoader(
+      final long minFreeDiskSpace,
+      final JournalMetrics metrics,
+      final SegmentAllocator allocator,
+      final SegmentFlushMode flushMode) {
     this.minFreeDiskSpace = minFreeDiskSpace;
     this.metrics = metrics;
     this.allocator = allocator;
+    this.flushMode = flushMode;
   }
 
   Segment createSegment(
@@ -109,7 +119,8 @@ final class SegmentLoader {
         descriptor.id(),
         descriptor.maxSegmentSize(),
         mappedSegment,
-        journalIndex);
+        journalIndex,
+        flushMode);
   }
 
   Segment loadExistingSegment(
@@ -127,7 +138,12 @@ final class SegmentLoader {
         mappedSegment = mapSegment(channel, descriptor.maxSegmentSize());
       }
 
-      return loadSegment(segmentFile, mappedSegment, descriptor, lastWrittenAsqn, journalIndex);
+      final var segment =
+          loadSegment(segmentFile, mappedSegment, descriptor, lastWrittenAsqn, journalIndex);
+      if (SegmentIndexFile.restore(segment, journalIndex)) {
+        LOGGER.trace("Restored index of segment {} from its index file", segment);
+      }
+      return segment;
     } catch (final IOException e) {
       throw new JournalException(
           String.format("Failed to load existing segment %s", segmentFile), e);
@@ -142,7 +158,8 @@ final class SegmentLoader {
       final long lastWrittenAsqn,
       final JournalIndex journalIndex) {
     final SegmentFile segmentFile = new SegmentFile(file.toFile());
-    return new Segment(segmentFile, descriptor, buffer, lastWrittenAsqn, journalIndex, metrics);
+    return new Segment(
+        segmentFile, descriptor, buffer, lastWrittenAsqn, journalIndex, metrics, flushMode);
   }
 
   private MappedByteBuffer mapSegment(final FileChannel channel, final long segmentSize)
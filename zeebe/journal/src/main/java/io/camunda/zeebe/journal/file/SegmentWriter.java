@@ -24,6 +24,7 @@ import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
 import io.camunda.zeebe.journal.JournalException.InvalidIndex;
 import io.camunda.zeebe.journal.JournalException.SegmentFull;
 import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.SerializedJournalRecord;
 import io.camunda.zeebe.journal.record.JournalRecordReaderUtil;
 import io.camunda.zeebe.journal.record.JournalRecordSerializer;
 import io.camunda.zeebe.journal.record.PersistedJournalRecord;
@@ -35,6 +36,7 @@ import io.camunda.zeebe.util.buffer.BufferWriter;
 import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import java.nio.BufferUnderflowException;
 import java.nio.MappedByteBuffer;
+import java.util.List;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
@@ -96,6 +98,10 @@ final class SegmentWriter {
     return lastEntry != null ? lastEntry.index() : segment.index() - 1;
   }
 
+  JournalRecord getLastEntry() {
+    return lastEntry;
+  }
+
   int getLastEntryPosition() {
     return lastEntryPosition;
   }
@@ -178,6 +184,42 @@ final class SegmentWriter {
     return Either.right(lastEntry);
   }
 
+  /**
+   * Appends as many of the given serialized records as fit into this segment, starting with the
+   * record at {@code offset}. The space required is computed once for all records which fit, before
+   * any of them is written.
+   *
+   * @return the number of records appended, which is 0 if the next record does not fit
+   */
+  int append(final List<? extends SerializedJournalRecord> records, final int offset) {
+    final int frameLength = FrameUtil.getLength();
+    final int metadataLength = serializer.getMetadataLength();
+    final int capacity = buffer.capacity();
+
+    int endPosition = buffer.position();
+    int count = 0;
+    for (int i = offset; i < records.size(); i++) {
+      final int recordLength = records.get(i).serializedJournalRecord().length;
+      if (capacity - endPosition < frameLength + metadataLength + recordLength) {
+        break;
+      }
+
+      endPosition += frameLength + metadataLength + recordLength;
+      count++;
+    }
+
+    for (int i = offset; i < offset + count; i++) {
+      final var record = records.get(i);
+      final byte[] serializedRecord = record.serializedJournalRecord();
+      final int startPosition = buffer.position();
+      writeBuffer.putBytes(startPosition + frameLength + metadataLength, serializedRecord);
+      finalizeAppend(
+          record.checksum(), startPosition, frameLength, metadataLength, serializedRecord.length);
+    }
+
+    return count;
+  }
+
   private void verifyAsqnIsIncreasing(final long asqn) {
     if (asqn != SegmentedJournal.ASQN_IGNORE && asqn <= lastAsqn) {
       throw new InvalidAsqn(
@@ -239,6 +281,7 @@ final class SegmentWriter {
     writeMetadata(startPosition, frameLength, recordLength, checksum);
 
     final int nextEntryOffset = startPosition + frameLength + metadataLength + recordLength;
+    segment.markDirty(startPosition, nextEntryOffset);
     invalidateNextEntry(nextEntryOffset);
 
     updateLastWrittenEntry(startPosition, frameLength, metadataLength, recordLength);
@@ -299,6 +342,7 @@ final class SegmentWriter {
     }
 
     FrameUtil.markAsIgnored(buffer, position);
+    segment.markDirty(position, position + FrameUtil.getLength());
   }
 
   private void jumpToLastEntry(final int lastPosition, final long lastIndex) {
@@ -376,6 +420,7 @@ final class SegmentWriter {
         e.getMessage(),
         position);
     FrameUtil.markAsIgnored(buffer, position);
+    segment.markDirty(position, position + FrameUtil.getLength());
     buffer.position(position);
     buffer.mark();
   }
@@ -22,9 +22,11 @@ import com.google.common.collect.Sets;
 import io.camunda.zeebe.journal.Journal;
 import io.camunda.zeebe.journal.JournalReader;
 import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.SerializedJournalRecord;
 import io.camunda.zeebe.util.VisibleForTesting;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.locks.StampedLock;
 import org.slf4j.Logger;
@@ -91,6 +93,17 @@ public final class SegmentedJournal implements Journal {
     }
   }
 
+  @Override
+  public JournalRecord append(final List<? extends SerializedJournalRecord> records) {
+    if (records.isEmpty()) {
+      throw new IllegalArgumentException("Expected at least one record to append, but got none");
+    }
+
+    try (final var ignored = journalMetrics.observeAppendLatency()) {
+      return writer.append(records);
+    }
+  }
+
   @Override
   public void deleteAfter(final long indexExclusive) {
     journalMetrics.observeSegmentTruncation(
@@ -32,6 +32,7 @@ public class SegmentedJournalBuilder {
   private static final long DEFAULT_MIN_FREE_DISK_SPACE = 1024L * 1024 * 1024;
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final SegmentFlushMode DEFAULT_SEGMENT_FLUSH_MODE = SegmentFlushMode.MSYNC;
 
   // impossible value to make it clear it's unset
   private static final int DEFAULT_PARTITION_ID = -1;
@@ -43,6 +44,7 @@ public class SegmentedJournalBuilder {
   private long freeDiskSpace = DEFAULT_MIN_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private SegmentFlushMode segmentFlushMode = DEFAULT_SEGMENT_FLUSH_MODE;
   private int partitionId = DEFAULT_PARTITION_ID;
 
   private JournalMetaStore journalMetaStore;
@@ -140,6 +142,17 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets how segments are flushed to disk. See {@link SegmentFlushMode} for the available modes.
+   *
+   * @param segmentFlushMode the mode used to flush segments
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withSegmentFlushMode(final SegmentFlushMode segmentFlushMode) {
+    this.segmentFlushMode = checkNotNull(segmentFlushMode, "segmentFlushMode cannot be null");
+    return this;
+  }
+
   /**
    * The ID of the partition on which this journal resides. This is used primarily for
    * observability, e.g. in {@link JournalMetrics}.
@@ -166,7 +179,8 @@ public class SegmentedJournalBuilder {
     final var journalMetrics = new JournalMetrics(String.valueOf(partitionId));
     final var segmentAllocator =
         preallocateSegmentFiles ? SegmentAllocator.fill() : SegmentAllocator.noop();
-    final var segmentLoader = new SegmentLoader(freeDiskSpace, journalMetrics, segmentAllocator);
+    final var segmentLoader =
+        new SegmentLoader(freeDiskSpace, journalMetrics, segmentAllocator, segmentFlushMode);
     final var segmentsManager =
         new SegmentsManager(
             journalIndex,
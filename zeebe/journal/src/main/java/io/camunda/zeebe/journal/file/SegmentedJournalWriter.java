@@ -19,8 +19,10 @@ package io.camunda.zeebe.journal.file;
 import io.camunda.zeebe.journal.JournalException.SegmentFull;
 import io.camunda.zeebe.journal.JournalException.SegmentSizeTooSmall;
 import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.SerializedJournalRecord;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.List;
 import java.util.function.Function;
 
 final class SegmentedJournalWriter {
@@ -65,6 +67,24 @@ final class SegmentedJournalWriter {
         segmentWriter -> segmentWriter.append(checksum, serializedRecord));
   }
 
+  JournalRecord append(final List<? extends SerializedJournalRecord> records) {
+    int appended = 0;
+    while (appended < records.size()) {
+      final int appendedInSegment = currentWriter.append(records, appended);
+      appended += appendedInSegment;
+
+      if (appendedInSegment == 0) {
+        if (currentSegment.index() == currentWriter.getNextIndex()) {
+          throw new SegmentSizeTooSmall("Failed appending, segment size is too small");
+        }
+
+        journalMetrics.observeSegmentCreation(this::createNewSegment);
+      }
+    }
+
+    return currentWriter.getLastEntry();
+  }
+
   /**
    * Tries to append a record using the given inSegmentAppender. If the segment is full, a new
    * segment is created and tries to attempt the record in the new segment.
@@ -127,6 +147,7 @@ final class SegmentedJournalWriter {
 
   private void createNewSegment() {
     currentSegment.updateDescriptor();
+    currentSegment.persistIndex();
     currentSegment = segments.getNextSegment();
     currentWriter = currentSegment.writer();
   }
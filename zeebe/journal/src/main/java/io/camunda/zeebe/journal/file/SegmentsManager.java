@@ -442,6 +442,7 @@ final class SegmentsManager implements AutoCloseable {
 
     for (int i = failedIndex; i < files.size(); i++) {
       final File file = files.get(i);
+      SegmentIndexFile.delete(new SegmentFile(file));
       try {
         Files.delete(file.toPath());
       } catch (final IOException e) {
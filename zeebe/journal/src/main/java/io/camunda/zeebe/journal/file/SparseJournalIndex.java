@@ -16,19 +16,40 @@
 package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.JournalRecord;
-import java.util.Map;
-import java.util.concurrent.ConcurrentNavigableMap;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
 
+/**
+ * A sparse {@link JournalIndex} backed by sorted primitive arrays. Every {@code density}-th record
+ * is indexed; lookups are binary searches over the live range of the arrays.
+ *
+ * <p>Records are almost always indexed in ascending order, so indexing is usually an append. Since
+ * compaction only ever removes a prefix and truncation only ever removes a suffix, both simply move
+ * the bounds of the live range; the freed space is reclaimed lazily the next time the arrays would
+ * have to grow. This keeps the memory footprint per indexed entry flat and avoids any allocation
+ * on the lookup path.
+ *
+ * <p>The index may be updated concurrently by readers (see {@link SegmentReader#seek(long)}), so
+ * all accesses are guarded by a {@link StampedLock}.
+ */
 final class SparseJournalIndex implements JournalIndex {
 
+  private static final int INITIAL_CAPACITY = 64;
+
   private final int density;
-  private final ConcurrentNavigableMap<Long, Integer> indexToPosition =
-      new ConcurrentSkipListMap<>();
-  private final ConcurrentNavigableMap<Long, Long> asqnToIndex = new ConcurrentSkipListMap<>();
-  // This is added to make deleteAfter and deleteUntil easier.
-  // TODO: Check if this can be improved. https://github.com/zeebe-io/zeebe/issues/6220
-  private final ConcurrentNavigableMap<Long, Long> indexToAsqn = new ConcurrentSkipListMap<>();
+  private final StampedLock lock = new StampedLock();
+
+  // index -> position, sorted by index
+  private long[] indexes = new long[INITIAL_CAPACITY];
+  private int[] positions = new int[INITIAL_CAPACITY];
+  private int head;
+  private int tail;
+
+  // asqn -> index, sorted by asqn (and by index, as the asqn grows monotonically with the index)
+  private long[] asqns = new long[INITIAL_CAPACITY];
+  private long[] asqnIndexes = new long[INITIAL_CAPACITY];
+  private int asqnHead;
+  private int asqnTail;
 
   SparseJournalIndex(final int density) {
     this.density = density;
@@ -36,21 +57,35 @@ final class SparseJournalIndex implements JournalIndex {
 
   @Override
   public void index(final JournalRecord indexedEntry, final int position) {
-    final long index = indexedEntry.index();
-    if (index % density == 0) {
-      indexToPosition.put(index, position);
-      final long asqn = indexedEntry.asqn();
+    index(indexedEntry.index(), position, indexedEntry.asqn());
+  }
+
+  @Override
+  public void index(final long index, final int position, final long asqn) {
+    if (index % density != 0) {
+      return;
+    }
+
+    final long stamp = lock.writeLock();
+    try {
+      indexPosition(index, position);
       if (asqn != SegmentedJournal.ASQN_IGNORE) {
-        asqnToIndex.put(asqn, index);
-        indexToAsqn.put(index, asqn);
+        indexAsqn(asqn, index);
       }
+    } finally {
+      lock.unlockWrite(stamp);
     }
   }
 
   @Override
   public IndexInfo lookup(final long index) {
-    final Map.Entry<Long, Integer> entry = indexToPosition.floorEntry(index);
-    return entry != null ? new IndexInfo(entry.getKey(), entry.getValue()) : null;
+    final long stamp = lock.readLock();
+    try {
+      final int slot = floor(indexes, head, tail, index);
+      return slot >= 0 ? new IndexInfo(indexes[slot], positions[slot]) : null;
+    } finally {
+      lock.unlockRead(stamp);
+    }
   }
 
   @Override
@@ -60,46 +95,72 @@ final class SparseJournalIndex implements JournalIndex {
 
   @Override
   public Long lookupAsqn(final long asqn, final long indexUpperBound) {
-    final Map.Entry<Long, Long> entry = asqnToIndex.floorEntry(asqn);
-    if (entry != null) {
-      if (entry.getValue() <= indexUpperBound) {
-        return entry.getValue();
-      } else {
-        return indexToAsqn.floorKey(indexUpperBound);
+    final long stamp = lock.readLock();
+    try {
+      final int slot = floor(asqns, asqnHead, asqnTail, asqn);
+      if (slot < 0) {
+        return null;
+      }
+
+      if (asqnIndexes[slot] <= indexUpperBound) {
+        return asqnIndexes[slot];
       }
+
+      final int boundedSlot = floor(asqnIndexes, asqnHead, asqnTail, indexUpperBound);
+      return boundedSlot >= 0 ? asqnIndexes[boundedSlot] : null;
+    } finally {
+      lock.unlockRead(stamp);
     }
-    return null;
   }
 
   @Override
   public void deleteAfter(final long index) {
-    indexToPosition.tailMap(index, false).clear();
-    final var asqnEntryToDelete = indexToAsqn.ceilingEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.tailMap(index, false).clear();
-      final boolean include = asqnEntryToDelete.getKey() > index;
-      asqnToIndex.tailMap(asqnToDelete, include).clear();
+    final long stamp = lock.writeLock();
+    try {
+      tail = floor(indexes, head, tail, index) + 1;
+      if (tail <= head) {
+        head = tail = 0;
+      }
+
+      asqnTail = floor(asqnIndexes, asqnHead, asqnTail, index) + 1;
+      if (asqnTail <= asqnHead) {
+        asqnHead = asqnTail = 0;
+      }
+    } finally {
+      lock.unlockWrite(stamp);
     }
   }
 
   @Override
   public void deleteUntil(final long index) {
-    indexToPosition.headMap(index, false).clear();
+    final long stamp = lock.writeLock();
+    try {
+      final int firstRetained = floor(indexes, head, tail, index - 1) + 1;
+      head = Math.max(head, firstRetained);
+      if (head >= tail) {
+        head = tail = 0;
+      }
 
-    final var asqnEntryToDelete = indexToAsqn.floorEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.headMap(index, false).clear();
-      asqnToIndex.headMap(asqnToDelete, false).clear();
+      // keep the greatest asqn entry at or below the given index, so that asqn lookups can still
+      // start from the closest record before the compaction bound
+      final int asqnFloor = floor(asqnIndexes, asqnHead, asqnTail, index);
+      if (asqnFloor >= 0) {
+        asqnHead = asqnFloor;
+      }
+    } finally {
+      lock.unlockWrite(stamp);
     }
   }
 
   @Override
   public void clear() {
-    indexToPosition.clear();
-    indexToAsqn.clear();
-    asqnToIndex.clear();
+    final long stamp = lock.writeLock();
+    try {
+      head = tail = 0;
+      asqnHead = asqnTail = 0;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
   }
 
   @Override
@@ -111,4 +172,136 @@ final class SparseJournalIndex implements JournalIndex {
       return indexInfo.index() > index - density;
     }
   }
+
+  @Override
+  public void forEach(final long fromIndex, final long toIndex, final IndexVisitor visitor) {
+    final long stamp = lock.readLock();
+    try {
+      final int first = Math.max(head, floor(indexes, head, tail, fromIndex - 1) + 1);
+      final int last = floor(indexes, head, tail, toIndex);
+      for (int slot = first; slot <= last; slot++) {
+        final long index = indexes[slot];
+        final int asqnSlot = Arrays.binarySearch(asqnIndexes, asqnHead, asqnTail, index);
+        final long asqn = asqnSlot >= 0 ? asqns[asqnSlot] : SegmentedJournal.ASQN_IGNORE;
+        visitor.visit(index, positions[slot], asqn);
+      }
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  private void indexPosition(final long index, final int position) {
+    if (head == tail || indexes[tail - 1] < index) {
+      if (tail == indexes.length) {
+        ensureIndexCapacity();
+      }
+      indexes[tail] = index;
+      positions[tail] = position;
+      tail++;
+      return;
+    }
+
+    final int slot = Arrays.binarySearch(indexes, head, tail, index);
+    if (slot >= 0) {
+      positions[slot] = position;
+      return;
+    }
+
+    // out of order insert, e.g. when a reader indexes an older segment after the index was reset
+    if (tail == indexes.length) {
+      ensureIndexCapacity();
+    }
+    final int insertAt = -Arrays.binarySearch(indexes, head, tail, index) - 1;
+    final int toShift = tail - insertAt;
+    System.arraycopy(indexes, insertAt, indexes, insertAt + 1, toShift);
+    System.arraycopy(positions, insertAt, positions, insertAt + 1, toShift);
+    indexes[insertAt] = index;
+    positions[insertAt] = position;
+    tail++;
+  }
+
+  private void indexAsqn(final long asqn, final long index) {
+    if (asqnHead == asqnTail || asqns[asqnTail - 1] < asqn) {
+      if (asqnTail == asqns.length) {
+        ensureAsqnCapacity();
+      }
+      asqns[asqnTail] = asqn;
+      asqnIndexes[asqnTail] = index;
+      asqnTail++;
+      return;
+    }
+
+    final int slot = Arrays.binarySearch(asqns, asqnHead, asqnTail, asqn);
+    if (slot >= 0) {
+      asqnIndexes[slot] = index;
+      return;
+    }
+
+    if (asqnTail == asqns.length) {
+      ensureAsqnCapacity();
+    }
+    final int insertAt = -Arrays.binarySearch(asqns, asqnHead, asqnTail, asqn) - 1;
+    final int toShift = asqnTail - insertAt;
+    System.arraycopy(asqns, insertAt, asqns, insertAt + 1, toShift);
+    System.arraycopy(asqnIndexes, insertAt, asqnIndexes, insertAt + 1, toShift);
+    asqns[insertAt] = asqn;
+    asqnIndexes[insertAt] = index;
+    asqnTail++;
+  }
+
+  /**
+   * Makes room for at least one more entry at the tail, either by moving the live range back to
+   * the start of the arrays when at least half of them was compacted away, or by doubling them.
+   */
+  private void ensureIndexCapacity() {
+    final int size = tail - head;
+    if (head > 0 && size <= indexes.length / 2) {
+      System.arraycopy(indexes, head, indexes, 0, size);
+      System.arraycopy(positions, head, positions, 0, size);
+    } else {
+      final long[] newIndexes = new long[indexes.length * 2];
+      final int[] newPositions = new int[positions.length * 2];
+      System.arraycopy(indexes, head, newIndexes, 0, size);
+      System.arraycopy(positions, head, newPositions, 0, size);
+      indexes = newIndexes;
+      positions = newPositions;
+    }
+    head = 0;
+    tail = size;
+  }
+
+  private void ensureAsqnCapacity() {
+    final int size = asqnTail - asqnHead;
+    if (asqnHead > 0 && size <= asqns.length / 2) {
+      System.arraycopy(asqns, asqnHead, asqns, 0, size);
+      System.arraycopy(asqnIndexes, asqnHead, asqnIndexes, 0, size);
+    } else {
+      final long[] newAsqns = new long[asqns.length * 2];
+      final long[] newAsqnIndexes = new long[asqnIndexes.length * 2];
+      System.arraycopy(asqns, asqnHead, newAsqns, 0, size);
+      System.arraycopy(asqnIndexes, asqnHead, newAsqnIndexes, 0, size);
+      asqns = newAsqns;
+      asqnIndexes = newAsqnIndexes;
+    }
+    asqnHead = 0;
+    asqnTail = size;
+  }
+
+  /**
+   * Returns the slot of the greatest value less than or equal to the given key within [from, to),
+   * or -1 if there is none.
+   */
+  private static int floor(final long[] values, final int from, final int to, final long key) {
+    if (from >= to) {
+      return -1;
+    }
+
+    final int slot = Arrays.binarySearch(values, from, to, key);
+    if (slot >= 0) {
+      return slot;
+    }
+
+    final int floor = -slot - 2;
+    return floor >= from ? floor : -1;
+  }
 }
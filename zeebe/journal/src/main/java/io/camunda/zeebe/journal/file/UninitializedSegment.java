@@ -18,7 +18,8 @@ public record UninitializedSegment(
     long segmentId,
     int maxSegmentSize,
     MappedByteBuffer buffer,
-    JournalIndex journalIndex) {
+    JournalIndex journalIndex,
+    SegmentFlushMode flushMode) {
 
   /**
    * Creates a proper, initialized segment by writing a {@link SegmentDescriptor } with the given
@@ -33,6 +34,7 @@ public record UninitializedSegment(
             .withMaxSegmentSize(maxSegmentSize)
             .build();
     updatedDescriptor.copyTo(buffer);
-    return new Segment(file, updatedDescriptor, buffer, lastWrittenAsqn, journalIndex, metrics);
+    return new Segment(
+        file, updatedDescriptor, buffer, lastWrittenAsqn, journalIndex, metrics, flushMode);
   }
 }
@@ -22,6 +22,8 @@ import io.camunda.zeebe.journal.util.TestJournalRecord;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
 import org.agrona.CloseHelper;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -321,6 +323,64 @@ final class JournalAppendTest {
         .isInstanceOf(InvalidIndex.class);
   }
 
+  @Test
+  void shouldAppendSerializedJournalRecordsInBatch() {
+    // given - a small segment size, so that the batch spans multiple segments
+    try (final var receiverJournal =
+        SegmentedJournal.builder()
+            .withDirectory(directory.resolve("data-2").toFile())
+            .withMaxSegmentSize(1024)
+            .withJournalIndexDensity(5)
+            .withMetaStore(new MockJournalMetastore())
+            .build()) {
+      final var records = new ArrayList<SerializedJournalRecord>();
+      final var expected = new ArrayList<JournalRecord>();
+      for (int i = 1; i <= 50; i++) {
+        final var record = journal.append(i, recordDataWriter);
+        expected.add(record);
+        records.add(new TestSerializedRecord(record.checksum(), getSerializedBytes(record)));
+      }
+
+      // when
+      final var lastAppended = receiverJournal.append(records);
+
+      // then
+      assertThat(lastAppended.index()).isEqualTo(50);
+      assertThat(receiverJournal.getLastIndex()).isEqualTo(50);
+      final var reader = receiverJournal.openReader();
+      for (final var record : expected) {
+        assertThat(reader.next()).isEqualTo(record);
+      }
+      assertThat(reader.hasNext()).isFalse();
+    }
+  }
+
+  @Test
+  void shouldKeepPrecedingRecordsWhenBatchAppendFails() {
+    // given
+    try (final var receiverJournal =
+        SegmentedJournal.builder()
+            .withDirectory(directory.resolve("data-2").toFile())
+            .withJournalIndexDensity(5)
+            .withMetaStore(new MockJournalMetastore())
+            .build()) {
+      final var first = journal.append(1, recordDataWriter);
+      final var second = journal.append(2, recordDataWriter);
+      final var third = journal.append(3, recordDataWriter);
+      final var records =
+          List.of(
+              new TestSerializedRecord(first.checksum(), getSerializedBytes(first)),
+              new TestSerializedRecord(second.checksum() - 1, getSerializedBytes(second)),
+              new TestSerializedRecord(third.checksum(), getSerializedBytes(third)));
+
+      // when/then
+      assertThatException()
+          .isThrownBy(() -> receiverJournal.append(records))
+          .isInstanceOf(InvalidChecksum.class);
+      assertThat(receiverJournal.getLastIndex()).isEqualTo(1);
+    }
+  }
+
   @Test
   void shouldNotAppendSerializedRecordWithInvalidChecksum() {
     // given
@@ -345,4 +405,7 @@ final class JournalAppendTest {
     record.serializedRecord().getBytes(0, serializedRecord);
     return serializedRecord;
   }
+
+  private record TestSerializedRecord(long checksum, byte[] serializedJournalRecord)
+      implements SerializedJournalRecord {}
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.BitSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+final class SegmentDirtyRangeTest {
+
+  @Test
+  void shouldTakeAndResetRange() {
+    // given
+    final var dirtyRange = new SegmentDirtyRange(0, 0);
+    dirtyRange.mark(10, 20);
+    dirtyRange.mark(5, 15);
+
+    // when
+    final long range = dirtyRange.take();
+
+    // then
+    assertThat(SegmentDirtyRange.from(range)).isEqualTo(5);
+    assertThat(SegmentDirtyRange.to(range)).isEqualTo(20);
+    assertThat(SegmentDirtyRange.isEmpty(dirtyRange.take())).isTrue();
+  }
+
+  @Test
+  void shouldKeepRangeWhenMarkedAgainAfterFailedFlush() {
+    // given
+    final var dirtyRange = new SegmentDirtyRange(0, 0);
+    dirtyRange.mark(10, 20);
+    final long taken = dirtyRange.take();
+    dirtyRange.mark(30, 40);
+
+    // when - the flush of the taken range failed
+    dirtyRange.mark(SegmentDirtyRange.from(taken), SegmentDirtyRange.to(taken));
+
+    // then
+    final long range = dirtyRange.take();
+    assertThat(SegmentDirtyRange.from(range)).isEqualTo(10);
+    assertThat(SegmentDirtyRange.to(range)).isEqualTo(40);
+  }
+
+  @Test
+  void shouldNotLoseRangesMarkedConcurrentlyWithFlush() throws Exception {
+    // given
+    final int entryLength = 8;
+    final int entries = 500_000;
+    final var dirtyRange = new SegmentDirtyRange(0, 0);
+    final var writerDone = new AtomicBoolean();
+    final var flushed = new BitSet(entries * entryLength);
+
+    // when - one thread appends while another one flushes
+    final var flusher =
+        CompletableFuture.runAsync(
+            () -> {
+              while (!writerDone.get()) {
+                flushRange(dirtyRange.take(), flushed);
+              }
+              flushRange(dirtyRange.take(), flushed);
+            });
+    final var writer =
+        CompletableFuture.runAsync(
+            () -> {
+              for (int i = 0; i < entries; i++) {
+                dirtyRange.mark(i * entryLength, (i + 1) * entryLength);
+              }
+              writerDone.set(true);
+            });
+    writer.get(30, TimeUnit.SECONDS);
+    flusher.get(30, TimeUnit.SECONDS);
+
+    // then - every written byte was covered by some flush
+    assertThat(flushed.nextClearBit(0)).isEqualTo(entries * entryLength);
+  }
+
+  private static void flushRange(final long range, final BitSet flushed) {
+    if (!SegmentDirtyRange.isEmpty(range)) {
+      flushed.set(SegmentDirtyRange.from(range), SegmentDirtyRange.to(range));
+    }
+  }
+}
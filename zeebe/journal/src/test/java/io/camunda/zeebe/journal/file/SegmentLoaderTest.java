@@ -7,7 +7,11 @@
  */
 package io.camunda.zeebe.journal.file;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import io.camunda.zeebe.journal.util.PosixPathAssert;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -36,4 +40,33 @@ final class SegmentLoaderTest {
     // then
     PosixPathAssert.assertThat(segmentFile).hasRealSize(segmentSize);
   }
+
+  @Test
+  void shouldFlushSegmentViaFdatasync(final @TempDir Path tmpDir) {
+    // given
+    final var segmentSize = 4 * 1024 * 1024;
+    final var descriptor =
+        SegmentDescriptor.builder().withId(1).withIndex(1).withMaxSegmentSize(segmentSize).build();
+    final var segmentLoader =
+        new SegmentLoader(
+            segmentSize * 2L,
+            new JournalMetrics("1"),
+            SegmentAllocator.fill(),
+            SegmentFlushMode.FDATASYNC);
+    final var segmentFile = tmpDir.resolve("segment.log");
+    final var data = new DirectBufferWriter().wrap(BufferUtil.wrapString("foo"));
+
+    // when
+    try (final var segment =
+        segmentLoader.createSegment(segmentFile, descriptor, 0, new SparseJournalIndex(1))) {
+      segment.writer().append(1, data);
+      assertThat(segment.flush()).isTrue();
+    }
+
+    // then
+    try (final var segment =
+        segmentLoader.loadExistingSegment(segmentFile, 0, new SparseJournalIndex(1))) {
+      assertThat(segment.lastIndex()).isEqualTo(1);
+    }
+  }
 }
@@ -31,9 +31,11 @@ import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import java.io.File;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
@@ -421,6 +423,7 @@ class SegmentedJournalTest {
 
     // when
     journal.close();
+    deleteSegmentIndexFiles();
     journal = openJournal(entriesPerSegment);
 
     // then
@@ -431,6 +434,92 @@ class SegmentedJournalTest {
         .isEqualTo(indexBeforeRestart.lookup(thirdIndex));
   }
 
+  @Test
+  void shouldRestoreIndexMappingsOfSealedSegmentsAfterRestart() {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    final var firstIndex = journal.append(1, journalFactory.entry()).index();
+    final var secondIndex = journal.append(2, journalFactory.entry()).index();
+    journal.append(3, journalFactory.entry());
+    final var firstPosition = journal.getJournalIndex().lookup(firstIndex).position();
+    final var secondPosition = journal.getJournalIndex().lookup(secondIndex).position();
+
+    // when
+    journal.close();
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    final JournalIndex indexAfterRestart = journal.getJournalIndex();
+    assertThat(indexAfterRestart.lookup(firstIndex))
+        .isEqualTo(new IndexInfo(firstIndex, firstPosition));
+    assertThat(indexAfterRestart.lookup(secondIndex))
+        .isEqualTo(new IndexInfo(secondIndex, secondPosition));
+    assertThat(indexAfterRestart.lookupAsqn(2)).isEqualTo(secondIndex);
+  }
+
+  @Test
+  void shouldIgnoreCorruptedSegmentIndexFileAfterRestart() throws Exception {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    final var firstIndex = journal.append(1, journalFactory.entry()).index();
+    journal.append(2, journalFactory.entry());
+    final var thirdIndex = journal.append(3, journalFactory.entry()).index();
+    journal.close();
+
+    // when
+    final var indexFiles = getSegmentIndexFiles();
+    assertThat(indexFiles).hasSize(1);
+    final var content = Files.readAllBytes(indexFiles.get(0));
+    content[content.length / 2] ^= 0xFF;
+    Files.write(indexFiles.get(0), content);
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    assertThat(journal.getJournalIndex().lookup(firstIndex)).isNull();
+    assertThat(getSegmentIndexFiles()).isEmpty();
+    final var reader = journal.openReader();
+    reader.seek(thirdIndex);
+    final var record = reader.next();
+    assertThat(record.index()).isEqualTo(thirdIndex);
+    assertThat(record.asqn()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldNotLeaveTemporarySegmentIndexFileAfterPersistingIt() {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    journal.append(1, journalFactory.entry());
+    journal.append(2, journalFactory.entry());
+
+    // when
+    journal.append(3, journalFactory.entry());
+
+    // then
+    assertThat(getSegmentIndexFiles()).hasSize(1);
+    assertThat(directory.resolve("data").toFile().list((dir, name) -> name.endsWith(".tmp")))
+        .isEmpty();
+  }
+
+  @Test
+  void shouldDeleteSegmentIndexFileOnTruncation() {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    final var firstIndex = journal.append(1, journalFactory.entry()).index();
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+    assertThat(getSegmentIndexFiles()).hasSize(1);
+
+    // when
+    journal.deleteAfter(firstIndex);
+
+    // then
+    assertThat(getSegmentIndexFiles()).isEmpty();
+  }
+
   @Test
   void shouldContinueAppendAfterDetectingPartiallyWrittenDescriptor() throws Exception {
     // given
@@ -915,6 +1004,16 @@ class SegmentedJournalTest {
         .hasMessage("Nope, no free space.");
   }
 
+  private List<Path> getSegmentIndexFiles() {
+    final var files =
+        directory.resolve("data").toFile().listFiles(f -> f.getName().endsWith(".log.idx"));
+    return Arrays.stream(Objects.requireNonNull(files)).map(File::toPath).toList();
+  }
+
+  private void deleteSegmentIndexFiles() {
+    getSegmentIndexFiles().forEach(path -> path.toFile().delete());
+  }
+
   private SegmentedJournal openJournal(final int entriesPerSegment) {
     return openJournal("test", entriesPerSegment);
   }
@@ -265,4 +265,43 @@ class SparseJournalIndexTest {
     assertThat(index.hasIndexed(11)).isFalse();
     assertThat(index.hasIndexed(100)).isFalse();
   }
+
+  @Test
+  void shouldIndexOutOfOrder() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(1);
+
+    // when
+    index.index(asJournalRecord(10, 100), 20);
+    index.index(asJournalRecord(5, 50), 10);
+    index.index(asJournalRecord(7, 70), 14);
+
+    // then
+    assertEquals(7, index.lookup(8).index());
+    assertEquals(14, index.lookup(8).position());
+    assertEquals(10, index.lookup(11).index());
+    assertEquals(5, index.lookupAsqn(60));
+    assertEquals(10, index.lookupAsqn(100));
+  }
+
+  @Test
+  void shouldKeepLookingUpWhileCompactingAndGrowing() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(1);
+
+    // when - index many more entries than the initial capacity while compacting regularly
+    for (int i = 1; i <= 10_000; i++) {
+      index.index(asJournalRecord(i, i * 10L), i);
+      if (i % 100 == 0) {
+        index.deleteUntil(i - 50);
+      }
+    }
+
+    // then
+    assertNull(index.lookup(9_900));
+    assertEquals(9_950, index.lookup(9_950).index());
+    assertEquals(9_999, index.lookup(9_999).position());
+    assertEquals(10_000, index.lookupAsqn(Long.MAX_VALUE));
+    assertEquals(9_960, index.lookupAsqn(99_605));
+  }
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.file.perf;
+
+import io.camunda.zeebe.journal.JournalMetaStore;
+import io.camunda.zeebe.journal.file.SegmentedJournal;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures how long it takes to open a large journal and seek into the middle of it, which is what
+ * a partition does on start up when replaying from its latest snapshot. Compares opening with the
+ * persisted segment indexes to opening without them, where the index has to be rebuilt by reading
+ * the segments.
+ *
+ * <p>The size of the journal can be configured via the {@code
+ * JOURNAL_OPEN_BENCHMARK_SIZE_GB} environment variable; make sure there is enough free disk space
+ * in the temporary directory. Run it via {@link #main(String[])}.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class SegmentedJournalOpenBenchmark {
+  private static final Logger LOG = LoggerFactory.getLogger(SegmentedJournalOpenBenchmark.class);
+  private static final long ONE_GB = 1L << 30;
+  private static final double SIZE_GB =
+      Double.parseDouble(System.getenv().getOrDefault("JOURNAL_OPEN_BENCHMARK_SIZE_GB", "10"));
+  private static final int ENTRY_SIZE = 64 * 1024;
+  private static final int MAX_SEGMENT_SIZE = 128 * 1024 * 1024;
+
+  @Param({"true", "false"})
+  public boolean persistedIndex;
+
+  private final JournalMetaStore metaStore = new JournalMetaStore.InMemory();
+  private Path directory;
+  private long seekIndex;
+  private SegmentedJournal journal;
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(SegmentedJournalOpenBenchmark.class.getSimpleName())
+                .build())
+        .run();
+  }
+
+  @Setup
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("journal-open-benchmark");
+    final var entry = new DirectBufferWriter().wrap(new UnsafeBuffer(new byte[ENTRY_SIZE]));
+    final long entryCount = Math.round(SIZE_GB * ONE_GB) / ENTRY_SIZE;
+
+    LOG.info("Writing a journal of approximately {}GB; please hold the line...", SIZE_GB);
+    try (final var writeJournal = openJournal()) {
+      for (long asqn = 1; asqn <= entryCount; asqn++) {
+        writeJournal.append(asqn, entry);
+      }
+      writeJournal.flush();
+      seekIndex = writeJournal.getFirstIndex() + entryCount / 2;
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void prepareInvocation() throws IOException {
+    if (!persistedIndex) {
+      try (final var indexFiles =
+          Files.list(directory).filter(f -> f.getFileName().toString().endsWith(".idx"))) {
+        for (final var indexFile : indexFiles.toList()) {
+          Files.delete(indexFile);
+        }
+      }
+    }
+  }
+
+  @TearDown(Level.Invocation)
+  public void closeJournal() {
+    if (journal != null) {
+      journal.close();
+      journal = null;
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public long measureOpenAndSeek() {
+    journal = openJournal();
+    try (final var reader = journal.openReader()) {
+      return reader.seek(seekIndex);
+    }
+  }
+
+  private SegmentedJournal openJournal() {
+    return SegmentedJournal.builder()
+        .withDirectory(directory.toFile())
+        .withName("journal")
+        .withMaxSegmentSize(MAX_SEGMENT_SIZE)
+        .withFreeDiskSpace(0)
+        .withMetaStore(metaStore)
+        .build();
+  }
+}
@@ -126,32 +126,61 @@ final class LogStorageAppender extends Actor implements HealthMonitorable, Appen
   }
 
   private void writeBatch(final InFlightAppend append) {
-    final var sequencedBatch = sequencer.tryRead();
-    if (sequencedBatch == null) {
+    final var batchGroup = readBatchGroup();
+    if (batchGroup == null) {
       append.discard();
       return;
     }
 
-    final var lowestPosition = sequencedBatch.firstPosition();
-    final var highestPosition =
-        sequencedBatch.firstPosition() + sequencedBatch.entries().size() - 1;
-    // extract only the required metadata for metrics from the batch to avoid capturing the whole
-    // batch and holding onto its memory longer than necessary.
-    final List<LogAppendEntryMetadata> metricsMetadata = copyMetricsMetadata(sequencedBatch);
+    final var lowestPosition = batchGroup.lowestPosition();
+    final var highestPosition = batchGroup.highestPosition();
+    // extract only the required metadata for metrics from the batches to avoid capturing them
+    // whole and holding onto their memory longer than necessary.
+    final List<LogAppendEntryMetadata> metricsMetadata = copyMetricsMetadata(batchGroup);
     append.start(highestPosition);
     logStorage.append(
         lowestPosition,
         highestPosition,
-        sequencedBatch,
+        batchGroup,
         new InstrumentedAppendListener(append, metricsMetadata, metrics));
     actor.submit(this::tryWriteBatch);
   }
 
-  private List<LogAppendEntryMetadata> copyMetricsMetadata(final SequencedBatch sequencedBatch) {
-    final var entries = sequencedBatch.entries();
-    final List<LogAppendEntryMetadata> metricsMetadata = new ArrayList<>(entries.size());
-    for (final LogAppendEntry entry : entries) {
-      metricsMetadata.add(new LogAppendEntryMetadata(entry));
+  /**
+   * Drains all queued batches into a single group, as long as they fit into one append, so that
+   * many small concurrent writes are replicated and flushed together instead of one by one. The
+   * first batch is always read, regardless of its length, as it was accepted by the sequencer.
+   *
+   * <p>The batches of a group have contiguous positions: writers reserve positions without gaps,
+   * and the sequencer only hands out the batch at the next unread position.
+   *
+   * @return the group of batches to append, or null if there are none
+   */
+  private SequencedBatchGroup readBatchGroup() {
+    final var firstBatch = sequencer.tryRead();
+    if (firstBatch == null) {
+      return null;
+    }
+
+    final List<SequencedBatch> batches = new ArrayList<>();
+    batches.add(firstBatch);
+    int length = firstBatch.length();
+
+    SequencedBatch nextBatch;
+    while ((nextBatch = sequencer.tryRead(sequencer.maxFragmentSize() - length)) != null) {
+      batches.add(nextBatch);
+      length += nextBatch.length();
+    }
+
+    return new SequencedBatchGroup(batches, length);
+  }
+
+  private List<LogAppendEntryMetadata> copyMetricsMetadata(final SequencedBatchGroup batchGroup) {
+    final List<LogAppendEntryMetadata> metricsMetadata = new ArrayList<>();
+    for (final SequencedBatch batch : batchGroup.batches()) {
+      for (final LogAppendEntry entry : batch.entries()) {
+        metricsMetadata.add(new LogAppendEntryMetadata(entry));
+      }
     }
 
     return metricsMetadata;
@@ -0,0 +1,46 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.List;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Consecutive {@link SequencedBatch}es which are appended to the log storage as a single block.
+ * Every entry is serialized with its own position, source position and timestamp, so the block is
+ * simply the serialized batches one after another, in the order of their positions.
+ *
+ * @param batches the batches, ordered by position, without gaps between them
+ * @param length the total length of all batches in bytes
+ */
+record SequencedBatchGroup(List<SequencedBatch> batches, int length) implements BufferWriter {
+
+  long lowestPosition() {
+    return batches.get(0).firstPosition();
+  }
+
+  long highestPosition() {
+    final var lastBatch = batches.get(batches.size() - 1);
+    return lastBatch.firstPosition() + lastBatch.entries().size() - 1;
+  }
+
+  @Override
+  public int getLength() {
+    return length;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    int currentOffset = offset;
+    for (final var batch : batches) {
+      batch.write(buffer, currentOffset);
+      currentOffset += batch.length();
+    }
+  }
+}
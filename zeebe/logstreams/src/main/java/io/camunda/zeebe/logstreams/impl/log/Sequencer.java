@@ -10,6 +10,7 @@ package io.camunda.zeebe.logstreams.impl.log;
 import static io.camunda.zeebe.logstreams.impl.serializer.DataFrameDescriptor.FRAME_ALIGNMENT;
 
 import io.camunda.zeebe.logstreams.impl.serializer.DataFrameDescriptor;
+import io.camunda.zeebe.logstreams.impl.serializer.SequencedBatchSerializer;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
 import io.camunda.zeebe.scheduler.ActorCondition;
@@ -18,9 +19,8 @@ import io.camunda.zeebe.util.Either;
 import java.io.Closeable;
 import java.util.List;
 import java.util.Objects;
-import java.util.Queue;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,21 +33,32 @@ import org.slf4j.LoggerFactory;
  * <p>The sequencer assigns all entries a position and makes that position available to its
  * consumer. The sequencer does not copy or serialize entries, it only keeps a reference to them
  * until they are handed off to the consumer.
+ *
+ * <p>Writers do not block each other: a writer reserves the positions of its batch by advancing
+ * the next position with a CAS, and then publishes the batch into the slot of its first position
+ * in a ring of pre-allocated slots. As positions are reserved without gaps, the consumer finds the
+ * next batch in the slot of the position after the last one it read, which keeps batches in order
+ * even if writers publish them out of order. A batch occupies only the slot of its first position,
+ * and a writer may only reserve positions when that slot is within the capacity of the ring, so
+ * unread batches never share a slot.
  */
 final class Sequencer implements LogStreamWriter, Closeable {
   private static final Logger LOG = LoggerFactory.getLogger(Sequencer.class);
-  private final int maxFragmentSize;
+  private static final int CAPACITY = 1024;
+  private static final int MASK = CAPACITY - 1;
 
-  private volatile long position;
+  private final int maxFragmentSize;
+  private final AtomicLong position;
+  private final AtomicReferenceArray<SequencedBatch> slots = new AtomicReferenceArray<>(CAPACITY);
+  private volatile long readPosition;
   private volatile boolean isClosed = false;
   private volatile ActorCondition consumer;
-  private final Queue<SequencedBatch> queue = new ArrayBlockingQueue<>(128);
-  private final ReentrantLock lock = new ReentrantLock();
   private final SequencerMetrics metrics;
 
   Sequencer(final long initialPosition, final int maxFragmentSize, final SequencerMetrics metrics) {
     LOG.trace("Starting new sequencer at position {}", initialPosition);
-    position = initialPosition;
+    position = new AtomicLong(initialPosition);
+    readPosition = initialPosition;
     this.maxFragmentSize = maxFragmentSize;
     this.metrics = Objects.requireNonNull(metrics, "must specify metrics");
   }
@@ -82,27 +93,25 @@ final class Sequencer implements LogStreamWriter, Closeable {
       return Either.left(WriteFailure.INVALID_ARGUMENT);
     }
 
-    final long currentPosition;
-    final boolean isEnqueued;
-    lock.lock();
-    try {
-      currentPosition = position;
+    // everything which may fail must happen before reserving positions: the consumer waits for
+    // every reserved position to be published, so it would stall on a batch that never is
+    final int batchLength = SequencedBatchSerializer.calculateBatchSize(appendEntries);
+    final long timestamp = ActorClock.currentTimeMillis();
+
+    final long currentPosition = reservePositions(batchSize);
+    final boolean isEnqueued = currentPosition >= 0;
+    if (isEnqueued) {
       final var sequencedBatch =
           new SequencedBatch(
-              ActorClock.currentTimeMillis(), currentPosition, sourcePosition, appendEntries);
-      isEnqueued = queue.offer(sequencedBatch);
-      if (isEnqueued) {
-        metrics.observeBatchLengthBytes(sequencedBatch.length());
-        position = currentPosition + batchSize;
-      }
-    } finally {
-      lock.unlock();
+              timestamp, currentPosition, sourcePosition, appendEntries, batchLength);
+      slots.setRelease(slotIndex(currentPosition), sequencedBatch);
+      metrics.observeBatchLengthBytes(sequencedBatch.length());
     }
 
     if (consumer != null) {
       consumer.signal();
     }
-    metrics.setQueueSize(queue.size());
+    metrics.setQueueSize((int) (position.get() - readPosition));
     if (isEnqueued) {
       metrics.observeBatchSize(batchSize);
       return Either.right(currentPosition + batchSize - 1);
@@ -113,12 +122,42 @@ final class Sequencer implements LogStreamWriter, Closeable {
   }
 
   /**
-   * Retrieves, but does not remove, the first item in the sequenced batch queue.
+   * Retrieves and removes the first item in the sequenced batch queue.
    *
    * @return A {@link SequencedBatch} or null if none is available
    */
   SequencedBatch tryRead() {
-    return queue.poll();
+    return tryRead(Integer.MAX_VALUE);
+  }
+
+  /**
+   * Retrieves and removes the first item in the sequenced batch queue, but only if its length does
+   * not exceed the given maximum. As there is a single consumer, the item cannot be taken by
+   * someone else between checking and removing it.
+   *
+   * @param maxLength the maximum length of the batch in bytes
+   * @return A {@link SequencedBatch} or null if none is available or the next one is too large
+   */
+  SequencedBatch tryRead(final int maxLength) {
+    final var nextPosition = readPosition;
+    final var slot = slotIndex(nextPosition);
+    final var batch = slots.getAcquire(slot);
+    if (batch == null || batch.length() > maxLength) {
+      return null;
+    }
+
+    // free the slot before advancing the read position, so that writers which see the new read
+    // position also see the free slot
+    slots.setRelease(slot, null);
+    readPosition = nextPosition + batch.entries().size();
+    return batch;
+  }
+
+  /**
+   * @return the maximum length in bytes of a single append to the log storage
+   */
+  int maxFragmentSize() {
+    return maxFragmentSize;
   }
 
   /**
@@ -135,6 +174,29 @@ final class Sequencer implements LogStreamWriter, Closeable {
     this.consumer = consumer;
   }
 
+  /**
+   * Reserves the given amount of positions, if the slot of the first one is within the capacity of
+   * the ring, i.e. not still used by an unread batch.
+   *
+   * @return the first reserved position, or -1 if the queue is full
+   */
+  private long reservePositions(final int batchSize) {
+    while (true) {
+      final long currentPosition = position.get();
+      if (currentPosition - readPosition >= CAPACITY) {
+        return -1;
+      }
+
+      if (position.compareAndSet(currentPosition, currentPosition + batchSize)) {
+        return currentPosition;
+      }
+    }
+  }
+
+  private static int slotIndex(final long position) {
+    return (int) (position & MASK);
+  }
+
   private boolean isEntryValid(final LogAppendEntry entry) {
     return entry.recordValue() != null
         && entry.recordValue().getLength() > 0
@@ -16,7 +16,7 @@ final class SequencerMetrics {
           .namespace("zeebe")
           .name("sequencer_queue_size")
           .help(
-              "Current length of queue, i.e. how many entry batches are available to the appender")
+              "Current length of queue, i.e. how many entries are available to the appender")
           .labelNames("partition")
           .register();
 
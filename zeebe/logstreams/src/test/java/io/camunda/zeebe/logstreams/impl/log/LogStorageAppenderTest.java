@@ -113,4 +113,67 @@ final class LogStorageAppenderTest {
       assertThatEntry(entry).matchesLoggedEvent(reader.next());
     }
   }
+
+  @Test
+  void shouldAppendQueuedBatchesTogether() throws InterruptedException {
+    // given
+    final var firstEntry = TestEntry.ofDefaults();
+    final List<LogAppendEntry> secondEntries =
+        List.of(TestEntry.ofDefaults(), TestEntry.ofDefaults());
+    final var latch = new CountDownLatch(1);
+
+    // when
+    final var lowestPosition = sequencer.tryWrite(firstEntry).get();
+    final var highestPosition = sequencer.tryWrite(secondEntries).get();
+    logStorage.setPositionListener(i -> latch.countDown());
+    scheduler.submitActor(appender).join();
+
+    // then
+    assertThat(latch.await(5, TimeUnit.SECONDS)).as("value was written within 5 seconds").isTrue();
+    verify(logStorage, timeout(1000).times(1))
+        .append(
+            eq(lowestPosition),
+            eq(highestPosition),
+            any(ByteBuffer.class),
+            any(AppendListener.class));
+
+    assertThat(reader.seek(lowestPosition)).isTrue();
+    assertThatEntry(firstEntry).matchesLoggedEvent(reader.next());
+    for (final var entry : secondEntries) {
+      assertThat(reader.hasNext()).isTrue();
+      assertThatEntry(entry).matchesLoggedEvent(reader.next());
+    }
+  }
+
+  @Test
+  void shouldNotAppendBatchesTogetherBeyondMaxFragmentSize() throws InterruptedException {
+    // given - a sequencer which fits only a single entry into one append
+    final var entry = TestEntry.ofDefaults();
+    final var entryLength = new SequencedBatch(0, INITIAL_POSITION, -1, List.of(entry)).length();
+    sequencer.close();
+    sequencer = new Sequencer(INITIAL_POSITION, entryLength, new SequencerMetrics(1));
+    appender = new LogStorageAppender("appender", PARTITION_ID, logStorage, sequencer);
+    final var latch = new CountDownLatch(2);
+
+    // when
+    final var firstPosition = sequencer.tryWrite(entry).get();
+    final var secondPosition = sequencer.tryWrite(TestEntry.ofDefaults()).get();
+    logStorage.setPositionListener(i -> latch.countDown());
+    scheduler.submitActor(appender).join();
+
+    // then
+    assertThat(latch.await(5, TimeUnit.SECONDS)).as("value was written within 5 seconds").isTrue();
+    verify(logStorage, timeout(1000).times(1))
+        .append(
+            eq(firstPosition),
+            eq(firstPosition),
+            any(ByteBuffer.class),
+            any(AppendListener.class));
+    verify(logStorage, timeout(1000).times(1))
+        .append(
+            eq(secondPosition),
+            eq(secondPosition),
+            any(ByteBuffer.class),
+            any(AppendListener.class));
+  }
 }
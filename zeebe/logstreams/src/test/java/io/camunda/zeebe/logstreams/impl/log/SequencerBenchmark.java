@@ -0,0 +1,164 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.util.TestEntry;
+import io.camunda.zeebe.scheduler.clock.ActorClock;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.AuxCounters.Type;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the write throughput of the {@link Sequencer} under contention, with several writers
+ * and a single reader draining the queue, against the previous implementation which guarded a
+ * bounded blocking queue with a lock. The writer counters show how many writes were accepted and
+ * how many were rejected because the queue was full.
+ */
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Group)
+public class SequencerBenchmark {
+  private static final int WRITERS = 4;
+
+  @Param({"lock-free", "locking"})
+  public String implementation;
+
+  @Param({"1", "16"})
+  public int batchSize;
+
+  private BenchmarkSequencer sequencer;
+  private List<LogAppendEntry> batch;
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder().include(SequencerBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+
+  @Setup(Level.Iteration)
+  public void setup() {
+    sequencer =
+        switch (implementation) {
+          case "lock-free" -> new LockFreeSequencer();
+          case "locking" -> new LockingSequencer();
+          default -> throw new IllegalArgumentException(
+              "Expected a known implementation, but got " + implementation);
+        };
+    batch = Collections.nCopies(batchSize, TestEntry.ofDefaults());
+  }
+
+  @Benchmark
+  @Group("contended")
+  @GroupThreads(WRITERS)
+  public boolean write(final WriterCounters counters) {
+    final boolean written = sequencer.tryWrite(batch);
+    if (written) {
+      counters.written++;
+    } else {
+      counters.rejected++;
+    }
+
+    return written;
+  }
+
+  @Benchmark
+  @Group("contended")
+  @GroupThreads(1)
+  public SequencedBatch read() {
+    return sequencer.tryRead();
+  }
+
+  @AuxCounters(Type.OPERATIONS)
+  @State(Scope.Thread)
+  public static class WriterCounters {
+    public long written;
+    public long rejected;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      written = 0;
+      rejected = 0;
+    }
+  }
+
+  private interface BenchmarkSequencer {
+    boolean tryWrite(List<LogAppendEntry> entries);
+
+    SequencedBatch tryRead();
+  }
+
+  private static final class LockFreeSequencer implements BenchmarkSequencer {
+    private final Sequencer sequencer = new Sequencer(1, 4 * 1024 * 1024, new SequencerMetrics(1));
+
+    @Override
+    public boolean tryWrite(final List<LogAppendEntry> entries) {
+      return sequencer.tryWrite(entries).isRight();
+    }
+
+    @Override
+    public SequencedBatch tryRead() {
+      return sequencer.tryRead();
+    }
+  }
+
+  /** The previous implementation, kept as a baseline: every write takes a lock. */
+  private static final class LockingSequencer implements BenchmarkSequencer {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Queue<SequencedBatch> queue = new ArrayBlockingQueue<>(128);
+    private long position = 1;
+
+    @Override
+    public boolean tryWrite(final List<LogAppendEntry> entries) {
+      lock.lock();
+      try {
+        final var sequencedBatch =
+            new SequencedBatch(ActorClock.currentTimeMillis(), position, -1, entries);
+        final var isEnqueued = queue.offer(sequencedBatch);
+        if (isEnqueued) {
+          position += entries.size();
+        }
+        return isEnqueued;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    @Override
+    public SequencedBatch tryRead() {
+      return queue.poll();
+    }
+  }
+}
@@ -10,9 +10,11 @@ package io.camunda.zeebe.logstreams.impl.log;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter.WriteFailure;
 import io.camunda.zeebe.logstreams.util.TestEntry;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.scheduler.ActorCondition;
 import io.camunda.zeebe.test.util.asserts.EitherAssert;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.locks.LockSupport;
 import java.util.stream.IntStream;
@@ -84,6 +86,60 @@ final class SequencerTest {
     Assertions.assertThat(read.entries()).containsAnyElementsOf(entries);
   }
 
+  @Test
+  void canReadBatchWithinMaxLength() {
+    // given
+    final var sequencer = new Sequencer(1, 16, new SequencerMetrics(1));
+    final var entry = TestEntry.ofDefaults();
+    sequencer.tryWrite(entry);
+    final var length = new SequencedBatch(0, 1, -1, List.of(entry)).length();
+
+    // when
+    final var read = sequencer.tryRead(length);
+
+    // then
+    Assertions.assertThat(read.entries()).containsExactly(entry);
+  }
+
+  @Test
+  void cannotReadBatchExceedingMaxLength() {
+    // given
+    final var sequencer = new Sequencer(1, 16, new SequencerMetrics(1));
+    final var entry = TestEntry.ofDefaults();
+    sequencer.tryWrite(entry);
+    final var length = new SequencedBatch(0, 1, -1, List.of(entry)).length();
+
+    // when
+    final var read = sequencer.tryRead(length - 1);
+
+    // then
+    Assertions.assertThat(read).isNull();
+    Assertions.assertThat(sequencer.tryRead().entries()).containsExactly(entry);
+  }
+
+  @Test
+  void canReadNextBatchAfterFailedWrite() {
+    // given - an entry which passes validation but fails when the batch length is calculated
+    final var sequencer = new Sequencer(1, 16 * 1024 * 1024, new SequencerMetrics(1));
+    final var failingValue = Mockito.spy(new UnifiedRecordValue(10));
+    Mockito.when(failingValue.getLength())
+        .thenReturn(1)
+        .thenThrow(new IllegalStateException("expected"));
+    final var failingEntry = TestEntry.builder().withRecordValue(failingValue).build();
+    final var entry = TestEntry.ofDefaults();
+
+    // when
+    Assertions.assertThatThrownBy(() -> sequencer.tryWrite(failingEntry))
+        .isInstanceOf(IllegalStateException.class);
+    sequencer.tryWrite(entry);
+
+    // then - the failed write did not leave an unpublished position behind
+    final var read = sequencer.tryRead();
+    Assertions.assertThat(read).isNotNull();
+    Assertions.assertThat(read.firstPosition()).isEqualTo(1);
+    Assertions.assertThat(read.entries()).containsExactly(entry);
+  }
+
   @Test
   void cannotReadEmpty() {
     // given
@@ -122,6 +178,21 @@ final class SequencerTest {
             result -> result.isLeft() && result.getLeft() == WriteFailure.FULL);
   }
 
+  @Test
+  void acceptsBatchLargerThanQueueCapacityWhenEmpty() {
+    // given
+    final var sequencer = new Sequencer(1, 16 * 1024 * 1024, new SequencerMetrics(1));
+    final var entries = Collections.nCopies(2000, TestEntry.ofDefaults());
+
+    // when
+    final var result = sequencer.tryWrite(entries);
+
+    // then
+    EitherAssert.assertThat(result).isRight().right().isEqualTo(2000L);
+    Assertions.assertThat(sequencer.tryRead().entries()).hasSize(2000);
+    Assertions.assertThat(sequencer.tryWrite(TestEntry.ofDefaults()).get()).isEqualTo(2001L);
+  }
+
   @Test
   void writingSingleEntryIncreasesPositions() {
     // given
@@ -32,6 +32,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import org.agrona.DirectBuffer;
+import org.agrona.io.DirectBufferInputStream;
 import org.msgpack.jackson.dataformat.MessagePackFactory;
 
 public final class MsgPackConverter {
@@ -69,6 +70,9 @@ public final class MsgPackConverter {
           .configure(Feature.ALLOW_SINGLE_QUOTES, true)
           .setStreamReadConstraints(JSON_STREAM_CONSTRAINTS);
   private static final ObjectMapper JSON_OBJECT_MAPPER = new ObjectMapper(JSON_FACTORY);
+  // used when writing to streams owned by the caller, which should stay open
+  private static final JsonFactory NON_CLOSING_JSON_FACTORY =
+      JSON_FACTORY.copy().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
 
   // prevent instantiation
   private MsgPackConverter() {}
@@ -114,6 +118,25 @@ public final class MsgPackConverter {
     return new String(jsonBytes, JSON_CHARSET);
   }
 
+  /**
+   * Writes the given MessagePack document as UTF-8 encoded JSON to the given output stream. The
+   * document is read directly from the buffer, and no intermediate {@link String} is created.
+   *
+   * @param msgPack the buffer containing the MessagePack document
+   * @param outputStream the stream to write the JSON document to; it is flushed, but not closed
+   */
+  public static void convertToJson(final DirectBuffer msgPack, final OutputStream outputStream) {
+    try {
+      convert(
+          new DirectBufferInputStream(msgPack),
+          outputStream,
+          MESSAGE_PACK_FACTORY,
+          NON_CLOSING_JSON_FACTORY);
+    } catch (final Exception e) {
+      throw new RuntimeException("Failed to convert MessagePack to JSON", e);
+    }
+  }
+
   public static InputStream convertToJsonInputStream(final byte[] msgPack) {
     final byte[] jsonBytes = convertToJsonBytes(msgPack);
     return new ByteArrayInputStream(jsonBytes);
@@ -0,0 +1,196 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.protocol.impl.encoding;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackToken;
+import io.camunda.zeebe.msgpack.spec.MsgPackType;
+import io.camunda.zeebe.protocol.record.RecordValueWithVariables;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.io.IOException;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+
+/**
+ * Serializes the variables of record values straight from their MessagePack encoding, instead of
+ * going through {@link RecordValueWithVariables#getVariables()}, which first decodes the whole
+ * document into a map of objects.
+ *
+ * <p>This only applies to values which expose their encoding as a {@link BufferWriter}, i.e. the
+ * values handed to the exporter by the broker. Any other value, e.g. an immutable copy, is
+ * serialized via its getter as before. The resulting JSON is equivalent, though the order of the
+ * variables follows the document instead of the map.
+ *
+ * <p>Used by the Elasticsearch and OpenSearch exporters to serialize the records they export.
+ */
+public final class MsgPackVariablesModule extends SimpleModule {
+
+  private static final String VARIABLES_PROPERTY = "variables";
+  private static final DirectBuffer VARIABLES_KEY = BufferUtil.wrapString(VARIABLES_PROPERTY);
+
+  public MsgPackVariablesModule() {
+    super(MsgPackVariablesModule.class.getSimpleName());
+    setSerializerModifier(new VariablesSerializerModifier());
+  }
+
+  private static final class VariablesSerializerModifier extends BeanSerializerModifier {
+
+    @Override
+    public List<BeanPropertyWriter> changeProperties(
+        final SerializationConfig config,
+        final BeanDescription beanDesc,
+        final List<BeanPropertyWriter> beanProperties) {
+      if (!RecordValueWithVariables.class.isAssignableFrom(beanDesc.getBeanClass())) {
+        return beanProperties;
+      }
+
+      for (int i = 0; i < beanProperties.size(); i++) {
+        final var property = beanProperties.get(i);
+        if (VARIABLES_PROPERTY.equals(property.getName())) {
+          beanProperties.set(i, new VariablesPropertyWriter(property));
+        }
+      }
+
+      return beanProperties;
+    }
+  }
+
+  private static final class VariablesPropertyWriter extends BeanPropertyWriter {
+
+    // the mapper is shared by all exporter instances, which may run on different threads
+    private static final ThreadLocal<VariablesWriter> WRITERS =
+        ThreadLocal.withInitial(VariablesWriter::new);
+
+    private VariablesPropertyWriter(final BeanPropertyWriter base) {
+      super(base);
+    }
+
+    @Override
+    public void serializeAsField(
+        final Object bean, final JsonGenerator gen, final SerializerProvider prov)
+        throws Exception {
+      if (!(bean instanceof final BufferWriter encodedValue)
+          || !WRITERS.get().write(encodedValue, _name, gen)) {
+        super.serializeAsField(bean, gen, prov);
+      }
+    }
+  }
+
+  /**
+   * Walks the encoded value to its variables document, and writes the document as JSON to the
+   * generator, token by token.
+   */
+  private static final class VariablesWriter {
+    private final ExpandableArrayBuffer valueBuffer = new ExpandableArrayBuffer();
+    private final MsgPackReader valueReader = new MsgPackReader();
+    private final MsgPackReader documentReader = new MsgPackReader();
+
+    /**
+     * @return true if the variables were written, false if the value does not contain a variables
+     *     document
+     */
+    private boolean write(
+        final BufferWriter encodedValue,
+        final SerializableString fieldName,
+        final JsonGenerator gen)
+        throws IOException {
+      final int length = encodedValue.getLength();
+      encodedValue.write(valueBuffer, 0);
+      valueReader.wrap(valueBuffer, 0, length);
+
+      if (!seekToVariables()) {
+        return false;
+      }
+
+      final MsgPackToken document = valueReader.readToken();
+      if (document.getType() != MsgPackType.BINARY) {
+        return false;
+      }
+
+      final DirectBuffer documentBuffer = document.getValueBuffer();
+      documentReader.wrap(documentBuffer, 0, documentBuffer.capacity());
+
+      gen.writeFieldName(fieldName);
+      if (documentBuffer.capacity() == 0) {
+        gen.writeStartObject();
+        gen.writeEndObject();
+      } else {
+        writeValue(gen);
+      }
+      return true;
+    }
+
+    private boolean seekToVariables() {
+      final int size = valueReader.readMapHeader();
+      for (int i = 0; i < size; i++) {
+        final MsgPackToken key = valueReader.readToken();
+        if (key.getType() == MsgPackType.STRING
+            && BufferUtil.equals(key.getValueBuffer(), VARIABLES_KEY)) {
+          return true;
+        }
+        valueReader.skipValue();
+      }
+
+      return false;
+    }
+
+    private void writeValue(final JsonGenerator gen) throws IOException {
+      final MsgPackToken token = documentReader.readToken();
+      switch (token.getType()) {
+        case MAP -> {
+          final int size = token.getSize();
+          gen.writeStartObject();
+          for (int i = 0; i < size; i++) {
+            final MsgPackToken key = documentReader.readToken();
+            gen.writeFieldName(BufferUtil.bufferAsString(key.getValueBuffer()));
+            writeValue(gen);
+          }
+          gen.writeEndObject();
+        }
+        case ARRAY -> {
+          final int size = token.getSize();
+          gen.writeStartArray();
+          for (int i = 0; i < size; i++) {
+            writeValue(gen);
+          }
+          gen.writeEndArray();
+        }
+        case STRING -> writeString(token.getValueBuffer(), gen);
+        case INTEGER -> gen.writeNumber(token.getIntegerValue());
+        case FLOAT -> gen.writeNumber(token.getFloatValue());
+        case BOOLEAN -> gen.writeBoolean(token.getBooleanValue());
+        case NIL -> gen.writeNull();
+        case BINARY -> gen.writeBinary(BufferUtil.bufferAsArray(token.getValueBuffer()));
+        default ->
+            throw new IllegalStateException(
+                "Expected a JSON compatible MessagePack token, but got " + token.getType());
+      }
+    }
+
+    private void writeString(final DirectBuffer value, final JsonGenerator gen)
+        throws IOException {
+      final byte[] array = value.byteArray();
+      if (array != null) {
+        // the generator escapes the UTF-8 bytes as needed, so they can be written without decoding
+        gen.writeUTF8String(array, value.wrapAdjustment(), value.capacity());
+      } else {
+        gen.writeString(BufferUtil.bufferAsString(value));
+      }
+    }
+  }
+}
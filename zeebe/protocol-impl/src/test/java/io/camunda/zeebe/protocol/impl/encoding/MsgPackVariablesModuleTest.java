@@ -0,0 +1,115 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.protocol.impl.encoding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.zeebe.protocol.impl.record.CopiedRecord;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RecordValueWithVariables;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.MessageIntent;
+import java.util.List;
+import java.util.Map;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@Execution(ExecutionMode.CONCURRENT)
+final class MsgPackVariablesModuleTest {
+
+  private static final String VARIABLES =
+      """
+      {"foo": "bar", "escaped": "a \\"quoted\\" \\u00e9 value", "number": 12, "decimal": 1.5,
+       "flag": true, "nothing": null, "list": [1, "two", {"three": 3}], "nested": {"a": {"b": []}}}
+      """;
+
+  private final ObjectMapper plainMapper = new ObjectMapper();
+  private final ObjectMapper streamingMapper =
+      new ObjectMapper().registerModule(new MsgPackVariablesModule());
+
+  @Test
+  void shouldSerializeVariablesOfEncodedValue() throws Exception {
+    // given
+    final var value = new JobRecord().setType("test").setVariables(variables(VARIABLES));
+    final var record = newRecord(value, ValueType.JOB, JobIntent.CREATED);
+
+    // when
+    final var json = streamingMapper.writeValueAsString(record);
+
+    // then
+    assertThat(streamingMapper.readTree(json))
+        .isEqualTo(plainMapper.readTree(plainMapper.writeValueAsString(record)));
+    assertThat(streamingMapper.readTree(json).get("value").get("variables"))
+        .isEqualTo(plainMapper.readTree(VARIABLES));
+  }
+
+  @Test
+  void shouldSerializeEmptyVariables() throws Exception {
+    // given
+    final var record =
+        newRecord(
+            new MessageRecord().setName("message"), ValueType.MESSAGE, MessageIntent.PUBLISHED);
+
+    // when
+    final var json = streamingMapper.writeValueAsString(record);
+
+    // then
+    assertThat(streamingMapper.readTree(json))
+        .isEqualTo(plainMapper.readTree(plainMapper.writeValueAsString(record)));
+    assertThat(streamingMapper.readTree(json).get("value").get("variables").isEmpty()).isTrue();
+  }
+
+  @Test
+  void shouldFallBackToGetterForOtherValues() throws Exception {
+    // given
+    final var value = new PlainValue(Map.of("foo", "bar", "list", List.of(1, 2)));
+
+    // when
+    final var json = streamingMapper.writeValueAsString(value);
+
+    // then
+    assertThat(streamingMapper.readTree(json))
+        .isEqualTo(plainMapper.readTree(plainMapper.writeValueAsString(value)));
+    assertThat(streamingMapper.readTree(json).get("variables"))
+        .isEqualTo(plainMapper.readTree("{\"foo\": \"bar\", \"list\": [1, 2]}"));
+  }
+
+  private static UnsafeBuffer variables(final String json) {
+    return new UnsafeBuffer(MsgPackConverter.convertToMsgPack(json));
+  }
+
+  private static <T extends UnifiedRecordValue> CopiedRecord<T> newRecord(
+      final T value, final ValueType valueType, final Intent intent) {
+    final var metadata =
+        new RecordMetadata().recordType(RecordType.EVENT).valueType(valueType).intent(intent);
+    return new CopiedRecord<>(value, metadata, 1, 1, 10, 5, 1000);
+  }
+
+  /** A value which is not encoded, like the ones created from the protocol's immutable types. */
+  static final class PlainValue implements RecordValueWithVariables {
+    private final Map<String, Object> variables;
+
+    PlainValue(final Map<String, Object> variables) {
+      this.variables = variables;
+    }
+
+    @Override
+    public Map<String, Object> getVariables() {
+      return variables;
+    }
+  }
+}
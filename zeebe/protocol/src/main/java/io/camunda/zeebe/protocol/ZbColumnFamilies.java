@@ -169,7 +169,9 @@ public enum ZbColumnFamilies implements EnumValue {
 
   USER_TASKS(79),
   USER_TASK_STATES(80),
-  COMPENSATION_SUBSCRIPTION(81);
+  COMPENSATION_SUBSCRIPTION(81),
+
+  PROCESS_CACHE_EXECUTABLE(82);
 
   private final int value;
 
@@ -33,6 +33,17 @@ public interface MutableChecksumsSFV extends ImmutableChecksumsSFV {
    */
   void updateFromBytes(final String fileName, final byte[] bytes);
 
+  /**
+   * Update the checksum collection, and add a known checksum of a file, e.g. from the checksum
+   * collection of another snapshot containing the same file. The file is not read at all.
+   *
+   * @param fileName the name of the file, that is used in the checksum collection in SFV file
+   *     format
+   * @param checksum the CRC32C checksum of the file's content
+   * @param fileSize the size of the file in bytes
+   */
+  void updateFromChecksum(final String fileName, final long checksum, final long fileSize);
+
   /**
    * Build the checksum collection from a SFV format string array.
    *
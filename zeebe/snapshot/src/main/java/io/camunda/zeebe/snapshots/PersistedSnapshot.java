@@ -9,6 +9,7 @@ package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import java.nio.file.Path;
+import java.util.Map;
 
 /** Represents a snapshot, which was persisted at the {@link PersistedSnapshotStore}. */
 public interface PersistedSnapshot {
@@ -78,6 +79,15 @@ public interface PersistedSnapshot {
    */
   long getChecksum();
 
+  /**
+   * Returns the checksums of the individual chunks of the snapshot, by chunk ID, as they would be
+   * returned by a {@link #newChunkReader() chunk reader}. This allows a receiver to determine which
+   * chunks it already has. The map is empty if the checksums of the chunks are not known.
+   *
+   * @return the checksums of the chunks of the snapshot
+   */
+  Map<String, Long> getChunkChecksums();
+
   /**
    * SnapshotMetadata includes information related to a snapshot.
    *
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.util.Collection;
 
 /**
  * A received volatile snapshot, which consist of several {@link SnapshotChunk}'s. It can be
@@ -30,4 +31,15 @@ public interface ReceivedSnapshot extends PersistableSnapshot {
    * @param chunk the {@link SnapshotChunk} which should be applied
    */
   ActorFuture<Void> apply(SnapshotChunk chunk);
+
+  /**
+   * Adds the given chunks of an existing local snapshot to this snapshot, instead of receiving
+   * them. This is used to skip transferring chunks which are shared between consecutive snapshots.
+   * Reused chunks are validated together with the received ones when the snapshot is persisted. In
+   * case of failure, the future will be completed with a SnapshotWriteException.
+   *
+   * @param snapshot the local snapshot to take the chunks from
+   * @param chunkIds the IDs of the chunks to reuse
+   */
+  ActorFuture<Void> reuse(PersistedSnapshot snapshot, Collection<String> chunkIds);
 }
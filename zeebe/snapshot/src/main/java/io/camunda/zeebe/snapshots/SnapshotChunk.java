@@ -39,4 +39,21 @@ public interface SnapshotChunk {
    * @return the checksum of the entire snapshot
    */
   long getSnapshotChecksum();
+
+  /**
+   * Files may be split into multiple chunks, each containing a block of the file. Chunks of the
+   * same file share the same {@link #getChunkName() name}, and are ordered by their position.
+   *
+   * @return the position of the content within the file; 0 if the chunk contains the whole file
+   */
+  default long getFileBlockPosition() {
+    return 0;
+  }
+
+  /**
+   * @return the size of the whole file the content belongs to
+   */
+  default long getTotalFileSize() {
+    return getContent().length;
+  }
 }
@@ -9,6 +9,7 @@ package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.util.CloseableSilently;
 import java.nio.ByteBuffer;
+import java.util.Collection;
 import java.util.Iterator;
 
 /**
@@ -34,4 +35,23 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    * @return the next chunk ID
    */
   ByteBuffer nextId();
+
+  /**
+   * Excludes the chunks with the given IDs, such that they are never returned by this reader, e.g.
+   * because the receiver already has them. Unknown IDs are ignored. Excluded chunks stay excluded
+   * when the reader is reset.
+   *
+   * @param chunkIds the IDs of the chunks to exclude
+   */
+  void exclude(Collection<String> chunkIds);
+
+  /**
+   * Limits the size of the content of the chunks returned by this reader, such that larger files
+   * are split into multiple chunks. This bounds the memory required per chunk. By default, the size
+   * of chunks is not limited.
+   *
+   * @param maximumChunkSize the maximum size of the content of a chunk, in bytes
+   * @throws IllegalArgumentException if the size is not positive
+   */
+  void setMaximumChunkSize(int maximumChunkSize);
 }
@@ -10,6 +10,7 @@ package io.camunda.zeebe.snapshots.impl;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import io.camunda.zeebe.snapshots.ImmutableChecksumsSFV;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivedSnapshot;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
@@ -22,6 +23,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Objects;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,6 +42,7 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   private int expectedTotalCount;
   private FileBasedSnapshotMetadata metadata;
   private SfvChecksumImpl checksumCollection;
+  private PersistedSnapshot reusedSnapshot;
 
   FileBasedReceivedSnapshot(
       final FileBasedSnapshotId snapshotId,
@@ -68,12 +71,40 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
         });
   }
 
+  @Override
+  public ActorFuture<Void> reuse(
+      final PersistedSnapshot snapshot, final Collection<String> chunkIds) {
+    return actor.call(
+        () -> {
+          reuseInternal(snapshot, chunkIds);
+          return null;
+        });
+  }
+
   private boolean containsChunk(final String chunkId) {
     return Files.exists(directory.resolve(chunkId));
   }
 
   private void applyInternal(final SnapshotChunk snapshotChunk) throws SnapshotWriteException {
-    if (containsChunk(snapshotChunk.getChunkName())) {
+    final String chunkName = snapshotChunk.getChunkName();
+    final var snapshotFile = directory.resolve(chunkName);
+    final long position = snapshotChunk.getFileBlockPosition();
+    final byte[] content = snapshotChunk.getContent();
+    final long receivedFileSize = receivedFileSize(snapshotFile);
+
+    if (receivedFileSize >= position + content.length) {
+      // the chunk was already applied
+      return;
+    }
+
+    if (position != Math.max(receivedFileSize, 0)) {
+      // a previous block of the file is missing, e.g. because its request got lost; the sender
+      // resends all blocks starting from the missing one, so this block can be skipped for now
+      LOGGER.debug(
+          "Skip snapshot chunk {} at position {}, expected position {}",
+          chunkName,
+          position,
+          Math.max(receivedFileSize, 0));
       return;
     }
 
@@ -86,7 +117,6 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     checkTotalCountIsValid(currentTotalCount);
 
     final String snapshotId = snapshotChunk.getSnapshotId();
-    final String chunkName = snapshotChunk.getChunkName();
 
     if (snapshotStore.hasSnapshotId(snapshotId)) {
       LOGGER.debug(
@@ -106,28 +136,86 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
           String.format("Failed to ensure that directory %s exists.", tmpSnapshotDirectory), e);
     }
 
-    final var snapshotFile = tmpSnapshotDirectory.resolve(chunkName);
-    if (Files.exists(snapshotFile)) {
-      throw new SnapshotWriteException(
-          String.format(
-              "Received a snapshot snapshotChunk which already exist '%s'.", snapshotFile));
-    }
-
     LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
-    writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
+    writeReceivedSnapshotChunk(snapshotChunk, content, snapshotFile);
+
+    if (position + content.length < snapshotChunk.getTotalFileSize()) {
+      // more blocks of this file will follow
+      return;
+    }
 
     if (checksumCollection == null) {
       checksumCollection = new SfvChecksumImpl();
     }
-    checksumCollection.updateFromBytes(
-        snapshotFile.getFileName().toString(), snapshotChunk.getContent());
 
-    if (snapshotChunk.getChunkName().equals(FileBasedSnapshotStore.METADATA_FILE_NAME)) {
+    try {
+      if (position == 0) {
+        checksumCollection.updateFromBytes(chunkName, content);
+      } else {
+        // the checksum of a file received in multiple blocks must cover all of them
+        checksumCollection.updateFromFile(snapshotFile);
+      }
+
+      if (chunkName.equals(FileBasedSnapshotStore.METADATA_FILE_NAME)) {
+        collectMetadata(position == 0 ? content : Files.readAllBytes(snapshotFile));
+      }
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to read received snapshot file %s", snapshotFile), e);
+    }
+  }
+
+  private long receivedFileSize(final Path snapshotFile) throws SnapshotWriteException {
+    try {
+      return Files.exists(snapshotFile) ? Files.size(snapshotFile) : -1;
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to read the size of snapshot file %s", snapshotFile), e);
+    }
+  }
+
+  private void reuseInternal(final PersistedSnapshot snapshot, final Collection<String> chunkIds)
+      throws SnapshotWriteException {
+    final var sourceDirectory = snapshot.getPath();
+    try {
+      FileUtil.ensureDirectoryExists(directory);
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to ensure that directory %s exists.", directory), e);
+    }
+
+    for (final var chunkId : chunkIds) {
+      if (containsChunk(chunkId)) {
+        continue;
+      }
+
+      final var sourceFile = sourceDirectory.resolve(chunkId);
+      final var snapshotFile = directory.resolve(chunkId);
       try {
-        collectMetadata(snapshotChunk.getContent());
+        linkOrCopy(sourceFile, snapshotFile);
+        if (chunkId.equals(FileBasedSnapshotStore.METADATA_FILE_NAME)) {
+          collectMetadata(Files.readAllBytes(snapshotFile));
+        }
       } catch (final IOException e) {
-        throw new SnapshotWriteException("Cannot decode snapshot metadata");
+        throw new SnapshotWriteException(
+            String.format("Failed to reuse snapshot chunk %s from %s", chunkId, sourceDirectory),
+            e);
       }
+
+      LOGGER.trace("Reused snapshot chunk {} from {}", chunkId, sourceDirectory);
+    }
+
+    if (!chunkIds.isEmpty()) {
+      reusedSnapshot = snapshot;
+    }
+  }
+
+  private void linkOrCopy(final Path source, final Path target) throws IOException {
+    // snapshot files are immutable, so both snapshots can safely share the same file
+    try {
+      Files.createLink(target, source);
+    } catch (final UnsupportedOperationException e) {
+      Files.copy(source, target);
     }
   }
 
@@ -193,14 +281,16 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   }
 
   private void writeReceivedSnapshotChunk(
-      final SnapshotChunk snapshotChunk, final Path snapshotFile) throws SnapshotWriteException {
+      final SnapshotChunk snapshotChunk, final byte[] content, final Path snapshotFile)
+      throws SnapshotWriteException {
+    final long position = snapshotChunk.getFileBlockPosition();
     try (final var channel =
-        FileChannel.open(snapshotFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
-      final ByteBuffer buffer = ByteBuffer.wrap(snapshotChunk.getContent());
+        FileChannel.open(snapshotFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+      final ByteBuffer buffer = ByteBuffer.wrap(content);
 
       while (buffer.hasRemaining()) {
         final int newLimit = Math.min(buffer.capacity(), buffer.position() + BLOCK_SIZE);
-        channel.write(buffer.limit(newLimit));
+        channel.write(buffer.limit(newLimit), position + buffer.position());
         buffer.limit(buffer.capacity());
       }
 
@@ -276,10 +366,18 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return;
     }
 
-    if (expectedSnapshotChecksum != checksumCollection.getCombinedValue()) {
+    final ImmutableChecksumsSFV checksums;
+    try {
+      checksums = collectChecksums();
+    } catch (final IOException e) {
+      future.completeExceptionally(e);
+      return;
+    }
+
+    if (expectedSnapshotChecksum != checksums.getCombinedValue()) {
       future.completeExceptionally(
           new InvalidSnapshotChecksum(
-              directory, expectedSnapshotChecksum, checksumCollection.getCombinedValue()));
+              directory, expectedSnapshotChecksum, checksums.getCombinedValue()));
       return;
     }
 
@@ -294,7 +392,7 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
                 Long.MAX_VALUE);
       }
       final PersistedSnapshot value =
-          snapshotStore.persistNewSnapshot(snapshotId, checksumCollection, metadata);
+          snapshotStore.persistNewSnapshot(snapshotId, checksums, metadata);
       future.complete(value);
     } catch (final Exception e) {
       future.completeExceptionally(e);
@@ -303,6 +401,20 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     snapshotStore.removePendingSnapshot(this);
   }
 
+  private ImmutableChecksumsSFV collectChecksums() throws IOException {
+    if (reusedSnapshot == null) {
+      return checksumCollection;
+    }
+
+    // the combined checksum depends on the order of the files, and reused files were not part of
+    // the received chunks; calculate it again, taking the checksums of the reused files from the
+    // snapshot they are linked from
+    final var snapshotMetrics = snapshotStore.getSnapshotMetrics();
+    try (final var ignored = snapshotMetrics.startChecksumTimer()) {
+      return SnapshotChecksum.calculate(directory, reusedSnapshot, snapshotMetrics);
+    }
+  }
+
   @Override
   public String toString() {
     return "FileBasedReceivedSnapshot{"
@@ -21,6 +21,7 @@ import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
@@ -117,6 +118,16 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
     return checksum;
   }
 
+  @Override
+  public Map<String, Long> getChunkChecksums() {
+    // each file is a chunk, so the checksums of the files are the checksums of the chunks
+    try {
+      return SnapshotChecksum.read(checksumFile).getChecksums();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   @Override
   public SnapshotMetadata getMetadata() {
     return metadata;
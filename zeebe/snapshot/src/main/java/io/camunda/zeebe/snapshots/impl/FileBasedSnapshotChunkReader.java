@@ -17,26 +17,30 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.NavigableSet;
 import java.util.NoSuchElementException;
 import java.util.TreeSet;
-import org.agrona.AsciiSequenceView;
-import org.agrona.DirectBuffer;
-import org.agrona.concurrent.UnsafeBuffer;
 
 /**
- * Implements a chunk reader where each chunk is a single file in a root directory. Chunks are then
- * ordered lexicographically, and the files are assumed to be immutable, i.e. no more are added to
- * the directory once this is created.
+ * Implements a chunk reader where each chunk is a single file in a root directory, or a block of
+ * it if the file is larger than the {@link #setMaximumChunkSize(int) maximum chunk size}. Chunks
+ * are then ordered lexicographically by file name, and by position within the same file. The files
+ * are assumed to be immutable, i.e. no more are added to the directory once this is created.
+ *
+ * <p>The ID of a chunk containing the start of a file is the file name. The ID of any other block
+ * is the file name, followed by a zero byte and the position of the block within the file.
  */
 public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   static final Charset ID_CHARSET = StandardCharsets.US_ASCII;
+  private static final byte ID_POSITION_SEPARATOR = 0;
 
   private final Path directory;
   private final NavigableSet<CharSequence> chunks;
-  private final CharSequenceView chunkIdView;
 
   private NavigableSet<CharSequence> chunksView;
+  private long nextFileBlockPosition;
+  private int maximumChunkSize = Integer.MAX_VALUE;
   private final int totalCount;
   private final long snapshotChecksum;
   private final String snapshotID;
@@ -46,7 +50,6 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     chunks = collectChunks(directory);
     totalCount = chunks.size();
     chunksView = new TreeSet<>(chunks);
-    chunkIdView = new CharSequenceView();
 
     snapshotChecksum = checksum;
 
@@ -64,6 +67,7 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   @Override
   public void reset() {
     chunksView = new TreeSet<>(chunks);
+    nextFileBlockPosition = 0;
   }
 
   @Override
@@ -72,8 +76,11 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
       return;
     }
 
-    final var path = decodeChunkId(id);
-    chunksView = new TreeSet<>(chunks.tailSet(path, true));
+    final var separator = indexOfPositionSeparator(id);
+    final var fileName = decodeFileName(id, separator);
+    chunksView = new TreeSet<>(chunks.tailSet(fileName, true));
+    nextFileBlockPosition =
+        separator >= 0 && isNextFile(fileName) ? decodePosition(id, separator) : 0;
   }
 
   @Override
@@ -82,7 +89,28 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
       return null;
     }
 
-    return encodeChunkId(chunksView.first());
+    return encodeChunkId(chunksView.first(), nextFileBlockPosition);
+  }
+
+  @Override
+  public void exclude(final Collection<String> chunkIds) {
+    final var nextFile = chunksView.isEmpty() ? null : chunksView.first();
+    chunkIds.forEach(chunks::remove);
+    chunkIds.forEach(chunksView::remove);
+
+    if (nextFile != null && !isNextFile(nextFile)) {
+      nextFileBlockPosition = 0;
+    }
+  }
+
+  @Override
+  public void setMaximumChunkSize(final int maximumChunkSize) {
+    if (maximumChunkSize <= 0) {
+      throw new IllegalArgumentException(
+          "Expected the maximum chunk size to be positive, but was " + maximumChunkSize);
+    }
+
+    this.maximumChunkSize = maximumChunkSize;
   }
 
   @Override
@@ -98,36 +126,70 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
 
   @Override
   public SnapshotChunk next() {
-    final var chunkName = chunksView.pollFirst();
-    if (chunkName == null) {
+    if (chunksView.isEmpty()) {
       throw new NoSuchElementException();
     }
 
+    final var chunkName = chunksView.first();
     final var path = directory.resolve(chunkName.toString());
 
+    final SnapshotChunk chunk;
     try {
-      return SnapshotChunkUtil.createSnapshotChunkFromFile(
-          path, snapshotID, totalCount, snapshotChecksum);
+      chunk =
+          SnapshotChunkUtil.createSnapshotChunkFromFileBlock(
+              path,
+              snapshotID,
+              totalCount,
+              snapshotChecksum,
+              nextFileBlockPosition,
+              maximumChunkSize);
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
-  }
 
-  private ByteBuffer encodeChunkId(final CharSequence path) {
-    return ByteBuffer.wrap(path.toString().getBytes(ID_CHARSET)).order(Protocol.ENDIANNESS);
+    nextFileBlockPosition += chunk.getContent().length;
+    if (nextFileBlockPosition >= chunk.getTotalFileSize()) {
+      chunksView.pollFirst();
+      nextFileBlockPosition = 0;
+    }
+
+    return chunk;
   }
 
-  private CharSequence decodeChunkId(final ByteBuffer id) {
-    return chunkIdView.wrap(id);
+  private boolean isNextFile(final CharSequence fileName) {
+    return !chunksView.isEmpty() && CharSequence.compare(chunksView.first(), fileName) == 0;
   }
 
-  private static final class CharSequenceView {
-    private final DirectBuffer wrapper = new UnsafeBuffer();
-    private final AsciiSequenceView view = new AsciiSequenceView();
+  private ByteBuffer encodeChunkId(final CharSequence path, final long position) {
+    final var fileName = path.toString().getBytes(ID_CHARSET);
+    if (position == 0) {
+      return ByteBuffer.wrap(fileName).order(Protocol.ENDIANNESS);
+    }
+
+    return ByteBuffer.allocate(fileName.length + 1 + Long.BYTES)
+        .order(Protocol.ENDIANNESS)
+        .put(fileName)
+        .put(ID_POSITION_SEPARATOR)
+        .putLong(position)
+        .flip();
+  }
 
-    private CharSequence wrap(final ByteBuffer buffer) {
-      wrapper.wrap(buffer);
-      return view.wrap(wrapper, 0, wrapper.capacity());
+  private int indexOfPositionSeparator(final ByteBuffer id) {
+    for (int i = id.position(); i < id.limit(); i++) {
+      if (id.get(i) == ID_POSITION_SEPARATOR) {
+        return i;
+      }
     }
+
+    return -1;
+  }
+
+  private String decodeFileName(final ByteBuffer id, final int separator) {
+    final var end = separator >= 0 ? separator : id.limit();
+    return ID_CHARSET.decode(id.duplicate().position(id.position()).limit(end)).toString();
+  }
+
+  private long decodePosition(final ByteBuffer id, final int separator) {
+    return id.duplicate().order(Protocol.ENDIANNESS).getLong(separator + 1);
   }
 }
@@ -81,7 +81,7 @@ public final class FileBasedTransientSnapshot implements TransientSnapshot {
                       directory)));
 
         } else {
-          checksum = SnapshotChecksum.calculate(directory);
+          checksum = calculateChecksum(snapshotMetrics);
 
           snapshot = null;
           isValid = true;
@@ -96,6 +96,20 @@ public final class FileBasedTransientSnapshot implements TransientSnapshot {
     }
   }
 
+  private MutableChecksumsSFV calculateChecksum(final SnapshotMetrics snapshotMetrics)
+      throws IOException {
+    try (final var ignored = snapshotMetrics.startChecksumTimer()) {
+      // most files of a snapshot are usually linked from the previous one, whose checksums are
+      // known already
+      final var previousSnapshot = snapshotStore.getLatestSnapshot();
+      if (previousSnapshot.isPresent()) {
+        return SnapshotChecksum.calculate(directory, previousSnapshot.get(), snapshotMetrics);
+      }
+
+      return SnapshotChecksum.calculate(directory);
+    }
+  }
+
   @Override
   public ActorFuture<Void> abort() {
     final CompletableActorFuture<Void> abortFuture = new CompletableActorFuture<>();
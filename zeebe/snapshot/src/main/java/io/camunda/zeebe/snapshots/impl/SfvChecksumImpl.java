@@ -17,6 +17,7 @@ import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.Collections;
 import java.util.Map.Entry;
 import java.util.SortedMap;
 import java.util.TreeMap;
@@ -43,14 +44,20 @@ final class SfvChecksumImpl implements MutableChecksumsSFV {
 """;
   private static final String FORMAT_SNAPSHOT_DIRECTORY_LINE = "; snapshot directory = %s\n";
   private static final String FORMAT_FILE_CRC_LINE = "%s   %s\n";
+  // a comment line, such that other SFV tools and older versions ignore it
+  private static final String FORMAT_FILE_SIZE_LINE = "; %d   %s\n";
   private static final String FORMAT_COMBINED_VALUE_LINE = "; combinedValue = %s\n";
   private static final String FILE_CRC_SEPARATOR_REGEX = " {3}";
   private static final Pattern FILE_CRC_PATTERN =
       Pattern.compile("(.*)" + FILE_CRC_SEPARATOR_REGEX + "([0-9a-fA-F]{1,16})");
   private static final Pattern COMBINED_VALUE_PATTERN =
       Pattern.compile(".*combinedValue\\s+=\\s+([0-9a-fA-F]{1,16})");
+  private static final Pattern FILE_SIZE_PATTERN =
+      Pattern.compile(";\\s*(\\d+)" + FILE_CRC_SEPARATOR_REGEX + "(.*)");
+  private static final int CRC32C_POLYNOMIAL = 0x82F63B78;
   private Checksum combinedChecksum;
   private final SortedMap<String, Long> checksums = new TreeMap<>();
+  private final SortedMap<String, Long> fileSizes = new TreeMap<>();
   private String snapshotDirectoryComment;
 
   /**
@@ -63,7 +70,7 @@ final class SfvChecksumImpl implements MutableChecksumsSFV {
   }
 
   public SfvChecksumImpl() {
-    combinedChecksum = new CRC32C();
+    combinedChecksum = new CombinedCrc32C();
   }
 
   @Override
@@ -71,6 +78,16 @@ final class SfvChecksumImpl implements MutableChecksumsSFV {
     return combinedChecksum.getValue();
   }
 
+  @Override
+  public SortedMap<String, Long> getChecksums() {
+    return Collections.unmodifiableSortedMap(checksums);
+  }
+
+  @Override
+  public SortedMap<String, Long> getFileSizes() {
+    return Collections.unmodifiableSortedMap(fileSizes);
+  }
+
   @Override
   public void write(final OutputStream stream) throws IOException {
     final var writer = new PrintWriter(stream);
@@ -81,6 +98,10 @@ final class SfvChecksumImpl implements MutableChecksumsSFV {
     writer.printf(FORMAT_COMBINED_VALUE_LINE, Long.toHexString(combinedChecksum.getValue()));
     writer.printf(FORMAT_NUMBER_OF_FILES_LINE, checksums.size());
 
+    for (final Entry<String, Long> entry : fileSizes.entrySet()) {
+      writer.printf(FORMAT_FILE_SIZE_LINE, entry.getValue(), entry.getKey());
+    }
+
     for (final Entry<String, Long> entry : checksums.entrySet()) {
       writer.printf(FORMAT_FILE_CRC_LINE, entry.getKey(), Long.toHexString(entry.getValue()));
     }
@@ -108,31 +129,54 @@ final class SfvChecksumImpl implements MutableChecksumsSFV {
   @Override
   public void updateFromFile(final Path filePath) throws IOException {
     final String fileName = filePath.getFileName().toString();
-    final byte[] chunkId = fileName.getBytes(UTF_8);
-    combinedChecksum.update(chunkId);
+    final CombinedCrc32C combined = mutableCombinedChecksum();
 
     final Checksum checksum = new CRC32C();
     final ByteBuffer readBuffer = ByteBuffer.allocate(IoUtil.BLOCK_SIZE);
+    long fileSize = 0;
     try (final FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
       readBuffer.clear();
-      while (channel.read(readBuffer) > 0) {
-        readBuffer.flip();
-        combinedChecksum.update(readBuffer);
+      int read;
+      while ((read = channel.read(readBuffer)) > 0) {
         readBuffer.flip();
         checksum.update(readBuffer);
         readBuffer.clear();
+        fileSize += read;
       }
     }
-    checksums.put(fileName, checksum.getValue());
+    update(combined, fileName, checksum.getValue(), fileSize);
   }
 
   @Override
   public void updateFromBytes(final String fileName, final byte[] bytes) {
-    combinedChecksum.update(fileName.getBytes(UTF_8));
+    final CombinedCrc32C combined = mutableCombinedChecksum();
     final Checksum checksum = new CRC32C();
     checksum.update(bytes);
-    combinedChecksum.update(bytes);
-    checksums.put(fileName, checksum.getValue());
+    update(combined, fileName, checksum.getValue(), bytes.length);
+  }
+
+  @Override
+  public void updateFromChecksum(final String fileName, final long checksum, final long fileSize) {
+    update(mutableCombinedChecksum(), fileName, checksum, fileSize);
+  }
+
+  private CombinedCrc32C mutableCombinedChecksum() {
+    if (!(combinedChecksum instanceof final CombinedCrc32C combined)) {
+      throw new UnsupportedOperationException("This is an immutable checksum.");
+    }
+    return combined;
+  }
+
+  private void update(
+      final CombinedCrc32C combined,
+      final String fileName,
+      final long checksum,
+      final long fileSize) {
+    // the combined checksum covers the file name followed by the file's content
+    combined.update(fileName.getBytes(UTF_8));
+    combined.combine(checksum, fileSize);
+    checksums.put(fileName, checksum);
+    fileSizes.put(fileName, fileSize);
   }
 
   @Override
@@ -146,6 +190,11 @@ final class SfvChecksumImpl implements MutableChecksumsSFV {
           final long crc = Long.parseLong(hexString, 16);
           combinedChecksum = new PreDefinedImmutableChecksum(crc);
         }
+
+        final Matcher sizeMatcher = FILE_SIZE_PATTERN.matcher(line);
+        if (sizeMatcher.matches()) {
+          fileSizes.put(sizeMatcher.group(2).trim(), Long.parseLong(sizeMatcher.group(1)));
+        }
       } else {
         final Matcher matcher = FILE_CRC_PATTERN.matcher(line);
         if (matcher.find()) {
@@ -157,6 +206,108 @@ final class SfvChecksumImpl implements MutableChecksumsSFV {
     }
   }
 
+  /**
+   * Combines two CRC32C checksums into the checksum of the concatenation of their data, without
+   * reading the data again. Adapted from zlib's crc32_combine: appending {@code length2} bytes to
+   * the first data is a linear operation on its checksum, which is applied by repeatedly squaring
+   * the operator for a single zero bit.
+   */
+  private static long combine(final long crc1, final long crc2, final long length2) {
+    if (length2 <= 0) {
+      return crc1;
+    }
+
+    final int[] even = new int[Integer.SIZE];
+    final int[] odd = new int[Integer.SIZE];
+
+    // the operator for a single zero bit
+    odd[0] = CRC32C_POLYNOMIAL;
+    int row = 1;
+    for (int n = 1; n < Integer.SIZE; n++) {
+      odd[n] = row;
+      row <<= 1;
+    }
+
+    // the operators for two and four zero bits
+    gf2MatrixSquare(even, odd);
+    gf2MatrixSquare(odd, even);
+
+    // apply the operator for each set bit of the length in bytes
+    int crc = (int) crc1;
+    long remaining = length2;
+    do {
+      gf2MatrixSquare(even, odd);
+      if ((remaining & 1) != 0) {
+        crc = gf2MatrixTimes(even, crc);
+      }
+      remaining >>= 1;
+      if (remaining == 0) {
+        break;
+      }
+
+      gf2MatrixSquare(odd, even);
+      if ((remaining & 1) != 0) {
+        crc = gf2MatrixTimes(odd, crc);
+      }
+      remaining >>= 1;
+    } while (remaining != 0);
+
+    return Integer.toUnsignedLong(crc ^ (int) crc2);
+  }
+
+  private static int gf2MatrixTimes(final int[] matrix, final int vector) {
+    int sum = 0;
+    int remaining = vector;
+    for (int i = 0; remaining != 0; i++, remaining >>>= 1) {
+      if ((remaining & 1) != 0) {
+        sum ^= matrix[i];
+      }
+    }
+    return sum;
+  }
+
+  private static void gf2MatrixSquare(final int[] square, final int[] matrix) {
+    for (int n = 0; n < Integer.SIZE; n++) {
+      square[n] = gf2MatrixTimes(matrix, matrix[n]);
+    }
+  }
+
+  /**
+   * A CRC32C checksum over a sequence of parts, which is built from the checksums of the parts
+   * instead of their data. The data of each file is then only read once, for the file's own
+   * checksum, and not at all if the file's checksum is already known.
+   */
+  private static final class CombinedCrc32C implements Checksum {
+
+    private long crc;
+
+    @Override
+    public void update(final int b) {
+      update(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void update(final byte[] b, final int off, final int len) {
+      final var checksum = new CRC32C();
+      checksum.update(b, off, len);
+      combine(checksum.getValue(), len);
+    }
+
+    @Override
+    public long getValue() {
+      return crc;
+    }
+
+    @Override
+    public void reset() {
+      crc = 0;
+    }
+
+    private void combine(final long partChecksum, final long partLength) {
+      crc = SfvChecksumImpl.combine(crc, partChecksum, partLength);
+    }
+  }
+
   private static class PreDefinedImmutableChecksum implements Checksum {
 
     private final long crc;
@@ -9,9 +9,9 @@ package io.camunda.zeebe.snapshots.impl;
 
 import io.camunda.zeebe.snapshots.ImmutableChecksumsSFV;
 import io.camunda.zeebe.snapshots.MutableChecksumsSFV;
+import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import java.io.IOException;
 import java.io.RandomAccessFile;
-import java.io.UncheckedIOException;
 import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
 import java.nio.file.Files;
@@ -42,9 +42,47 @@ final class SnapshotChecksum {
   }
 
   public static MutableChecksumsSFV calculate(final Path snapshotDirectory) throws IOException {
+    return calculate(snapshotDirectory, null, new SfvChecksumImpl(), null);
+  }
+
+  /**
+   * Calculates the checksums of the given snapshot like {@link #calculate(Path)}, but takes the
+   * checksum of every file which is shared with the previous snapshot from the previous snapshot's
+   * checksum file instead of reading the file again. A file is shared if it is the same file on
+   * disk, i.e. hard linked, and still has the size recorded for it, which is the case for the
+   * immutable SST files of consecutive RocksDB checkpoints.
+   *
+   * @param snapshotDirectory the directory of the snapshot to calculate the checksums for
+   * @param previousSnapshot the previous snapshot, which may share files with the snapshot
+   * @param metrics the metrics in which the number of reused and calculated checksums is observed
+   * @return the checksums of the snapshot
+   */
+  public static MutableChecksumsSFV calculate(
+      final Path snapshotDirectory,
+      final PersistedSnapshot previousSnapshot,
+      final SnapshotMetrics metrics)
+      throws IOException {
+    final ImmutableChecksumsSFV previousChecksums;
+    try {
+      previousChecksums = read(previousSnapshot.getChecksumPath());
+    } catch (final IOException e) {
+      // the previous snapshot may have been deleted in the meantime
+      return calculate(snapshotDirectory);
+    }
+
+    return calculate(snapshotDirectory, previousSnapshot.getPath(), previousChecksums, metrics);
+  }
+
+  private static MutableChecksumsSFV calculate(
+      final Path snapshotDirectory,
+      final Path previousSnapshotDirectory,
+      final ImmutableChecksumsSFV previousChecksums,
+      final SnapshotMetrics metrics)
+      throws IOException {
     try (final var fileStream =
         Files.list(snapshotDirectory).filter(SnapshotChecksum::isNotMetadataFile).sorted()) {
-      final var sfvChecksum = createCombinedChecksum(fileStream);
+      final var sfvChecksum =
+          createCombinedChecksum(fileStream, previousSnapshotDirectory, previousChecksums, metrics);
 
       // While persisting transient snapshot, the checksum of metadata file is added at the end.
       // Hence when we recalculate the checksum, we must follow the same order. Otherwise base on
@@ -82,16 +120,45 @@ final class SnapshotChecksum {
    *
    * @return the SfvChecksum object
    */
-  private static SfvChecksumImpl createCombinedChecksum(final Stream<Path> files) {
+  private static SfvChecksumImpl createCombinedChecksum(
+      final Stream<Path> files,
+      final Path previousSnapshotDirectory,
+      final ImmutableChecksumsSFV previousChecksums,
+      final SnapshotMetrics metrics)
+      throws IOException {
     final SfvChecksumImpl checksum = new SfvChecksumImpl();
-    files.forEachOrdered(
-        path -> {
-          try {
-            checksum.updateFromFile(path);
-          } catch (final IOException e) {
-            throw new UncheckedIOException(e);
-          }
-        });
+    final var previousFileChecksums = previousChecksums.getChecksums();
+    final var previousFileSizes = previousChecksums.getFileSizes();
+    int reusedFiles = 0;
+    int calculatedFiles = 0;
+
+    for (final var path : (Iterable<Path>) files::iterator) {
+      final var fileName = path.getFileName().toString();
+      final var previousFileChecksum = previousFileChecksums.get(fileName);
+      final var previousFileSize = previousFileSizes.get(fileName);
+      if (previousFileChecksum != null
+          && previousFileSize != null
+          && isSameFile(path, previousSnapshotDirectory.resolve(fileName))
+          && Files.size(path) == previousFileSize) {
+        checksum.updateFromChecksum(fileName, previousFileChecksum, previousFileSize);
+        reusedFiles++;
+      } else {
+        checksum.updateFromFile(path);
+        calculatedFiles++;
+      }
+    }
+
+    if (metrics != null) {
+      metrics.observeChecksumFiles(reusedFiles, calculatedFiles);
+    }
     return checksum;
   }
+
+  private static boolean isSameFile(final Path file, final Path other) {
+    try {
+      return Files.isSameFile(file, other);
+    } catch (final IOException e) {
+      return false;
+    }
+  }
 }
@@ -8,9 +8,12 @@
 package io.camunda.zeebe.snapshots.impl;
 
 import io.camunda.zeebe.snapshots.SnapshotChunk;
+import java.io.EOFException;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.zip.CRC32C;
 import java.util.zip.Checksum;
 
@@ -28,21 +31,38 @@ final class SnapshotChunkUtil {
     return new CRC32C();
   }
 
-  static SnapshotChunk createSnapshotChunkFromFile(
+  static SnapshotChunk createSnapshotChunkFromFileBlock(
       final Path chunkFile,
       final String snapshotId,
       final int totalCount,
-      final long snapshotChecksum)
+      final long snapshotChecksum,
+      final long fileBlockPosition,
+      final int blockSize)
       throws IOException {
-    final byte[] content = Files.readAllBytes(chunkFile);
-    final long checksum = createChecksum(content);
-    return new SnapshotChunkImpl(
-        snapshotId,
-        totalCount,
-        chunkFile.getFileName().toString(),
-        checksum,
-        content,
-        snapshotChecksum);
+    try (final var channel = FileChannel.open(chunkFile, StandardOpenOption.READ)) {
+      final long totalFileSize = channel.size();
+      final int length = (int) Math.min(blockSize, totalFileSize - fileBlockPosition);
+      final ByteBuffer content = ByteBuffer.allocate(length);
+
+      while (content.hasRemaining()) {
+        if (channel.read(content, fileBlockPosition + content.position()) < 0) {
+          throw new EOFException(
+              String.format(
+                  "Expected to read %d bytes from %s at position %d, but reached the end of the file",
+                  length, chunkFile, fileBlockPosition));
+        }
+      }
+
+      return new SnapshotChunkImpl(
+          snapshotId,
+          totalCount,
+          chunkFile.getFileName().toString(),
+          createChecksum(content.array()),
+          content.array(),
+          snapshotChecksum,
+          fileBlockPosition,
+          totalFileSize);
+    }
   }
 
   private static final class SnapshotChunkImpl implements SnapshotChunk {
@@ -52,6 +72,8 @@ final class SnapshotChunkUtil {
     private final byte[] content;
     private final long snapshotChecksum;
     private final long checksum;
+    private final long fileBlockPosition;
+    private final long totalFileSize;
 
     SnapshotChunkImpl(
         final String snapshotId,
@@ -59,13 +81,17 @@ final class SnapshotChunkUtil {
         final String chunkName,
         final long checksum,
         final byte[] content,
-        final long snapshotChecksum) {
+        final long snapshotChecksum,
+        final long fileBlockPosition,
+        final long totalFileSize) {
       this.snapshotId = snapshotId;
       this.totalCount = totalCount;
       this.chunkName = chunkName;
       this.checksum = checksum;
       this.content = content;
       this.snapshotChecksum = snapshotChecksum;
+      this.fileBlockPosition = fileBlockPosition;
+      this.totalFileSize = totalFileSize;
     }
 
     @Override
@@ -97,5 +123,15 @@ final class SnapshotChunkUtil {
     public long getSnapshotChecksum() {
       return snapshotChecksum;
     }
+
+    @Override
+    public long getFileBlockPosition() {
+      return fileBlockPosition;
+    }
+
+    @Override
+    public long getTotalFileSize() {
+      return totalFileSize;
+    }
   }
 }
@@ -53,6 +53,27 @@ public final class SnapshotMetrics {
           .name("snapshot_persist_duration")
           .help("Approximate duration of snapshot persist operation")
           .register();
+  private static final Histogram SNAPSHOT_CHECKSUM_DURATION =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME)
+          .name("snapshot_checksum_duration")
+          .help("Approximate duration of calculating the checksums of a snapshot's files")
+          .register();
+  private static final Counter SNAPSHOT_CHECKSUM_REUSED_FILES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME)
+          .name("snapshot_checksum_reused_files_total")
+          .help("Total count of snapshot files whose checksum was taken from a previous snapshot")
+          .register();
+  private static final Counter SNAPSHOT_CHECKSUM_CALCULATED_FILES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME)
+          .name("snapshot_checksum_calculated_files_total")
+          .help("Total count of snapshot files whose checksum was calculated by reading the file")
+          .register();
   private static final Histogram SNAPSHOT_FILE_SIZE =
       Histogram.build()
           .namespace(NAMESPACE)
@@ -63,6 +84,9 @@ public final class SnapshotMetrics {
           .register();
 
   private final Histogram.Child snapshotPersistDuration;
+  private final Histogram.Child snapshotChecksumDuration;
+  private final Child snapshotChecksumReusedFiles;
+  private final Child snapshotChecksumCalculatedFiles;
   private final Histogram.Child snapshotFileSize;
   private final Histogram.Child snapshotDuration;
   private final Gauge.Child snapshotChunkCount;
@@ -72,6 +96,9 @@ public final class SnapshotMetrics {
   public SnapshotMetrics(final String partitionId) {
     snapshotDuration = SNAPSHOT_DURATION.labels(partitionId);
     snapshotPersistDuration = SNAPSHOT_PERSIST_DURATION.labels(partitionId);
+    snapshotChecksumDuration = SNAPSHOT_CHECKSUM_DURATION.labels(partitionId);
+    snapshotChecksumReusedFiles = SNAPSHOT_CHECKSUM_REUSED_FILES.labels(partitionId);
+    snapshotChecksumCalculatedFiles = SNAPSHOT_CHECKSUM_CALCULATED_FILES.labels(partitionId);
     snapshotFileSize = SNAPSHOT_FILE_SIZE.labels(partitionId);
     snapshotChunkCount = SNAPSHOT_CHUNK_COUNT.labels(partitionId);
     snapshotSize = SNAPSHOT_SIZE.labels(partitionId);
@@ -101,4 +128,13 @@ public final class SnapshotMetrics {
   Timer startPersistTimer() {
     return snapshotPersistDuration.startTimer();
   }
+
+  Timer startChecksumTimer() {
+    return snapshotChecksumDuration.startTimer();
+  }
+
+  void observeChecksumFiles(final int reusedFiles, final int calculatedFiles) {
+    snapshotChecksumReusedFiles.inc(reusedFiles);
+    snapshotChecksumCalculatedFiles.inc(calculatedFiles);
+  }
 }
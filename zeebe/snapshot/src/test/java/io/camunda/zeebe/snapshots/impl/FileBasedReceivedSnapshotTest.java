@@ -26,6 +26,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import org.assertj.core.api.Assertions;
@@ -340,6 +341,111 @@ public class FileBasedReceivedSnapshotTest {
                 name.getFileName().toString().equals(FileBasedSnapshotStore.METADATA_FILE_NAME));
   }
 
+  @Test
+  public void shouldReuseChunksOfLocalSnapshot() throws IOException {
+    // given
+    final var localSnapshot = receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var snapshotToSend = takePersistedSnapshot(2L);
+    final var reusedChunks = List.of("file1", "file2");
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(snapshotToSend.getId()).join();
+
+    // when
+    try (final var snapshotChunkReader = snapshotToSend.newChunkReader()) {
+      snapshotChunkReader.exclude(reusedChunks);
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+    }
+    receivedSnapshot.reuse(localSnapshot, reusedChunks).join();
+    final var persistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(persistedSnapshot.getChecksum()).isEqualTo(snapshotToSend.getChecksum());
+    assertThat(persistedSnapshot.getChunkChecksums())
+        .isEqualTo(snapshotToSend.getChunkChecksums());
+    assertThat(persistedSnapshot.getMetadata()).isEqualTo(snapshotToSend.getMetadata());
+    assertThat(
+            Files.isSameFile(
+                localSnapshot.getPath().resolve("file1"),
+                persistedSnapshot.getPath().resolve("file1")))
+        .as("the reused chunk is linked from the local snapshot")
+        .isTrue();
+  }
+
+  @Test
+  public void shouldNotPersistIfReusedChunkDiffers() throws IOException {
+    // given
+    final var localSnapshot = receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    // a different size, as the checksum of a linked file with the recorded size is not recalculated
+    Files.writeString(localSnapshot.getPath().resolve("file1"), "other file1 contents");
+    final var snapshotToSend = takePersistedSnapshot(2L);
+    final var reusedChunks = List.of("file1");
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(snapshotToSend.getId()).join();
+
+    // when
+    try (final var snapshotChunkReader = snapshotToSend.newChunkReader()) {
+      snapshotChunkReader.exclude(reusedChunks);
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+    }
+    receivedSnapshot.reuse(localSnapshot, reusedChunks).join();
+
+    // then
+    assertThat(receivedSnapshot.persist())
+        .as("the snapshot was not persisted as the reused chunk does not match")
+        .failsWithin(Duration.ofSeconds(5));
+  }
+
+  @Test
+  public void shouldReceiveSnapshotInBlocks() {
+    // given
+    final var snapshotToSend = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(snapshotToSend.getId()).join();
+
+    // when
+    try (final var snapshotChunkReader = snapshotToSend.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(2);
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+    }
+    final var persistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(persistedSnapshot.getChecksum()).isEqualTo(snapshotToSend.getChecksum());
+    assertThat(persistedSnapshot.getMetadata()).isEqualTo(snapshotToSend.getMetadata());
+    for (final var file : SNAPSHOT_FILE_CONTENTS.entrySet()) {
+      assertThat(persistedSnapshot.getPath().resolve(file.getKey())).hasContent(file.getValue());
+    }
+  }
+
+  @Test
+  public void shouldIgnoreBlockWhichWasAlreadyApplied() {
+    // given
+    final var snapshotToSend = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(snapshotToSend.getId()).join();
+
+    // when
+    try (final var snapshotChunkReader = snapshotToSend.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(2);
+      final var firstBlock = snapshotChunkReader.next();
+      receivedSnapshot.apply(firstBlock).join();
+      receivedSnapshot.apply(firstBlock).join();
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+    }
+    final var persistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(persistedSnapshot.getChecksum()).isEqualTo(snapshotToSend.getChecksum());
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
@@ -20,6 +20,7 @@ import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import org.junit.Rule;
@@ -153,6 +154,105 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThat(snapshotChunkIds).containsExactly("file1", "file2", "file3");
   }
 
+  @Test
+  public void shouldNotReturnExcludedChunks() throws IOException {
+    // given
+    final var snapshotChunkIds = new ArrayList<String>();
+    try (final var snapshotChunkReader = newReader()) {
+      snapshotChunkReader.next();
+
+      // when
+      snapshotChunkReader.exclude(List.of("file2"));
+      snapshotChunkReader.seek(asByteBuffer("file2"));
+
+      while (snapshotChunkReader.hasNext()) {
+        snapshotChunkIds.add(snapshotChunkReader.next().getChunkName());
+      }
+
+      snapshotChunkReader.reset();
+      while (snapshotChunkReader.hasNext()) {
+        snapshotChunkIds.add(snapshotChunkReader.next().getChunkName());
+      }
+    }
+
+    // then
+    assertThat(snapshotChunkIds).containsExactly("file3", "file1", "file3");
+  }
+
+  @Test
+  public void shouldKeepTotalCountWhenExcludingChunks() throws IOException {
+    // given
+    try (final var snapshotChunkReader = newReader()) {
+      // when
+      snapshotChunkReader.exclude(List.of("file1", "file2"));
+
+      // then
+      assertThat(snapshotChunkReader.next().getTotalCount()).isEqualTo(SNAPSHOT_CHUNK.size());
+    }
+  }
+
+  @Test
+  public void shouldSplitFilesIntoBlocks() throws IOException {
+    // given
+    final var snapshotChunks = new ArrayList<SnapshotChunk>();
+    try (final var snapshotChunkReader = newReader()) {
+      // when
+      snapshotChunkReader.setMaximumChunkSize(3);
+      while (snapshotChunkReader.hasNext()) {
+        snapshotChunks.add(snapshotChunkReader.next());
+      }
+    }
+
+    // then
+    assertThat(snapshotChunks)
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactly("file1", "file1", "file2", "file3", "file3", "file3");
+    assertThat(snapshotChunks)
+        .extracting(SnapshotChunk::getContent)
+        .extracting(String::new)
+        .containsExactly("thi", "s", "is", "con", "ten", "t");
+    assertThat(snapshotChunks)
+        .extracting(SnapshotChunk::getFileBlockPosition)
+        .containsExactly(0L, 3L, 0L, 0L, 3L, 6L);
+    assertThat(snapshotChunks)
+        .extracting(SnapshotChunk::getTotalFileSize)
+        .containsExactly(4L, 4L, 2L, 7L, 7L, 7L);
+  }
+
+  @Test
+  public void shouldSeekToBlock() throws IOException {
+    // given
+    final var blockContents = new ArrayList<String>();
+    try (final var snapshotChunkReader = newReader()) {
+      snapshotChunkReader.setMaximumChunkSize(3);
+      snapshotChunkReader.seek(asByteBuffer("file3"));
+      snapshotChunkReader.next();
+      final var blockId = snapshotChunkReader.nextId();
+      snapshotChunkReader.next();
+
+      // when
+      snapshotChunkReader.reset();
+      snapshotChunkReader.seek(blockId);
+
+      while (snapshotChunkReader.hasNext()) {
+        blockContents.add(new String(snapshotChunkReader.next().getContent()));
+      }
+    }
+
+    // then
+    assertThat(blockContents).containsExactly("ten", "t");
+  }
+
+  @Test
+  public void shouldRejectNonPositiveChunkSize() throws IOException {
+    // given
+    try (final var snapshotChunkReader = newReader()) {
+      // when - then
+      assertThatThrownBy(() -> snapshotChunkReader.setMaximumChunkSize(0))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
   @Test
   public void shouldThrowExceptionOnReachingLimit() throws IOException {
     // given
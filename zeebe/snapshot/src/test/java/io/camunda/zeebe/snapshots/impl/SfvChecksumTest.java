@@ -15,6 +15,8 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.zip.CRC32C;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -69,6 +71,40 @@ public class SfvChecksumTest {
     assertThat(actualSfVlines).contains(givenSfvLines[1]);
   }
 
+  @Test
+  public void shouldReadAndWriteFileSizes() throws IOException {
+    // given
+    sfvChecksum.updateFromBytes("file1", "content".getBytes(StandardCharsets.UTF_8));
+    final var arrayOutputStream = new ByteArrayOutputStream();
+    sfvChecksum.write(arrayOutputStream);
+    final String serialized = arrayOutputStream.toString(StandardCharsets.UTF_8);
+
+    // when
+    final var readChecksum = new SfvChecksumImpl();
+    readChecksum.updateFromSfvFile(serialized.split(System.lineSeparator()));
+
+    // then
+    assertThat(readChecksum.getFileSizes()).containsExactly(Map.entry("file1", 7L));
+    assertThat(readChecksum.getChecksums()).isEqualTo(sfvChecksum.getChecksums());
+    assertThat(readChecksum.getCombinedValue()).isEqualTo(sfvChecksum.getCombinedValue());
+  }
+
+  @Test
+  public void shouldCombineKnownChecksum() {
+    // given
+    final var checksum = new CRC32C();
+    checksum.update("content".getBytes(StandardCharsets.UTF_8));
+
+    // when
+    sfvChecksum.updateFromChecksum("file1", checksum.getValue(), 7);
+
+    // then
+    final var expected = new SfvChecksumImpl();
+    expected.updateFromBytes("file1", "content".getBytes(StandardCharsets.UTF_8));
+    assertThat(sfvChecksum.getCombinedValue()).isEqualTo(expected.getCombinedValue());
+    assertThat(sfvChecksum.getChecksums()).isEqualTo(expected.getChecksums());
+  }
+
   @Test
   public void shouldThrowExceptionOnWriteWhenFlushFails() throws IOException {
     // given
@@ -256,6 +256,72 @@ public final class SnapshotChecksumTest {
         .isEqualTo(checksumCalculatedAtOnce.getCombinedValue());
   }
 
+  @Test
+  void shouldReuseChecksumsOfFilesLinkedFromPreviousSnapshot() throws IOException {
+    // given
+    final var previousSnapshot = createPreviousSnapshot(multipleFileSnapshot);
+    final var folder = createTempDir("folder");
+    Files.createLink(folder.resolve("file1.txt"), multipleFileSnapshot.resolve("file1.txt"));
+    Files.createLink(folder.resolve("file2.txt"), multipleFileSnapshot.resolve("file2.txt"));
+    createChunk(folder, "file4.txt");
+
+    // when
+    final var checksum = SnapshotChecksum.calculate(folder, previousSnapshot, null);
+
+    // then
+    assertThat(checksum.getCombinedValue())
+        .isEqualTo(SnapshotChecksum.calculate(folder).getCombinedValue());
+    assertThat(checksum.getChecksums()).containsOnlyKeys("file1.txt", "file2.txt", "file4.txt");
+  }
+
+  @Test
+  void shouldNotReuseChecksumsOfCopiedFiles() throws IOException {
+    // given
+    final var previousSnapshot = createPreviousSnapshot(multipleFileSnapshot);
+    final var folder = createTempDir("folder");
+    Files.copy(multipleFileSnapshot.resolve("file1.txt"), folder.resolve("file1.txt"));
+    final var previousChecksums = SnapshotChecksum.read(previousSnapshot.getChecksumPath());
+    final var sfvChecksum = new SfvChecksumImpl();
+    // a checksum which does not match the file, to detect whether the file was read
+    sfvChecksum.updateFromChecksum(
+        "file1.txt", 1L, previousChecksums.getFileSizes().get("file1.txt"));
+    SnapshotChecksum.persist(previousSnapshot.getChecksumPath(), sfvChecksum);
+
+    // when
+    final var checksum = SnapshotChecksum.calculate(folder, previousSnapshot, null);
+
+    // then
+    assertThat(checksum.getChecksums().get("file1.txt"))
+        .isEqualTo(previousChecksums.getChecksums().get("file1.txt"));
+  }
+
+  @Test
+  void shouldNotReuseChecksumsOfFilesWithDifferentSize() throws IOException {
+    // given
+    final var previousSnapshot = createPreviousSnapshot(multipleFileSnapshot);
+    final var previousChecksums = SnapshotChecksum.read(previousSnapshot.getChecksumPath());
+    final var folder = createTempDir("folder");
+    Files.createLink(folder.resolve("file1.txt"), multipleFileSnapshot.resolve("file1.txt"));
+
+    // when
+    Files.writeString(folder.resolve("file1.txt"), "other content");
+    final var checksum = SnapshotChecksum.calculate(folder, previousSnapshot, null);
+
+    // then
+    assertThat(checksum.getChecksums().get("file1.txt"))
+        .isNotEqualTo(previousChecksums.getChecksums().get("file1.txt"));
+    assertThat(checksum.getCombinedValue())
+        .isEqualTo(SnapshotChecksum.calculate(folder).getCombinedValue());
+  }
+
+  private FileBasedSnapshot createPreviousSnapshot(final Path directory) throws IOException {
+    final var checksum = SnapshotChecksum.calculate(directory);
+    final var checksumPath = temporaryFolder.resolve(directory.getFileName() + ".checksum");
+    SnapshotChecksum.persist(checksumPath, checksum);
+    return new FileBasedSnapshot(
+        directory, checksumPath, checksum.getCombinedValue(), null, null, null, null);
+  }
+
   private Path createTempDir(final String name) throws IOException {
     final var path = temporaryFolder.resolve(name);
     FileUtil.ensureDirectoryExists(path);
@@ -16,6 +16,7 @@ import io.camunda.zeebe.transport.stream.api.ClientStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.ClientStreamService;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
+import io.camunda.zeebe.transport.stream.api.RemoteStreamPushSettings;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamService;
 import io.camunda.zeebe.transport.stream.impl.ClientStreamServiceImpl;
 import io.camunda.zeebe.transport.stream.impl.RemoteStreamApiHandler;
@@ -53,9 +54,24 @@ public final class TransportFactory {
       final Function<DirectBuffer, M> metadataFactory,
       final RemoteStreamErrorHandler<P> errorHandler,
       final RemoteStreamMetrics metrics) {
+    return createRemoteStreamServer(
+        clusterCommunicationService,
+        metadataFactory,
+        errorHandler,
+        metrics,
+        RemoteStreamPushSettings.defaults());
+  }
+
+  public <M, P extends BufferWriter> RemoteStreamService<M, P> createRemoteStreamServer(
+      final ClusterCommunicationService clusterCommunicationService,
+      final Function<DirectBuffer, M> metadataFactory,
+      final RemoteStreamErrorHandler<P> errorHandler,
+      final RemoteStreamMetrics metrics,
+      final RemoteStreamPushSettings pushSettings) {
     final RemoteStreamRegistry<M> registry = new RemoteStreamRegistry<>(metrics);
     return new RemoteStreamServiceImpl<>(
-        new RemoteStreamerImpl<>(clusterCommunicationService, registry, errorHandler, metrics),
+        new RemoteStreamerImpl<>(
+            clusterCommunicationService, registry, errorHandler, metrics, pushSettings),
         new RemoteStreamTransport<>(
             clusterCommunicationService, new RemoteStreamApiHandler<>(registry, metadataFactory)),
         registry);
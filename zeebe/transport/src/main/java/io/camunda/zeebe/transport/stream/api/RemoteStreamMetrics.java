@@ -30,6 +30,9 @@ public interface RemoteStreamMetrics {
    */
   default void pushTryFailed(final ErrorCode code) {}
 
+  /** Invoked if a push attempt was skipped because the stream had no push credit left */
+  default void pushThrottled() {}
+
   static RemoteStreamMetrics noop() {
     return new RemoteStreamMetrics() {};
   }
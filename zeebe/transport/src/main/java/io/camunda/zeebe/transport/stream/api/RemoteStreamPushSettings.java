@@ -0,0 +1,40 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.transport.stream.api;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Throttles the payloads pushed to every stream consumer on the server side.
+ *
+ * @param creditWindow how many pushes to a single consumer may be in flight at the same time
+ * @param blockedBackoff for how long nothing is pushed to a consumer after it reported that its
+ *     clients cannot accept more payloads
+ */
+public record RemoteStreamPushSettings(int creditWindow, Duration blockedBackoff) {
+  public static final int DEFAULT_CREDIT_WINDOW = 32;
+  public static final Duration DEFAULT_BLOCKED_BACKOFF = Duration.ofMillis(100);
+
+  public RemoteStreamPushSettings {
+    if (creditWindow < 1) {
+      throw new IllegalArgumentException(
+          "Expected push credit window to be at least 1, but was %d".formatted(creditWindow));
+    }
+
+    Objects.requireNonNull(blockedBackoff, "must specify a blocked backoff");
+    if (blockedBackoff.isNegative()) {
+      throw new IllegalArgumentException(
+          "Expected blocked backoff to be positive or zero, but was %s".formatted(blockedBackoff));
+    }
+  }
+
+  public static RemoteStreamPushSettings defaults() {
+    return new RemoteStreamPushSettings(DEFAULT_CREDIT_WINDOW, DEFAULT_BLOCKED_BACKOFF);
+  }
+}
@@ -8,10 +8,13 @@
 package io.camunda.zeebe.transport.stream.impl;
 
 import io.atomix.cluster.MemberId;
+import io.camunda.zeebe.transport.stream.api.ClientStreamBlockedException;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
+import io.camunda.zeebe.transport.stream.api.RemoteStreamPushSettings;
 import io.camunda.zeebe.transport.stream.api.StreamResponseException;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
+import io.camunda.zeebe.transport.stream.impl.messages.ErrorCode;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamResponse;
@@ -22,6 +25,7 @@ import java.time.Duration;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import org.agrona.concurrent.SystemEpochClock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,6 +33,10 @@ import org.slf4j.LoggerFactory;
  * A naive implementation to push jobs out, which performs no retries of any kind, but reports
  * errors on failure.
  *
+ * <p>Pushes are bounded by the {@link StreamPushCredits} of each stream consumer: if a consumer has
+ * no credit left, the push fails right away without going over the network, so the caller can try
+ * another consumer instead.
+ *
  * @param <P> the payload type to be pushed out
  */
 final class RemoteStreamPusher<P extends BufferWriter> {
@@ -41,12 +49,26 @@ final class RemoteStreamPusher<P extends BufferWriter> {
   private final RemoteStreamMetrics metrics;
   private final Transport transport;
   private final Executor executor;
+  private final StreamPushCredits credits;
 
   RemoteStreamPusher(
       final Transport transport, final Executor executor, final RemoteStreamMetrics metrics) {
+    this(
+        transport,
+        executor,
+        metrics,
+        new StreamPushCredits(RemoteStreamPushSettings.defaults(), SystemEpochClock.INSTANCE));
+  }
+
+  RemoteStreamPusher(
+      final Transport transport,
+      final Executor executor,
+      final RemoteStreamMetrics metrics,
+      final StreamPushCredits credits) {
     this.metrics = Objects.requireNonNull(metrics, "must specify remote stream metrics");
     this.transport = Objects.requireNonNull(transport, "must provide a network transport");
     this.executor = Objects.requireNonNull(executor, "must provide an asynchronous executor");
+    this.credits = Objects.requireNonNull(credits, "must specify the stream push credits");
   }
 
   public void pushAsync(
@@ -55,9 +77,26 @@ final class RemoteStreamPusher<P extends BufferWriter> {
 
     try {
       Objects.requireNonNull(payload, "must specify a payload");
+    } catch (final Exception e) {
+      errorHandler.handleError(e, payload);
+      return;
+    }
+
+    if (!credits.tryAcquire(streamId)) {
+      metrics.pushThrottled();
+      errorHandler.handleError(
+          new ClientStreamBlockedException(
+              "Failed to push (size = %d) to stream %s, no push credit left"
+                  .formatted(payload.getLength(), streamId)),
+          payload);
+      return;
+    }
+
+    try {
       executor.execute(
           () -> push(payload, instrumentingErrorHandler(errorHandler, streamId), streamId));
     } catch (final Exception e) {
+      credits.release(streamId, false);
       errorHandler.handleError(e, payload);
     }
   }
@@ -110,9 +149,11 @@ final class RemoteStreamPusher<P extends BufferWriter> {
       transport
           .send(request, streamId.receiver())
           .whenCompleteAsync(
-              (response, error) -> onPush(payload, errorHandler, response, error), executor);
+              (response, error) -> onPush(payload, errorHandler, streamId, response, error),
+              executor);
       LOG.trace("Pushed {} to stream {}", payload, streamId);
     } catch (final Exception e) {
+      credits.release(streamId, false);
       errorHandler.handleError(e, payload);
     }
   }
@@ -120,9 +161,11 @@ final class RemoteStreamPusher<P extends BufferWriter> {
   private void onPush(
       final P payload,
       final RemoteStreamErrorHandler<P> errorHandler,
+      final StreamId streamId,
       final byte[] responseBuffer,
       final Throwable error) {
     if (error != null) {
+      credits.release(streamId, isBlocked(error));
       errorHandler.handleError(error, payload);
       return;
     }
@@ -131,7 +174,21 @@ final class RemoteStreamPusher<P extends BufferWriter> {
         .decode(responseBuffer, new PushStreamResponse())
         .mapLeft(ErrorResponse::asException)
         .ifRightOrLeft(
-            ok -> metrics.pushSucceeded(), failure -> errorHandler.handleError(failure, payload));
+            ok -> {
+              credits.release(streamId, false);
+              metrics.pushSucceeded();
+            },
+            failure -> {
+              credits.release(streamId, isBlocked(failure));
+              errorHandler.handleError(failure, payload);
+            });
+  }
+
+  private boolean isBlocked(final Throwable error) {
+    // the receiver reports EXHAUSTED when none of its clients could take the payload, most likely
+    // because they are all blocked
+    return error instanceof final StreamResponseException e
+        && (e.code() == ErrorCode.BLOCKED || e.code() == ErrorCode.EXHAUSTED);
   }
 
   /**
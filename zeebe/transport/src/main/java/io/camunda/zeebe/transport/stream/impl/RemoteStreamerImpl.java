@@ -13,6 +13,7 @@ import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.transport.stream.api.RemoteStream;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
+import io.camunda.zeebe.transport.stream.api.RemoteStreamPushSettings;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamer;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamTopics;
@@ -29,6 +30,7 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.agrona.DirectBuffer;
+import org.agrona.concurrent.SystemEpochClock;
 import org.agrona.concurrent.UnsafeBuffer;
 
 /**
@@ -37,6 +39,10 @@ import org.agrona.concurrent.UnsafeBuffer;
  * <p>NOTE: any payload pushed is sent via the stream from {@link #streamFor(DirectBuffer)} will be
  * asynchronous, so the payload should be immutable, and the errors reported to the given {@link
  * RemoteStreamErrorHandler} may be reported on different threads.
+ *
+ * <p>Only streams with at least one consumer which still has push credit are returned, see {@link
+ * StreamPushCredits}. This way, payloads are not produced for clients which cannot keep up, only to
+ * be yielded back by them.
  */
 public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
     implements RemoteStreamer<M, P> {
@@ -46,17 +52,34 @@ public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
   private final ImmutableStreamRegistry<M> registry;
   private final RemoteStreamPusher<P> remoteStreamPusher;
   private final RemoteStreamErrorHandler<P> errorHandler;
+  private final StreamPushCredits credits;
 
   public RemoteStreamerImpl(
       final ClusterCommunicationService transport,
       final ImmutableStreamRegistry<M> registry,
       final RemoteStreamErrorHandler<P> errorHandler,
-      final RemoteStreamMetrics metrics) {
+      final RemoteStreamMetrics metrics,
+      final RemoteStreamPushSettings pushSettings) {
+    this(
+        transport,
+        registry,
+        errorHandler,
+        metrics,
+        new StreamPushCredits(pushSettings, SystemEpochClock.INSTANCE));
+  }
+
+  RemoteStreamerImpl(
+      final ClusterCommunicationService transport,
+      final ImmutableStreamRegistry<M> registry,
+      final RemoteStreamErrorHandler<P> errorHandler,
+      final RemoteStreamMetrics metrics,
+      final StreamPushCredits credits) {
     this.transport = Objects.requireNonNull(transport, "must specify a network transport");
     this.registry = Objects.requireNonNull(registry, "must specify a job stream registry");
     this.errorHandler = Objects.requireNonNull(errorHandler, "must specify an error handler");
+    this.credits = Objects.requireNonNull(credits, "must specify the stream push credits");
 
-    remoteStreamPusher = new RemoteStreamPusher<>(this::send, actor::run, metrics);
+    remoteStreamPusher = new RemoteStreamPusher<>(this::send, actor::run, metrics, credits);
   }
 
   @Override
@@ -81,7 +104,7 @@ public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
     Collections.shuffle(targets);
 
     for (final var target : targets) {
-      if (!target.streamConsumers().isEmpty()) {
+      if (target.streamConsumers().stream().anyMatch(c -> credits.hasCredit(c.id()))) {
         return Optional.of(target);
       }
     }
@@ -0,0 +1,106 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.transport.stream.impl;
+
+import io.camunda.zeebe.transport.stream.api.RemoteStreamPushSettings;
+import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import org.agrona.concurrent.EpochClock;
+
+/**
+ * Tracks how many payloads may still be pushed to each stream consumer. Every push consumes a
+ * credit, which is granted back once the receiver acknowledged the push. When the receiver reports
+ * that its clients are blocked, i.e. they cannot keep up, the consumer is granted no credit at all
+ * until the backoff expires, so that new payloads are not pushed only to be yielded back.
+ *
+ * <p>This only throttles pushes on the server side: the receiver grants no credit explicitly, and
+ * every push still carries a single payload. See {@link RemoteStreamPushSettings} for the window
+ * and backoff.
+ *
+ * <p>Credits are checked when picking a stream on the stream processor's thread, and acquired and
+ * released on the streamer's actor, so all access is synchronized.
+ */
+final class StreamPushCredits {
+  private final Map<StreamId, Credit> credits = new HashMap<>();
+  private final int window;
+  private final long blockedBackoffMs;
+  private final EpochClock clock;
+
+  StreamPushCredits(final RemoteStreamPushSettings settings, final EpochClock clock) {
+    this(settings.creditWindow(), settings.blockedBackoff(), clock);
+  }
+
+  StreamPushCredits(final int window, final Duration blockedBackoff, final EpochClock clock) {
+    if (window < 1) {
+      throw new IllegalArgumentException(
+          "Expected push credit window to be at least 1, but was %d".formatted(window));
+    }
+
+    this.window = window;
+    blockedBackoffMs = blockedBackoff.toMillis();
+    this.clock = clock;
+  }
+
+  /**
+   * @return true if at least one payload could currently be pushed to the given consumer
+   */
+  synchronized boolean hasCredit(final StreamId streamId) {
+    final var credit = credits.get(streamId);
+    return credit == null || credit.hasCredit(clock.time());
+  }
+
+  /**
+   * Consumes a credit of the given consumer, if any is left. Every acquired credit must be released
+   * exactly once via {@link #release(StreamId, boolean)}.
+   *
+   * @return true if a credit was acquired, false otherwise
+   */
+  synchronized boolean tryAcquire(final StreamId streamId) {
+    final var credit = credits.computeIfAbsent(streamId, ignored -> new Credit());
+    if (!credit.hasCredit(clock.time())) {
+      return false;
+    }
+
+    credit.inFlight++;
+    return true;
+  }
+
+  /**
+   * Grants back a credit previously acquired via {@link #tryAcquire(StreamId)}.
+   *
+   * @param blocked true if the receiver reported that it cannot accept more payloads for now
+   */
+  synchronized void release(final StreamId streamId, final boolean blocked) {
+    final var credit = credits.get(streamId);
+    if (credit == null) {
+      return;
+    }
+
+    final var now = clock.time();
+    credit.inFlight = Math.max(0, credit.inFlight - 1);
+    if (blocked) {
+      credit.blockedUntil = now + blockedBackoffMs;
+    }
+
+    // drop idle consumers so that removed streams do not linger here
+    if (credit.inFlight == 0 && credit.blockedUntil <= now) {
+      credits.remove(streamId);
+    }
+  }
+
+  private final class Credit {
+    private int inFlight;
+    private long blockedUntil;
+
+    private boolean hasCredit(final long now) {
+      return inFlight < window && blockedUntil <= now;
+    }
+  }
+}
@@ -11,6 +11,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 
 import io.atomix.cluster.MemberId;
+import io.camunda.zeebe.transport.stream.api.ClientStreamBlockedException;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.StreamResponseException;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
@@ -21,12 +22,14 @@ import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamResponse;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.CachedEpochClock;
 import org.assertj.core.condition.VerboseCondition;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -149,6 +152,56 @@ final class RemoteStreamPusherTest {
     assertThat(metrics.getFailedPushTry(detailCode)).isOne();
   }
 
+  @Test
+  void shouldNotPushWithoutCredit() {
+    // given
+    final var credits = new StreamPushCredits(1, Duration.ofSeconds(1), new CachedEpochClock());
+    final var pusher = new RemoteStreamPusher<Payload>(transport, executor, metrics, credits);
+    final var errorHandler = new TestErrorHandler();
+    credits.tryAcquire(streamId);
+
+    // when
+    pusher.pushAsync(new Payload(1), errorHandler, streamId);
+
+    // then
+    assertThat(transport.message).isNull();
+    assertThat(metrics.getPushThrottled()).isOne();
+    assertThat(errorHandler.errors)
+        .hasSize(1)
+        .first()
+        .extracting(TestErrorHandler.Error::error)
+        .isInstanceOf(ClientStreamBlockedException.class);
+  }
+
+  @Test
+  void shouldGrantCreditBackOnSuccess() {
+    // given
+    final var credits = new StreamPushCredits(1, Duration.ofSeconds(1), new CachedEpochClock());
+    final var pusher = new RemoteStreamPusher<Payload>(transport, executor, metrics, credits);
+
+    // when
+    pusher.pushAsync(new Payload(1), new TestErrorHandler(), streamId);
+
+    // then
+    assertThat(credits.hasCredit(streamId)).isTrue();
+  }
+
+  @ParameterizedTest
+  @EnumSource(value = ErrorCode.class, names = {"BLOCKED", "EXHAUSTED"})
+  void shouldWithholdCreditWhenClientsAreBlocked(final ErrorCode code) {
+    // given
+    final var credits = new StreamPushCredits(1, Duration.ofSeconds(1), new CachedEpochClock());
+    final var pusher = new RemoteStreamPusher<Payload>(transport, executor, metrics, credits);
+    final var errorResponse = new ErrorResponse().code(code).message("foo");
+    transport.response = CompletableFuture.failedFuture(new StreamResponseException(errorResponse));
+
+    // when
+    pusher.pushAsync(new Payload(1), new TestErrorHandler(), streamId);
+
+    // then
+    assertThat(credits.hasCredit(streamId)).isFalse();
+  }
+
   private record Payload(int version) implements BufferWriter {
 
     @Override
@@ -19,11 +19,13 @@ import io.camunda.zeebe.transport.stream.impl.messages.StreamTopics;
 import io.camunda.zeebe.util.buffer.BufferReader;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.time.Duration;
 import java.util.Objects;
 import java.util.UUID;
 import org.agrona.CloseHelper;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.CachedEpochClock;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -38,9 +40,11 @@ final class RemoteStreamerTest {
   private final RemoteStreamRegistry<TestMetadata> registry =
       new RemoteStreamRegistry<>(RemoteStreamMetrics.noop());
 
+  private final StreamPushCredits credits =
+      new StreamPushCredits(1, Duration.ofSeconds(1), new CachedEpochClock());
   private final RemoteStreamerImpl<TestMetadata, TestPayload> streamer =
       new RemoteStreamerImpl<>(
-          communicationService, registry, (e, d) -> {}, RemoteStreamMetrics.noop());
+          communicationService, registry, (e, d) -> {}, RemoteStreamMetrics.noop(), credits);
 
   @RegisterExtension
   private final ControlledActorSchedulerExtension scheduler =
@@ -123,6 +127,39 @@ final class RemoteStreamerTest {
             Mockito.any());
   }
 
+  @Test
+  void shouldSkipStreamsWithoutCredit() {
+    // given
+    final var type = new UnsafeBuffer(BufferUtil.wrapString("foo"));
+    final var streamAId = new StreamId(UUID.randomUUID(), MemberId.from("a"));
+    final var streamBId = new StreamId(UUID.randomUUID(), MemberId.from("b"));
+    final var streamBMeta = new TestMetadata(2);
+    registry.add(type, streamAId.streamId(), streamAId.receiver(), new TestMetadata(1));
+    registry.add(type, streamBId.streamId(), streamBId.receiver(), streamBMeta);
+    credits.tryAcquire(streamAId);
+
+    // when
+    final var stream = streamer.streamFor(type).orElseThrow();
+
+    // then
+    assertThat(stream.metadata()).isSameAs(streamBMeta);
+  }
+
+  @Test
+  void shouldNotReturnStreamIfNoConsumerHasCredit() {
+    // given
+    final var type = new UnsafeBuffer(BufferUtil.wrapString("foo"));
+    final var streamId = new StreamId(UUID.randomUUID(), MemberId.from("a"));
+    registry.add(type, streamId.streamId(), streamId.receiver(), new TestMetadata(1));
+    credits.tryAcquire(streamId);
+
+    // when
+    final var stream = streamer.streamFor(type);
+
+    // then
+    assertThat(stream).isEmpty();
+  }
+
   private record TestPayload(long key) implements BufferWriter {
 
     @Override
@@ -0,0 +1,86 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.transport.stream.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
+import java.time.Duration;
+import java.util.UUID;
+import org.agrona.concurrent.CachedEpochClock;
+import org.junit.jupiter.api.Test;
+
+final class StreamPushCreditsTest {
+  private final StreamId streamId = new StreamId(UUID.randomUUID(), MemberId.anonymous());
+  private final CachedEpochClock clock = new CachedEpochClock();
+  private final StreamPushCredits credits = new StreamPushCredits(2, Duration.ofMillis(100), clock);
+
+  @Test
+  void shouldHaveCreditForUnknownStream() {
+    // when - then
+    assertThat(credits.hasCredit(streamId)).isTrue();
+  }
+
+  @Test
+  void shouldNotAcquireMoreThanWindow() {
+    // given
+    credits.tryAcquire(streamId);
+    credits.tryAcquire(streamId);
+
+    // when
+    final var acquired = credits.tryAcquire(streamId);
+
+    // then
+    assertThat(acquired).isFalse();
+    assertThat(credits.hasCredit(streamId)).isFalse();
+  }
+
+  @Test
+  void shouldGrantCreditBackOnRelease() {
+    // given
+    credits.tryAcquire(streamId);
+    credits.tryAcquire(streamId);
+
+    // when
+    credits.release(streamId, false);
+
+    // then
+    assertThat(credits.hasCredit(streamId)).isTrue();
+    assertThat(credits.tryAcquire(streamId)).isTrue();
+  }
+
+  @Test
+  void shouldWithholdCreditUntilBackoffExpiresWhenBlocked() {
+    // given
+    credits.tryAcquire(streamId);
+
+    // when
+    credits.release(streamId, true);
+
+    // then
+    assertThat(credits.tryAcquire(streamId)).isFalse();
+    clock.update(99);
+    assertThat(credits.hasCredit(streamId)).isFalse();
+    clock.update(100);
+    assertThat(credits.tryAcquire(streamId)).isTrue();
+  }
+
+  @Test
+  void shouldNotAffectOtherStreams() {
+    // given
+    final var otherId = new StreamId(UUID.randomUUID(), MemberId.anonymous());
+    credits.tryAcquire(streamId);
+
+    // when
+    credits.release(streamId, true);
+
+    // then
+    assertThat(credits.hasCredit(otherId)).isTrue();
+  }
+}
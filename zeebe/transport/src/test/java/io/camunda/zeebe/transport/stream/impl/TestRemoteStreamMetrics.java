@@ -17,6 +17,7 @@ final class TestRemoteStreamMetrics implements RemoteStreamMetrics {
   private int streamCount;
   private int pushSucceeded;
   private int pushFailed;
+  private int pushThrottled;
   private final Map<ErrorCode, Integer> failedPushTries = new EnumMap<>(ErrorCode.class);
 
   @Override
@@ -39,6 +40,11 @@ final class TestRemoteStreamMetrics implements RemoteStreamMetrics {
     pushFailed++;
   }
 
+  @Override
+  public void pushThrottled() {
+    pushThrottled++;
+  }
+
   @Override
   public void pushTryFailed(final ErrorCode code) {
     failedPushTries.compute(code, (ignored, value) -> value == null ? 1 : value + 1);
@@ -56,6 +62,10 @@ final class TestRemoteStreamMetrics implements RemoteStreamMetrics {
     return pushFailed;
   }
 
+  public int getPushThrottled() {
+    return pushThrottled;
+  }
+
   public int getFailedPushTry(final ErrorCode code) {
     return failedPushTries.getOrDefault(code, 0);
   }
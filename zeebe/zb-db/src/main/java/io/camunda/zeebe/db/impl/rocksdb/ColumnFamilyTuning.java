@@ -0,0 +1,106 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import org.rocksdb.CompressionType;
+
+/**
+ * Options which override the shared column family options for a single physical column family.
+ * Only applies when {@link RocksDbConfiguration#isPhysicalColumnFamiliesEnabled()} is true. Unset
+ * options are inherited from the shared options.
+ */
+public final class ColumnFamilyTuning {
+
+  public static final int UNSET = -1;
+
+  private int bloomFilterBitsPerKey = UNSET;
+  private long writeBufferSize = UNSET;
+  private CompressionType compression;
+
+  /**
+   * @return the bits per key of the bloom filter, or {@link #UNSET}
+   */
+  public int getBloomFilterBitsPerKey() {
+    return bloomFilterBitsPerKey;
+  }
+
+  /**
+   * Sets the bits per key of the bloom filter. Higher values reduce the false positive rate of
+   * point lookups at the cost of memory, which is useful for families mostly accessed by key.
+   */
+  public ColumnFamilyTuning setBloomFilterBitsPerKey(final int bloomFilterBitsPerKey) {
+    this.bloomFilterBitsPerKey = bloomFilterBitsPerKey;
+    return this;
+  }
+
+  /**
+   * @return the size of a single memtable in bytes, or {@link #UNSET}
+   */
+  public long getWriteBufferSize() {
+    return writeBufferSize;
+  }
+
+  public ColumnFamilyTuning setWriteBufferSize(final long writeBufferSize) {
+    this.writeBufferSize = writeBufferSize;
+    return this;
+  }
+
+  /**
+   * @return the compression used for all levels, or null if unset
+   */
+  public CompressionType getCompression() {
+    return compression;
+  }
+
+  public ColumnFamilyTuning setCompression(final CompressionType compression) {
+    this.compression = compression;
+    return this;
+  }
+
+  /**
+   * Sets the compression by name, which is either the name of the {@link CompressionType} (e.g.
+   * {@code LZ4_COMPRESSION}) or of its library (e.g. {@code lz4}), ignoring case.
+   *
+   * @throws IllegalArgumentException if no compression type matches the given name
+   */
+  public ColumnFamilyTuning setCompression(final String compression) {
+    for (final var type : CompressionType.values()) {
+      if (type.name().equalsIgnoreCase(compression)
+          || compression.equalsIgnoreCase(type.getLibraryName())) {
+        return setCompression(type);
+      }
+    }
+
+    throw new IllegalArgumentException(
+        "Expected a known RocksDB compression type, but got '%s'".formatted(compression));
+  }
+
+  boolean hasBloomFilterBitsPerKey() {
+    return bloomFilterBitsPerKey != UNSET;
+  }
+
+  boolean hasWriteBufferSize() {
+    return writeBufferSize != UNSET;
+  }
+
+  boolean hasCompression() {
+    return compression != null;
+  }
+
+  @Override
+  public String toString() {
+    return "ColumnFamilyTuning{"
+        + "bloomFilterBitsPerKey="
+        + bloomFilterBitsPerKey
+        + ", writeBufferSize="
+        + writeBufferSize
+        + ", compression="
+        + compression
+        + '}';
+  }
+}
@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 
 public final class RocksDbConfiguration {
@@ -43,6 +45,25 @@ public final class RocksDbConfiguration {
 
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
 
+  /**
+   * When enabled, each logical column family is stored in its own RocksDB column family instead of
+   * being multiplexed into the default one. This gives each family its own memtables and SST files,
+   * so hot families are not compacted together with large, cold ones, and allows tuning them
+   * individually via {@link #setColumnFamilyTuning(Map)}.
+   *
+   * <p>Keys keep their column family prefix in both layouts, so existing state is moved between the
+   * layouts when the database is opened.
+   */
+  public static final boolean DEFAULT_PHYSICAL_COLUMN_FAMILIES_ENABLED = false;
+
+  /**
+   * When enabled, transactions buffer their writes in an indexed write batch which is written to
+   * the database on commit, instead of using an optimistic RocksDB transaction. This skips the
+   * conflict tracking of RocksDB transactions, and is only safe because every partition has a
+   * single writer.
+   */
+  public static final boolean DEFAULT_WRITE_BATCH_TRANSACTIONS_ENABLED = false;
+
   private Properties columnFamilyOptions = new Properties();
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
   private long memoryLimit = DEFAULT_MEMORY_LIMIT;
@@ -52,6 +73,10 @@ public final class RocksDbConfiguration {
 
   private boolean sstPartitioningEnabled = DEFAULT_SST_PARTITIONING_ENABLED;
 
+  private boolean physicalColumnFamiliesEnabled = DEFAULT_PHYSICAL_COLUMN_FAMILIES_ENABLED;
+  private Map<String, ColumnFamilyTuning> columnFamilyTuning = new HashMap<>();
+  private boolean writeBatchTransactionsEnabled = DEFAULT_WRITE_BATCH_TRANSACTIONS_ENABLED;
+
   /**
    * Defines how many files are kept open by RocksDB, per default it is unlimited (-1). This is done
    * for performance reasons, if we set a value higher then zero it needs to keep track of open
@@ -155,4 +180,37 @@ public final class RocksDbConfiguration {
     this.sstPartitioningEnabled = sstPartitioningEnabled;
     return this;
   }
+
+  public boolean isPhysicalColumnFamiliesEnabled() {
+    return physicalColumnFamiliesEnabled;
+  }
+
+  public RocksDbConfiguration setPhysicalColumnFamiliesEnabled(
+      final boolean physicalColumnFamiliesEnabled) {
+    this.physicalColumnFamiliesEnabled = physicalColumnFamiliesEnabled;
+    return this;
+  }
+
+  /**
+   * @return the tuning per physical column family, keyed by the name of the logical column family
+   */
+  public Map<String, ColumnFamilyTuning> getColumnFamilyTuning() {
+    return columnFamilyTuning;
+  }
+
+  public RocksDbConfiguration setColumnFamilyTuning(
+      final Map<String, ColumnFamilyTuning> columnFamilyTuning) {
+    this.columnFamilyTuning = columnFamilyTuning;
+    return this;
+  }
+
+  public boolean isWriteBatchTransactionsEnabled() {
+    return writeBatchTransactionsEnabled;
+  }
+
+  public RocksDbConfiguration setWriteBatchTransactionsEnabled(
+      final boolean writeBatchTransactionsEnabled) {
+    this.writeBatchTransactionsEnabled = writeBatchTransactionsEnabled;
+    return this;
+  }
 }
@@ -15,11 +15,16 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.protocol.EnumValue;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import org.agrona.CloseHelper;
 import org.rocksdb.Checkpoint;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.DBOptions;
 import org.rocksdb.Options;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
@@ -85,8 +90,20 @@ final class SnapshotOnlyDb<ColumnFamilyType extends Enum<? extends EnumValue> &
       ZeebeDb<ColumnFamilyType> openDb(
           final Options options, final String path, final List<AutoCloseable> managedResources)
           throws RocksDBException {
-    final RocksDB db = RocksDB.openReadOnly(options, path);
+    // all column families must be opened, otherwise the physical ones are missing from snapshots
+    final var dbOptions = new DBOptions(options);
+    managedResources.add(dbOptions);
+    final var cfOptions = new ColumnFamilyOptions(options);
+    managedResources.add(cfOptions);
+    final var cfDescriptors =
+        RocksDB.listColumnFamilies(options, path).stream()
+            .map(name -> new ColumnFamilyDescriptor(name, cfOptions))
+            .toList();
+    final var cfHandles = new ArrayList<ColumnFamilyHandle>();
+
+    final RocksDB db = RocksDB.openReadOnly(dbOptions, path, cfDescriptors, cfHandles);
     managedResources.add(db);
+    managedResources.addAll(cfHandles);
 
     return new SnapshotOnlyDb<>(db, managedResources);
   }
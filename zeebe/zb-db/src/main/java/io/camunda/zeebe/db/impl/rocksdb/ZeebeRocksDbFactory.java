@@ -18,7 +18,9 @@ import java.io.File;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import org.agrona.CloseHelper;
@@ -40,6 +42,7 @@ import org.rocksdb.SstPartitionerFixedPrefixFactory;
 import org.rocksdb.Statistics;
 import org.rocksdb.StatsLevel;
 import org.rocksdb.TableFormatConfig;
+import org.rocksdb.WriteBufferManager;
 
 public final class ZeebeRocksDbFactory<
         ColumnFamilyType extends Enum<? extends EnumValue> & EnumValue>
@@ -49,6 +52,8 @@ public final class ZeebeRocksDbFactory<
     RocksDB.loadLibrary();
   }
 
+  private static final int DEFAULT_BLOOM_FILTER_BITS_PER_KEY = 10;
+
   private final RocksDbConfiguration rocksDbConfiguration;
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final AccessMetricsConfiguration metrics;
@@ -102,15 +107,23 @@ public final class ZeebeRocksDbFactory<
   }
 
   private RocksDbOptions prepareOptions(final List<AutoCloseable> managedResources) {
+    final var blockCache = createBlockCache(managedResources);
     // column family options have to be closed as last
-    final var columnFamilyOptions = createColumnFamilyOptions(managedResources);
+    final var columnFamilyOptions = createColumnFamilyOptions(managedResources, blockCache);
     managedResources.add(columnFamilyOptions);
-    final var dbOptions = createDefaultDbOptions(managedResources);
+    final var tunedColumnFamilyOptions =
+        createTunedColumnFamilyOptions(managedResources, columnFamilyOptions, blockCache);
+    final var dbOptions = createDefaultDbOptions(managedResources, blockCache);
     managedResources.add(dbOptions);
-    return new RocksDbOptions(dbOptions, columnFamilyOptions);
+    return new RocksDbOptions(
+        dbOptions,
+        columnFamilyOptions,
+        rocksDbConfiguration.isPhysicalColumnFamiliesEnabled(),
+        tunedColumnFamilyOptions);
   }
 
-  private DBOptions createDefaultDbOptions(final List<AutoCloseable> closeables) {
+  private DBOptions createDefaultDbOptions(
+      final List<AutoCloseable> closeables, final LRUCache blockCache) {
     final var dbOptions =
         new DBOptions()
             .setErrorIfExists(false)
@@ -119,7 +132,7 @@ public final class ZeebeRocksDbFactory<
             .setMaxOpenFiles(rocksDbConfiguration.getMaxOpenFiles())
             // 1 flush, 1 compaction
             .setMaxBackgroundJobs(2)
-            // we only use the default CF
+            // physical column families are created explicitly when first used
             .setCreateMissingColumnFamilies(false)
             // may not be necessary when WAL is disabled, but nevertheless recommended to avoid
             // many small SST files
@@ -139,6 +152,19 @@ public final class ZeebeRocksDbFactory<
       dbOptions.setRateLimiter(rateLimiter);
     }
 
+    if (rocksDbConfiguration.isPhysicalColumnFamiliesEnabled()) {
+      // every column family has its own memtables, so bound the memory of all of them together
+      // instead of per column family, and charge it against the block cache
+      final var memtableMemory = rocksDbConfiguration.getMemoryLimit() - blockCacheMemory();
+      final var writeBufferManager = new WriteBufferManager(memtableMemory, blockCache);
+      closeables.add(writeBufferManager);
+      dbOptions
+          .setWriteBufferManager(writeBufferManager)
+          // the WAL is disabled by default, so column families must be flushed together for a
+          // checkpoint to be consistent across them
+          .setAtomicFlush(true);
+    }
+
     if (rocksDbConfiguration.isStatisticsEnabled()) {
       final var statistics = new Statistics();
       closeables.add(statistics);
@@ -158,6 +184,11 @@ public final class ZeebeRocksDbFactory<
    * @return Options which are used on all column families
    */
   ColumnFamilyOptions createColumnFamilyOptions(final List<AutoCloseable> closeables) {
+    return createColumnFamilyOptions(closeables, createBlockCache(closeables));
+  }
+
+  private ColumnFamilyOptions createColumnFamilyOptions(
+      final List<AutoCloseable> closeables, final LRUCache blockCache) {
     final var userProvidedColumnFamilyOptions = rocksDbConfiguration.getColumnFamilyOptions();
     final var hasUserOptions = !userProvidedColumnFamilyOptions.isEmpty();
 
@@ -165,7 +196,45 @@ public final class ZeebeRocksDbFactory<
       return createFromUserOptions(userProvidedColumnFamilyOptions);
     }
 
-    return createDefaultColumnFamilyOptions(closeables);
+    return createDefaultColumnFamilyOptions(closeables, blockCache);
+  }
+
+  /**
+   * @return options for each tuned physical column family, based on the shared options
+   */
+  private Map<String, ColumnFamilyOptions> createTunedColumnFamilyOptions(
+      final List<AutoCloseable> closeables,
+      final ColumnFamilyOptions sharedOptions,
+      final LRUCache blockCache) {
+    if (!rocksDbConfiguration.isPhysicalColumnFamiliesEnabled()) {
+      return Map.of();
+    }
+
+    final Map<String, ColumnFamilyOptions> tunedOptions = new HashMap<>();
+    rocksDbConfiguration
+        .getColumnFamilyTuning()
+        .forEach(
+            (name, tuning) -> {
+              final var options = new ColumnFamilyOptions(sharedOptions);
+              closeables.add(options);
+
+              if (tuning.hasWriteBufferSize()) {
+                options.setWriteBufferSize(tuning.getWriteBufferSize());
+              }
+              if (tuning.hasCompression()) {
+                options.setCompressionPerLevel(
+                    Collections.nCopies(options.numLevels(), tuning.getCompression()));
+              }
+              if (tuning.hasBloomFilterBitsPerKey()) {
+                options.setTableFormatConfig(
+                    createTableFormatConfig(
+                        closeables, blockCache, tuning.getBloomFilterBitsPerKey()));
+              }
+
+              tunedOptions.put(name, options);
+            });
+
+    return tunedOptions;
   }
 
   private ColumnFamilyOptions createFromUserOptions(
@@ -185,13 +254,11 @@ public final class ZeebeRocksDbFactory<
   }
 
   private ColumnFamilyOptions createDefaultColumnFamilyOptions(
-      final List<AutoCloseable> closeables) {
+      final List<AutoCloseable> closeables, final LRUCache blockCache) {
     final var columnFamilyOptions = new ColumnFamilyOptions();
 
     final var totalMemoryBudget = rocksDbConfiguration.getMemoryLimit();
-    // recommended by RocksDB, but we could tweak it; keep in mind we're also caching the indexes
-    // and filters into the block cache, so we don't need to account for more memory there
-    final var blockCacheMemory = totalMemoryBudget / 3;
+    final var blockCacheMemory = blockCacheMemory();
     // flushing the memtables is done asynchronously, so there may be multiple memtables in memory,
     // although only a single one is writable. once we have too many memtables, writes will stop.
     // since prefix iteration is our bread n butter, we will build an additional filter for each
@@ -209,7 +276,8 @@ public final class ZeebeRocksDbFactory<
             ((totalMemoryBudget - blockCacheMemory) / (double) maxConcurrentMemtableCount)
                 * (1 - memtablePrefixFilterMemory));
 
-    final var tableConfig = createTableFormatConfig(closeables, blockCacheMemory);
+    final var tableConfig =
+        createTableFormatConfig(closeables, blockCache, DEFAULT_BLOOM_FILTER_BITS_PER_KEY);
 
     if (rocksDbConfiguration.isSstPartitioningEnabled()) {
       columnFamilyOptions.setSstPartitionerFactory(
@@ -265,14 +333,25 @@ public final class ZeebeRocksDbFactory<
         .setTableFormatConfig(tableConfig);
   }
 
-  private TableFormatConfig createTableFormatConfig(
-      final List<AutoCloseable> closeables, final long blockCacheMemory) {
+  private long blockCacheMemory() {
+    // recommended by RocksDB, but we could tweak it; keep in mind we're also caching the indexes
+    // and filters into the block cache, so we don't need to account for more memory there
+    return rocksDbConfiguration.getMemoryLimit() / 3;
+  }
+
+  private LRUCache createBlockCache(final List<AutoCloseable> closeables) {
     // you can use the perf context to check if we're often blocked on the block cache mutex, in
     // which case we want to increase the number of shards (shard count == 2^shardBits)
-    final var cache = new LRUCache(blockCacheMemory, 8, false, 0.15);
+    final var cache = new LRUCache(blockCacheMemory(), 8, false, 0.15);
     closeables.add(cache);
+    return cache;
+  }
 
-    final var filter = new BloomFilter(10, false);
+  private TableFormatConfig createTableFormatConfig(
+      final List<AutoCloseable> closeables,
+      final LRUCache cache,
+      final int bloomFilterBitsPerKey) {
+    final var filter = new BloomFilter(bloomFilterBitsPerKey, false);
     closeables.add(filter);
 
     return new BlockBasedTableConfig()
@@ -19,6 +19,8 @@ import static org.rocksdb.Status.Code.TryAgain;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.EnumSet;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
@@ -26,6 +28,7 @@ import org.rocksdb.RocksObject;
 import org.rocksdb.Status;
 import org.rocksdb.Status.Code;
 import org.rocksdb.Transaction;
+import org.rocksdb.WriteBatchWithIndex;
 
 public final class RocksDbInternal {
 
@@ -38,6 +41,10 @@ public final class RocksDbInternal {
   static MethodHandle getWithHandle;
   static MethodHandle removeWithHandle;
 
+  static MethodHandle batchPutWithHandle;
+  static MethodHandle batchGetWithHandle;
+  static MethodHandle batchRemoveWithHandle;
+
   static {
     RocksDB.loadLibrary();
 
@@ -54,6 +61,10 @@ public final class RocksDbInternal {
     putWithHandle();
     getWithHandle();
     removeWithHandle();
+
+    batchPutWithHandle();
+    batchGetWithHandle();
+    batchRemoveWithHandle();
   }
 
   private static void nativeHandles() throws NoSuchFieldException {
@@ -116,6 +127,67 @@ public final class RocksDbInternal {
     }
   }
 
+  /*
+   final native void put(final long handle, final byte[] key, final int keyLen,
+       final byte[] value, final int valueLen, final long cfHandle);
+  */
+  private static void batchPutWithHandle() throws NoSuchMethodException {
+    final var method =
+        WriteBatchWithIndex.class.getDeclaredMethod(
+            "put",
+            Long.TYPE,
+            byte[].class,
+            Integer.TYPE,
+            byte[].class,
+            Integer.TYPE,
+            Long.TYPE);
+    batchPutWithHandle = unreflectOnInstance(method);
+  }
+
+  /*
+   private native byte[] getFromBatchAndDB(final long handle, final long dbHandle,
+       final long readOptHandle, final byte[] key, final int keyLen, final long cfHandle);
+  */
+  private static void batchGetWithHandle() throws NoSuchMethodException {
+    final var method =
+        WriteBatchWithIndex.class.getDeclaredMethod(
+            "getFromBatchAndDB",
+            Long.TYPE,
+            Long.TYPE,
+            Long.TYPE,
+            byte[].class,
+            Integer.TYPE,
+            Long.TYPE);
+    batchGetWithHandle = unreflectOnInstance(method);
+  }
+
+  /*
+   final native void delete(final long handle, final byte[] key, final int keyLen,
+       final long cfHandle);
+  */
+  private static void batchRemoveWithHandle() throws NoSuchMethodException {
+    final var method =
+        WriteBatchWithIndex.class.getDeclaredMethod(
+            "delete", Long.TYPE, byte[].class, Integer.TYPE, Long.TYPE);
+    batchRemoveWithHandle = unreflectOnInstance(method);
+  }
+
+  /**
+   * Returns a handle which always takes the batch as first argument, even if the native method is
+   * static, as RocksDB moves more of its native methods to be static between versions.
+   */
+  private static MethodHandle unreflectOnInstance(final Method method) {
+    method.setAccessible(true);
+    try {
+      final var handle = MethodHandles.lookup().unreflect(method);
+      return Modifier.isStatic(method.getModifiers())
+          ? MethodHandles.dropArguments(handle, 0, WriteBatchWithIndex.class)
+          : handle;
+    } catch (final IllegalAccessException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   static boolean isRocksDbExceptionRecoverable(final RocksDBException rdbex) {
     final Status status = rdbex.getStatus();
     return RECOVERABLE_ERROR_CODES.contains(status.getCode());
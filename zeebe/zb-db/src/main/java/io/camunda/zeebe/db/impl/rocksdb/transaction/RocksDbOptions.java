@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
+import java.util.Map;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.DBOptions;
 
@@ -15,11 +16,31 @@ import org.rocksdb.DBOptions;
  * change these depending on its own configuration. As each of the parts must be individually
  * closed, this record allows easily passing both configurations around within Zeebe.
  *
- * <p>While each column family in RocksDB can be configured differently, Zeebe only uses a single
- * RocksDB column family. We therefore don't have to differentiate further than a single database
- * options and a single column family options.
+ * <p>By default, Zeebe only uses a single RocksDB column family, configured by {@code cfOptions}.
+ * When physical column families are enabled, each logical column family is stored in its own
+ * RocksDB column family, which uses the options found in {@code tunedCfOptions} for its name, and
+ * {@code cfOptions} otherwise.
  *
  * @param dbOptions The database options used to open the RocksDB database
  * @param cfOptions The column family options used to open the RocksDB database
+ * @param physicalColumnFamilies Whether each logical column family is its own RocksDB column family
+ * @param tunedCfOptions The column family options per logical column family name, overriding the
+ *     shared {@code cfOptions}
  */
-public record RocksDbOptions(DBOptions dbOptions, ColumnFamilyOptions cfOptions) {}
+public record RocksDbOptions(
+    DBOptions dbOptions,
+    ColumnFamilyOptions cfOptions,
+    boolean physicalColumnFamilies,
+    Map<String, ColumnFamilyOptions> tunedCfOptions) {
+
+  public RocksDbOptions(final DBOptions dbOptions, final ColumnFamilyOptions cfOptions) {
+    this(dbOptions, cfOptions, false, Map.of());
+  }
+
+  /**
+   * @return the options for the physical column family of the given logical column family
+   */
+  public ColumnFamilyOptions cfOptionsFor(final String columnFamilyName) {
+    return tunedCfOptions.getOrDefault(columnFamilyName, cfOptions);
+  }
+}
@@ -25,6 +25,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksIterator;
 
@@ -56,6 +57,8 @@ class TransactionalColumnFamily<
   private final ColumnFamilyContext columnFamilyContext;
   private final ForeignKeyChecker foreignKeyChecker;
   private final ColumnFamilyMetrics metrics;
+  private final ColumnFamilyHandle handle;
+  private final long nativeHandle;
 
   TransactionalColumnFamily(
       final ZeebeTransactionDb<ColumnFamilyNames> transactionDb,
@@ -72,6 +75,8 @@ class TransactionalColumnFamily<
     this.keyInstance = keyInstance;
     this.valueInstance = valueInstance;
     this.metrics = metrics;
+    handle = transactionDb.getHandle(columnFamily);
+    nativeHandle = ZeebeTransactionDb.getNativeHandle(handle);
     columnFamilyContext = new ColumnFamilyContext(columnFamily.getValue());
     foreignKeyChecker = new ForeignKeyChecker(transactionDb, consistencyChecksSettings);
   }
@@ -87,7 +92,7 @@ class TransactionalColumnFamily<
             assertKeyDoesNotExist(transaction);
             assertForeignKeysExist(transaction, key, value);
             transaction.put(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
@@ -106,7 +111,7 @@ class TransactionalColumnFamily<
             assertKeyExists(transaction);
             assertForeignKeysExist(transaction, key, value);
             transaction.put(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
@@ -124,7 +129,7 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeValue(value);
             assertForeignKeysExist(transaction, key, value);
             transaction.put(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
@@ -141,7 +146,7 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeKey(key);
             final byte[] value =
                 transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
+                    nativeHandle,
                     transactionDb.getReadOptionsNativeHandle(),
                     columnFamilyContext.getKeyBufferArray(),
                     columnFamilyContext.getKeyLength());
@@ -226,7 +231,7 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeKey(key);
             assertKeyExists(transaction);
             transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength());
           });
@@ -240,7 +245,7 @@ class TransactionalColumnFamily<
           transaction -> {
             columnFamilyContext.writeKey(key);
             transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength());
           });
@@ -255,7 +260,7 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeKey(key);
             final byte[] value =
                 transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
+                    nativeHandle,
                     transactionDb.getReadOptionsNativeHandle(),
                     columnFamilyContext.getKeyBufferArray(),
                     columnFamilyContext.getKeyLength());
@@ -308,7 +313,7 @@ class TransactionalColumnFamily<
     }
     final var value =
         transaction.get(
-            transactionDb.getDefaultNativeHandle(),
+            nativeHandle,
             transactionDb.getReadOptionsNativeHandle(),
             columnFamilyContext.getKeyBufferArray(),
             columnFamilyContext.getKeyLength());
@@ -324,7 +329,7 @@ class TransactionalColumnFamily<
     }
     final var value =
         transaction.get(
-            transactionDb.getDefaultNativeHandle(),
+            nativeHandle,
             transactionDb.getReadOptionsNativeHandle(),
             columnFamilyContext.getKeyBufferArray(),
             columnFamilyContext.getKeyLength());
@@ -346,7 +351,7 @@ class TransactionalColumnFamily<
 
   RocksIterator newIterator(final TransactionContext context, final ReadOptions options) {
     final var currentTransaction = (ZeebeTransaction) context.getCurrentTransaction();
-    return currentTransaction.newIterator(options, transactionDb.getDefaultHandle());
+    return currentTransaction.newIterator(options, handle);
   }
 
   /**
@@ -0,0 +1,117 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import org.agrona.LangUtil;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.rocksdb.WriteBatchWithIndex;
+import org.rocksdb.WriteOptions;
+
+/**
+ * A {@link ZeebeTransaction} which buffers its writes in an indexed {@link WriteBatchWithIndex}
+ * and writes them atomically to the database on commit. Reads are served from the batch and the
+ * database, so they see the uncommitted writes of this transaction.
+ *
+ * <p>In contrast to a RocksDB transaction, there is no conflict detection: this is only correct if
+ * there is a single writer, which is the case for the stream processor of a partition. In exchange,
+ * writes skip the bookkeeping required to detect conflicts on commit.
+ */
+public final class WriteBatchZeebeTransaction extends ZeebeTransaction {
+
+  private final RocksDB db;
+  private final long dbHandle;
+  private final WriteOptions writeOptions;
+  private final WriteBatchWithIndex batch;
+  private final long batchHandle;
+
+  public WriteBatchZeebeTransaction(final RocksDB db, final WriteOptions writeOptions) {
+    this.db = db;
+    this.writeOptions = writeOptions;
+    // overwriting keys is required to iterate over the batch together with the database
+    batch = new WriteBatchWithIndex(true);
+    dbHandle = ZeebeTransactionDb.getNativeHandle(db);
+    batchHandle = ZeebeTransactionDb.getNativeHandle(batch);
+  }
+
+  @Override
+  public void put(
+      final long columnFamilyHandle,
+      final byte[] key,
+      final int keyLength,
+      final byte[] value,
+      final int valueLength)
+      throws Exception {
+    try {
+      RocksDbInternal.batchPutWithHandle.invokeExact(
+          batch, batchHandle, key, keyLength, value, valueLength, columnFamilyHandle);
+    } catch (final Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+    }
+  }
+
+  @Override
+  public byte[] get(
+      final long columnFamilyHandle,
+      final long readOptionsHandle,
+      final byte[] key,
+      final int keyLength)
+      throws Exception {
+    try {
+      return (byte[])
+          RocksDbInternal.batchGetWithHandle.invokeExact(
+              batch, batchHandle, dbHandle, readOptionsHandle, key, keyLength, columnFamilyHandle);
+    } catch (final Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+      return null; // unreachable
+    }
+  }
+
+  @Override
+  public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
+      throws Exception {
+    try {
+      RocksDbInternal.batchRemoveWithHandle.invokeExact(
+          batch, batchHandle, key, keyLength, columnFamilyHandle);
+    } catch (final Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+    }
+  }
+
+  @Override
+  public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
+    // the returned iterator takes ownership of the base iterator, and closes it as well
+    return batch.newIteratorWithBase(handle, db.newIterator(handle, options), options);
+  }
+
+  @Override
+  protected void begin() {
+    batch.clear();
+  }
+
+  @Override
+  protected void commitTransaction() throws RocksDBException {
+    if (batch.count() > 0) {
+      db.write(writeOptions, batch);
+    }
+    batch.clear();
+  }
+
+  @Override
+  protected void rollbackTransaction() {
+    batch.clear();
+  }
+
+  @Override
+  public void close() {
+    batch.close();
+  }
+}
@@ -12,97 +12,44 @@ import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRoc
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
-import org.agrona.LangUtil;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
-import org.rocksdb.Transaction;
 
-public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
-
-  private final long nativeHandle;
-  private final TransactionRenovator transactionRenovator;
+/**
+ * A transaction which is reused for consecutive operations, see {@link DefaultTransactionContext}.
+ * Reads must always see the writes of the current transaction, which are only made visible to
+ * others on commit.
+ *
+ * <p>Column families and read options are passed as native handles, such that implementations can
+ * call into RocksDB without looking them up again for every operation.
+ */
+public abstract class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   private boolean inCurrentTransaction;
-  private Transaction transaction;
 
-  public ZeebeTransaction(
-      final Transaction transaction, final TransactionRenovator transactionRenovator) {
-    this.transactionRenovator = transactionRenovator;
-    this.transaction = transaction;
-    try {
-      nativeHandle = RocksDbInternal.nativeHandle.getLong(transaction);
-    } catch (final Exception ex) {
-      throw new RuntimeException(ex);
-    }
-  }
+  public abstract void put(
+      long columnFamilyHandle, byte[] key, int keyLength, byte[] value, int valueLength)
+      throws Exception;
 
-  public void put(
-      final long columnFamilyHandle,
-      final byte[] key,
-      final int keyLength,
-      final byte[] value,
-      final int valueLength)
-      throws Exception {
-    try {
-      final int keyOffset = 0;
-      final int valueOffset = 0;
-      RocksDbInternal.putWithHandle.invokeExact(
-          transaction,
-          nativeHandle,
-          key,
-          keyOffset,
-          keyLength,
-          value,
-          valueOffset,
-          valueLength,
-          columnFamilyHandle,
-          false);
-    } catch (final Throwable e) {
-      LangUtil.rethrowUnchecked(e);
-    }
-  }
+  public abstract byte[] get(
+      long columnFamilyHandle, long readOptionsHandle, byte[] key, int keyLength)
+      throws Exception;
 
-  public byte[] get(
-      final long columnFamilyHandle,
-      final long readOptionsHandle,
-      final byte[] key,
-      final int keyLength)
-      throws Exception {
-    try {
-      final int keyOffset = 0;
-      return (byte[])
-          RocksDbInternal.getWithHandle.invokeExact(
-              transaction,
-              nativeHandle,
-              readOptionsHandle,
-              key,
-              keyOffset,
-              keyLength,
-              columnFamilyHandle);
-    } catch (final Throwable e) {
-      LangUtil.rethrowUnchecked(e);
-      return null; // unreachable
-    }
-  }
+  public abstract void delete(long columnFamilyHandle, byte[] key, int keyLength) throws Exception;
 
-  public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
-      throws Exception {
-    try {
-      RocksDbInternal.removeWithHandle.invokeExact(
-          transaction, nativeHandle, key, keyLength, columnFamilyHandle, false);
-    } catch (final Throwable e) {
-      LangUtil.rethrowUnchecked(e);
-    }
-  }
+  public abstract RocksIterator newIterator(ReadOptions options, ColumnFamilyHandle handle);
 
-  public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
-    return transaction.getIterator(options, handle);
-  }
+  /** Prepares a new transaction, discarding any state of the previous one. */
+  protected abstract void begin();
+
+  protected abstract void commitTransaction() throws RocksDBException;
+
+  protected abstract void rollbackTransaction() throws RocksDBException;
 
   void resetTransaction() {
-    transaction = transactionRenovator.renewTransaction(transaction);
+    begin();
     inCurrentTransaction = true;
   }
 
@@ -151,16 +98,14 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
-    transaction.commit();
+    commitTransaction();
   }
 
   void rollbackInternal() throws RocksDBException {
     inCurrentTransaction = false;
-    transaction.rollback();
+    rollbackTransaction();
   }
 
   @Override
-  public void close() {
-    transaction.close();
-  }
+  public abstract void close();
 }
@@ -18,24 +18,32 @@ import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.FineGrainedColumnFamilyMetrics;
 import io.camunda.zeebe.db.impl.NoopColumnFamilyMetrics;
+import io.camunda.zeebe.db.impl.ZeebeDbConstants;
 import io.camunda.zeebe.db.impl.rocksdb.Loggers;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import io.camunda.zeebe.protocol.EnumValue;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.rocksdb.Checkpoint;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.OptimisticTransactionDB;
+import org.rocksdb.Options;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksObject;
 import org.rocksdb.Transaction;
+import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 import org.slf4j.Logger;
 
@@ -43,6 +51,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     implements ZeebeDb<ColumnFamilyNames>, TransactionRenovator {
 
   private static final Logger LOG = Loggers.DB_LOGGER;
+  private static final int MOVE_BATCH_SIZE = 10_000;
   private static final String ERROR_MESSAGE_CLOSE_RESOURCE =
       "Expected to close RocksDB resource successfully, but exception was thrown. Will continue to close remaining resources.";
   private final OptimisticTransactionDB optimisticTransactionDB;
@@ -54,18 +63,34 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   private final long defaultNativeHandle;
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final AccessMetricsConfiguration accessMetricsConfiguration;
+  private final RocksDbOptions options;
+  private final boolean writeBatchTransactions;
+
+  /** Handles of the physical column families, by the name of their logical column family. */
+  private final Map<String, ColumnFamilyHandle> physicalHandles;
+
+  /**
+   * Handles of the column families which are ready to be used, by the name of their logical column
+   * family. A handle is only added once the legacy entries of its column family were moved into it.
+   */
+  private final Map<String, ColumnFamilyHandle> resolvedHandles = new ConcurrentHashMap<>();
 
   protected ZeebeTransactionDb(
       final ColumnFamilyHandle defaultHandle,
+      final Map<String, ColumnFamilyHandle> physicalHandles,
       final OptimisticTransactionDB optimisticTransactionDB,
       final List<AutoCloseable> closables,
+      final RocksDbOptions options,
       final RocksDbConfiguration rocksDbConfiguration,
       final ConsistencyChecksSettings consistencyChecksSettings,
       final AccessMetricsConfiguration accessMetricsConfiguration) {
     this.defaultHandle = defaultHandle;
     defaultNativeHandle = getNativeHandle(defaultHandle);
+    this.physicalHandles = new ConcurrentHashMap<>(physicalHandles);
     this.optimisticTransactionDB = optimisticTransactionDB;
     this.closables = closables;
+    this.options = options;
+    writeBatchTransactions = rocksDbConfiguration.isWriteBatchTransactionsEnabled();
     this.consistencyChecksSettings = consistencyChecksSettings;
     this.accessMetricsConfiguration = accessMetricsConfiguration;
 
@@ -93,32 +118,129 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
           final ConsistencyChecksSettings consistencyChecksSettings,
           final AccessMetricsConfiguration metrics)
           throws RocksDBException {
-    final var cfDescriptors =
-        Arrays.asList( // todo: could consider using List.of
-            new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
+    // every existing column family must be opened, even if we don't use it in this layout
+    final var cfDescriptors = new ArrayList<ColumnFamilyDescriptor>();
+    cfDescriptors.add(
+        new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
+    for (final var name : listPhysicalColumnFamilies(options, path)) {
+      cfDescriptors.add(
+          new ColumnFamilyDescriptor(
+              name.getBytes(StandardCharsets.UTF_8), options.cfOptionsFor(name)));
+    }
+
     final List<ColumnFamilyHandle> cfHandles = new ArrayList<>();
     final OptimisticTransactionDB optimisticTransactionDB =
         OptimisticTransactionDB.open(options.dbOptions(), path, cfDescriptors, cfHandles);
     closables.add(optimisticTransactionDB);
 
-    if (cfHandles.size() != 1) {
+    if (cfHandles.size() != cfDescriptors.size()) {
       throw new IllegalStateException(
-          "Expected a handle for the default column family but found %d handles"
-              .formatted(cfHandles.size()));
+          "Expected a handle for each of the %d column families but found %d handles"
+              .formatted(cfDescriptors.size(), cfHandles.size()));
     }
 
     final ColumnFamilyHandle defaultColumnFamilyHandle = cfHandles.getFirst();
     closables.add(defaultColumnFamilyHandle);
 
+    final var physicalHandles = new ConcurrentHashMap<String, ColumnFamilyHandle>();
+    for (final var handle : cfHandles.subList(1, cfHandles.size())) {
+      closables.add(handle);
+      physicalHandles.put(new String(handle.getName(), StandardCharsets.UTF_8), handle);
+    }
+
+    if (!options.physicalColumnFamilies() && !physicalHandles.isEmpty()) {
+      // the database was previously used with physical column families; move everything back
+      moveAllToDefault(optimisticTransactionDB, defaultColumnFamilyHandle, physicalHandles);
+      physicalHandles.clear();
+    }
+
     return new ZeebeTransactionDb<>(
         defaultColumnFamilyHandle,
+        physicalHandles,
         optimisticTransactionDB,
         closables,
+        options,
         rocksDbConfiguration,
         consistencyChecksSettings,
         metrics);
   }
 
+  private static List<String> listPhysicalColumnFamilies(
+      final RocksDbOptions options, final String path) throws RocksDBException {
+    if (!new File(path, "CURRENT").exists()) {
+      // the database does not exist yet
+      return List.of();
+    }
+
+    final List<byte[]> names;
+    try (final var listOptions = new Options(options.dbOptions(), options.cfOptions())) {
+      names = RocksDB.listColumnFamilies(listOptions, path);
+    }
+
+    return names.stream()
+        .filter(name -> !Arrays.equals(name, RocksDB.DEFAULT_COLUMN_FAMILY))
+        .map(name -> new String(name, StandardCharsets.UTF_8))
+        .toList();
+  }
+
+  private static void moveAllToDefault(
+      final OptimisticTransactionDB db,
+      final ColumnFamilyHandle defaultHandle,
+      final Map<String, ColumnFamilyHandle> physicalHandles)
+      throws RocksDBException {
+    for (final var entry : physicalHandles.entrySet()) {
+      LOG.info(
+          "Moving column family {} back into the default column family, as physical column "
+              + "families are disabled",
+          entry.getKey());
+      moveEntries(db, entry.getValue(), defaultHandle, null);
+      db.dropColumnFamily(entry.getValue());
+    }
+  }
+
+  /**
+   * Moves all entries starting with the given prefix from one column family to another, or all
+   * entries if the prefix is null. Entries are moved in batches, where each batch writes and
+   * deletes the same entries atomically, so a partial move is simply continued the next time.
+   */
+  private static void moveEntries(
+      final RocksDB db,
+      final ColumnFamilyHandle from,
+      final ColumnFamilyHandle to,
+      final byte[] prefix)
+      throws RocksDBException {
+    try (final var readOptions = new ReadOptions().setTotalOrderSeek(true);
+        final var writeOptions = new WriteOptions();
+        final var iterator = db.newIterator(from, readOptions);
+        final var batch = new WriteBatch()) {
+      if (prefix == null) {
+        iterator.seekToFirst();
+      } else {
+        iterator.seek(prefix);
+      }
+
+      for (; iterator.isValid(); iterator.next()) {
+        final var key = iterator.key();
+        if (prefix != null
+            && !BufferUtil.startsWith(prefix, 0, prefix.length, key, 0, key.length)) {
+          break;
+        }
+
+        batch.put(to, key, iterator.value());
+        batch.delete(from, key);
+        if (batch.count() >= MOVE_BATCH_SIZE) {
+          db.write(writeOptions, batch);
+          batch.clear();
+        }
+      }
+
+      iterator.status();
+      if (batch.count() > 0) {
+        db.write(writeOptions, batch);
+      }
+    }
+  }
+
   static long getNativeHandle(final RocksObject object) {
     try {
       return RocksDbInternal.nativeHandle.getLong(object);
@@ -144,6 +266,63 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     return defaultNativeHandle;
   }
 
+  /**
+   * Returns the handle of the RocksDB column family in which the given logical column family is
+   * stored. This is the default column family, unless physical column families are enabled.
+   *
+   * <p>A physical column family is resolved once: it is created if needed, and its legacy entries
+   * are moved into it before the handle is returned to anyone. Concurrent callers wait for this to
+   * complete, and if the move fails, it is retried by the next caller.
+   */
+  protected ColumnFamilyHandle getHandle(final Enum<?> columnFamily) {
+    if (!options.physicalColumnFamilies()) {
+      return defaultHandle;
+    }
+
+    return resolvedHandles.computeIfAbsent(
+        columnFamily.name(), name -> resolvePhysicalHandle((EnumValue) columnFamily, name));
+  }
+
+  private ColumnFamilyHandle resolvePhysicalHandle(
+      final EnumValue columnFamily, final String name) {
+    final var handle = physicalHandles.computeIfAbsent(name, this::createPhysicalColumnFamily);
+    moveLegacyEntries(columnFamily, handle);
+    return handle;
+  }
+
+  private ColumnFamilyHandle createPhysicalColumnFamily(final String name) {
+    try {
+      final var handle =
+          optimisticTransactionDB.createColumnFamily(
+              new ColumnFamilyDescriptor(
+                  name.getBytes(StandardCharsets.UTF_8), options.cfOptionsFor(name)));
+      closables.add(handle);
+      return handle;
+    } catch (final RocksDBException e) {
+      throw new ZeebeDbException(
+          "Failed to create physical column family for %s".formatted(name), e);
+    }
+  }
+
+  /**
+   * Moves the entries of the given column family which are still stored in the default column
+   * family, e.g. when opening a snapshot taken before physical column families were enabled.
+   */
+  private void moveLegacyEntries(final EnumValue columnFamily, final ColumnFamilyHandle handle) {
+    final var prefix = new byte[Long.BYTES];
+    new UnsafeBuffer(prefix)
+        .putLong(0, columnFamily.getValue(), ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+
+    try {
+      moveEntries(optimisticTransactionDB, defaultHandle, handle, prefix);
+    } catch (final RocksDBException e) {
+      throw new ZeebeDbException(
+          "Failed to move the entries of %s into its physical column family"
+              .formatted(columnFamily),
+          e);
+    }
+  }
+
   @Override
   public <KeyType extends DbKey, ValueType extends DbValue>
       ColumnFamily<KeyType, ValueType> createColumnFamily(
@@ -185,16 +364,42 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     String propertyValue = null;
     try {
       propertyValue = optimisticTransactionDB.getProperty(defaultHandle, propertyName);
+      if (propertyValue != null && !physicalHandles.isEmpty()) {
+        propertyValue = sumOverPhysicalColumnFamilies(propertyName, propertyValue);
+      }
     } catch (final RocksDBException rde) {
       LOG.debug(rde.getMessage(), rde);
     }
     return Optional.ofNullable(propertyValue);
   }
 
+  private String sumOverPhysicalColumnFamilies(
+      final String propertyName, final String defaultValue) throws RocksDBException {
+    final long sum;
+    try {
+      long value = Long.parseLong(defaultValue);
+      for (final var handle : physicalHandles.values()) {
+        value += Long.parseLong(optimisticTransactionDB.getProperty(handle, propertyName));
+      }
+      sum = value;
+    } catch (final NumberFormatException e) {
+      // not a numeric property, so it cannot be aggregated
+      return defaultValue;
+    }
+
+    return String.valueOf(sum);
+  }
+
   @Override
   public TransactionContext createContext() {
-    final Transaction transaction = optimisticTransactionDB.beginTransaction(defaultWriteOptions);
-    final ZeebeTransaction zeebeTransaction = new ZeebeTransaction(transaction, this);
+    final ZeebeTransaction zeebeTransaction;
+    if (writeBatchTransactions) {
+      zeebeTransaction =
+          new WriteBatchZeebeTransaction(optimisticTransactionDB, defaultWriteOptions);
+    } else {
+      final Transaction transaction = optimisticTransactionDB.beginTransaction(defaultWriteOptions);
+      zeebeTransaction = new OptimisticZeebeTransaction(transaction, this);
+    }
     closables.add(zeebeTransaction);
     return new DefaultTransactionContext(zeebeTransaction);
   }
@@ -13,6 +13,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.db.AccessMetricsConfiguration;
 import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.ConsistencyChecksSettings;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.TransactionOperation;
@@ -26,6 +27,7 @@ import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
 import io.camunda.zeebe.util.ByteValue;
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Map;
 import java.util.Properties;
 import java.util.stream.Stream;
 import org.assertj.core.api.ThrowingConsumer;
@@ -165,6 +167,58 @@ final class ZeebeRocksDbFactoryTest {
     assertThat(snapshotValue).isEqualTo("bar");
   }
 
+  @Test
+  void shouldMoveStateBetweenColumnFamilyLayouts(final @TempDir File path) throws Exception {
+    // given
+    final var key = new DbString();
+    final var value = new DbString();
+    key.wrapString("foo");
+    value.wrapString("bar");
+    final var defaultLayout = createFactory(false);
+    final var physicalLayout = createFactory(true);
+
+    try (final var db = defaultLayout.createDb(path)) {
+      createColumn(db).insert(key, value);
+    }
+
+    // when - then
+    try (final var db = physicalLayout.createDb(path)) {
+      assertThat(createColumn(db).get(key)).hasToString("bar");
+      value.wrapString("baz");
+      createColumn(db).update(key, value);
+    }
+
+    try (final var db = defaultLayout.createDb(path)) {
+      assertThat(createColumn(db).get(key)).hasToString("baz");
+    }
+  }
+
+  @Test
+  void shouldOpenSnapshotOnlyDbWithPhysicalColumnFamilies(
+      final @TempDir File path, final @TempDir File tempDir) throws Exception {
+    // given
+    final var factory = createFactory(true);
+    final var key = new DbString();
+    final var value = new DbString();
+    key.wrapString("foo");
+    value.wrapString("bar");
+
+    try (final var db = factory.createDb(path)) {
+      createColumn(db).insert(key, value);
+    }
+
+    // when
+    final var snapshotPath = new File(tempDir, "snapshot");
+    try (final var db = factory.openSnapshotOnlyDb(path)) {
+      db.createSnapshot(snapshotPath);
+    }
+
+    // then
+    try (final var db = factory.createDb(snapshotPath)) {
+      assertThat(createColumn(db).get(key)).hasToString("bar");
+    }
+  }
+
   @Test
   void shouldFailToOpenNonExistentSnapshotOnlyDb(final @TempDir File path) {
     // given
@@ -219,6 +273,27 @@ final class ZeebeRocksDbFactoryTest {
         Named.of("getProperty", db -> db.getProperty("foo")));
   }
 
+  private static ZeebeRocksDbFactory<DefaultColumnFamily> createFactory(
+      final boolean physicalColumnFamilies) {
+    final var tuning =
+        new ColumnFamilyTuning()
+            .setBloomFilterBitsPerKey(16)
+            .setWriteBufferSize(ByteValue.ofMegabytes(4))
+            .setCompression("lz4");
+    return new ZeebeRocksDbFactory<>(
+        new RocksDbConfiguration()
+            .setPhysicalColumnFamiliesEnabled(physicalColumnFamilies)
+            .setColumnFamilyTuning(Map.of(DefaultColumnFamily.DEFAULT.name(), tuning)),
+        new ConsistencyChecksSettings(),
+        new AccessMetricsConfiguration(Kind.NONE, 1));
+  }
+
+  private static ColumnFamily<DbString, DbString> createColumn(
+      final ZeebeDb<DefaultColumnFamily> db) {
+    return db.createColumnFamily(
+        DefaultColumnFamily.DEFAULT, db.createContext(), new DbString(), new DbString());
+  }
+
   private static final class NoOpTransactionContext implements TransactionContext {
 
     @Override
@@ -0,0 +1,170 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.perf;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the throughput of the transactional column family when backed by an optimistic RocksDB
+ * transaction and when backed by an indexed write batch. Every benchmark runs its operations in a
+ * single transaction, similar to how the stream processor processes a batch of records, and keys
+ * are composite keys to also cover prefix iteration.
+ *
+ * <p>Run it via {@link #main(String[])}.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class TransactionModeBenchmark {
+  private static final int PREFIX_COUNT = 10_000;
+  private static final int ENTRIES_PER_PREFIX = 100;
+  private static final int OPERATIONS_PER_TRANSACTION = 100;
+
+  @Param({"false", "true"})
+  public boolean writeBatchTransactions;
+
+  private final DbLong prefix = new DbLong();
+  private final DbLong suffix = new DbLong();
+  private final DbCompositeKey<DbLong, DbLong> key = new DbCompositeKey<>(prefix, suffix);
+  private final DbLong value = new DbLong();
+
+  private Path directory;
+  private ZeebeDb<DefaultColumnFamily> db;
+  private TransactionContext context;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbLong> columnFamily;
+  private long nextInsertedPrefix = PREFIX_COUNT;
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(TransactionModeBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+
+  @Setup
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("transaction-mode-benchmark");
+    db =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+                new RocksDbConfiguration().setWriteBatchTransactionsEnabled(writeBatchTransactions),
+                new ConsistencyChecksSettings(false, false),
+                new AccessMetricsConfiguration(Kind.NONE, 1))
+            .createDb(directory.toFile());
+    context = db.createContext();
+    columnFamily = db.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+
+    for (long p = 0; p < PREFIX_COUNT; p++) {
+      final long currentPrefix = p;
+      context.runInTransaction(
+          () -> {
+            for (long s = 0; s < ENTRIES_PER_PREFIX; s++) {
+              upsert(currentPrefix, s);
+            }
+          });
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    db.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(OPERATIONS_PER_TRANSACTION)
+  public void insert() {
+    final long insertedPrefix = nextInsertedPrefix++;
+    context.runInTransaction(
+        () -> {
+          for (long s = 0; s < OPERATIONS_PER_TRANSACTION; s++) {
+            upsert(insertedPrefix, s);
+          }
+        });
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(OPERATIONS_PER_TRANSACTION)
+  public void get(final Blackhole blackhole) {
+    final var random = ThreadLocalRandom.current();
+    context.runInTransaction(
+        () -> {
+          for (int i = 0; i < OPERATIONS_PER_TRANSACTION; i++) {
+            prefix.wrapLong(random.nextLong(PREFIX_COUNT));
+            suffix.wrapLong(random.nextLong(ENTRIES_PER_PREFIX));
+            blackhole.consume(columnFamily.get(key));
+          }
+        });
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ENTRIES_PER_PREFIX)
+  public void prefixIteration(final Blackhole blackhole) {
+    final var iteratedPrefix = new DbLong();
+    iteratedPrefix.wrapLong(ThreadLocalRandom.current().nextLong(PREFIX_COUNT));
+    context.runInTransaction(
+        () -> columnFamily.whileEqualPrefix(iteratedPrefix, (k, v) -> blackhole.consume(v)));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(OPERATIONS_PER_TRANSACTION)
+  public void readYourWrites(final Blackhole blackhole) {
+    final var random = ThreadLocalRandom.current();
+    context.runInTransaction(
+        () -> {
+          for (int i = 0; i < OPERATIONS_PER_TRANSACTION; i++) {
+            final long currentPrefix = random.nextLong(PREFIX_COUNT);
+            final long currentSuffix = random.nextLong(ENTRIES_PER_PREFIX);
+            upsert(currentPrefix, currentSuffix);
+            blackhole.consume(columnFamily.get(key));
+          }
+        });
+  }
+
+  private void upsert(final long prefixValue, final long suffixValue) {
+    prefix.wrapLong(prefixValue);
+    suffix.wrapLong(suffixValue);
+    value.wrapLong(suffixValue);
+    columnFamily.upsert(key, value);
+  }
+}
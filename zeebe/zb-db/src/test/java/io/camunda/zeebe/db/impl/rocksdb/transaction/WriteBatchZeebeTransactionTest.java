@@ -0,0 +1,128 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class WriteBatchZeebeTransactionTest {
+
+  private final DbLong key = new DbLong();
+  private final DbLong value = new DbLong();
+
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private TransactionContext context;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+  private ColumnFamily<DbLong, DbLong> otherContextColumnFamily;
+
+  @BeforeEach
+  void setup(final @TempDir File path) {
+    final var factory =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+            new RocksDbConfiguration().setWriteBatchTransactionsEnabled(true),
+            new ConsistencyChecksSettings(),
+            new AccessMetricsConfiguration(Kind.NONE, 1));
+    zeebeDb = factory.createDb(path);
+    context = zeebeDb.createContext();
+    columnFamily = zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+    otherContextColumnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, zeebeDb.createContext(), new DbLong(), new DbLong());
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  void shouldUseWriteBatchTransaction() {
+    assertThat(context.getCurrentTransaction()).isInstanceOf(WriteBatchZeebeTransaction.class);
+  }
+
+  @Test
+  void shouldReadOwnWritesBeforeCommit() throws Exception {
+    // given
+    final var transaction = context.getCurrentTransaction();
+
+    // when
+    upsert(1, 10);
+
+    // then
+    assertThat(columnFamily.get(key(1))).extracting(DbLong::getValue).isEqualTo(10L);
+    assertThat(otherContextColumnFamily.exists(key(1))).isFalse();
+
+    transaction.commit();
+    assertThat(otherContextColumnFamily.exists(key(1))).isTrue();
+  }
+
+  @Test
+  void shouldDiscardWritesOnRollback() throws Exception {
+    // given
+    final var transaction = context.getCurrentTransaction();
+    upsert(1, 10);
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(columnFamily.exists(key(1))).isFalse();
+    assertThat(otherContextColumnFamily.exists(key(1))).isFalse();
+  }
+
+  @Test
+  void shouldIterateOverCommittedAndUncommittedEntries() throws Exception {
+    // given
+    context.runInTransaction(
+        () -> {
+          upsert(1, 10);
+          upsert(3, 30);
+        });
+
+    // when
+    final var transaction = context.getCurrentTransaction();
+    upsert(2, 20);
+    columnFamily.deleteExisting(key(3));
+    final List<Long> visited = new ArrayList<>();
+    columnFamily.forEach((k, v) -> visited.add(v.getValue()));
+    transaction.rollback();
+
+    // then
+    assertThat(visited).containsExactly(10L, 20L);
+    assertThat(columnFamily.exists(key(3))).isTrue();
+  }
+
+  private void upsert(final long k, final long v) {
+    key.wrapLong(k);
+    value.wrapLong(v);
+    columnFamily.upsert(key, value);
+  }
+
+  private DbLong key(final long k) {
+    final var dbKey = new DbLong();
+    dbKey.wrapLong(k);
+    return dbKey;
+  }
+}